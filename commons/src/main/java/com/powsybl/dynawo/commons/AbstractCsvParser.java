@@ -7,6 +7,7 @@
  */
 package com.powsybl.dynawo.commons;
 
+import com.powsybl.commons.PowsyblException;
 import com.univocity.parsers.common.ParsingContext;
 import com.univocity.parsers.common.ResultIterator;
 import com.univocity.parsers.csv.CsvParser;
@@ -17,12 +18,22 @@ import org.slf4j.LoggerFactory;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
+ * Parser of the separated Dynawo output files.
+ * <p>
+ * Parsers created with a byte separator read the file from memory-mapped windows: each line is split into tokens
+ * straight from the bytes and handed to {@link #readEntry(ByteLine, Consumer)}. Lines which cannot be read this way,
+ * such as lines with quotes, comments or empty tokens, are parsed by the CSV parser.
+ *
  * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
  */
 public abstract class AbstractCsvParser<T> {
@@ -30,8 +41,34 @@ public abstract class AbstractCsvParser<T> {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractCsvParser.class);
 
     protected static final char DEFAULT_SEPARATOR = '|';
+    protected static final int DEFAULT_WINDOW_SIZE = 1 << 30;
+    private static final int NO_BYTE_SEPARATOR = -1;
 
     protected CsvParser csvParser;
+    private final int byteSeparator;
+    private final int windowSize;
+
+    /**
+     * Creates a parser reading the file through the CSV parser only
+     */
+    protected AbstractCsvParser() {
+        this.byteSeparator = NO_BYTE_SEPARATOR;
+        this.windowSize = DEFAULT_WINDOW_SIZE;
+    }
+
+    /**
+     * Creates a parser reading the lines from the bytes of the file, with the CSV parser as fallback
+     */
+    protected AbstractCsvParser(char separator, int windowSize) {
+        if (separator > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Separator '" + separator + "' is not an ASCII character");
+        }
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Invalid window size " + windowSize);
+        }
+        this.byteSeparator = separator;
+        this.windowSize = windowSize;
+    }
 
     protected static CsvParserSettings setupSettings(char separator, boolean skipHeader) {
         CsvParserSettings settings = new CsvParserSettings();
@@ -43,33 +80,121 @@ public abstract class AbstractCsvParser<T> {
     }
 
     public List<T> parse(Path file) {
+        List<T> entries = new ArrayList<>();
+        parse(file, entries::add);
+        return entries;
+    }
+
+    /**
+     * Parses the file line by line, each entry being pushed to the consumer as soon as read
+     */
+    public void parse(Path file, Consumer<T> consumer) {
         if (!Files.exists(file)) {
-            return Collections.emptyList();
+            return;
+        }
+        if (byteSeparator != NO_BYTE_SEPARATOR) {
+            readMapped(file, consumer);
+            return;
         }
         try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
             Objects.requireNonNull(reader);
-            return read(csvParser.iterate(reader).iterator());
+            read(csvParser.iterate(reader).iterator(), consumer);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
-    protected List<T> read(ResultIterator<String[], ParsingContext> iterator) {
-        List<T> logs = new ArrayList<>();
+    protected void read(ResultIterator<String[], ParsingContext> iterator, Consumer<T> consumer) {
         int iLine = 0;
         while (iterator.hasNext()) {
             iLine++;
-            String[] tokens = iterator.next();
-            if (hasCorrectNbColumns(tokens.length)) {
-                createEntry(tokens).ifPresent(logs::add);
-            } else {
-                LOGGER.warn("Columns of line {} are inconsistent, the line will be skipped", iLine);
+            read(iterator.next(), iLine, consumer);
+        }
+    }
+
+    private void read(String[] tokens, int iLine, Consumer<T> consumer) {
+        if (hasCorrectNbColumns(tokens.length)) {
+            createEntry(tokens).ifPresent(consumer);
+        } else {
+            LOGGER.warn("Columns of line {} are inconsistent, the line will be skipped", iLine);
+        }
+    }
+
+    private void readMapped(Path file, Consumer<T> consumer) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedLinesReader reader = new MappedLinesReader(consumer);
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(windowSize, size - position);
+                boolean lastWindow = position + length == size;
+                int consumed = reader.readLines(ByteBufferUtil.map(channel, position, (int) length), lastWindow);
+                if (consumed == 0 && !lastWindow) {
+                    throw new PowsyblException("Line " + (reader.iLine + 1) + " of " + file + " exceeds the read window size");
+                }
+                position += consumed;
             }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return logs;
+    }
+
+    /**
+     * Creates the entry from the tokens of a line having a correct number of columns and pushes it to the consumer
+     * @return false if the line cannot be read from its tokens, the line being then parsed by the CSV parser
+     */
+    protected boolean readEntry(ByteLine line, Consumer<T> consumer) {
+        return false;
     }
 
     protected abstract Optional<T> createEntry(String[] tokens);
 
     protected abstract boolean hasCorrectNbColumns(int tokensSize);
+
+    private final class MappedLinesReader {
+
+        private final Consumer<T> consumer;
+        private final ByteLine line = new ByteLine((byte) byteSeparator);
+        private int iLine = 0;
+
+        private MappedLinesReader(Consumer<T> consumer) {
+            this.consumer = consumer;
+        }
+
+        /**
+         * Reads the complete lines of the window, the last line being complete in the last window
+         * @return the number of bytes read
+         */
+        int readLines(ByteBuffer buffer, boolean lastWindow) {
+            int limit = buffer.limit();
+            int lineStart = 0;
+            while (lineStart < limit) {
+                int lineEnd = ByteBufferUtil.indexOf(buffer, (byte) '\n', lineStart, limit);
+                if (lineEnd < 0 && !lastWindow) {
+                    break;
+                }
+                int end = lineEnd < 0 ? limit : lineEnd;
+                if (end > lineStart && buffer.get(end - 1) == '\r') {
+                    end--;
+                }
+                if (end > lineStart) {
+                    readLine(buffer, lineStart, end);
+                }
+                lineStart = lineEnd < 0 ? limit : lineEnd + 1;
+            }
+            return lineStart;
+        }
+
+        private void readLine(ByteBuffer buffer, int lineStart, int lineEnd) {
+            iLine++;
+            if (line.tokenize(buffer, lineStart, lineEnd) && hasCorrectNbColumns(line.getTokenCount())
+                    && readEntry(line, consumer)) {
+                return;
+            }
+            String[] tokens = csvParser.parseLine(ByteBufferUtil.decode(buffer, lineStart, lineEnd));
+            if (tokens != null) {
+                read(tokens, iLine, consumer);
+            }
+        }
+    }
 }
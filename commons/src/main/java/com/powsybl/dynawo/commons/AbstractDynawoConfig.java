@@ -16,6 +16,7 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -37,14 +38,28 @@ public abstract class AbstractDynawoConfig {
 
     private final Path homeDir;
     private final boolean debug;
+    private final Path networkCacheDir;
+    private final Path inputFilesStoreDir;
 
     protected AbstractDynawoConfig(Path homeDir, boolean debug) {
+        this(homeDir, debug, null);
+    }
+
+    protected AbstractDynawoConfig(Path homeDir, boolean debug, Path networkCacheDir) {
+        this(homeDir, debug, networkCacheDir, null);
+    }
+
+    protected AbstractDynawoConfig(Path homeDir, boolean debug, Path networkCacheDir, Path inputFilesStoreDir) {
         this.homeDir = Objects.requireNonNull(homeDir);
         this.debug = debug;
+        this.networkCacheDir = networkCacheDir;
+        this.inputFilesStoreDir = inputFilesStoreDir;
     }
 
     protected AbstractDynawoConfig(ModuleConfig config) {
-        this(config.getPathProperty("homeDir"), config.getBooleanProperty("debug", DEBUG_DEFAULT));
+        this(config.getPathProperty("homeDir"), config.getBooleanProperty("debug", DEBUG_DEFAULT),
+                config.getOptionalPathProperty("networkCacheDir").orElse(null),
+                config.getOptionalPathProperty("inputFilesStoreDir").orElse(null));
     }
 
     public Path getHomeDir() {
@@ -55,6 +70,20 @@ public abstract class AbstractDynawoConfig {
         return debug;
     }
 
+    /**
+     * Directory of the exported network files cache, the cache is disabled if not set
+     */
+    public Optional<Path> getNetworkCacheDir() {
+        return Optional.ofNullable(networkCacheDir);
+    }
+
+    /**
+     * Directory of the input files store, the store is disabled if not set
+     */
+    public Optional<Path> getInputFilesStoreDir() {
+        return Optional.ofNullable(inputFilesStoreDir);
+    }
+
     public Map<String, String> createEnv() {
         return Collections.emptyMap();
     }
@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Helpers reading tokens of Dynawo output files straight from byte buffers, without creating intermediate strings.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public final class ByteBufferUtil {
+
+    // values with more significant digits or a larger exponent are parsed by Double.parseDouble
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final int MAX_DIGITS = 18;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private ByteBufferUtil() {
+    }
+
+    /**
+     * Maps a window of the file, the window being read into a heap buffer if the file system does not support memory mapping
+     */
+    public static ByteBuffer map(FileChannel channel, long position, int length) throws IOException {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        } catch (UnsupportedOperationException e) {
+            // file system without memory mapping support
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+                // read until the window is full
+            }
+            return buffer.flip();
+        }
+    }
+
+    public static int indexOf(ByteBuffer buffer, byte b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parses a decimal value, an empty value being parsed as NaN as in {@code TimeSeries.parseDouble}
+     * <p>
+     * Values whose mantissa and power of ten are exactly represented as doubles are computed with a single
+     * correctly rounded operation, other values are delegated to {@link Double#parseDouble}.
+     */
+    public static double parseDouble(ByteBuffer buffer, int tokenStart, int tokenEnd) {
+        int i = skipLeadingSpaces(buffer, tokenStart, tokenEnd);
+        int end = skipTrailingSpaces(buffer, i, tokenEnd);
+        if (i == end) {
+            return Double.NaN;
+        }
+        int valueStart = i;
+        boolean negative = buffer.get(i) == '-';
+        if (negative || buffer.get(i) == '+') {
+            i++;
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            byte b = buffer.get(i);
+            if (isDigit(b)) {
+                digits++;
+                if (mantissa != 0 || b != '0') {
+                    if (++significantDigits > MAX_DIGITS) {
+                        return parseDoubleFallback(buffer, valueStart, end);
+                    }
+                    mantissa = mantissa * 10 + (b - '0');
+                }
+                if (fraction) {
+                    exponent--;
+                }
+            } else if (b == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (i < end) {
+            if (digits == 0 || buffer.get(i) != 'e' && buffer.get(i) != 'E') {
+                return parseDoubleFallback(buffer, valueStart, end);
+            }
+            int explicitExponent = parseExponent(buffer, i + 1, end);
+            if (explicitExponent == Integer.MIN_VALUE) {
+                return parseDoubleFallback(buffer, valueStart, end);
+            }
+            exponent += explicitExponent;
+        } else if (digits == 0) {
+            return parseDoubleFallback(buffer, valueStart, end);
+        }
+        double value;
+        if (mantissa == 0) {
+            value = 0;
+        } else if (mantissa <= MAX_EXACT_MANTISSA && exponent >= -22 && exponent <= 22) {
+            value = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+        } else {
+            return parseDoubleFallback(buffer, valueStart, end);
+        }
+        return negative ? -value : value;
+    }
+
+    private static int parseExponent(ByteBuffer buffer, int start, int end) {
+        int i = start;
+        boolean negative = i < end && buffer.get(i) == '-';
+        if (negative || i < end && buffer.get(i) == '+') {
+            i++;
+        }
+        if (i == end || end - i > 4) {
+            return Integer.MIN_VALUE;
+        }
+        int exponent = 0;
+        for (; i < end; i++) {
+            byte b = buffer.get(i);
+            if (!isDigit(b)) {
+                return Integer.MIN_VALUE;
+            }
+            exponent = exponent * 10 + (b - '0');
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    private static double parseDoubleFallback(ByteBuffer buffer, int start, int end) {
+        return Double.parseDouble(toString(buffer, start, end));
+    }
+
+    /**
+     * Decodes the ASCII characters of a numeric token
+     */
+    public static String toString(ByteBuffer buffer, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Decodes the UTF-8 characters of a text token
+     */
+    public static String decode(ByteBuffer buffer, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static int skipLeadingSpaces(ByteBuffer buffer, int start, int end) {
+        int i = start;
+        while (i < end && buffer.get(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    public static int skipTrailingSpaces(ByteBuffer buffer, int start, int end) {
+        int i = end;
+        while (i > start && buffer.get(i - 1) == ' ') {
+            i--;
+        }
+        return i;
+    }
+
+    public static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
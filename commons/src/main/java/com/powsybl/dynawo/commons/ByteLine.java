@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Tokens of a separated line read from a byte buffer, the tokens being trimmed and decoded only on access.
+ * <p>
+ * The same instance is reused for each line of a file and must not be kept by the callers.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public final class ByteLine {
+
+    private static final int INITIAL_TOKENS_CAPACITY = 4;
+
+    private final byte separator;
+    private ByteBuffer buffer;
+    private int[] tokenStarts = new int[INITIAL_TOKENS_CAPACITY];
+    private int[] tokenEnds = new int[INITIAL_TOKENS_CAPACITY];
+    private int tokenCount;
+
+    ByteLine(byte separator) {
+        this.separator = separator;
+    }
+
+    /**
+     * Splits the line into trimmed tokens
+     * @return false if the line holds quotes, a comment or an empty token, which are left to the CSV parser
+     */
+    boolean tokenize(ByteBuffer lineBuffer, int lineStart, int lineEnd) {
+        buffer = lineBuffer;
+        tokenCount = 0;
+        int tokenStart = lineStart;
+        while (true) {
+            int tokenEnd = tokenStart;
+            while (tokenEnd < lineEnd && buffer.get(tokenEnd) != separator) {
+                if (buffer.get(tokenEnd) == '"') {
+                    return false;
+                }
+                tokenEnd++;
+            }
+            int start = skipLeadingWhitespaces(tokenStart, tokenEnd);
+            int end = skipTrailingWhitespaces(start, tokenEnd);
+            if (start == end || tokenCount == 0 && buffer.get(start) == '#') {
+                return false;
+            }
+            addToken(start, end);
+            if (tokenEnd == lineEnd) {
+                return true;
+            }
+            tokenStart = tokenEnd + 1;
+        }
+    }
+
+    public int getTokenCount() {
+        return tokenCount;
+    }
+
+    public String getString(int token) {
+        Objects.checkIndex(token, tokenCount);
+        return ByteBufferUtil.decode(buffer, tokenStarts[token], tokenEnds[token]);
+    }
+
+    /**
+     * @throws NumberFormatException if the token is not a decimal value
+     */
+    public double getDouble(int token) {
+        Objects.checkIndex(token, tokenCount);
+        return ByteBufferUtil.parseDouble(buffer, tokenStarts[token], tokenEnds[token]);
+    }
+
+    private void addToken(int start, int end) {
+        if (tokenCount == tokenStarts.length) {
+            tokenStarts = Arrays.copyOf(tokenStarts, 2 * tokenCount);
+            tokenEnds = Arrays.copyOf(tokenEnds, 2 * tokenCount);
+        }
+        tokenStarts[tokenCount] = start;
+        tokenEnds[tokenCount] = end;
+        tokenCount++;
+    }
+
+    private int skipLeadingWhitespaces(int start, int end) {
+        int i = start;
+        while (i < end && isWhitespace(buffer.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private int skipTrailingWhitespaces(int start, int end) {
+        int i = end;
+        while (i > start && isWhitespace(buffer.get(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b >= 0 && b <= ' ';
+    }
+}
@@ -12,6 +12,8 @@ import com.powsybl.commons.report.TypedValue;
 import com.powsybl.dynawo.commons.dynawologs.LogEntry;
 import com.powsybl.dynawo.commons.timeline.TimelineEntry;
 
+import java.util.function.Consumer;
+
 /**
  * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
  */
@@ -42,6 +44,23 @@ public final class CommonReports {
                 .add();
     }
 
+    /**
+     * Reports the timeline entries pushed by the timeline parser, the timeline report node being created with the first
+     * entry and an empty timeline being reported if none
+     */
+    public static void reportTimeline(ReportNode reportNode, Consumer<Consumer<TimelineEntry>> timelineParser) {
+        ReportNode[] timelineReportNode = new ReportNode[1];
+        timelineParser.accept(entry -> {
+            if (timelineReportNode[0] == null) {
+                timelineReportNode[0] = createDynawoTimelineReportNode(reportNode);
+            }
+            reportTimelineEntry(timelineReportNode[0], entry);
+        });
+        if (timelineReportNode[0] == null) {
+            reportEmptyTimeline(reportNode);
+        }
+    }
+
     public static void reportTimelineEntry(ReportNode reportNode, TimelineEntry timelineEntry) {
         reportNode.newReportNode()
                 .withMessageTemplate("dynawo.commons.dynawoTimelineEntry")
@@ -52,6 +71,22 @@ public final class CommonReports {
                 .add();
     }
 
+    /**
+     * Reports the changes made to the network by a delta update, with the number of changed equipments per type
+     */
+    public static void reportNetworkUpdate(ReportNode reportNode, NetworkUpdateSummary summary) {
+        ReportNode updateReportNode = reportNode.newReportNode()
+                .withMessageTemplate("dynawo.commons.networkUpdate")
+                .withUntypedValue("connectivityChanges", summary.getConnectivityChangedIds().size())
+                .add();
+        summary.getChangeCounts().forEach((type, count) -> updateReportNode.newReportNode()
+                .withMessageTemplate("dynawo.commons.networkUpdateChanges")
+                .withUntypedValue("type", type.name())
+                .withUntypedValue("count", count)
+                .withSeverity(TypedValue.INFO_SEVERITY)
+                .add());
+    }
+
     public static void reportLogEntry(ReportNode reportNode, LogEntry logEntry) {
         reportNode.newReportNode()
                 .withMessageTemplate("dynawo.commons.dynawoLogEntry")
@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons;
+
+import com.powsybl.iidm.network.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Access by id to the equipments of a network whose results are updated.
+ * <p>
+ * When indexed, the equipments of a type are indexed in a single pass over the network on the first access to the
+ * type, instead of being looked up one by one, which is slow on remote or persistent network implementations.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+final class EquipmentLookup {
+
+    private final Function<String, Load> loads;
+    private final Function<String, Line> lines;
+    private final Function<String, BoundaryLine> boundaryLines;
+    private final Function<String, HvdcLine> hvdcLines;
+    private final Function<String, TwoWindingsTransformer> twoWindingsTransformers;
+    private final Function<String, ThreeWindingsTransformer> threeWindingsTransformers;
+    private final Function<String, Generator> generators;
+    private final Function<String, ShuntCompensator> shuntCompensators;
+    private final Function<String, StaticVarCompensator> staticVarCompensators;
+    private final Function<String, Switch> switches;
+    private final Function<String, VoltageLevel> voltageLevels;
+
+    private EquipmentLookup(Network network, boolean indexed) {
+        loads = indexed ? index(network::getLoadStream) : network::getLoad;
+        lines = indexed ? index(network::getLineStream) : network::getLine;
+        boundaryLines = indexed ? index(network::getBoundaryLineStream) : network::getBoundaryLine;
+        hvdcLines = indexed ? index(network::getHvdcLineStream) : network::getHvdcLine;
+        twoWindingsTransformers = indexed ? index(network::getTwoWindingsTransformerStream) : network::getTwoWindingsTransformer;
+        threeWindingsTransformers = indexed ? index(network::getThreeWindingsTransformerStream) : network::getThreeWindingsTransformer;
+        generators = indexed ? index(network::getGeneratorStream) : network::getGenerator;
+        shuntCompensators = indexed ? index(network::getShuntCompensatorStream) : network::getShuntCompensator;
+        staticVarCompensators = indexed ? index(network::getStaticVarCompensatorStream) : network::getStaticVarCompensator;
+        switches = indexed ? index(network::getSwitchStream) : network::getSwitch;
+        voltageLevels = indexed ? index(network::getVoltageLevelStream) : network::getVoltageLevel;
+    }
+
+    static EquipmentLookup of(Network network, boolean indexed) {
+        return new EquipmentLookup(network, indexed);
+    }
+
+    Load getLoad(String id) {
+        return loads.apply(id);
+    }
+
+    Line getLine(String id) {
+        return lines.apply(id);
+    }
+
+    BoundaryLine getBoundaryLine(String id) {
+        return boundaryLines.apply(id);
+    }
+
+    HvdcLine getHvdcLine(String id) {
+        return hvdcLines.apply(id);
+    }
+
+    TwoWindingsTransformer getTwoWindingsTransformer(String id) {
+        return twoWindingsTransformers.apply(id);
+    }
+
+    ThreeWindingsTransformer getThreeWindingsTransformer(String id) {
+        return threeWindingsTransformers.apply(id);
+    }
+
+    Generator getGenerator(String id) {
+        return generators.apply(id);
+    }
+
+    ShuntCompensator getShuntCompensator(String id) {
+        return shuntCompensators.apply(id);
+    }
+
+    StaticVarCompensator getStaticVarCompensator(String id) {
+        return staticVarCompensators.apply(id);
+    }
+
+    Switch getSwitch(String id) {
+        return switches.apply(id);
+    }
+
+    VoltageLevel getVoltageLevel(String id) {
+        return voltageLevels.apply(id);
+    }
+
+    private static <T extends Identifiable<?>> Function<String, T> index(Supplier<Stream<T>> equipments) {
+        return new Function<>() {
+            private Map<String, T> equipmentById;
+
+            @Override
+            public T apply(String id) {
+                if (equipmentById == null) {
+                    equipmentById = new HashMap<>();
+                    equipments.get().forEach(e -> equipmentById.put(e.getId(), e));
+                }
+                return equipmentById.get(id);
+            }
+        };
+    }
+}
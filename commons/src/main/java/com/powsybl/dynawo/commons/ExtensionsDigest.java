@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons;
+
+import com.powsybl.commons.extensions.Extension;
+import com.powsybl.iidm.network.Connectable;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Terminal;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.*;
+
+/**
+ * Digest of the values of the extensions of a network, read through the no-argument getters of each extension.
+ * <p>
+ * Equipments referenced by an extension are digested through their id, collections and maps through their elements,
+ * other values through their string representation.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+final class ExtensionsDigest {
+
+    private static final Set<String> IGNORED_GETTERS = Set.of("getClass", "getName", "getExtendable");
+
+    private static final ClassValue<List<Method>> GETTERS = new ClassValue<>() {
+        @Override
+        protected List<Method> computeValue(Class<?> type) {
+            Map<String, Method> getters = new TreeMap<>();
+            for (Method method : type.getMethods()) {
+                if (isGetter(method) && method.trySetAccessible()) {
+                    getters.putIfAbsent(method.getName(), method);
+                }
+            }
+            return List.copyOf(getters.values());
+        }
+    };
+
+    private ExtensionsDigest() {
+    }
+
+    static String digest(Network network, Collection<String> extensionNames) {
+        if (extensionNames.isEmpty()) {
+            return "";
+        }
+        Set<String> names = Set.copyOf(extensionNames);
+        MessageDigest digest = LocalFileStore.createDigest();
+        update(digest, network, names);
+        for (Identifiable<?> identifiable : network.getIdentifiables()) {
+            update(digest, identifiable, names);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, Identifiable<?> identifiable, Set<String> names) {
+        for (Extension<?> extension : identifiable.getExtensions()) {
+            if (names.contains(extension.getName())) {
+                update(digest, identifiable.getId());
+                update(digest, extension.getName());
+                for (Method getter : GETTERS.get(extension.getClass())) {
+                    update(digest, getter.getName());
+                    updateValue(digest, invoke(getter, extension));
+                }
+            }
+        }
+    }
+
+    private static void updateValue(MessageDigest digest, Object value) {
+        if (value instanceof Identifiable<?> identifiable) {
+            update(digest, identifiable.getId());
+        } else if (value instanceof Terminal terminal) {
+            Connectable<?> connectable = terminal.getConnectable();
+            update(digest, connectable.getId());
+            update(digest, String.valueOf(connectable.getTerminals().indexOf(terminal)));
+        } else if (value instanceof Optional<?> optional) {
+            updateValue(digest, optional.orElse(null));
+        } else if (value instanceof Collection<?> collection) {
+            update(digest, String.valueOf(collection.size()));
+            collection.forEach(element -> updateValue(digest, element));
+        } else if (value instanceof Map<?, ?> map) {
+            update(digest, String.valueOf(map.size()));
+            map.forEach((k, v) -> {
+                updateValue(digest, k);
+                updateValue(digest, v);
+            });
+        } else {
+            update(digest, String.valueOf(value));
+        }
+    }
+
+    private static Object invoke(Method getter, Extension<?> extension) {
+        try {
+            return getter.invoke(extension);
+        } catch (InvocationTargetException e) {
+            // value not available in the current state of the extension
+            return e.getCause().getClass().getName();
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        // separator, so that consecutive values cannot be confused
+        digest.update((byte) 0);
+    }
+
+    private static boolean isGetter(Method method) {
+        String name = method.getName();
+        return !Modifier.isStatic(method.getModifiers())
+                && method.getParameterCount() == 0
+                && method.getReturnType() != void.class
+                && !method.isBridge()
+                && !IGNORED_GETTERS.contains(name)
+                && (name.startsWith("get") && name.length() > 3 || name.startsWith("is") && name.length() > 2);
+    }
+}
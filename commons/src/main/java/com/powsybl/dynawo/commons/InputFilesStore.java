@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local content-addressed store of the simulation input files.
+ * <p>
+ * Written files are digested while being written and stored under the digest of their content, copied files are
+ * stored under their path, size and last modification time. Stored files are read-only and hard-linked into the
+ * working directory, or copied when linking is not possible: identical files are stored once whatever the number of
+ * working directories using them, and a copied file found in the store is not read again.
+ * <p>
+ * The store directory is bounded: files are removed once unused for a day, or least recently used first when the store
+ * exceeds its maximum size (1 GiB by default).
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public final class InputFilesStore {
+
+    public static final long DEFAULT_MAX_SIZE = 1024L * 1024 * 1024;
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofDays(1);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InputFilesStore.class);
+    private static final InputFilesStore DISABLED = new InputFilesStore(null);
+    private static final String STORED_FILE_EXTENSION = ".input";
+
+    private final LocalFileStore store;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Writes the content of a file
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(Writer writer) throws IOException;
+    }
+
+    private InputFilesStore(LocalFileStore store) {
+        this.store = store;
+    }
+
+    public static InputFilesStore create(AbstractDynawoConfig config) {
+        return config.getInputFilesStoreDir().map(InputFilesStore::create).orElse(DISABLED);
+    }
+
+    public static InputFilesStore create(Path directory) {
+        return create(directory, DEFAULT_MAX_SIZE, DEFAULT_MAX_AGE);
+    }
+
+    /**
+     * @param maxSize maximum size in bytes of the stored files
+     * @param maxAge maximum duration a stored file is kept without being used
+     */
+    public static InputFilesStore create(Path directory, long maxSize, Duration maxAge) {
+        return new InputFilesStore(new LocalFileStore(Objects.requireNonNull(directory), STORED_FILE_EXTENSION,
+                maxSize, Objects.requireNonNull(maxAge)));
+    }
+
+    public static InputFilesStore disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return store != null;
+    }
+
+    /**
+     * Number of files found in the store
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Number of files added to the store
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Writes the given file in UTF-8 with the given writer, then links it to the stored file with the same content
+     */
+    public void write(Path file, ContentWriter writer) throws IOException {
+        if (!isEnabled()) {
+            try (Writer fileWriter = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write(fileWriter);
+            }
+            return;
+        }
+        Path tmpFile = store.createTempFile();
+        try {
+            MessageDigest digest = LocalFileStore.createDigest();
+            try (Writer fileWriter = new BufferedWriter(new OutputStreamWriter(
+                    new DigestOutputStream(Files.newOutputStream(tmpFile), digest), StandardCharsets.UTF_8))) {
+                writer.write(fileWriter);
+            }
+            String contentDigest = HexFormat.of().formatHex(digest.digest());
+            if (store.restoreDigest(contentDigest, file)) {
+                hit(file);
+            } else {
+                store.storeDigestAndLink(contentDigest, tmpFile, file);
+                miss(file);
+            }
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+    }
+
+    /**
+     * Links the stored copy of the given source file into the given file, the source file being stored first if
+     * missing or modified since stored
+     */
+    public void copy(Path source, Path file) throws IOException {
+        if (!isEnabled()) {
+            Files.copy(source, file, StandardCopyOption.REPLACE_EXISTING);
+            return;
+        }
+        Path absoluteSource = source.toAbsolutePath();
+        BasicFileAttributes attributes = Files.readAttributes(absoluteSource, BasicFileAttributes.class);
+        String key = absoluteSource + "/" + attributes.fileKey() + "/" + attributes.size() + "/" + attributes.lastModifiedTime().toMillis();
+        if (store.restore(key, file, true)) {
+            hit(file);
+            return;
+        }
+        Path tmpFile = store.createTempFile();
+        try {
+            Files.copy(absoluteSource, tmpFile, StandardCopyOption.REPLACE_EXISTING);
+            store.storeAndLink(key, tmpFile, file);
+            miss(file);
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+    }
+
+    private void hit(Path file) {
+        hitCount.incrementAndGet();
+        LOGGER.debug("Input file {} found in store", file);
+    }
+
+    private void miss(Path file) {
+        missCount.incrementAndGet();
+        LOGGER.debug("Input file {} added to store", file);
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toString(store != null ? store.getDirectory() : null, "disabled")
+                + " (hits: " + hitCount + ", misses: " + missCount + ")";
+    }
+}
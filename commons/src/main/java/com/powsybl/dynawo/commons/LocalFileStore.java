@@ -0,0 +1,244 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Directory of files stored under the digest of a key, bounded in size and in age.
+ * <p>
+ * Files are added atomically, so that a file found in the store is always complete, and are removed once older than
+ * the maximum age or, least recently used first, when the store exceeds its maximum size. A file removed while being
+ * restored is treated as missing.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+final class LocalFileStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalFileStore.class);
+    private static final String TMP_FILE_EXTENSION = ".tmp";
+
+    private final Path directory;
+    private final String extension;
+    private final long maxSize;
+    private final Duration maxAge;
+
+    LocalFileStore(Path directory, String extension, long maxSize, Duration maxAge) {
+        this.directory = directory;
+        this.extension = extension;
+        this.maxSize = maxSize;
+        this.maxAge = maxAge;
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Copies the file stored under the given key into the target file, hard-linking it if requested and possible
+     * @return true if the key was found in the store
+     */
+    boolean restore(String key, Path file, boolean link) {
+        return restoreFile(getStoredFile(key), file, link);
+    }
+
+    /**
+     * Hard-links, or copies if not possible, the file stored under the given digest into the target file
+     * @return true if the digest was found in the store
+     */
+    boolean restoreDigest(String digest, Path file) {
+        return restoreFile(getDigestFile(digest), file, true);
+    }
+
+    private static boolean restoreFile(Path storedFile, Path file, boolean link) {
+        if (!Files.exists(storedFile)) {
+            return false;
+        }
+        try {
+            Files.deleteIfExists(file);
+            if (!link || !createLink(file, storedFile)) {
+                Files.copy(storedFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            // least recently used files are evicted first
+            Files.setLastModifiedTime(storedFile, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            // file evicted or unreadable, it will be written again
+            LOGGER.warn("Unable to restore stored file {}: {}", storedFile, e.getMessage());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Adds a copy of the given file under the given key, then evicts the files exceeding the store bounds
+     */
+    void store(String key, Path file) throws IOException {
+        Path tmpFile = createTempFile();
+        try {
+            Files.copy(file, tmpFile, StandardCopyOption.REPLACE_EXISTING);
+            move(tmpFile, getStoredFile(key));
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+        evict();
+    }
+
+    /**
+     * Adds the given temporary file, made read-only, under the given key, then hard-links it, or copies it if not
+     * possible, into the target file
+     */
+    void storeAndLink(String key, Path tmpFile, Path file) throws IOException {
+        addAndLink(tmpFile, getStoredFile(key), file);
+    }
+
+    /**
+     * Adds the given temporary file, made read-only, under the given digest of its content, then hard-links it, or
+     * copies it if not possible, into the target file
+     */
+    void storeDigestAndLink(String digest, Path tmpFile, Path file) throws IOException {
+        addAndLink(tmpFile, getDigestFile(digest), file);
+    }
+
+    private void addAndLink(Path tmpFile, Path storedFile, Path file) throws IOException {
+        try {
+            setReadOnly(tmpFile);
+            // linked before being added, so that the target file is not affected by an eviction
+            Files.deleteIfExists(file);
+            if (!createLink(file, tmpFile)) {
+                Files.copy(tmpFile, file);
+            }
+            move(tmpFile, storedFile);
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+        evict();
+    }
+
+    /**
+     * Creates a temporary file in the store directory, to be added with {@link #storeAndLink} or
+     * {@link #storeDigestAndLink}
+     */
+    Path createTempFile() throws IOException {
+        Files.createDirectories(directory);
+        return Files.createTempFile(directory, "", TMP_FILE_EXTENSION);
+    }
+
+    private static void move(Path tmpFile, Path storedFile) throws IOException {
+        try {
+            Files.move(tmpFile, storedFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmpFile, storedFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void setReadOnly(Path file) throws IOException {
+        PosixFileAttributeView view = Files.getFileAttributeView(file, PosixFileAttributeView.class);
+        // left writable on other file systems, where read-only files cannot be evicted
+        if (view != null) {
+            view.setPermissions(EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.GROUP_READ, PosixFilePermission.OTHERS_READ));
+        }
+    }
+
+    /**
+     * Removes the files older than the maximum age, then the least recently used files until the store size is
+     * below the maximum size
+     */
+    synchronized void evict() throws IOException {
+        Instant oldest = Instant.now().minus(maxAge);
+        List<StoredFile> storedFiles = new ArrayList<>();
+        long size = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                BasicFileAttributes attributes = readAttributes(file);
+                if (attributes == null || !attributes.isRegularFile()) {
+                    continue;
+                }
+                boolean tmpFile = file.getFileName().toString().endsWith(TMP_FILE_EXTENSION);
+                if (attributes.lastModifiedTime().toInstant().isBefore(oldest)) {
+                    // including temporary files left by interrupted stores
+                    delete(file);
+                } else if (!tmpFile) {
+                    storedFiles.add(new StoredFile(file, attributes.size(), attributes.lastModifiedTime()));
+                    size += attributes.size();
+                }
+            }
+        }
+        if (size > maxSize) {
+            storedFiles.sort(Comparator.comparing(StoredFile::lastModifiedTime));
+            for (StoredFile storedFile : storedFiles) {
+                if (size <= maxSize) {
+                    break;
+                }
+                delete(storedFile.path());
+                size -= storedFile.size();
+            }
+        }
+    }
+
+    private static BasicFileAttributes readAttributes(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // removed meanwhile
+            return null;
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+            LOGGER.debug("Stored file {} evicted", file);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to evict stored file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static boolean createLink(Path file, Path storedFile) {
+        try {
+            Files.createLink(file, storedFile);
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    private Path getStoredFile(String key) {
+        return getDigestFile(digest(key));
+    }
+
+    private Path getDigestFile(String digest) {
+        return directory.resolve(digest + extension);
+    }
+
+    static String digest(String key) {
+        return HexFormat.of().formatHex(createDigest().digest(key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record StoredFile(Path path, long size, FileTime lastModifiedTime) {
+    }
+}
@@ -0,0 +1,234 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons;
+
+import com.powsybl.commons.extensions.Extension;
+import com.powsybl.iidm.network.DefaultNetworkListener;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * On-disk cache of exported network files, keyed by the exported variant fingerprint and the export options.
+ * <p>
+ * The variant fingerprint is made of:
+ * <ul>
+ *     <li>a revision of the variant, maintained by a {@link com.powsybl.iidm.network.NetworkListener} registered on the
+ *     network the first time it is exported through an enabled cache: every change notified to the listener produces a
+ *     new revision,</li>
+ *     <li>a digest of the values of the exported extensions, computed at each export, as many extension setters do
+ *     not notify their changes.</li>
+ * </ul>
+ * The listener is removed once the network has not been exported for {@link #TRACKING_TIMEOUT}, or when
+ * {@link #release(Network)} is called, the files cached for the network being no longer reused.
+ * <p>
+ * Fingerprints are only meaningful for the network instance they have been computed on, cached files are hence only
+ * reused within the same process. The cache directory is bounded: files are removed once unused for a day, or least
+ * recently used first when the cache exceeds its maximum size (4 GiB by default).
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public final class NetworkExportCache {
+
+    public static final long DEFAULT_MAX_SIZE = 4L * 1024 * 1024 * 1024;
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofDays(1);
+    public static final Duration TRACKING_TIMEOUT = Duration.ofHours(1);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkExportCache.class);
+    private static final NetworkExportCache DISABLED = new NetworkExportCache(null);
+    private static final String CACHED_FILE_EXTENSION = ".xiidm";
+    private static final Map<Network, VariantRevisions> REVISIONS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final LocalFileStore store;
+
+    private NetworkExportCache(LocalFileStore store) {
+        this.store = store;
+    }
+
+    public static NetworkExportCache create(AbstractDynawoConfig config) {
+        return config.getNetworkCacheDir().map(NetworkExportCache::create).orElse(DISABLED);
+    }
+
+    public static NetworkExportCache create(Path directory) {
+        return create(directory, DEFAULT_MAX_SIZE, DEFAULT_MAX_AGE);
+    }
+
+    /**
+     * @param maxSize maximum size in bytes of the cached files
+     * @param maxAge maximum duration a cached file is kept without being used
+     */
+    public static NetworkExportCache create(Path directory, long maxSize, Duration maxAge) {
+        return new NetworkExportCache(new LocalFileStore(Objects.requireNonNull(directory), CACHED_FILE_EXTENSION,
+                maxSize, Objects.requireNonNull(maxAge)));
+    }
+
+    public static NetworkExportCache disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return store != null;
+    }
+
+    /**
+     * Returns a fingerprint of the network working variant, which changes whenever a modification of the network is
+     * notified
+     */
+    public static String getVariantFingerprint(Network network) {
+        long now = System.nanoTime();
+        releaseIdleNetworks(now);
+        VariantRevisions revisions = REVISIONS.computeIfAbsent(network, n -> {
+            VariantRevisions r = new VariantRevisions();
+            n.addListener(r);
+            return r;
+        });
+        revisions.lastUse = now;
+        return revisions.getFingerprint(network.getVariantManager().getWorkingVariantId());
+    }
+
+    /**
+     * Stops tracking the modifications of the given network, removing the listener registered on its first cached
+     * export. The files cached for the network will not be reused anymore.
+     */
+    public static void release(Network network) {
+        VariantRevisions revisions = REVISIONS.remove(network);
+        if (revisions != null) {
+            network.removeListener(revisions);
+        }
+    }
+
+    static void releaseIdleNetworks(long now) {
+        List<Network> idleNetworks = new ArrayList<>();
+        synchronized (REVISIONS) {
+            REVISIONS.forEach((network, revisions) -> {
+                if (now - revisions.lastUse > TRACKING_TIMEOUT.toNanos()) {
+                    idleNetworks.add(network);
+                }
+            });
+        }
+        idleNetworks.forEach(NetworkExportCache::release);
+    }
+
+    /**
+     * Copies the cached file corresponding to the given key into the target file, hard-linking it if possible
+     * @return true if the key was found in the cache
+     */
+    boolean restore(String key, Path file) {
+        if (store.restore(key, file, true)) {
+            LOGGER.debug("Network file {} restored from cache", file);
+            return true;
+        }
+        return false;
+    }
+
+    void store(String key, Path file) {
+        try {
+            store.store(key, file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Keeps track of the network modifications: structural modifications impact all variants whereas state
+     * modifications only impact the variant they are done on
+     */
+    private static final class VariantRevisions extends DefaultNetworkListener {
+
+        private final String token = UUID.randomUUID().toString();
+        private volatile long lastUse;
+        private final AtomicLong revisionCounter = new AtomicLong();
+        private final AtomicLong networkRevision = new AtomicLong();
+        private final Map<String, Long> variantRevisions = new ConcurrentHashMap<>();
+
+        private String getFingerprint(String variantId) {
+            return token + "/" + networkRevision.get() + "/" + variantId + "/" + variantRevisions.getOrDefault(variantId, 0L);
+        }
+
+        private void onNetworkModification() {
+            networkRevision.set(revisionCounter.incrementAndGet());
+        }
+
+        private void onVariantModification(String variantId) {
+            if (variantId == null) {
+                onNetworkModification();
+            } else {
+                variantRevisions.put(variantId, revisionCounter.incrementAndGet());
+            }
+        }
+
+        @Override
+        public void onCreation(Identifiable<?> identifiable) {
+            onNetworkModification();
+        }
+
+        @Override
+        public void afterRemoval(String id) {
+            onNetworkModification();
+        }
+
+        @Override
+        public void onUpdate(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+            onVariantModification(variantId);
+        }
+
+        @Override
+        public void onExtensionCreation(Extension<?> extension) {
+            onNetworkModification();
+        }
+
+        @Override
+        public void onExtensionAfterRemoval(Identifiable<?> identifiable, String extensionName) {
+            onNetworkModification();
+        }
+
+        @Override
+        public void onExtensionUpdate(Extension<?> extension, String attribute, String variantId, Object oldValue, Object newValue) {
+            onVariantModification(variantId);
+        }
+
+        @Override
+        public void onPropertyAdded(Identifiable<?> identifiable, String key, Object newValue) {
+            onNetworkModification();
+        }
+
+        @Override
+        public void onPropertyReplaced(Identifiable<?> identifiable, String key, Object oldValue, Object newValue) {
+            onNetworkModification();
+        }
+
+        @Override
+        public void onPropertyRemoved(Identifiable<?> identifiable, String key, Object oldValue) {
+            onNetworkModification();
+        }
+
+        @Override
+        public void onVariantCreated(String sourceVariantId, String targetVariantId) {
+            onVariantModification(targetVariantId);
+        }
+
+        @Override
+        public void onVariantOverwritten(String sourceVariantId, String targetVariantId) {
+            onVariantModification(targetVariantId);
+        }
+
+        @Override
+        public void onVariantRemoved(String variantId) {
+            onVariantModification(variantId);
+        }
+    }
+}
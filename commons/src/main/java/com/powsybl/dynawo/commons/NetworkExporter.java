@@ -7,17 +7,26 @@
  */
 package com.powsybl.dynawo.commons;
 
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.datasource.MemDataSource;
 import com.powsybl.dynawo.commons.exportconfiguration.ExportConfigurationHandler;
+import com.powsybl.dynawo.commons.loadmerge.LoadsMergePlan;
 import com.powsybl.dynawo.commons.loadmerge.LoadsMerger;
+import com.powsybl.dynawo.commons.loadmerge.LoadsToMerge;
+import com.powsybl.dynawo.commons.loadmerge.MergedLoadsXiidmFilter;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.serde.AbstractTreeDataExporter;
 import com.powsybl.iidm.serde.IidmVersion;
 import com.powsybl.iidm.serde.NetworkSerDe;
 
+import java.io.*;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.function.Consumer;
 
 /**
@@ -28,7 +37,9 @@ public final class NetworkExporter {
     private static final String IIDM_VERSION_1_4 = IidmVersion.V_1_4.toString(".");
     private static final String IIDM_VERSION_1_5 = IidmVersion.V_1_5.toString(".");
     private static final DynawoVersion IIDM_1_5_MIN_DYNAWO_VERSION = new DynawoVersion(1, 7, 0);
+    private static final String XIIDM_FORMAT = "XIIDM";
     private static final ExportConfigurationHandler CONFIGURATION_HANDLER = new ExportConfigurationHandler();
+    private static final int PIPE_SIZE = 1 << 16;
 
     private NetworkExporter() {
     }
@@ -37,11 +48,62 @@ public final class NetworkExporter {
         writeIidm(network, file, version, false);
     }
 
-    public static void writeIidm(Network network, Path file, DynawoVersion version, boolean isMergeLoads) {
+    public static LoadsMergePlan writeIidm(Network network, Path file, DynawoVersion version, boolean isMergeLoads) {
+        return writeIidm(network, file, version, isMergeLoads, NetworkExportCache.disabled());
+    }
+
+    /**
+     * Writes the network working variant, reusing the file of a previous export of the same variant with the same
+     * options if found in the given cache
+     * @return the plan of the merged loads, to be replayed when updating the network with the results
+     */
+    public static LoadsMergePlan writeIidm(Network network, Path file, DynawoVersion version, boolean isMergeLoads, NetworkExportCache cache) {
         Objects.requireNonNull(network);
         Objects.requireNonNull(file);
+        Objects.requireNonNull(cache);
         List<Consumer<Network>> networkModifiers = CONFIGURATION_HANDLER.getNetworkModifiers();
+        Properties params = createExportParameters(version);
+        // the plan is computed on the network before its loads are merged
+        List<LoadsToMerge> loadsToMerge = isMergeLoads ? LoadsMerger.getLoadsToMerge(network) : List.of();
+        LoadsMergePlan loadsMergePlan = LoadsMergePlan.of(loadsToMerge);
+        if (!cache.isEnabled()) {
+            writeIidm(network, file, params, isMergeLoads, loadsToMerge, networkModifiers);
+            return loadsMergePlan;
+        }
+        String key = String.join("|",
+                NetworkExportCache.getVariantFingerprint(network),
+                ExtensionsDigest.digest(network, CONFIGURATION_HANDLER.getExtensionNames()),
+                params.getProperty(AbstractTreeDataExporter.VERSION),
+                params.getProperty(AbstractTreeDataExporter.EXTENSIONS_INCLUDED_LIST),
+                String.join(",", CONFIGURATION_HANDLER.getNetworkModifierNames()),
+                "mergeLoads=" + isMergeLoads);
+        if (!cache.restore(key, file)) {
+            // the file may be a link to a cached file from a previous export
+            deleteIfExists(file);
+            writeIidm(network, file, params, isMergeLoads, loadsToMerge, networkModifiers);
+            cache.store(key, file);
+        }
+        return loadsMergePlan;
+    }
+
+    private static void deleteIfExists(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeIidm(Network network, Path file, Properties params, boolean isMergeLoads,
+                                  List<LoadsToMerge> loadsToMerge, List<Consumer<Network>> networkModifiers) {
         boolean hasNetworkModificators = !networkModifiers.isEmpty();
+        if (isMergeLoads && !hasNetworkModificators) {
+            // loads are merged at export time, avoiding a copy of the whole network
+            if (MergedLoadsXiidmFilter.isSupported(loadsToMerge)) {
+                writeIidmWithMergedLoads(network, params, file, loadsToMerge);
+                return;
+            }
+        }
         Network dynawoInput = isMergeLoads || hasNetworkModificators ? NetworkSerDe.copy(network) : network;
         if (isMergeLoads) {
             LoadsMerger.mergeLoads(dynawoInput, true);
@@ -49,11 +111,86 @@ public final class NetworkExporter {
         if (hasNetworkModificators) {
             networkModifiers.forEach(m -> m.accept(dynawoInput));
         }
+        dynawoInput.write(XIIDM_FORMAT, params, file);
+    }
+
+    private static Properties createExportParameters(DynawoVersion version) {
         Properties params = new Properties();
         params.setProperty(AbstractTreeDataExporter.VERSION,
                 version.compareTo(IIDM_1_5_MIN_DYNAWO_VERSION) >= 0 ? IIDM_VERSION_1_5 : IIDM_VERSION_1_4);
         params.setProperty(AbstractTreeDataExporter.EXTENSIONS_INCLUDED_LIST,
                 String.join(",", CONFIGURATION_HANDLER.getExtensionNames()));
-        dynawoInput.write("XIIDM", params, file);
+        return params;
+    }
+
+    private static void writeIidmWithMergedLoads(Network network, Properties params, Path file, List<LoadsToMerge> loadsToMerge) {
+        if (loadsToMerge.isEmpty()) {
+            network.write(XIIDM_FORMAT, params, file);
+            return;
+        }
+        // the filter is created on this thread as it reads the network, the filtering itself only uses the loads to
+        // merge data, so that the network is only read by the exporting thread
+        MergedLoadsXiidmFilter filter = MergedLoadsXiidmFilter.create(loadsToMerge);
+        PipedInputStream pipedInputStream = new PipedInputStream(PIPE_SIZE);
+        FutureTask<Void> filtering = new FutureTask<>(() -> {
+            try (InputStream is = pipedInputStream;
+                 OutputStream os = new BufferedOutputStream(Files.newOutputStream(file))) {
+                filter.filter(is, os);
+            }
+            return null;
+        });
+        try {
+            PipedOutputStream pipedOutputStream = new PipedOutputStream(pipedInputStream);
+            Thread.ofPlatform().name("merged-loads-xiidm-filter").daemon().start(filtering);
+            try {
+                network.write(XIIDM_FORMAT, params, new PipeDataSource(pipedOutputStream));
+            } catch (RuntimeException e) {
+                // ends the filtering, whose failure if any may be the cause of the export one
+                pipedOutputStream.close();
+                try {
+                    getFilteringResult(filtering);
+                } catch (IOException | RuntimeException filteringException) {
+                    e.addSuppressed(filteringException);
+                }
+                throw e;
+            }
+            getFilteringResult(filtering);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void getFilteringResult(FutureTask<Void> filtering) throws IOException {
+        try {
+            filtering.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException("Interrupted while merging loads of the exported network", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : new PowsyblException(e.getCause());
+        }
+    }
+
+    /**
+     * Data source exporting the network into the given stream instead of a file
+     */
+    private static final class PipeDataSource extends MemDataSource {
+
+        private final OutputStream os;
+
+        private PipeDataSource(OutputStream os) {
+            this.os = os;
+        }
+
+        @Override
+        public OutputStream newOutputStream(String suffix, String ext, boolean append) {
+            if (suffix != null && !suffix.isEmpty()) {
+                throw new PowsyblException("Unexpected exported file suffix " + suffix);
+            }
+            return os;
+        }
     }
 }
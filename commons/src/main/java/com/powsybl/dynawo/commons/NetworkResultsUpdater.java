@@ -9,13 +9,16 @@ package com.powsybl.dynawo.commons;
 
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.dynawo.commons.loadmerge.LoadPowersSigns;
+import com.powsybl.dynawo.commons.loadmerge.LoadsMergePlan;
 import com.powsybl.dynawo.commons.loadmerge.LoadsMerger;
 import com.powsybl.iidm.network.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -29,153 +32,267 @@ public final class NetworkResultsUpdater {
     private NetworkResultsUpdater() {
     }
 
+    /**
+     * Updates the target network with the results written in the given network file, without reading the whole file
+     * into a network
+     * @see OutputNetworkResults
+     */
+    public static void update(Network targetNetwork, Path sourceNetworkFile, boolean mergeLoads) {
+        update(targetNetwork, sourceNetworkFile, mergeLoads, false);
+    }
+
+    /**
+     * @param indexedLookups if true the target equipments are indexed by type beforehand instead of being looked up
+     *                       by id one by one, which is faster on remote or persistent network implementations
+     */
+    public static void update(Network targetNetwork, Path sourceNetworkFile, boolean mergeLoads, boolean indexedLookups) {
+        OutputNetworkResults.read(sourceNetworkFile).apply(targetNetwork, mergeLoads, indexedLookups);
+    }
+
+    /**
+     * Updates the target network with the results written in the given network file, the results of the merged loads
+     * being dispatched on their original loads with the plan computed when the network was exported
+     * @see NetworkExporter#writeIidm(Network, Path, DynawoVersion, boolean, NetworkExportCache)
+     */
+    public static void update(Network targetNetwork, Path sourceNetworkFile, LoadsMergePlan loadsMergePlan, boolean indexedLookups) {
+        OutputNetworkResults.read(sourceNetworkFile).apply(targetNetwork, loadsMergePlan, indexedLookups);
+    }
+
+    /**
+     * Same as {@link #update(Network, Path, boolean, boolean)} but only the values differing from the target ones are
+     * written
+     * @return the changes made to the target network
+     */
+    public static NetworkUpdateSummary updateChanges(Network targetNetwork, Path sourceNetworkFile, boolean mergeLoads, boolean indexedLookups) {
+        return OutputNetworkResults.read(sourceNetworkFile).applyChanges(targetNetwork, mergeLoads, indexedLookups);
+    }
+
+    /**
+     * Same as {@link #update(Network, Path, LoadsMergePlan, boolean)} but only the values differing from the target
+     * ones are written
+     * @return the changes made to the target network
+     */
+    public static NetworkUpdateSummary updateChanges(Network targetNetwork, Path sourceNetworkFile, LoadsMergePlan loadsMergePlan, boolean indexedLookups) {
+        return OutputNetworkResults.read(sourceNetworkFile).applyChanges(targetNetwork, loadsMergePlan, indexedLookups);
+    }
+
     public static void update(Network targetNetwork, Network sourceNetwork, boolean mergeLoads) {
-        updateLoads(targetNetwork, sourceNetwork, mergeLoads);
+        update(targetNetwork, sourceNetwork, mergeLoads, false);
+    }
+
+    /**
+     * @param indexedLookups if true the target equipments are indexed by type beforehand instead of being looked up
+     *                       by id one by one, which is faster on remote or persistent network implementations
+     */
+    public static void update(Network targetNetwork, Network sourceNetwork, boolean mergeLoads, boolean indexedLookups) {
+        update(targetNetwork, sourceNetwork, mergeLoads, null, indexedLookups, ResultsWriter.direct());
+    }
+
+    /**
+     * Updates the target network with the results of the source network, the results of the merged loads being
+     * dispatched on their original loads with the plan computed when the network was exported
+     */
+    public static void update(Network targetNetwork, Network sourceNetwork, LoadsMergePlan loadsMergePlan, boolean indexedLookups) {
+        update(targetNetwork, sourceNetwork, true, Objects.requireNonNull(loadsMergePlan), indexedLookups, ResultsWriter.direct());
+    }
+
+    /**
+     * Same as {@link #update(Network, Network, boolean, boolean)} but only the values differing from the target ones
+     * are written
+     * @return the changes made to the target network
+     */
+    public static NetworkUpdateSummary updateChanges(Network targetNetwork, Network sourceNetwork, boolean mergeLoads, boolean indexedLookups) {
+        NetworkUpdateSummary summary = new NetworkUpdateSummary();
+        update(targetNetwork, sourceNetwork, mergeLoads, null, indexedLookups, ResultsWriter.delta(summary));
+        return summary;
+    }
+
+    /**
+     * Same as {@link #update(Network, Network, LoadsMergePlan, boolean)} but only the values differing from the target
+     * ones are written
+     * @return the changes made to the target network
+     */
+    public static NetworkUpdateSummary updateChanges(Network targetNetwork, Network sourceNetwork, LoadsMergePlan loadsMergePlan, boolean indexedLookups) {
+        NetworkUpdateSummary summary = new NetworkUpdateSummary();
+        update(targetNetwork, sourceNetwork, true, Objects.requireNonNull(loadsMergePlan), indexedLookups, ResultsWriter.delta(summary));
+        return summary;
+    }
+
+    /**
+     * @param loadsMergePlan if not null, the plan replayed to update the merged loads instead of grouping the loads of
+     *                       each bus again
+     */
+    private static void update(Network targetNetwork, Network sourceNetwork, boolean mergeLoads, LoadsMergePlan loadsMergePlan,
+                               boolean indexedLookups, ResultsWriter writer) {
+        EquipmentLookup target = EquipmentLookup.of(targetNetwork, indexedLookups);
+        if (loadsMergePlan != null) {
+            updateLoads(target, sourceNetwork, loadsMergePlan, writer);
+        } else {
+            updateLoads(targetNetwork, target, sourceNetwork, mergeLoads, writer);
+        }
         for (Line lineSource : sourceNetwork.getLines()) {
-            update(targetNetwork.getLine(lineSource.getId()), lineSource);
+            update(target.getLine(lineSource.getId()), lineSource, writer);
         }
         for (BoundaryLine sourceBoundaryLine : sourceNetwork.getBoundaryLines()) {
-            update(targetNetwork.getBoundaryLine(sourceBoundaryLine.getId()), sourceBoundaryLine);
+            update(target.getBoundaryLine(sourceBoundaryLine.getId()), sourceBoundaryLine, writer);
         }
 
-        updateHvdcLines(targetNetwork, sourceNetwork.getHvdcLines());
-        updateTwoWindingsTransformers(targetNetwork, sourceNetwork.getTwoWindingsTransformers());
-        updateThreeWindingsTransformers(targetNetwork, sourceNetwork.getThreeWindingsTransformers());
+        updateHvdcLines(target, sourceNetwork.getHvdcLines(), writer);
+        updateTwoWindingsTransformers(target, sourceNetwork.getTwoWindingsTransformers(), writer);
+        updateThreeWindingsTransformers(target, sourceNetwork.getThreeWindingsTransformers(), writer);
 
         for (Generator sourceGenerator : sourceNetwork.getGenerators()) {
-            update(targetNetwork.getGenerator(sourceGenerator.getId()), sourceGenerator);
+            update(target.getGenerator(sourceGenerator.getId()), sourceGenerator, writer);
         }
         for (ShuntCompensator sourceShuntCompensator : sourceNetwork.getShuntCompensators()) {
-            ShuntCompensator targetShuntCompensator = targetNetwork.getShuntCompensator(sourceShuntCompensator.getId());
-            targetShuntCompensator.setSolvedSectionCount(sourceShuntCompensator.getSectionCount());
-            update(targetShuntCompensator, sourceShuntCompensator);
+            ShuntCompensator targetShuntCompensator = target.getShuntCompensator(sourceShuntCompensator.getId());
+            writer.setSolvedSectionCount(targetShuntCompensator, sourceShuntCompensator.getSectionCount());
+            update(targetShuntCompensator, sourceShuntCompensator, writer);
         }
         for (StaticVarCompensator sourceStaticVarCompensator : sourceNetwork.getStaticVarCompensators()) {
-            StaticVarCompensator targetStaticVarCompensator = targetNetwork.getStaticVarCompensator(sourceStaticVarCompensator.getId());
-            update(targetStaticVarCompensator, sourceStaticVarCompensator);
-            targetStaticVarCompensator.setRegulationMode(sourceStaticVarCompensator.getRegulationMode());
-            targetStaticVarCompensator.setRegulating(sourceStaticVarCompensator.isRegulating());
+            StaticVarCompensator targetStaticVarCompensator = target.getStaticVarCompensator(sourceStaticVarCompensator.getId());
+            update(targetStaticVarCompensator, sourceStaticVarCompensator, writer);
+            writer.setRegulationMode(targetStaticVarCompensator, sourceStaticVarCompensator.getRegulationMode());
+            writer.setRegulating(targetStaticVarCompensator, sourceStaticVarCompensator.isRegulating());
         }
         for (Switch sourceSwitch : sourceNetwork.getSwitches()) {
-            targetNetwork.getSwitch(sourceSwitch.getId()).setOpen(sourceSwitch.isOpen());
+            writer.setOpen(target.getSwitch(sourceSwitch.getId()), sourceSwitch.isOpen());
         }
         // We have to update the voltages AFTER all possible topology changes have been updated in the target Network,
         // At this point, the buses in the BusBreakerView of target and source should match
         // We choose to iterate over BusBreakerView buses instead of BusView buses because they are more stable:
         // a use-case when we need to export a node/breaker network to bus/breaker to Dynawo exists,
         // and reading the results from Dynawo-exported bus/breaker will end up with different ids at BusView level
-        Map<String, Bus> targetNetworkBusBreakerViewBusById = targetNetwork.getBusBreakerView().getBusStream()
-                .collect(Collectors.toMap(Identifiable::getId, Function.identity())); // it is needed to pre-index into a map as in network store n.getBusBreakerView().getBus(id) is slow
+        Map<String, Bus> targetNetworkBusBreakerViewBusById = indexBusBreakerViewBuses(targetNetwork);
         for (Bus sourceBus : sourceNetwork.getBusBreakerView().getBuses()) {
             Bus targetBus = targetNetworkBusBreakerViewBusById.get(sourceBus.getId());
             if (targetBus == null) {
                 LOG.error("Source bus {} not found in target network. Voltage not updated ({}, {})", sourceBus.getId(), sourceBus.getV(), sourceBus.getAngle());
             } else {
-                targetBus.setV(sourceBus.getV());
-                targetBus.setAngle(sourceBus.getAngle());
+                writer.setVoltage(targetBus, sourceBus.getV(), sourceBus.getAngle());
             }
         }
     }
 
-    private static void updateHvdcLines(Network targetNetwork, Iterable<HvdcLine> hvdcLines) {
+    /**
+     * It is needed to pre-index into a map as in network store n.getBusBreakerView().getBus(id) is slow
+     */
+    static Map<String, Bus> indexBusBreakerViewBuses(Network network) {
+        return network.getBusBreakerView().getBusStream()
+                .collect(Collectors.toMap(Identifiable::getId, Function.identity()));
+    }
+
+    private static void updateHvdcLines(EquipmentLookup target, Iterable<HvdcLine> hvdcLines, ResultsWriter writer) {
         for (HvdcLine sourceHvdcLine : hvdcLines) {
-            HvdcLine targetHvdcLine = targetNetwork.getHvdcLine(sourceHvdcLine.getId());
-            update(targetHvdcLine.getConverterStation(TwoSides.ONE), sourceHvdcLine.getConverterStation(TwoSides.ONE));
-            update(targetHvdcLine.getConverterStation(TwoSides.TWO), sourceHvdcLine.getConverterStation(TwoSides.TWO));
+            HvdcLine targetHvdcLine = target.getHvdcLine(sourceHvdcLine.getId());
+            update(targetHvdcLine.getConverterStation(TwoSides.ONE), sourceHvdcLine.getConverterStation(TwoSides.ONE), writer);
+            update(targetHvdcLine.getConverterStation(TwoSides.TWO), sourceHvdcLine.getConverterStation(TwoSides.TWO), writer);
         }
     }
 
-    private static void updateTwoWindingsTransformers(Network targetNetwork, Iterable<TwoWindingsTransformer> twoWindingsTransformers) {
+    private static void updateTwoWindingsTransformers(EquipmentLookup target, Iterable<TwoWindingsTransformer> twoWindingsTransformers, ResultsWriter writer) {
         for (TwoWindingsTransformer sourceTransformer : twoWindingsTransformers) {
-            TwoWindingsTransformer targetTransformer = targetNetwork.getTwoWindingsTransformer(sourceTransformer.getId());
-            update(targetTransformer, sourceTransformer);
+            TwoWindingsTransformer targetTransformer = target.getTwoWindingsTransformer(sourceTransformer.getId());
+            update(targetTransformer, sourceTransformer, writer);
 
             PhaseTapChanger targetPhaseTapChanger = targetTransformer.getPhaseTapChanger();
             if (targetPhaseTapChanger != null) {
-                targetPhaseTapChanger.setSolvedTapPosition(sourceTransformer.getPhaseTapChanger().getTapPosition());
+                writer.setSolvedTapPosition(targetTransformer, targetPhaseTapChanger, sourceTransformer.getPhaseTapChanger().getTapPosition());
             }
 
             RatioTapChanger targetRatioTapChanger = targetTransformer.getRatioTapChanger();
             if (targetRatioTapChanger != null) {
-                targetRatioTapChanger.setSolvedTapPosition(sourceTransformer.getRatioTapChanger().getTapPosition());
+                writer.setSolvedTapPosition(targetTransformer, targetRatioTapChanger, sourceTransformer.getRatioTapChanger().getTapPosition());
             }
         }
     }
 
-    private static void updateThreeWindingsTransformers(Network targetNetwork, Iterable<ThreeWindingsTransformer> threeWindingsTransformers) {
+    private static void updateThreeWindingsTransformers(EquipmentLookup target, Iterable<ThreeWindingsTransformer> threeWindingsTransformers, ResultsWriter writer) {
         for (ThreeWindingsTransformer sourceThreeWindingsTransformer : threeWindingsTransformers) {
-            ThreeWindingsTransformer targetThreeWindingsTransformer = targetNetwork.getThreeWindingsTransformer(sourceThreeWindingsTransformer.getId());
-            update(targetThreeWindingsTransformer.getLeg1(), sourceThreeWindingsTransformer.getLeg1());
-            update(targetThreeWindingsTransformer.getLeg2(), sourceThreeWindingsTransformer.getLeg2());
-            update(targetThreeWindingsTransformer.getLeg3(), sourceThreeWindingsTransformer.getLeg3());
+            ThreeWindingsTransformer targetThreeWindingsTransformer = target.getThreeWindingsTransformer(sourceThreeWindingsTransformer.getId());
+            update(targetThreeWindingsTransformer, targetThreeWindingsTransformer.getLeg1(), sourceThreeWindingsTransformer.getLeg1(), writer);
+            update(targetThreeWindingsTransformer, targetThreeWindingsTransformer.getLeg2(), sourceThreeWindingsTransformer.getLeg2(), writer);
+            update(targetThreeWindingsTransformer, targetThreeWindingsTransformer.getLeg3(), sourceThreeWindingsTransformer.getLeg3(), writer);
         }
     }
 
-    private static void update(ThreeWindingsTransformer.Leg target, ThreeWindingsTransformer.Leg source) {
-        update(target.getTerminal(), source.getTerminal());
+    private static void update(ThreeWindingsTransformer targetTransformer, ThreeWindingsTransformer.Leg target,
+                               ThreeWindingsTransformer.Leg source, ResultsWriter writer) {
+        update(target.getTerminal(), source.getTerminal(), writer);
 
         PhaseTapChanger sourcePhaseTapChanger = source.getPhaseTapChanger();
         PhaseTapChanger targetPhaseTapChanger = target.getPhaseTapChanger();
         if (targetPhaseTapChanger != null) {
-            targetPhaseTapChanger.setSolvedTapPosition(sourcePhaseTapChanger.getTapPosition());
+            writer.setSolvedTapPosition(targetTransformer, targetPhaseTapChanger, sourcePhaseTapChanger.getTapPosition());
         }
 
         RatioTapChanger sourceRatioTapChanger = source.getRatioTapChanger();
         RatioTapChanger targetRatioTapChanger = target.getRatioTapChanger();
         if (targetRatioTapChanger != null) {
-            targetRatioTapChanger.setSolvedTapPosition(sourceRatioTapChanger.getTapPosition());
+            writer.setSolvedTapPosition(targetTransformer, targetRatioTapChanger, sourceRatioTapChanger.getTapPosition());
         }
     }
 
-    private static void update(Branch<?> target, Branch<?> source) {
-        update(target.getTerminal1(), source.getTerminal1());
-        update(target.getTerminal2(), source.getTerminal2());
+    private static void update(Branch<?> target, Branch<?> source, ResultsWriter writer) {
+        update(target.getTerminal1(), source.getTerminal1(), writer);
+        update(target.getTerminal2(), source.getTerminal2(), writer);
     }
 
-    private static void update(Injection<?> target, Injection<?> source) {
-        update(target.getTerminal(), source.getTerminal());
+    private static void update(Injection<?> target, Injection<?> source, ResultsWriter writer) {
+        update(target.getTerminal(), source.getTerminal(), writer);
     }
 
-    private static void update(Terminal target, Terminal source) {
-        target.setP(source.getP());
-        target.setQ(source.getQ());
-        if (source.isConnected()) {
-            target.connect();
-        } else {
-            target.disconnect();
-        }
+    private static void update(Terminal target, Terminal source, ResultsWriter writer) {
+        writer.setPowers(target, source.getP(), source.getQ());
+        writer.setConnected(target, source.isConnected());
     }
 
-    private static void update(Terminal target, Terminal mergedSource, double targetGroupP, double targetGroupQ) {
+    private static void update(Terminal target, Terminal mergedSource, double targetGroupP, double targetGroupQ, ResultsWriter writer) {
         double pRatio = target.getP() / targetGroupP;
         double qRatio = target.getQ() / targetGroupQ;
-        target.setP(mergedSource.getP() * pRatio);
-        target.setQ(mergedSource.getQ() * qRatio);
-        if (mergedSource.isConnected()) {
-            target.connect();
-        } else {
-            target.disconnect();
-        }
+        writer.setPowers(target, mergedSource.getP() * pRatio, mergedSource.getQ() * qRatio);
+        writer.setConnected(target, mergedSource.isConnected());
     }
 
-    private static void updateLoads(Network targetNetwork, Network sourceNetwork, boolean mergeLoads) {
+    private static void updateLoads(Network targetNetwork, EquipmentLookup target, Network sourceNetwork, boolean mergeLoads,
+                                    ResultsWriter writer) {
         if (mergeLoads) {
-            Network.BusBreakerView sourceBusBreakerView = sourceNetwork.getBusBreakerView();
+            Map<String, Bus> sourceBusBreakerViewBusById = indexBusBreakerViewBuses(sourceNetwork);
             for (Bus busTarget : targetNetwork.getBusBreakerView().getBuses()) {
-                updateLoadsWithMergedLoads(busTarget, sourceBusBreakerView.getBus(busTarget.getId()));
+                updateLoadsWithMergedLoads(busTarget, sourceBusBreakerViewBusById.get(busTarget.getId()), writer);
             }
             //handle fictitious load
             sourceNetwork.getLoadStream()
                     .filter(Identifiable::isFictitious)
-                    .forEach(l -> update(targetNetwork.getLoad(l.getId()), l));
+                    .forEach(l -> update(target.getLoad(l.getId()), l, writer));
         } else {
             for (Load sourceLoad : sourceNetwork.getLoads()) {
-                update(targetNetwork.getLoad(sourceLoad.getId()), sourceLoad);
+                update(target.getLoad(sourceLoad.getId()), sourceLoad, writer);
+            }
+        }
+    }
+
+    private static void updateLoads(EquipmentLookup target, Network sourceNetwork, LoadsMergePlan loadsMergePlan, ResultsWriter writer) {
+        for (Load sourceLoad : sourceNetwork.getLoads()) {
+            if (!loadsMergePlan.isMergedLoad(sourceLoad.getId())) {
+                update(target.getLoad(sourceLoad.getId()), sourceLoad, writer);
+            }
+        }
+        for (String mergedLoadId : loadsMergePlan.getMergedLoadIds()) {
+            Load mergedLoad = sourceNetwork.getLoad(mergedLoadId);
+            if (mergedLoad == null) {
+                throw new PowsyblException("Missing merged load " + mergedLoadId);
             }
+            Terminal mergedLoadTerminal = mergedLoad.getTerminal();
+            loadsMergePlan.forEachLoad(mergedLoadId, (loadId, pRatio, qRatio) -> {
+                Terminal terminal = target.getLoad(loadId).getTerminal();
+                writer.setPowers(terminal, mergedLoadTerminal.getP() * pRatio, mergedLoadTerminal.getQ() * qRatio);
+                writer.setConnected(terminal, mergedLoadTerminal.isConnected());
+            });
         }
     }
 
-    private static void updateLoadsWithMergedLoads(Bus busTarget, Bus busSource) {
+    private static void updateLoadsWithMergedLoads(Bus busTarget, Bus busSource, ResultsWriter writer) {
         Iterable<Load> loadsTarget = busTarget.getLoads();
         if (loadsTarget instanceof Collection<Load> c ? c.isEmpty() : !loadsTarget.iterator().hasNext()) {
             return;
@@ -188,11 +305,11 @@ public final class NetworkResultsUpdater {
                 throw new PowsyblException("Missing merged load in bus " + busTarget.getId());
             }
             if (loadTerminalsGroup.size() == 1) {
-                update(loadTerminalsGroup.getFirst(), mergedLoadTerminal);
+                update(loadTerminalsGroup.getFirst(), mergedLoadTerminal, writer);
             } else {
                 double groupP = loadTerminalsGroup.stream().mapToDouble(Terminal::getP).sum();
                 double groupQ = loadTerminalsGroup.stream().mapToDouble(Terminal::getQ).sum();
-                loadTerminalsGroup.forEach(terminal -> update(terminal, mergedLoadTerminal, groupP, groupQ));
+                loadTerminalsGroup.forEach(terminal -> update(terminal, mergedLoadTerminal, groupP, groupQ, writer));
             }
         });
     }
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons;
+
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.IdentifiableType;
+
+import java.util.*;
+
+/**
+ * Changes made to a network by a delta update with the simulation results: the number of changed equipments per type
+ * and the ids of the equipments whose connectivity changed, that is the connectables with a terminal connected or
+ * disconnected and the switches opened or closed.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public final class NetworkUpdateSummary {
+
+    private final Map<IdentifiableType, Set<String>> changedIds = new EnumMap<>(IdentifiableType.class);
+    private final Set<String> connectivityChangedIds = new LinkedHashSet<>();
+
+    NetworkUpdateSummary() {
+    }
+
+    void recordChange(Identifiable<?> identifiable) {
+        changedIds.computeIfAbsent(identifiable.getType(), k -> new HashSet<>()).add(identifiable.getId());
+    }
+
+    void recordConnectivityChange(Identifiable<?> identifiable) {
+        recordChange(identifiable);
+        connectivityChangedIds.add(identifiable.getId());
+    }
+
+    public int getChangeCount(IdentifiableType type) {
+        Set<String> ids = changedIds.get(type);
+        return ids != null ? ids.size() : 0;
+    }
+
+    public Map<IdentifiableType, Integer> getChangeCounts() {
+        Map<IdentifiableType, Integer> changeCounts = new EnumMap<>(IdentifiableType.class);
+        changedIds.forEach((type, ids) -> changeCounts.put(type, ids.size()));
+        return Collections.unmodifiableMap(changeCounts);
+    }
+
+    public Set<String> getConnectivityChangedIds() {
+        return Collections.unmodifiableSet(connectivityChangedIds);
+    }
+
+    public boolean isEmpty() {
+        return changedIds.isEmpty();
+    }
+}
@@ -0,0 +1,583 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.exceptions.UncheckedXmlStreamException;
+import com.powsybl.dynawo.commons.loadmerge.LoadPowersSigns;
+import com.powsybl.dynawo.commons.loadmerge.LoadsMergePlan;
+import com.powsybl.dynawo.commons.loadmerge.LoadsMerger;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.serde.IidmVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Simulation results read from the Dynawo output XIIDM file as a stream: only the values copied by
+ * {@link NetworkResultsUpdater} are kept, in compact records, instead of the whole output network.
+ * <p>
+ * The results are applied with the semantics of {@link NetworkResultsUpdater#update(Network, Network, boolean)}.
+ * As the calculated buses of node breaker voltage levels are not written in the file, the terminals of these voltage
+ * levels are neither connected nor disconnected: their connection is given by the switches, which are applied after
+ * the terminals in both cases. The bus of a node breaker merged load is the one of its node in the target network.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public final class OutputNetworkResults {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OutputNetworkResults.class);
+    private static final int NO_TAP_POSITION = Integer.MIN_VALUE;
+
+    private final List<LoadResult> loads = new ArrayList<>();
+    private final List<BranchResult> lines = new ArrayList<>();
+    private final List<InjectionResult> boundaryLines = new ArrayList<>();
+    private final Map<String, TerminalResult> converterStations = new HashMap<>();
+    private final List<HvdcLineResult> hvdcLines = new ArrayList<>();
+    private final List<TransformerResult> twoWindingsTransformers = new ArrayList<>();
+    private final List<TransformerResult> threeWindingsTransformers = new ArrayList<>();
+    private final List<InjectionResult> generators = new ArrayList<>();
+    private final List<ShuntResult> shuntCompensators = new ArrayList<>();
+    private final List<StaticVarCompensatorResult> staticVarCompensators = new ArrayList<>();
+    private final List<SwitchResult> switches = new ArrayList<>();
+    private final List<BusResult> buses = new ArrayList<>();
+    // buses of node breaker voltage levels, by voltage level id then by node
+    private final Map<String, Map<Integer, BusResult>> calculatedBuses = new LinkedHashMap<>();
+
+    private OutputNetworkResults() {
+    }
+
+    public static OutputNetworkResults read(Path file) {
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(is);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static OutputNetworkResults read(InputStream is) {
+        OutputNetworkResults results = new OutputNetworkResults();
+        try {
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+            XMLStreamReader xmlReader = factory.createXMLStreamReader(is);
+            try {
+                results.new XiidmReader(xmlReader).read();
+            } finally {
+                xmlReader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+        return results;
+    }
+
+    public void apply(Network targetNetwork, boolean mergeLoads) {
+        apply(targetNetwork, mergeLoads, false);
+    }
+
+    /**
+     * @param indexedLookups if true the target equipments are indexed by type beforehand instead of being looked up
+     *                       by id one by one, which is faster on remote or persistent network implementations
+     */
+    public void apply(Network targetNetwork, boolean mergeLoads, boolean indexedLookups) {
+        apply(targetNetwork, mergeLoads, null, indexedLookups, ResultsWriter.direct());
+    }
+
+    /**
+     * Applies the results, the ones of the merged loads being dispatched on their original loads with the plan computed
+     * when the network was exported
+     */
+    public void apply(Network targetNetwork, LoadsMergePlan loadsMergePlan, boolean indexedLookups) {
+        apply(targetNetwork, true, Objects.requireNonNull(loadsMergePlan), indexedLookups, ResultsWriter.direct());
+    }
+
+    /**
+     * Same as {@link #apply(Network, boolean, boolean)} but only the values differing from the target ones are written
+     * @return the changes made to the target network
+     */
+    public NetworkUpdateSummary applyChanges(Network targetNetwork, boolean mergeLoads, boolean indexedLookups) {
+        NetworkUpdateSummary summary = new NetworkUpdateSummary();
+        apply(targetNetwork, mergeLoads, null, indexedLookups, ResultsWriter.delta(summary));
+        return summary;
+    }
+
+    /**
+     * Same as {@link #apply(Network, LoadsMergePlan, boolean)} but only the values differing from the target ones are
+     * written
+     * @return the changes made to the target network
+     */
+    public NetworkUpdateSummary applyChanges(Network targetNetwork, LoadsMergePlan loadsMergePlan, boolean indexedLookups) {
+        NetworkUpdateSummary summary = new NetworkUpdateSummary();
+        apply(targetNetwork, true, Objects.requireNonNull(loadsMergePlan), indexedLookups, ResultsWriter.delta(summary));
+        return summary;
+    }
+
+    /**
+     * @param loadsMergePlan if not null, the plan replayed to update the merged loads instead of grouping the loads of
+     *                       each bus again
+     */
+    private void apply(Network targetNetwork, boolean mergeLoads, LoadsMergePlan loadsMergePlan, boolean indexedLookups,
+                       ResultsWriter writer) {
+        EquipmentLookup target = EquipmentLookup.of(targetNetwork, indexedLookups);
+        if (loadsMergePlan != null) {
+            updateLoads(target, loadsMergePlan, writer);
+        } else {
+            updateLoads(targetNetwork, target, mergeLoads, writer);
+        }
+        for (BranchResult line : lines) {
+            Line targetLine = target.getLine(line.id());
+            update(targetLine.getTerminal1(), line.terminal1(), writer);
+            update(targetLine.getTerminal2(), line.terminal2(), writer);
+        }
+        for (InjectionResult boundaryLine : boundaryLines) {
+            update(target.getBoundaryLine(boundaryLine.id()).getTerminal(), boundaryLine.terminal(), writer);
+        }
+        for (HvdcLineResult hvdcLine : hvdcLines) {
+            HvdcLine targetHvdcLine = target.getHvdcLine(hvdcLine.id());
+            update(targetHvdcLine.getConverterStation(TwoSides.ONE).getTerminal(), converterStations.get(hvdcLine.converterStationId1()), writer);
+            update(targetHvdcLine.getConverterStation(TwoSides.TWO).getTerminal(), converterStations.get(hvdcLine.converterStationId2()), writer);
+        }
+        for (TransformerResult transformer : twoWindingsTransformers) {
+            TwoWindingsTransformer targetTransformer = target.getTwoWindingsTransformer(transformer.id);
+            update(targetTransformer.getTerminal1(), transformer.terminals[0], writer);
+            update(targetTransformer.getTerminal2(), transformer.terminals[1], writer);
+            updateTapChangers(targetTransformer, targetTransformer.getPhaseTapChanger(), targetTransformer.getRatioTapChanger(), transformer, 0, writer);
+        }
+        for (TransformerResult transformer : threeWindingsTransformers) {
+            ThreeWindingsTransformer targetTransformer = target.getThreeWindingsTransformer(transformer.id);
+            List<ThreeWindingsTransformer.Leg> targetLegs = targetTransformer.getLegs();
+            for (int i = 0; i < targetLegs.size(); i++) {
+                ThreeWindingsTransformer.Leg targetLeg = targetLegs.get(i);
+                update(targetLeg.getTerminal(), transformer.terminals[i], writer);
+                updateTapChangers(targetTransformer, targetLeg.getPhaseTapChanger(), targetLeg.getRatioTapChanger(), transformer, i, writer);
+            }
+        }
+        for (InjectionResult generator : generators) {
+            update(target.getGenerator(generator.id()).getTerminal(), generator.terminal(), writer);
+        }
+        for (ShuntResult shuntCompensator : shuntCompensators) {
+            ShuntCompensator targetShuntCompensator = target.getShuntCompensator(shuntCompensator.id());
+            writer.setSolvedSectionCount(targetShuntCompensator, shuntCompensator.sectionCount());
+            update(targetShuntCompensator.getTerminal(), shuntCompensator.terminal(), writer);
+        }
+        for (StaticVarCompensatorResult staticVarCompensator : staticVarCompensators) {
+            StaticVarCompensator targetStaticVarCompensator = target.getStaticVarCompensator(staticVarCompensator.id());
+            update(targetStaticVarCompensator.getTerminal(), staticVarCompensator.terminal(), writer);
+            if (staticVarCompensator.regulationMode() != null) {
+                writer.setRegulationMode(targetStaticVarCompensator, staticVarCompensator.regulationMode());
+            }
+            writer.setRegulating(targetStaticVarCompensator, staticVarCompensator.regulating());
+        }
+        for (SwitchResult sourceSwitch : switches) {
+            writer.setOpen(target.getSwitch(sourceSwitch.id()), sourceSwitch.open());
+        }
+        // voltages are updated after all topology changes, see NetworkResultsUpdater
+        updateBuses(targetNetwork, target, writer);
+    }
+
+    private void updateBuses(Network targetNetwork, EquipmentLookup target, ResultsWriter writer) {
+        Map<String, Bus> targetNetworkBusBreakerViewBusById = NetworkResultsUpdater.indexBusBreakerViewBuses(targetNetwork);
+        for (BusResult sourceBus : buses) {
+            Bus targetBus = targetNetworkBusBreakerViewBusById.get(sourceBus.id());
+            if (targetBus == null) {
+                LOG.error("Source bus {} not found in target network. Voltage not updated ({}, {})", sourceBus.id(), sourceBus.v(), sourceBus.angle());
+            } else {
+                writer.setVoltage(targetBus, sourceBus.v(), sourceBus.angle());
+            }
+        }
+        // the bus breaker view buses of a node breaker voltage level hold the voltage of the calculated bus of their nodes
+        calculatedBuses.forEach((voltageLevelId, busByNode) -> {
+            VoltageLevel targetVoltageLevel = target.getVoltageLevel(voltageLevelId);
+            if (targetVoltageLevel == null || targetVoltageLevel.getTopologyKind() != TopologyKind.NODE_BREAKER) {
+                LOG.error("Source node breaker voltage level {} not found in target network. Voltages not updated", voltageLevelId);
+                return;
+            }
+            for (Bus targetBus : targetVoltageLevel.getBusBreakerView().getBuses()) {
+                targetBus.getConnectedTerminalStream().findFirst().ifPresent(terminal -> {
+                    BusResult sourceBus = busByNode.get(terminal.getNodeBreakerView().getNode());
+                    writer.setVoltage(targetBus, sourceBus != null ? sourceBus.v() : Double.NaN,
+                            sourceBus != null ? sourceBus.angle() : Double.NaN);
+                });
+            }
+        });
+    }
+
+    private static void updateTapChangers(Identifiable<?> targetTransformer, PhaseTapChanger targetPhaseTapChanger,
+                                          RatioTapChanger targetRatioTapChanger, TransformerResult source, int leg,
+                                          ResultsWriter writer) {
+        if (targetPhaseTapChanger != null && source.phaseTapPositions[leg] != NO_TAP_POSITION) {
+            writer.setSolvedTapPosition(targetTransformer, targetPhaseTapChanger, source.phaseTapPositions[leg]);
+        }
+        if (targetRatioTapChanger != null && source.ratioTapPositions[leg] != NO_TAP_POSITION) {
+            writer.setSolvedTapPosition(targetTransformer, targetRatioTapChanger, source.ratioTapPositions[leg]);
+        }
+    }
+
+    private static void update(Terminal target, TerminalResult source, ResultsWriter writer) {
+        writer.setPowers(target, source.p(), source.q());
+        updateConnection(target, source, writer);
+    }
+
+    private static void update(Terminal target, TerminalResult mergedSource, double targetGroupP, double targetGroupQ,
+                               ResultsWriter writer) {
+        double pRatio = target.getP() / targetGroupP;
+        double qRatio = target.getQ() / targetGroupQ;
+        writer.setPowers(target, mergedSource.p() * pRatio, mergedSource.q() * qRatio);
+        updateConnection(target, mergedSource, writer);
+    }
+
+    private static void updateConnection(Terminal target, TerminalResult source, ResultsWriter writer) {
+        switch (source.connection()) {
+            case CONNECTED -> writer.setConnected(target, true);
+            case DISCONNECTED -> writer.setConnected(target, false);
+            case SET_BY_SWITCHES -> {
+                // the switches are applied afterward
+            }
+        }
+    }
+
+    private void updateLoads(Network targetNetwork, EquipmentLookup target, boolean mergeLoads, ResultsWriter writer) {
+        if (mergeLoads) {
+            Map<String, Map<LoadPowersSigns, TerminalResult>> mergedLoadsByBusId = getMergedLoadsByBusId(target);
+            for (Bus busTarget : targetNetwork.getBusBreakerView().getBuses()) {
+                updateLoadsWithMergedLoads(busTarget, mergedLoadsByBusId.getOrDefault(busTarget.getId(), Map.of()), writer);
+            }
+            //handle fictitious load
+            for (LoadResult load : loads) {
+                if (load.fictitious()) {
+                    update(target.getLoad(load.id()).getTerminal(), load.terminal(), writer);
+                }
+            }
+        } else {
+            for (LoadResult load : loads) {
+                update(target.getLoad(load.id()).getTerminal(), load.terminal(), writer);
+            }
+        }
+    }
+
+    private void updateLoads(EquipmentLookup target, LoadsMergePlan loadsMergePlan, ResultsWriter writer) {
+        Map<String, TerminalResult> mergedLoads = HashMap.newHashMap(loadsMergePlan.getMergedLoadIds().size());
+        for (LoadResult load : loads) {
+            if (loadsMergePlan.isMergedLoad(load.id())) {
+                mergedLoads.put(load.id(), load.terminal());
+            } else {
+                update(target.getLoad(load.id()).getTerminal(), load.terminal(), writer);
+            }
+        }
+        for (String mergedLoadId : loadsMergePlan.getMergedLoadIds()) {
+            TerminalResult mergedLoad = mergedLoads.get(mergedLoadId);
+            if (mergedLoad == null) {
+                throw new PowsyblException("Missing merged load " + mergedLoadId);
+            }
+            loadsMergePlan.forEachLoad(mergedLoadId, (loadId, pRatio, qRatio) -> {
+                Terminal terminal = target.getLoad(loadId).getTerminal();
+                writer.setPowers(terminal, mergedLoad.p() * pRatio, mergedLoad.q() * qRatio);
+                updateConnection(terminal, mergedLoad, writer);
+            });
+        }
+    }
+
+    /**
+     * Same grouping as {@link LoadsMerger#getLoadTerminalByPowersSigns(Bus)} on each bus of the output network
+     */
+    private Map<String, Map<LoadPowersSigns, TerminalResult>> getMergedLoadsByBusId(EquipmentLookup target) {
+        Map<String, Map<LoadPowersSigns, TerminalResult>> mergedLoadsByBusId = new HashMap<>();
+        for (LoadResult load : loads) {
+            if (!load.fictitious()) {
+                String busId = getBusId(load, target);
+                if (busId != null) {
+                    mergedLoadsByBusId.computeIfAbsent(busId, k -> new EnumMap<>(LoadPowersSigns.class))
+                            .putIfAbsent(load.powersSigns(), load.terminal());
+                }
+            }
+        }
+        return mergedLoadsByBusId;
+    }
+
+    private static String getBusId(LoadResult load, EquipmentLookup target) {
+        if (load.terminal().connection() != ConnectionState.SET_BY_SWITCHES) {
+            return load.busId();
+        }
+        VoltageLevel targetVoltageLevel = target.getVoltageLevel(load.voltageLevelId());
+        if (targetVoltageLevel == null || targetVoltageLevel.getTopologyKind() != TopologyKind.NODE_BREAKER) {
+            return null;
+        }
+        return targetVoltageLevel.getNodeBreakerView().getOptionalTerminal(load.node())
+                .map(t -> t.getBusBreakerView().getBus())
+                .map(Identifiable::getId)
+                .orElse(null);
+    }
+
+    private static void updateLoadsWithMergedLoads(Bus busTarget, Map<LoadPowersSigns, TerminalResult> mergedLoads,
+                                                   ResultsWriter writer) {
+        Iterable<Load> loadsTarget = busTarget.getLoads();
+        if (loadsTarget instanceof Collection<Load> c ? c.isEmpty() : !loadsTarget.iterator().hasNext()) {
+            return;
+        }
+
+        LoadsMerger.getLoadTerminalsByPowersSigns(busTarget).forEach((loadPowersSigns, loadTerminalsGroup) -> {
+            TerminalResult mergedLoad = mergedLoads.get(loadPowersSigns);
+            if (mergedLoad == null) {
+                throw new PowsyblException("Missing merged load in bus " + busTarget.getId());
+            }
+            if (loadTerminalsGroup.size() == 1) {
+                update(loadTerminalsGroup.getFirst(), mergedLoad, writer);
+            } else {
+                double groupP = loadTerminalsGroup.stream().mapToDouble(Terminal::getP).sum();
+                double groupQ = loadTerminalsGroup.stream().mapToDouble(Terminal::getQ).sum();
+                loadTerminalsGroup.forEach(terminal -> update(terminal, mergedLoad, groupP, groupQ, writer));
+            }
+        });
+    }
+
+    private enum ConnectionState {
+        CONNECTED,
+        DISCONNECTED,
+        SET_BY_SWITCHES
+    }
+
+    private record TerminalResult(double p, double q, ConnectionState connection) {
+    }
+
+    private record InjectionResult(String id, TerminalResult terminal) {
+    }
+
+    private record LoadResult(String id, TerminalResult terminal, LoadPowersSigns powersSigns, boolean fictitious,
+                              String voltageLevelId, String busId, int node) {
+    }
+
+    private record BranchResult(String id, TerminalResult terminal1, TerminalResult terminal2) {
+    }
+
+    private record HvdcLineResult(String id, String converterStationId1, String converterStationId2) {
+    }
+
+    private record ShuntResult(String id, TerminalResult terminal, int sectionCount) {
+    }
+
+    private record StaticVarCompensatorResult(String id, TerminalResult terminal,
+                                              StaticVarCompensator.RegulationMode regulationMode, boolean regulating) {
+    }
+
+    private record SwitchResult(String id, boolean open) {
+    }
+
+    private record BusResult(String id, double v, double angle) {
+    }
+
+    /**
+     * Terminals and tap positions of a transformer, the tap positions being read from sub elements
+     */
+    private static final class TransformerResult {
+
+        private final String id;
+        private final TerminalResult[] terminals;
+        private final int[] phaseTapPositions;
+        private final int[] ratioTapPositions;
+
+        private TransformerResult(String id, TerminalResult[] terminals) {
+            this.id = id;
+            this.terminals = terminals;
+            this.phaseTapPositions = new int[terminals.length];
+            this.ratioTapPositions = new int[terminals.length];
+            Arrays.fill(phaseTapPositions, NO_TAP_POSITION);
+            Arrays.fill(ratioTapPositions, NO_TAP_POSITION);
+        }
+    }
+
+    private final class XiidmReader {
+
+        private static final String ID = "id";
+        private static final String VOLTAGE_LEVEL = "voltageLevel";
+        private static final String TWO_WINDINGS_TRANSFORMER = "twoWindingsTransformer";
+        private static final String THREE_WINDINGS_TRANSFORMER = "threeWindingsTransformer";
+        private static final String PHASE_TAP_CHANGER = "phaseTapChanger";
+        private static final String RATIO_TAP_CHANGER = "ratioTapChanger";
+        private static final String OFF_REGULATION_MODE = "OFF";
+
+        private final XMLStreamReader reader;
+        private String iidmNamespace;
+        private IidmVersion version;
+        private String voltageLevelId;
+        private Map<Integer, BusResult> voltageLevelCalculatedBuses;
+        private TransformerResult transformer;
+
+        private XiidmReader(XMLStreamReader reader) {
+            this.reader = reader;
+        }
+
+        private void read() throws XMLStreamException {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    if (iidmNamespace == null) {
+                        iidmNamespace = reader.getNamespaceURI();
+                        version = IidmVersion.fromNamespaceURI(iidmNamespace);
+                    }
+                    // extensions are written in their own namespaces
+                    if (iidmNamespace.equals(reader.getNamespaceURI())) {
+                        readElement(reader.getLocalName());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String localName = reader.getLocalName();
+                    if (VOLTAGE_LEVEL.equals(localName)) {
+                        voltageLevelId = null;
+                        voltageLevelCalculatedBuses = null;
+                    } else if (TWO_WINDINGS_TRANSFORMER.equals(localName) || THREE_WINDINGS_TRANSFORMER.equals(localName)) {
+                        transformer = null;
+                    }
+                }
+            }
+        }
+
+        private void readElement(String localName) {
+            switch (localName) {
+                case VOLTAGE_LEVEL -> readVoltageLevel();
+                case "bus" -> readBus();
+                case "switch" -> switches.add(new SwitchResult(getAttribute(ID), Boolean.parseBoolean(getAttribute("open"))));
+                case "load" -> readLoad();
+                case "generator" -> generators.add(new InjectionResult(getAttribute(ID), readTerminal("")));
+                case "shunt", "shuntCompensator" -> readShuntCompensator();
+                case "staticVarCompensator" -> readStaticVarCompensator();
+                case "vscConverterStation", "lccConverterStation" -> converterStations.put(getAttribute(ID), readTerminal(""));
+                case "danglingLine", "boundaryLine" -> boundaryLines.add(new InjectionResult(getAttribute(ID), readTerminal("")));
+                case "line" -> lines.add(new BranchResult(getAttribute(ID), readTerminal("1"), readTerminal("2")));
+                case "tieLine" -> readTieLine();
+                case "hvdcLine" -> hvdcLines.add(new HvdcLineResult(getAttribute(ID),
+                        getAttribute("converterStation1"), getAttribute("converterStation2")));
+                case TWO_WINDINGS_TRANSFORMER -> {
+                    transformer = new TransformerResult(getAttribute(ID), new TerminalResult[] {readTerminal("1"), readTerminal("2")});
+                    twoWindingsTransformers.add(transformer);
+                }
+                case THREE_WINDINGS_TRANSFORMER -> {
+                    transformer = new TransformerResult(getAttribute(ID),
+                            new TerminalResult[] {readTerminal("1"), readTerminal("2"), readTerminal("3")});
+                    threeWindingsTransformers.add(transformer);
+                }
+                default -> readTapChanger(localName);
+            }
+        }
+
+        private void readVoltageLevel() {
+            voltageLevelId = getAttribute(ID);
+            if (TopologyKind.NODE_BREAKER.name().equals(getAttribute("topologyKind"))) {
+                voltageLevelCalculatedBuses = new HashMap<>();
+                calculatedBuses.put(voltageLevelId, voltageLevelCalculatedBuses);
+            }
+        }
+
+        private void readBus() {
+            String nodes = getAttribute("nodes");
+            if (voltageLevelCalculatedBuses != null && nodes != null) {
+                BusResult bus = new BusResult(null, getDoubleAttribute("v"), getDoubleAttribute("angle"));
+                for (String node : nodes.split(",")) {
+                    voltageLevelCalculatedBuses.put(Integer.parseInt(node.trim()), bus);
+                }
+            } else {
+                buses.add(new BusResult(getAttribute(ID), getDoubleAttribute("v"), getDoubleAttribute("angle")));
+            }
+        }
+
+        private void readLoad() {
+            String node = getAttribute("node");
+            loads.add(new LoadResult(getAttribute(ID), readTerminal(""),
+                    LoadsMerger.getLoadPowersSigns(getDoubleAttribute("p0"), getDoubleAttribute("q0")),
+                    Boolean.parseBoolean(getAttribute("fictitious")),
+                    voltageLevelId, getAttribute("bus"), node != null ? Integer.parseInt(node) : -1));
+        }
+
+        private void readShuntCompensator() {
+            // the section count attribute has been renamed in IIDM v1.3
+            String sectionCount = getAttribute("sectionCount");
+            if (sectionCount == null) {
+                sectionCount = getAttribute("currentSectionCount");
+            }
+            shuntCompensators.add(new ShuntResult(getAttribute(ID), readTerminal(""), Integer.parseInt(sectionCount)));
+        }
+
+        private void readStaticVarCompensator() {
+            String regulationMode = getAttribute("regulationMode");
+            StaticVarCompensator.RegulationMode mode = null;
+            boolean regulating = false;
+            if (version.compareTo(IidmVersion.V_1_14) >= 0) {
+                mode = regulationMode != null ? StaticVarCompensator.RegulationMode.valueOf(regulationMode) : null;
+                regulating = Boolean.parseBoolean(getAttribute("regulating"));
+            } else if (OFF_REGULATION_MODE.equals(regulationMode)) {
+                // the OFF regulation mode has been replaced by the regulating attribute in IIDM v1.14
+                mode = StaticVarCompensator.RegulationMode.VOLTAGE;
+            } else if (regulationMode != null) {
+                mode = StaticVarCompensator.RegulationMode.valueOf(regulationMode);
+                regulating = true;
+            }
+            staticVarCompensators.add(new StaticVarCompensatorResult(getAttribute(ID), readTerminal(""), mode, regulating));
+        }
+
+        private void readTieLine() {
+            // until IIDM v1.10 the boundary lines of a tie line are written within the tie line
+            String boundaryLineId1 = getAttribute("id_1");
+            if (boundaryLineId1 != null) {
+                boundaryLines.add(new InjectionResult(boundaryLineId1, readTerminal("1")));
+                boundaryLines.add(new InjectionResult(getAttribute("id_2"), readTerminal("2")));
+            }
+        }
+
+        private void readTapChanger(String localName) {
+            if (transformer == null) {
+                return;
+            }
+            int[] tapPositions;
+            String leg;
+            if (localName.startsWith(PHASE_TAP_CHANGER)) {
+                tapPositions = transformer.phaseTapPositions;
+                leg = localName.substring(PHASE_TAP_CHANGER.length());
+            } else if (localName.startsWith(RATIO_TAP_CHANGER)) {
+                tapPositions = transformer.ratioTapPositions;
+                leg = localName.substring(RATIO_TAP_CHANGER.length());
+            } else {
+                return;
+            }
+            String tapPosition = getAttribute("tapPosition");
+            if (tapPosition != null) {
+                tapPositions[leg.isEmpty() ? 0 : Integer.parseInt(leg) - 1] = Integer.parseInt(tapPosition);
+            }
+        }
+
+        private TerminalResult readTerminal(String side) {
+            ConnectionState connection;
+            if (getAttribute("node" + side) != null) {
+                connection = ConnectionState.SET_BY_SWITCHES;
+            } else {
+                connection = getAttribute("bus" + side) != null ? ConnectionState.CONNECTED : ConnectionState.DISCONNECTED;
+            }
+            return new TerminalResult(getDoubleAttribute("p" + side), getDoubleAttribute("q" + side), connection);
+        }
+
+        private String getAttribute(String name) {
+            return reader.getAttributeValue(null, name);
+        }
+
+        private double getDoubleAttribute(String name) {
+            String value = getAttribute(name);
+            return value != null ? Double.parseDouble(value) : Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons;
+
+import com.powsybl.iidm.network.*;
+
+import java.util.Objects;
+
+/**
+ * Writes the simulation results into the equipments of the updated network.
+ * <p>
+ * In delta mode each value is compared with the current one before being written, so that unchanged values do not
+ * generate writes on network implementations persisting every setter call, and the changes are recorded in a
+ * {@link NetworkUpdateSummary}.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+final class ResultsWriter {
+
+    private static final ResultsWriter DIRECT = new ResultsWriter(null);
+
+    // null when every value is written
+    private final NetworkUpdateSummary summary;
+
+    private ResultsWriter(NetworkUpdateSummary summary) {
+        this.summary = summary;
+    }
+
+    static ResultsWriter direct() {
+        return DIRECT;
+    }
+
+    static ResultsWriter delta(NetworkUpdateSummary summary) {
+        return new ResultsWriter(Objects.requireNonNull(summary));
+    }
+
+    void setPowers(Terminal terminal, double p, double q) {
+        if (summary == null) {
+            terminal.setP(p);
+            terminal.setQ(q);
+            return;
+        }
+        boolean changed = false;
+        if (Double.compare(terminal.getP(), p) != 0) {
+            terminal.setP(p);
+            changed = true;
+        }
+        if (Double.compare(terminal.getQ(), q) != 0) {
+            terminal.setQ(q);
+            changed = true;
+        }
+        if (changed) {
+            summary.recordChange(terminal.getConnectable());
+        }
+    }
+
+    void setConnected(Terminal terminal, boolean connected) {
+        if (summary == null) {
+            if (connected) {
+                terminal.connect();
+            } else {
+                terminal.disconnect();
+            }
+        } else if (terminal.isConnected() != connected && (connected ? terminal.connect() : terminal.disconnect())) {
+            summary.recordConnectivityChange(terminal.getConnectable());
+        }
+    }
+
+    void setSolvedSectionCount(ShuntCompensator shuntCompensator, int sectionCount) {
+        if (summary == null) {
+            shuntCompensator.setSolvedSectionCount(sectionCount);
+        } else if (!Objects.equals(shuntCompensator.getSolvedSectionCount(), sectionCount)) {
+            shuntCompensator.setSolvedSectionCount(sectionCount);
+            summary.recordChange(shuntCompensator);
+        }
+    }
+
+    void setSolvedTapPosition(Identifiable<?> transformer, TapChanger<?, ?, ?, ?> tapChanger, int tapPosition) {
+        if (summary == null) {
+            tapChanger.setSolvedTapPosition(tapPosition);
+        } else if (!Objects.equals(tapChanger.getSolvedTapPosition(), tapPosition)) {
+            tapChanger.setSolvedTapPosition(tapPosition);
+            summary.recordChange(transformer);
+        }
+    }
+
+    void setRegulationMode(StaticVarCompensator staticVarCompensator, StaticVarCompensator.RegulationMode regulationMode) {
+        if (summary == null) {
+            staticVarCompensator.setRegulationMode(regulationMode);
+        } else if (staticVarCompensator.getRegulationMode() != regulationMode) {
+            staticVarCompensator.setRegulationMode(regulationMode);
+            summary.recordChange(staticVarCompensator);
+        }
+    }
+
+    void setRegulating(StaticVarCompensator staticVarCompensator, boolean regulating) {
+        if (summary == null) {
+            staticVarCompensator.setRegulating(regulating);
+        } else if (staticVarCompensator.isRegulating() != regulating) {
+            staticVarCompensator.setRegulating(regulating);
+            summary.recordChange(staticVarCompensator);
+        }
+    }
+
+    void setOpen(Switch sw, boolean open) {
+        if (summary == null) {
+            sw.setOpen(open);
+        } else if (sw.isOpen() != open) {
+            sw.setOpen(open);
+            summary.recordConnectivityChange(sw);
+        }
+    }
+
+    void setVoltage(Bus bus, double v, double angle) {
+        if (summary == null) {
+            bus.setV(v);
+            bus.setAngle(angle);
+            return;
+        }
+        boolean changed = false;
+        if (Double.compare(bus.getV(), v) != 0) {
+            bus.setV(v);
+            changed = true;
+        }
+        if (Double.compare(bus.getAngle(), angle) != 0) {
+            bus.setAngle(angle);
+            changed = true;
+        }
+        if (changed) {
+            summary.recordChange(bus);
+        }
+    }
+}
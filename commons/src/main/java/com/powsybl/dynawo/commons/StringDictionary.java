@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons;
+
+import java.util.*;
+
+/**
+ * Distinct strings coded by their order of first appearance, each distinct string being kept once
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public final class StringDictionary {
+
+    public static final int NO_CODE = -1;
+
+    private final List<String> values = new ArrayList<>();
+    private final Map<String, Integer> codes = new HashMap<>();
+
+    /**
+     * @return the code of the value, the value being added if unknown
+     */
+    public int encode(String value) {
+        return codes.computeIfAbsent(Objects.requireNonNull(value), v -> {
+            values.add(v);
+            return values.size() - 1;
+        });
+    }
+
+    public String decode(int code) {
+        return values.get(code);
+    }
+
+    /**
+     * @return the code of the value, or {@link #NO_CODE} if unknown
+     */
+    public int getCode(Object value) {
+        Integer code = codes.get(value);
+        return code != null ? code : NO_CODE;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * @return the distinct values, in order of first appearance
+     */
+    public List<String> getValues() {
+        return Collections.unmodifiableList(values);
+    }
+}
@@ -8,10 +8,13 @@
 package com.powsybl.dynawo.commons.dynawologs;
 
 import com.powsybl.dynawo.commons.AbstractCsvParser;
+import com.powsybl.dynawo.commons.ByteLine;
 import com.univocity.parsers.csv.CsvParser;
 import com.univocity.parsers.csv.CsvParserSettings;
 
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
 /**
  * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
@@ -27,22 +30,37 @@ public final class CsvLogParser extends AbstractCsvParser<LogEntry> {
     }
 
     public CsvLogParser(char separator) {
+        this(separator, DEFAULT_WINDOW_SIZE);
+    }
+
+    CsvLogParser(char separator, int windowSize) {
+        super(separator, windowSize);
         CsvParserSettings settings = setupSettings(separator, false);
         this.csvParser = new CsvParser(settings);
     }
 
     @Override
     protected Optional<LogEntry> createEntry(String[] tokens) {
-        if (tokens.length > NB_COLUMNS) {
+        return LogUtils.createLog(tokens[1], createMessage(tokens.length, i -> tokens[i]));
+    }
+
+    @Override
+    protected boolean readEntry(ByteLine line, Consumer<LogEntry> consumer) {
+        LogUtils.createLog(line.getString(1), createMessage(line.getTokenCount(), line::getString)).ifPresent(consumer);
+        return true;
+    }
+
+    private static String createMessage(int tokensSize, IntFunction<String> tokens) {
+        if (tokensSize > NB_COLUMNS) {
             StringBuilder builder = new StringBuilder();
-            for (int i = 2; i < tokens.length - 1; i++) {
-                builder.append(tokens[i]);
+            for (int i = 2; i < tokensSize - 1; i++) {
+                builder.append(tokens.apply(i));
                 builder.append(SPACED_SEPARATOR);
             }
-            builder.append(tokens[tokens.length - 1]);
-            return LogUtils.createLog(tokens[1], builder.toString());
+            builder.append(tokens.apply(tokensSize - 1));
+            return builder.toString();
         }
-        return LogUtils.createLog(tokens[1], tokens[2]);
+        return tokens.apply(2);
     }
 
     @Override
@@ -27,17 +27,20 @@ public class ExportConfigurationHandler {
                     .flatMap(provider -> provider.get().getIidmExtensionNames().stream())
                     .collect(Collectors.toList()));
 
-    private static final Supplier<List<Consumer<Network>>> NETWORK_MODIFIERS_SUPPLIER =
+    private static final Supplier<List<NetworkModifier>> NETWORK_MODIFIER_PROVIDERS_SUPPLIER =
             Suppliers.memoize(() -> ServiceLoader.load(NetworkModifier.class).stream()
-                    .map(provider -> provider.get().getNetworkModifier())
+                    .map(ServiceLoader.Provider::get)
                     .collect(Collectors.toList()));
 
     private final List<String> extensionNames;
     private final List<Consumer<Network>> networkModifiers;
+    private final List<String> networkModifierNames;
 
     public ExportConfigurationHandler() {
         this.extensionNames = IIDM_EXTENSION_NAMES_SUPPLIER.get();
-        this.networkModifiers = NETWORK_MODIFIERS_SUPPLIER.get();
+        List<NetworkModifier> networkModifierProviders = NETWORK_MODIFIER_PROVIDERS_SUPPLIER.get();
+        this.networkModifiers = networkModifierProviders.stream().map(NetworkModifier::getNetworkModifier).toList();
+        this.networkModifierNames = networkModifierProviders.stream().map(m -> m.getClass().getName()).toList();
     }
 
     public List<String> getExtensionNames() {
@@ -47,4 +50,11 @@ public class ExportConfigurationHandler {
     public List<Consumer<Network>> getNetworkModifiers() {
         return networkModifiers;
     }
+
+    /**
+     * Class names of the network modifier providers, in the order of {@link #getNetworkModifiers()}
+     */
+    public List<String> getNetworkModifierNames() {
+        return networkModifierNames;
+    }
 }
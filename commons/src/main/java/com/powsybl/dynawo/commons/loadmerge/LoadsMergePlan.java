@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons.loadmerge;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Load;
+
+import java.util.*;
+
+/**
+ * Loads merged when exporting a network, kept to dispatch the results of each merged load on its original loads
+ * without grouping the loads again: for each merged load, the ids of the original loads and their share of the
+ * merged load active and reactive powers at export time.
+ * <p>
+ * The original loads are stored in flat arrays, the ones of the i-th merged load lying between the indexes
+ * {@code firstLoadIndexes[i]} and {@code firstLoadIndexes[i + 1]}.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public final class LoadsMergePlan {
+
+    private static final LoadsMergePlan EMPTY = new LoadsMergePlan(List.of());
+
+    private final Map<String, Integer> mergedLoadIndexes;
+    private final int[] firstLoadIndexes;
+    private final String[] loadIds;
+    private final double[] pRatios;
+    private final double[] qRatios;
+
+    private LoadsMergePlan(List<LoadsToMerge> loadsToMerge) {
+        mergedLoadIndexes = HashMap.newHashMap(loadsToMerge.size());
+        firstLoadIndexes = new int[loadsToMerge.size() + 1];
+        int loadCount = loadsToMerge.stream().mapToInt(l -> l.getLoads().size()).sum();
+        loadIds = new String[loadCount];
+        pRatios = new double[loadCount];
+        qRatios = new double[loadCount];
+        int loadIndex = 0;
+        for (int i = 0; i < loadsToMerge.size(); i++) {
+            LoadsToMerge merge = loadsToMerge.get(i);
+            mergedLoadIndexes.put(merge.getMergedLoadId(), i);
+            firstLoadIndexes[i] = loadIndex;
+            for (Load load : merge.getLoads()) {
+                loadIds[loadIndex] = load.getId();
+                pRatios[loadIndex] = load.getTerminal().getP() / merge.getMergedP();
+                qRatios[loadIndex] = load.getTerminal().getQ() / merge.getMergedQ();
+                loadIndex++;
+            }
+        }
+        firstLoadIndexes[loadsToMerge.size()] = loadIndex;
+    }
+
+    /**
+     * Creates the plan of the given loads to merge, before they are merged
+     */
+    public static LoadsMergePlan of(List<LoadsToMerge> loadsToMerge) {
+        return loadsToMerge.isEmpty() ? EMPTY : new LoadsMergePlan(loadsToMerge);
+    }
+
+    /**
+     * Plan of a network exported without merging its loads
+     */
+    public static LoadsMergePlan empty() {
+        return EMPTY;
+    }
+
+    public boolean isMergedLoad(String loadId) {
+        return mergedLoadIndexes.containsKey(loadId);
+    }
+
+    public Set<String> getMergedLoadIds() {
+        return Collections.unmodifiableSet(mergedLoadIndexes.keySet());
+    }
+
+    /**
+     * Calls the consumer with each original load of the given merged load and its share of the merged load powers
+     */
+    public void forEachLoad(String mergedLoadId, LoadShareConsumer consumer) {
+        Integer mergedLoadIndex = mergedLoadIndexes.get(mergedLoadId);
+        if (mergedLoadIndex == null) {
+            throw new PowsyblException("Unknown merged load " + mergedLoadId);
+        }
+        for (int i = firstLoadIndexes[mergedLoadIndex]; i < firstLoadIndexes[mergedLoadIndex + 1]; i++) {
+            consumer.accept(loadIds[i], pRatios[i], qRatios[i]);
+        }
+    }
+
+    @FunctionalInterface
+    public interface LoadShareConsumer {
+        void accept(String loadId, double pRatio, double qRatio);
+    }
+}
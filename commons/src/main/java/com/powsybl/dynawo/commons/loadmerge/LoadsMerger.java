@@ -39,14 +39,26 @@ public final class LoadsMerger {
         return mergeLoads(network, false);
     }
 
+    /**
+     * Computes the loads which would be merged by {@link #mergeLoads(Network, boolean)}, without modifying the network
+     */
+    public static List<LoadsToMerge> getLoadsToMerge(Network network) {
+        return network.getVoltageLevelStream()
+                .flatMap(vl -> getLoadsToMerge(vl).stream())
+                .toList();
+    }
+
     private static void mergeLoadsInVoltageLevel(VoltageLevel vl) {
         // we need to build the list of loads to merge beforehand as the buses of this voltage level
         // will be invalidated once a load is removed
-        List<LoadsToMerge> loadsToMergeList = vl.getBusBreakerView().getBusStream()
+        getLoadsToMerge(vl).forEach(LoadsToMerge::merge);
+    }
+
+    private static List<LoadsToMerge> getLoadsToMerge(VoltageLevel vl) {
+        return vl.getBusBreakerView().getBusStream()
                 .filter(bus -> bus.getLoadStream().count() > 1)
                 .flatMap(LoadsMerger::getLoadsToMergeStream)
                 .toList();
-        loadsToMergeList.forEach(LoadsToMerge::merge);
     }
 
     private static Stream<LoadsToMerge> getLoadsToMergeStream(Bus bus) {
@@ -82,10 +94,14 @@ public final class LoadsMerger {
     }
 
     private static LoadPowersSigns getLoadPowersSigns(Load load) {
-        if (load.getP0() >= 0) {
-            return load.getQ0() >= 0 ? P_POS_Q_POS : P_POS_Q_NEG;
+        return getLoadPowersSigns(load.getP0(), load.getQ0());
+    }
+
+    public static LoadPowersSigns getLoadPowersSigns(double p0, double q0) {
+        if (p0 >= 0) {
+            return q0 >= 0 ? P_POS_Q_POS : P_POS_Q_NEG;
         } else {
-            return load.getQ0() >= 0 ? P_NEG_Q_POS : P_NEG_Q_NEG;
+            return q0 >= 0 ? P_NEG_Q_POS : P_NEG_Q_NEG;
         }
     }
 }
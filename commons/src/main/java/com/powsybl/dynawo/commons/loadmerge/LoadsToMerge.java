@@ -9,6 +9,7 @@ package com.powsybl.dynawo.commons.loadmerge;
 
 import com.powsybl.iidm.network.*;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -17,7 +18,10 @@ import java.util.List;
 public class LoadsToMerge {
     private static final String MERGE_LOAD_PREFIX_ID = "merged_load_.";
     private final List<Load> loads;
-    private final LoadAdder loadAdder;
+    private final VoltageLevel voltageLevel;
+    private final String mergedLoadId;
+    private final String busId;
+    private final int node;
     private final double mergedP;
     private final double mergedQ;
     private final double mergedP0;
@@ -25,30 +29,36 @@ public class LoadsToMerge {
 
     public LoadsToMerge(LoadPowersSigns loadPowersSigns, List<Load> loads, Bus bus) {
         this.loads = loads;
-        this.loadAdder = createLoadAdder(loads, loadPowersSigns, bus);
+        this.voltageLevel = bus.getVoltageLevel();
+        this.mergedLoadId = MERGE_LOAD_PREFIX_ID + bus.getId() + loadPowersSigns.getMergeLoadSuffixId();
+        this.busId = bus.getId();
+        this.node = TopologyKind.NODE_BREAKER.equals(voltageLevel.getTopologyKind())
+                ? loads.getFirst().getTerminal().getNodeBreakerView().getNode()
+                : -1;
         this.mergedP = loads.stream().map(Load::getTerminal).mapToDouble(Terminal::getP).sum();
         this.mergedQ = loads.stream().map(Load::getTerminal).mapToDouble(Terminal::getQ).sum();
         this.mergedP0 = loads.stream().mapToDouble(Load::getP0).sum();
         this.mergedQ0 = loads.stream().mapToDouble(Load::getQ0).sum();
     }
 
-    private static LoadAdder createLoadAdder(List<Load> loads, LoadPowersSigns loadPowersSigns, Bus bus) {
-        LoadAdder loadAdder = bus.getVoltageLevel().newLoad();
-        loadAdder.setId(MERGE_LOAD_PREFIX_ID + bus.getId() + loadPowersSigns.getMergeLoadSuffixId());
+    private LoadAdder createLoadAdder() {
+        LoadAdder loadAdder = voltageLevel.newLoad();
+        loadAdder.setId(mergedLoadId);
         loadAdder.setLoadType(LoadType.UNDEFINED);
 
-        TopologyKind topologyKind = bus.getVoltageLevel().getTopologyKind();
+        TopologyKind topologyKind = voltageLevel.getTopologyKind();
         if (TopologyKind.BUS_BREAKER.equals(topologyKind)) {
-            loadAdder.setBus(bus.getId());
-            loadAdder.setConnectableBus(bus.getId());
+            loadAdder.setBus(busId);
+            loadAdder.setConnectableBus(busId);
         } else if (TopologyKind.NODE_BREAKER.equals(topologyKind)) {
-            loadAdder.setNode(loads.getFirst().getTerminal().getNodeBreakerView().getNode());
+            loadAdder.setNode(node);
         }
 
         return loadAdder;
     }
 
     public void merge() {
+        LoadAdder loadAdder = createLoadAdder();
         loads.forEach(Connectable::remove);
         loads.clear();
         Load load = loadAdder
@@ -58,4 +68,46 @@ public class LoadsToMerge {
         load.getTerminal().setP(mergedP);
         load.getTerminal().setQ(mergedQ);
     }
+
+    public List<Load> getLoads() {
+        return Collections.unmodifiableList(loads);
+    }
+
+    public VoltageLevel getVoltageLevel() {
+        return voltageLevel;
+    }
+
+    public String getMergedLoadId() {
+        return mergedLoadId;
+    }
+
+    /**
+     * Bus breaker view bus id the merged load is connected to
+     */
+    public String getBusId() {
+        return busId;
+    }
+
+    /**
+     * Node the merged load is connected to, -1 if the voltage level is not in node breaker topology
+     */
+    public int getNode() {
+        return node;
+    }
+
+    public double getMergedP() {
+        return mergedP;
+    }
+
+    public double getMergedQ() {
+        return mergedQ;
+    }
+
+    public double getMergedP0() {
+        return mergedP0;
+    }
+
+    public double getMergedQ0() {
+        return mergedQ0;
+    }
 }
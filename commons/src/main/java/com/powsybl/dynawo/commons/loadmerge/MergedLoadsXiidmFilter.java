@@ -0,0 +1,275 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons.loadmerge;
+
+import com.powsybl.commons.exceptions.UncheckedXmlStreamException;
+import com.powsybl.commons.xml.XmlUtil;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.LoadType;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.VoltageLevel;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.*;
+
+/**
+ * Rewrites on the fly the XIIDM export of a network so that it matches the export of the same network once its loads
+ * have been merged with {@link LoadsMerger}, without copying nor modifying the network.
+ * <p>
+ * Merged loads are removed along with their extensions, and each resulting load is written at the position the
+ * in-place merge would have given it: in place of the first merged load for node breaker voltage levels, after the
+ * last load of its bus for bus breaker voltage levels.
+ * <p>
+ * The network is only read when creating the filter, hence the filtering can run on another thread than the one
+ * exporting the network. A filter is used for a single export.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public final class MergedLoadsXiidmFilter {
+
+    private static final String INDENT = "    ";
+    private static final String LOAD = "load";
+    private static final String EXTENSION = "extension";
+    private static final String ID = "id";
+
+    private final Set<String> removedLoadIds = new HashSet<>();
+    private final Map<String, List<LoadsToMerge>> mergedLoadsByAnchorId = new HashMap<>();
+    private XMLStreamReader reader;
+    private XMLStreamWriter writer;
+    private String iidmPrefix;
+    private String iidmNamespace;
+    private String currentLoadId;
+    private PendingElement pendingElement;
+
+    private MergedLoadsXiidmFilter(List<LoadsToMerge> loadsToMergeList) {
+        Map<VoltageLevel, Map<String, String>> lastLoadIdByBusId = new HashMap<>();
+        for (LoadsToMerge loadsToMerge : loadsToMergeList) {
+            loadsToMerge.getLoads().forEach(l -> removedLoadIds.add(l.getId()));
+            String anchorId = TopologyKind.NODE_BREAKER.equals(loadsToMerge.getVoltageLevel().getTopologyKind())
+                    ? loadsToMerge.getLoads().getFirst().getId()
+                    : lastLoadIdByBusId.computeIfAbsent(loadsToMerge.getVoltageLevel(), MergedLoadsXiidmFilter::getLastLoadIdByBusId)
+                        .get(loadsToMerge.getBusId());
+            mergedLoadsByAnchorId.computeIfAbsent(anchorId, k -> new ArrayList<>()).add(loadsToMerge);
+        }
+    }
+
+    /**
+     * The filter only handles loads removal, hence it cannot be used if a load to merge is referenced by another
+     * network element (regulating terminal, extension, etc.) as these references would be modified by the merge
+     */
+    public static boolean isSupported(List<LoadsToMerge> loadsToMergeList) {
+        return loadsToMergeList.stream()
+                .flatMap(l -> l.getLoads().stream())
+                .allMatch(l -> l.getTerminal().getReferrers().isEmpty());
+    }
+
+    public static MergedLoadsXiidmFilter create(List<LoadsToMerge> loadsToMergeList) {
+        return new MergedLoadsXiidmFilter(loadsToMergeList);
+    }
+
+    public static void filter(InputStream is, OutputStream os, List<LoadsToMerge> loadsToMergeList) {
+        create(loadsToMergeList).filter(is, os);
+    }
+
+    private static Map<String, String> getLastLoadIdByBusId(VoltageLevel voltageLevel) {
+        // same order as the one used for the export
+        Map<String, String> lastLoadIdByBusId = new HashMap<>();
+        for (Load load : voltageLevel.getLoads()) {
+            lastLoadIdByBusId.put(load.getTerminal().getBusBreakerView().getConnectableBus().getId(), load.getId());
+        }
+        return lastLoadIdByBusId;
+    }
+
+    public void filter(InputStream is, OutputStream os) {
+        try {
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+            reader = factory.createXMLStreamReader(is);
+            writer = XmlUtil.initializeWriter(true, INDENT, os);
+            try {
+                copyEvents();
+                writer.writeEndDocument();
+            } finally {
+                reader.close();
+                writer.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+    }
+
+    private void copyEvents() throws XMLStreamException {
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> copyStartElement();
+                case XMLStreamConstants.END_ELEMENT -> copyEndElement();
+                case XMLStreamConstants.CHARACTERS -> {
+                    // whitespaces are handled by the indenting writer
+                    if (!reader.isWhiteSpace()) {
+                        flushPendingElement();
+                        writer.writeCharacters(reader.getText());
+                    }
+                }
+                case XMLStreamConstants.CDATA -> {
+                    flushPendingElement();
+                    writer.writeCData(reader.getText());
+                }
+                case XMLStreamConstants.COMMENT -> {
+                    flushPendingElement();
+                    writer.writeComment(reader.getText());
+                }
+                default -> {
+                    // nothing to copy
+                }
+            }
+        }
+    }
+
+    private void copyStartElement() throws XMLStreamException {
+        if (iidmNamespace == null) {
+            iidmPrefix = reader.getPrefix();
+            iidmNamespace = reader.getNamespaceURI();
+        }
+        boolean isLoad = isIidmElement(LOAD);
+        if (isLoad || isIidmElement(EXTENSION)) {
+            String id = reader.getAttributeValue(null, ID);
+            if (removedLoadIds.contains(id)) {
+                skipElement();
+                if (isLoad) {
+                    writeMergedLoads(id);
+                }
+                return;
+            }
+            if (isLoad) {
+                currentLoadId = id;
+            }
+        }
+        flushPendingElement();
+        pendingElement = new PendingElement(reader);
+    }
+
+    private void copyEndElement() throws XMLStreamException {
+        if (pendingElement != null) {
+            pendingElement.write(writer, true);
+            pendingElement = null;
+        } else {
+            writer.writeEndElement();
+        }
+        if (currentLoadId != null && isIidmElement(LOAD)) {
+            writeMergedLoads(currentLoadId);
+            currentLoadId = null;
+        }
+    }
+
+    private boolean isIidmElement(String localName) {
+        return localName.equals(reader.getLocalName()) && Objects.equals(iidmNamespace, reader.getNamespaceURI());
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private void flushPendingElement() throws XMLStreamException {
+        if (pendingElement != null) {
+            pendingElement.write(writer, false);
+            pendingElement = null;
+        }
+    }
+
+    private void writeMergedLoads(String anchorId) throws XMLStreamException {
+        List<LoadsToMerge> mergedLoads = mergedLoadsByAnchorId.get(anchorId);
+        if (mergedLoads == null) {
+            return;
+        }
+        flushPendingElement();
+        for (LoadsToMerge loadsToMerge : mergedLoads) {
+            writer.writeEmptyElement(iidmPrefix, LOAD, iidmNamespace);
+            writer.writeAttribute(ID, loadsToMerge.getMergedLoadId());
+            writer.writeAttribute("loadType", LoadType.UNDEFINED.name());
+            writeDoubleAttribute("p0", loadsToMerge.getMergedP0());
+            writeDoubleAttribute("q0", loadsToMerge.getMergedQ0());
+            if (loadsToMerge.getNode() >= 0) {
+                writer.writeAttribute("node", Integer.toString(loadsToMerge.getNode()));
+            } else {
+                writer.writeAttribute("bus", loadsToMerge.getBusId());
+                writer.writeAttribute("connectableBus", loadsToMerge.getBusId());
+            }
+            writeDoubleAttribute("p", loadsToMerge.getMergedP());
+            writeDoubleAttribute("q", loadsToMerge.getMergedQ());
+        }
+    }
+
+    private void writeDoubleAttribute(String name, double value) throws XMLStreamException {
+        if (!Double.isNaN(value)) {
+            writer.writeAttribute(name, Double.toString(value));
+        }
+    }
+
+    /**
+     * Start element whose writing is delayed until its content is known, in order to keep empty elements as such
+     */
+    private static final class PendingElement {
+
+        private final String prefix;
+        private final String localName;
+        private final String namespaceUri;
+        private final String[][] namespaces;
+        private final String[][] attributes;
+
+        private PendingElement(XMLStreamReader reader) {
+            prefix = reader.getPrefix();
+            localName = reader.getLocalName();
+            namespaceUri = reader.getNamespaceURI();
+            namespaces = new String[reader.getNamespaceCount()][];
+            for (int i = 0; i < namespaces.length; i++) {
+                namespaces[i] = new String[] {reader.getNamespacePrefix(i), reader.getNamespaceURI(i)};
+            }
+            attributes = new String[reader.getAttributeCount()][];
+            for (int i = 0; i < attributes.length; i++) {
+                attributes[i] = new String[] {reader.getAttributePrefix(i), reader.getAttributeNamespace(i),
+                    reader.getAttributeLocalName(i), reader.getAttributeValue(i)};
+            }
+        }
+
+        private void write(XMLStreamWriter writer, boolean empty) throws XMLStreamException {
+            String elementPrefix = prefix != null ? prefix : XMLConstants.DEFAULT_NS_PREFIX;
+            String elementNamespace = namespaceUri != null ? namespaceUri : XMLConstants.NULL_NS_URI;
+            if (empty) {
+                writer.writeEmptyElement(elementPrefix, localName, elementNamespace);
+            } else {
+                writer.writeStartElement(elementPrefix, localName, elementNamespace);
+            }
+            for (String[] namespace : namespaces) {
+                writer.writeNamespace(namespace[0], namespace[1]);
+            }
+            for (String[] attribute : attributes) {
+                if (attribute[1] == null || attribute[1].isEmpty()) {
+                    writer.writeAttribute(attribute[2], attribute[3]);
+                } else {
+                    writer.writeAttribute(attribute[0], attribute[1], attribute[2], attribute[3]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons.timeline;
+
+import com.powsybl.dynawo.commons.StringDictionary;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Columnar timeline: the times are stored in a primitive array and the model names and messages are dictionary-encoded,
+ * each distinct string being stored once.
+ * <p>
+ * The timeline is an unmodifiable list of events, each event being created on access by the event factory, built by a
+ * {@link Builder} to which the timeline parsers append the parsed entries. The events of a model and the events of a
+ * time range are found from indexes built on first query.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public final class CompactTimeline<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Creates the event seen by the list from the timeline columns
+     */
+    @FunctionalInterface
+    public interface EventFactory<E> {
+        E create(double time, String modelName, String message);
+    }
+
+    /**
+     * Appends the events of a timeline, which is then built once all the events are appended
+     */
+    public static final class Builder<E> implements Consumer<TimelineEntry> {
+
+        private final EventFactory<E> eventFactory;
+        private StringDictionary modelNames = new StringDictionary();
+        private StringDictionary messages = new StringDictionary();
+        private double[] times = new double[INITIAL_CAPACITY];
+        private int[] modelNameCodes = new int[INITIAL_CAPACITY];
+        private int[] messageCodes = new int[INITIAL_CAPACITY];
+        private int size = 0;
+        private boolean timeOrdered = true;
+
+        private Builder(EventFactory<E> eventFactory) {
+            this.eventFactory = Objects.requireNonNull(eventFactory);
+        }
+
+        public Builder<E> add(double time, String modelName, String message) {
+            Objects.requireNonNull(modelName);
+            Objects.requireNonNull(message);
+            if (size == times.length) {
+                int capacity = Math.max(INITIAL_CAPACITY, 2 * size);
+                times = Arrays.copyOf(times, capacity);
+                modelNameCodes = Arrays.copyOf(modelNameCodes, capacity);
+                messageCodes = Arrays.copyOf(messageCodes, capacity);
+            }
+            timeOrdered &= size == 0 || times[size - 1] <= time;
+            times[size] = time;
+            modelNameCodes[size] = modelNames.encode(modelName);
+            messageCodes[size] = messages.encode(message);
+            size++;
+            return this;
+        }
+
+        @Override
+        public void accept(TimelineEntry entry) {
+            add(entry.time(), entry.modelName(), entry.message());
+        }
+
+        /**
+         * Builds the timeline of the appended events, the builder being then reset
+         */
+        public CompactTimeline<E> build() {
+            CompactTimeline<E> timeline = new CompactTimeline<>(this);
+            modelNames = new StringDictionary();
+            messages = new StringDictionary();
+            times = new double[INITIAL_CAPACITY];
+            modelNameCodes = new int[INITIAL_CAPACITY];
+            messageCodes = new int[INITIAL_CAPACITY];
+            size = 0;
+            timeOrdered = true;
+            return timeline;
+        }
+    }
+
+    private final EventFactory<E> eventFactory;
+    private final StringDictionary modelNames;
+    private final StringDictionary messages;
+    private final double[] times;
+    private final int[] modelNameCodes;
+    private final int[] messageCodes;
+    private final int size;
+
+    // events positions grouped by model name code, the events of code c being in [modelOffsets[c], modelOffsets[c + 1])
+    private int[] modelOffsets;
+    private int[] modelPositions;
+    // events positions sorted by time, null if the events are appended in time order
+    private int[] timeOrder;
+    private final boolean timeOrdered;
+
+    private CompactTimeline(Builder<E> builder) {
+        this.eventFactory = builder.eventFactory;
+        this.modelNames = builder.modelNames;
+        this.messages = builder.messages;
+        this.size = builder.size;
+        this.times = Arrays.copyOf(builder.times, size);
+        this.modelNameCodes = Arrays.copyOf(builder.modelNameCodes, size);
+        this.messageCodes = Arrays.copyOf(builder.messageCodes, size);
+        this.timeOrdered = builder.timeOrdered;
+    }
+
+    public static <E> Builder<E> builder(EventFactory<E> eventFactory) {
+        return new Builder<>(eventFactory);
+    }
+
+    public static Builder<TimelineEntry> builder() {
+        return new Builder<>(TimelineEntry::new);
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return createEvent(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public double getTime(int index) {
+        Objects.checkIndex(index, size);
+        return times[index];
+    }
+
+    public String getModelName(int index) {
+        Objects.checkIndex(index, size);
+        return modelNames.decode(modelNameCodes[index]);
+    }
+
+    public String getMessage(int index) {
+        Objects.checkIndex(index, size);
+        return messages.decode(messageCodes[index]);
+    }
+
+    /**
+     * @return the distinct model names, in order of first appearance
+     */
+    public List<String> getModelNames() {
+        return modelNames.getValues();
+    }
+
+    /**
+     * @return the distinct messages count
+     */
+    public int getMessagesCount() {
+        return messages.size();
+    }
+
+    /**
+     * @return the events of the model, in appending order
+     */
+    public synchronized List<E> getEvents(String modelName) {
+        int code = modelNames.getCode(modelName);
+        if (code == StringDictionary.NO_CODE) {
+            return Collections.emptyList();
+        }
+        if (modelOffsets == null) {
+            indexModelNames();
+        }
+        return createEvents(modelPositions, modelOffsets[code], modelOffsets[code + 1]);
+    }
+
+    /**
+     * @return the events whose time is in [startTime, endTime], in time order
+     */
+    public synchronized List<E> getEvents(double startTime, double endTime) {
+        if (!timeOrdered && timeOrder == null) {
+            indexTimes();
+        }
+        int from = lowerBound(startTime, false);
+        int to = lowerBound(endTime, true);
+        return createEvents(timeOrder, from, Math.max(from, to));
+    }
+
+    private E createEvent(int index) {
+        return eventFactory.create(times[index], modelNames.decode(modelNameCodes[index]), messages.decode(messageCodes[index]));
+    }
+
+    private List<E> createEvents(int[] positions, int from, int to) {
+        List<E> events = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            events.add(createEvent(positions != null ? positions[i] : i));
+        }
+        return events;
+    }
+
+    /**
+     * @return the rank in time order of the first event whose time is greater than (or equal to if not strict) the given time
+     */
+    private int lowerBound(double time, boolean strict) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            double middleTime = times[timeOrder != null ? timeOrder[middle] : middle];
+            if (middleTime < time || strict && middleTime == time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void indexModelNames() {
+        int[] offsets = new int[modelNames.size() + 1];
+        for (int i = 0; i < size; i++) {
+            offsets[modelNameCodes[i] + 1]++;
+        }
+        for (int c = 1; c < offsets.length; c++) {
+            offsets[c] += offsets[c - 1];
+        }
+        int[] positions = new int[size];
+        int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+        for (int i = 0; i < size; i++) {
+            positions[next[modelNameCodes[i]]++] = i;
+        }
+        modelOffsets = offsets;
+        modelPositions = positions;
+    }
+
+    private void indexTimes() {
+        timeOrder = IntStream.range(0, size).boxed()
+                .sorted(Comparator.comparingDouble(i -> times[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+}
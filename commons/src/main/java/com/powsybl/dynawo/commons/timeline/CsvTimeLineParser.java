@@ -8,10 +8,12 @@
 package com.powsybl.dynawo.commons.timeline;
 
 import com.powsybl.dynawo.commons.AbstractCsvParser;
+import com.powsybl.dynawo.commons.ByteLine;
 import com.univocity.parsers.csv.CsvParser;
 import com.univocity.parsers.csv.CsvParserSettings;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
@@ -25,6 +27,11 @@ public final class CsvTimeLineParser extends AbstractCsvParser<TimelineEntry> im
     }
 
     public CsvTimeLineParser(char separator) {
+        this(separator, DEFAULT_WINDOW_SIZE);
+    }
+
+    CsvTimeLineParser(char separator, int windowSize) {
+        super(separator, windowSize);
         CsvParserSettings settings = setupSettings(separator, false);
         settings.setMaxColumns(NB_COLUMNS);
         this.csvParser = new CsvParser(settings);
@@ -35,6 +42,18 @@ public final class CsvTimeLineParser extends AbstractCsvParser<TimelineEntry> im
         return TimeLineUtil.createEvent(tokens[0], tokens[1], tokens[2]);
     }
 
+    @Override
+    protected boolean readEntry(ByteLine line, Consumer<TimelineEntry> consumer) {
+        double time;
+        try {
+            time = line.getDouble(0);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        consumer.accept(new TimelineEntry(time, line.getString(1), line.getString(2)));
+        return true;
+    }
+
     @Override
     protected boolean hasCorrectNbColumns(int tokensSize) {
         return NB_COLUMNS == tokensSize;
@@ -11,6 +11,7 @@ import com.powsybl.dynawo.commons.ExportMode;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * @author Florian Dupuy {@literal <florian.dupuy at rte-france.com>}
@@ -19,12 +20,24 @@ public interface TimeLineParser {
 
     List<TimelineEntry> parse(Path timeLineFile);
 
+    /**
+     * Parses the timeline file, each entry being pushed to the consumer as soon as read
+     */
+    void parse(Path timeLineFile, Consumer<TimelineEntry> consumer);
+
     static List<TimelineEntry> parse(Path timelineFile, ExportMode exportMode) {
-        TimeLineParser parser = switch (exportMode) {
+        return create(exportMode).parse(timelineFile);
+    }
+
+    static void parse(Path timelineFile, ExportMode exportMode, Consumer<TimelineEntry> consumer) {
+        create(exportMode).parse(timelineFile, consumer);
+    }
+
+    private static TimeLineParser create(ExportMode exportMode) {
+        return switch (exportMode) {
             case CSV -> new CsvTimeLineParser(';');
             case TXT -> new CsvTimeLineParser();
             case XML -> new XmlTimeLineParser();
         };
-        return parser.parse(timelineFile);
     }
 }
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+class ByteBufferUtilTest {
+
+    @Test
+    void parseDoubleAsJdk() {
+        String[] values = {"0", "1.059970", "-16.691112", "232.329584", "0.1", "1e-7", "-1.5E+3", "4.9e-324",
+            "1.7976931348623157e308", "9007199254740993", "0.30000000000000004", "123456789012345678901234567890",
+            "1e23", "NaN", "-Infinity", "  2.5 "};
+        for (String value : values) {
+            ByteBuffer buffer = ByteBuffer.wrap(value.getBytes(StandardCharsets.US_ASCII));
+            assertEquals(Double.parseDouble(value), ByteBufferUtil.parseDouble(buffer, 0, buffer.limit()), value);
+        }
+        assertTrue(Double.isNaN(ByteBufferUtil.parseDouble(ByteBuffer.allocate(0), 0, 0)));
+    }
+
+    @Test
+    void decode() {
+        ByteBuffer buffer = ByteBuffer.wrap("a|Générateur|b".getBytes(StandardCharsets.UTF_8));
+        assertEquals("Générateur", ByteBufferUtil.decode(buffer, 2, buffer.limit() - 2));
+        assertEquals(buffer.limit() - 2, ByteBufferUtil.indexOf(buffer, (byte) '|', 2, buffer.limit()));
+        assertEquals(-1, ByteBufferUtil.indexOf(buffer, (byte) ';', 0, buffer.limit()));
+    }
+}
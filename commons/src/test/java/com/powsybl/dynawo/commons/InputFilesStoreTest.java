@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+class InputFilesStoreTest extends AbstractDynawoCommonsTest {
+
+    @Test
+    void writeThroughStore() throws IOException {
+        InputFilesStore store = InputFilesStore.create(tmpDir.resolve("store"));
+        assertTrue(store.isEnabled());
+        Path first = Files.createDirectory(tmpDir.resolve("first")).resolve("file.par");
+        Path second = Files.createDirectory(tmpDir.resolve("second")).resolve("file.par");
+
+        store.write(first, writer -> writer.write("content"));
+        assertEquals(0, store.getHitCount());
+        assertEquals(1, store.getMissCount());
+        // same content, linked to the stored file
+        store.write(second, writer -> writer.write("content"));
+        assertEquals(1, store.getHitCount());
+        assertEquals(1, store.getMissCount());
+        assertTrue(Files.isSameFile(first, second));
+        // same content for another file name
+        store.write(second.resolveSibling("other.par"), writer -> writer.write("content"));
+        assertEquals(2, store.getHitCount());
+        // other content
+        store.write(second, writer -> writer.write("other content"));
+        assertEquals(2, store.getMissCount());
+
+        assertEquals("content", Files.readString(first));
+        assertEquals("other content", Files.readString(second));
+        try (Stream<Path> files = Files.list(tmpDir.resolve("store"))) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void readOnlyStoredFiles(@TempDir Path dir) throws IOException {
+        InputFilesStore store = InputFilesStore.create(dir.resolve("store"));
+        Path file = dir.resolve("file.par");
+        store.write(file, writer -> writer.write("content"));
+        assertEquals(Set.of(PosixFilePermission.OWNER_READ, PosixFilePermission.GROUP_READ, PosixFilePermission.OTHERS_READ),
+                Files.getPosixFilePermissions(file));
+        // the working directory can still be deleted
+        Files.delete(file);
+    }
+
+    @Test
+    void copyThroughStore() throws IOException {
+        InputFilesStore store = InputFilesStore.create(tmpDir.resolve("store"));
+        Path source = Files.writeString(tmpDir.resolve("source.dmp"), "dump");
+        Path first = Files.createDirectory(tmpDir.resolve("first")).resolve("source.dmp");
+        Path second = Files.createDirectory(tmpDir.resolve("second")).resolve("source.dmp");
+
+        store.copy(source, first);
+        store.copy(source, second);
+        assertEquals(1, store.getHitCount());
+        assertEquals(1, store.getMissCount());
+        assertTrue(Files.isSameFile(first, second));
+        assertFalse(Files.isSameFile(source, second));
+
+        // the source is stored again once modified
+        Files.writeString(source, "modified dump");
+        Files.setLastModifiedTime(source, FileTime.from(Instant.now().plusSeconds(1)));
+        store.copy(source, second);
+        assertEquals(2, store.getMissCount());
+        assertEquals("dump", Files.readString(first));
+        assertEquals("modified dump", Files.readString(second));
+    }
+
+    @Test
+    void boundedStore() throws IOException {
+        Path storeDir = tmpDir.resolve("store");
+        InputFilesStore store = InputFilesStore.create(storeDir, 10, Duration.ofDays(1));
+        store.write(tmpDir.resolve("first.par"), writer -> writer.write("first"));
+        try (Stream<Path> files = Files.list(storeDir)) {
+            for (Path file : files.toList()) {
+                Files.setLastModifiedTime(file, FileTime.from(Instant.now().minusSeconds(60)));
+            }
+        }
+        store.write(tmpDir.resolve("second.par"), writer -> writer.write("second!"));
+        // only the most recently used file is kept
+        try (Stream<Path> files = Files.list(storeDir)) {
+            assertEquals(1, files.count());
+        }
+        store.write(tmpDir.resolve("third.par"), writer -> writer.write("second!"));
+        assertEquals(1, store.getHitCount());
+        // evicted files are left in the working directories
+        assertEquals("first", Files.readString(tmpDir.resolve("first.par")));
+    }
+
+    @Test
+    void disabledStore() throws IOException {
+        InputFilesStore store = InputFilesStore.disabled();
+        assertFalse(store.isEnabled());
+        store.write(tmpDir.resolve("file.par"), writer -> writer.write("content"));
+        store.copy(tmpDir.resolve("file.par"), tmpDir.resolve("copy.par"));
+        assertEquals("content", Files.readString(tmpDir.resolve("file.par")));
+        assertEquals("content", Files.readString(tmpDir.resolve("copy.par")));
+        assertEquals(0, store.getHitCount());
+        assertEquals(0, store.getMissCount());
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons;
+
+import com.powsybl.commons.extensions.AbstractExtension;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Terminal;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+class NetworkExportCacheTest extends AbstractDynawoCommonsTest {
+
+    @Test
+    void variantFingerprint() {
+        Network network = EurostagTutorialExample1Factory.create();
+        String fingerprint = NetworkExportCache.getVariantFingerprint(network);
+        assertEquals(fingerprint, NetworkExportCache.getVariantFingerprint(network));
+
+        // state modification on the working variant
+        network.getLoad("LOAD").setP0(650);
+        String updatedFingerprint = NetworkExportCache.getVariantFingerprint(network);
+        assertNotEquals(fingerprint, updatedFingerprint);
+
+        // state modification on another variant
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        network.getVariantManager().setWorkingVariant("v");
+        String variantFingerprint = NetworkExportCache.getVariantFingerprint(network);
+        assertNotEquals(updatedFingerprint, variantFingerprint);
+        network.getLoad("LOAD").setQ0(250);
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(updatedFingerprint, NetworkExportCache.getVariantFingerprint(network));
+
+        // structural modification
+        network.getLoad("LOAD").remove();
+        assertNotEquals(updatedFingerprint, NetworkExportCache.getVariantFingerprint(network));
+
+        // other network
+        assertNotEquals(fingerprint, NetworkExportCache.getVariantFingerprint(EurostagTutorialExample1Factory.create()));
+    }
+
+    @Test
+    void writeIidmWithCache() throws IOException {
+        Network network = EurostagTutorialExample1Factory.create();
+        Path cacheDir = tmpDir.resolve("cache");
+        NetworkExportCache cache = NetworkExportCache.create(cacheDir);
+        assertTrue(cache.isEnabled());
+        DynawoVersion version = DynawoConstants.VERSION_MIN;
+
+        Path file = Files.createDirectories(tmpDir.resolve("run1")).resolve(ACTUAL_NETWORK_NAME);
+        NetworkExporter.writeIidm(network, file, version, false, cache);
+        assertEquals(1, countCachedFiles(cacheDir));
+
+        // cache hit
+        Path cachedFile = Files.createDirectories(tmpDir.resolve("run2")).resolve(ACTUAL_NETWORK_NAME);
+        NetworkExporter.writeIidm(network, cachedFile, version, false, cache);
+        assertEquals(1, countCachedFiles(cacheDir));
+        assertEquals(Files.readString(file), Files.readString(cachedFile));
+
+        // other export options
+        NetworkExporter.writeIidm(network, cachedFile, version, true, cache);
+        assertEquals(2, countCachedFiles(cacheDir));
+        NetworkExporter.writeIidm(network, cachedFile, new DynawoVersion(1, 7, 0), false, cache);
+        assertEquals(3, countCachedFiles(cacheDir));
+
+        // network modification
+        network.getGenerator("GEN").setTargetP(650);
+        NetworkExporter.writeIidm(network, cachedFile, version, false, cache);
+        assertEquals(4, countCachedFiles(cacheDir));
+        assertNotEquals(Files.readString(file), Files.readString(cachedFile));
+        Path expectedFile = tmpDir.resolve(EXPECTED_NETWORK_NAME);
+        NetworkExporter.writeIidm(network, expectedFile, version);
+        assertEquals(Files.readString(expectedFile), Files.readString(cachedFile));
+    }
+
+    @Test
+    void releaseNetwork() {
+        Network network = EurostagTutorialExample1Factory.create();
+        String fingerprint = NetworkExportCache.getVariantFingerprint(network);
+        NetworkExportCache.release(network);
+        // files cached before the release are not reused
+        String releasedFingerprint = NetworkExportCache.getVariantFingerprint(network);
+        assertNotEquals(fingerprint, releasedFingerprint);
+        assertEquals(releasedFingerprint, NetworkExportCache.getVariantFingerprint(network));
+        NetworkExportCache.release(network);
+        NetworkExportCache.release(network);
+    }
+
+    @Test
+    void releaseIdleNetwork() {
+        Network network = EurostagTutorialExample1Factory.create();
+        String fingerprint = NetworkExportCache.getVariantFingerprint(network);
+        NetworkExportCache.releaseIdleNetworks(System.nanoTime());
+        assertEquals(fingerprint, NetworkExportCache.getVariantFingerprint(network));
+        // listener removed once the network has not been exported for a while
+        NetworkExportCache.releaseIdleNetworks(System.nanoTime() + NetworkExportCache.TRACKING_TIMEOUT.toNanos() + 1);
+        assertNotEquals(fingerprint, NetworkExportCache.getVariantFingerprint(network));
+    }
+
+    @Test
+    void extensionsFingerprint() {
+        Network network = EurostagTutorialExample1Factory.create();
+        Generator generator = network.getGenerator("GEN");
+        List<String> extensionNames = List.of(TestExtension.NAME);
+        String fingerprint = ExtensionsDigest.digest(network, extensionNames);
+        assertEquals("", ExtensionsDigest.digest(network, List.of()));
+
+        TestExtension extension = new TestExtension(network.getLoad("LOAD").getTerminal());
+        generator.addExtension(TestExtension.class, extension);
+        String extensionFingerprint = ExtensionsDigest.digest(network, extensionNames);
+        assertNotEquals(fingerprint, extensionFingerprint);
+        assertEquals(extensionFingerprint, ExtensionsDigest.digest(network, extensionNames));
+        assertEquals(fingerprint, ExtensionsDigest.digest(network, List.of("otherExtension")));
+
+        // modification not notified to the network listeners
+        extension.setValue(2.5);
+        assertNotEquals(extensionFingerprint, ExtensionsDigest.digest(network, extensionNames));
+        extension.setValue(1.0);
+        assertEquals(extensionFingerprint, ExtensionsDigest.digest(network, extensionNames));
+        extension.setTerminal(generator.getTerminal());
+        assertNotEquals(extensionFingerprint, ExtensionsDigest.digest(network, extensionNames));
+    }
+
+    @Test
+    void boundedCache() throws IOException {
+        Network network = EurostagTutorialExample1Factory.create();
+        Path cacheDir = tmpDir.resolve("boundedCache");
+        DynawoVersion version = DynawoConstants.VERSION_MIN;
+        Path file = tmpDir.resolve(ACTUAL_NETWORK_NAME);
+        NetworkExporter.writeIidm(network, file, version, false, NetworkExportCache.create(cacheDir));
+        long fileSize = Files.size(file);
+
+        // least recently used file evicted
+        NetworkExportCache cache = NetworkExportCache.create(cacheDir, fileSize + fileSize / 2, Duration.ofDays(1));
+        network.getGenerator("GEN").setTargetP(650);
+        NetworkExporter.writeIidm(network, file, version, false, cache);
+        assertEquals(1, countCachedFiles(cacheDir));
+
+        // file older than the maximum age evicted
+        NetworkExportCache expiringCache = NetworkExportCache.create(cacheDir, Long.MAX_VALUE, Duration.ofHours(1));
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path cachedFile : files.toList()) {
+                Files.setLastModifiedTime(cachedFile, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+            }
+        }
+        network.getGenerator("GEN").setTargetP(700);
+        NetworkExporter.writeIidm(network, file, version, false, expiringCache);
+        assertEquals(1, countCachedFiles(cacheDir));
+        Path cachedFile = tmpDir.resolve("cached.xiidm");
+        NetworkExporter.writeIidm(network, cachedFile, version, false, expiringCache);
+        assertEquals(Files.readString(file), Files.readString(cachedFile));
+    }
+
+    @Test
+    void disabledCache() {
+        assertFalse(NetworkExportCache.disabled().isEnabled());
+    }
+
+    private static final class TestExtension extends AbstractExtension<Generator> {
+
+        private static final String NAME = "testExtension";
+
+        private double value = 1.0;
+        private Terminal terminal;
+
+        private TestExtension(Terminal terminal) {
+            this.terminal = terminal;
+        }
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        public void setValue(double value) {
+            this.value = value;
+        }
+
+        public Terminal getTerminal() {
+            return terminal;
+        }
+
+        public void setTerminal(Terminal terminal) {
+            this.terminal = terminal;
+        }
+    }
+
+    private static long countCachedFiles(Path cacheDir) throws IOException {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.count();
+        }
+    }
+}
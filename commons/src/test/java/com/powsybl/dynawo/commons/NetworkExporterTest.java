@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons;
+
+import com.powsybl.dynawo.commons.loadmerge.LoadsMergePlan;
+import com.powsybl.dynawo.commons.loadmerge.LoadsMerger;
+import com.powsybl.dynawo.commons.loadmerge.LoadsToMerge;
+import com.powsybl.dynawo.commons.loadmerge.MergedLoadsXiidmFilter;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+class NetworkExporterTest extends AbstractDynawoCommonsTest {
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("provideNetworks")
+    void writeIidmWithMergedLoads(String name, Network network) throws IOException {
+        List<LoadsToMerge> loadsToMerge = LoadsMerger.getLoadsToMerge(network);
+        assertTrue(MergedLoadsXiidmFilter.isSupported(loadsToMerge));
+        int loadCount = network.getLoadCount();
+        DynawoVersion version = DynawoConstants.VERSION_MIN;
+        Path actual = tmpDir.resolve(ACTUAL_NETWORK_NAME);
+        LoadsMergePlan loadsMergePlan = NetworkExporter.writeIidm(network, actual, version, true);
+        // merged loads are written without modifying the exported network
+        assertEquals(loadCount, network.getLoadCount());
+        assertEquals(loadsToMerge.stream().map(LoadsToMerge::getMergedLoadId).collect(Collectors.toSet()),
+                loadsMergePlan.getMergedLoadIds());
+
+        Path expected = tmpDir.resolve(EXPECTED_NETWORK_NAME);
+        NetworkExporter.writeIidm(LoadsMerger.mergeLoads(NetworkSerDe.copy(network), true), expected, version, false);
+        assertEquals(Files.readString(expected), Files.readString(actual));
+        try (Stream<Path> files = Files.list(tmpDir)) {
+            assertEquals(Set.of(actual, expected), Set.copyOf(files.toList()));
+        }
+    }
+
+    private static Network createNodeBreakerNetwork() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        VoltageLevel vl = network.getVoltageLevel("S1VL2");
+        int busbarNode = network.getBusbarSection("S1VL2_BBS1").getTerminal().getNodeBreakerView().getNode();
+        int node = vl.getNodeBreakerView().getMaximumNodeIndex() + 1;
+        for (int i = 1; i <= 3; i++) {
+            vl.getNodeBreakerView().newDisconnector().setId("S1VL2_LD_NB" + i + "_DISCONNECTOR")
+                    .setNode1(busbarNode).setNode2(node).add();
+            vl.getNodeBreakerView().newBreaker().setId("S1VL2_LD_NB" + i + "_BREAKER")
+                    .setNode1(node).setNode2(node + 1).add();
+            vl.newLoad().setId("LD_NB" + i).setP0(10.0 * i).setQ0(i == 3 ? -2.0 : 2.0 * i).setNode(node + 1).add()
+                    .getTerminal().setP(10.1 * i).setQ(i == 3 ? -2.1 : 2.1 * i);
+            node += 2;
+        }
+        return network;
+    }
+
+    private static Stream<Arguments> provideNetworks() {
+        return Stream.of(
+                Arguments.of("Multi buses voltage level", TestNetworkFactory.createMultiBusesVoltageLevelNetwork()),
+                Arguments.of("Three loads groups", TestNetworkFactory.createMultiLoadsBusesNetwork(List.of(
+                        new LoadState(-36.1, 4.0, -36.0, 4.0),
+                        new LoadState(36.1, -4.0, 36.0, -4.0),
+                        new LoadState(-36.1, -4.0, -36.0, -4.0),
+                        new LoadState(-10.1, 7.2, -10.3, 7.5),
+                        new LoadState(10.1, -7.2, 10.3, -7.5),
+                        new LoadState(-10.1, -7.2, -10.3, -7.5)))),
+                Arguments.of("Partial merge", TestNetworkFactory.createMultiLoadsBusesNetwork(List.of(
+                        new LoadState(36.1, 4.0, 36.0, 4.0),
+                        new LoadState(10.1, 7.2, 10.3, 7.5),
+                        new LoadState(20.0, 10.0, 20.0, 7.0)), Set.of(2))),
+                Arguments.of("Node breaker", createNodeBreakerNetwork()),
+                Arguments.of("No merge", EurostagTutorialExample1Factory.create())
+        );
+    }
+}
@@ -6,6 +6,9 @@
  */
 package com.powsybl.dynawo.commons;
 
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.commons.test.PowsyblTestReportResourceBundle;
+import com.powsybl.dynawo.commons.loadmerge.LoadsMergePlan;
 import com.powsybl.dynawo.commons.loadmerge.LoadsMerger;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.test.BoundaryLineNetworkFactory;
@@ -16,11 +19,15 @@ import com.powsybl.iidm.serde.NetworkSerDe;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 
 import static com.powsybl.commons.test.ComparisonUtils.assertXmlEquals;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Guillem Jané Guasch {@literal <janeg at aia.es>}
@@ -46,6 +53,71 @@ class NetworkResultsUpdaterTest extends AbstractDynawoCommonsTest {
                 getActualNetworkInputStream(actual));
     }
 
+    @Test
+    void testIndexedUpdate() throws IOException {
+        Network expected = TestNetworkFactory.createMultiBusesVoltageLevelNetwork();
+        Network actual = NetworkSerDe.copy(expected);
+        NetworkResultsUpdater.update(actual, LoadsMerger.mergeLoads(expected), true, true);
+        assertXmlEquals(getExpectedNetworkInputStream(expected),
+                getActualNetworkInputStream(actual));
+
+        Network updated = FourSubstationsNodeBreakerFactory.create();
+        updated.getLoads().iterator().next().getTerminal().disconnect();
+        updated.getGenerators().iterator().next().getTerminal().disconnect();
+        updated.getTwoWindingsTransformers().iterator().next().getTerminal2().disconnect();
+        Network byId = NetworkSerDe.copy(updated);
+        reset(byId);
+        Network indexed = NetworkSerDe.copy(byId);
+        NetworkResultsUpdater.update(byId, updated, false);
+        NetworkResultsUpdater.update(indexed, updated, false, true);
+        assertXmlEquals(getExpectedNetworkInputStream(byId),
+                getActualNetworkInputStream(indexed));
+    }
+
+    @Test
+    void testUpdateChanges() throws IOException {
+        Network updated = FourSubstationsNodeBreakerFactory.create();
+        Network actual = NetworkSerDe.copy(updated);
+        Load load = updated.getLoads().iterator().next();
+        load.getTerminal().disconnect();
+        updated.getGenerator("GH1").getTerminal().setP(-90);
+        updated.getShuntCompensator("SHUNT").setSectionCount(0);
+        updated.getSwitch("S1VL2_COUPLER").setOpen(true);
+
+        Network expected = NetworkSerDe.copy(actual);
+        NetworkResultsUpdater.update(expected, updated, false);
+        NetworkUpdateSummary summary = NetworkResultsUpdater.updateChanges(actual, updated, false, false);
+        assertXmlEquals(getExpectedNetworkInputStream(expected),
+                getActualNetworkInputStream(actual));
+
+        assertEquals(1, summary.getChangeCount(IdentifiableType.LOAD));
+        assertEquals(1, summary.getChangeCount(IdentifiableType.GENERATOR));
+        assertEquals(1, summary.getChangeCount(IdentifiableType.SHUNT_COMPENSATOR));
+        assertEquals(1, summary.getChangeCount(IdentifiableType.SWITCH));
+        assertEquals(0, summary.getChangeCount(IdentifiableType.LINE));
+        assertThat(summary.getConnectivityChangedIds()).containsExactlyInAnyOrder(load.getId(), "S1VL2_COUPLER");
+
+        ReportNode reportNode = ReportNode.newRootReportNode()
+                .withResourceBundles(PowsyblDynawoReportResourceBundle.BASE_NAME, PowsyblTestReportResourceBundle.TEST_BASE_NAME)
+                .withMessageTemplate("testUpdate")
+                .build();
+        CommonReports.reportNetworkUpdate(reportNode, summary);
+        StringWriter sw = new StringWriter();
+        reportNode.print(sw);
+        assertEquals("""
+                + Test network update
+                   + Network updated with the simulation results, 2 equipments connected or disconnected
+                      1 SWITCH changed
+                      1 TWO_WINDINGS_TRANSFORMER changed
+                      1 GENERATOR changed
+                      1 LOAD changed
+                      1 SHUNT_COMPENSATOR changed
+                """, sw.toString());
+
+        // applying the same results again does not change anything
+        assertTrue(NetworkResultsUpdater.updateChanges(actual, updated, false, true).isEmpty());
+    }
+
     @Test
     void testUpdateWithMergeLoadsAndFictitiousLoad() throws IOException {
         List<LoadState> loadStates = List.of(
@@ -59,6 +131,56 @@ class NetworkResultsUpdaterTest extends AbstractDynawoCommonsTest {
         assertXmlEquals(getExpectedNetworkInputStream(expected), getActualNetworkInputStream(actual));
     }
 
+    @Test
+    void testUpdateWithLoadsMergePlan() throws IOException {
+        List<LoadState> loadStates = List.of(
+                new LoadState(36.1, 4.0, 36.0, 4.0),
+                new LoadState(10.1, 7.2, 10.3, 7.5),
+                new LoadState(20.0, 10.0, 20.0, 7.0),
+                new LoadState(-5.0, 1.0, -5.0, 1.2));
+        Network network = TestNetworkFactory.createMultiLoadsBusesNetwork(loadStates, Set.of(2));
+        Path exportedFile = tmpDir.resolve("exported.xiidm");
+        LoadsMergePlan loadsMergePlan = NetworkExporter.writeIidm(network, exportedFile, DynawoConstants.VERSION_MIN, true);
+        assertEquals(2, loadsMergePlan.getMergedLoadIds().size());
+
+        Network source = NetworkSerDe.read(exportedFile);
+        source.getLoadStream().forEach(l -> l.getTerminal().setP(l.getTerminal().getP() * 1.1).setQ(l.getTerminal().getQ() * 0.9));
+        Network expected = NetworkSerDe.copy(network);
+        NetworkResultsUpdater.update(expected, source, true);
+        NetworkResultsUpdater.update(network, source, loadsMergePlan, false);
+        assertXmlEquals(getExpectedNetworkInputStream(expected), getActualNetworkInputStream(network));
+    }
+
+    @Test
+    void testUpdateChangesWithLoadsMergePlan() throws IOException {
+        List<LoadState> loadStates = List.of(
+                new LoadState(36.1, 4.0, 36.0, 4.0),
+                new LoadState(10.1, 7.2, 10.3, 7.5),
+                new LoadState(20.0, 10.0, 20.0, 7.0),
+                new LoadState(-5.0, 1.0, -5.0, 1.2));
+        Network network = TestNetworkFactory.createMultiLoadsBusesNetwork(loadStates, Set.of(2));
+        Path exportedFile = tmpDir.resolve("exported.xiidm");
+        LoadsMergePlan loadsMergePlan = NetworkExporter.writeIidm(network, exportedFile, DynawoConstants.VERSION_MIN, true);
+
+        Network source = NetworkSerDe.read(exportedFile);
+        source.getLoadStream().forEach(l -> l.getTerminal().setP(l.getTerminal().getP() * 1.1).setQ(l.getTerminal().getQ() * 0.9));
+        Path sourceFile = tmpDir.resolve("source.xiidm");
+        NetworkSerDe.write(source, sourceFile);
+        Network expected = NetworkSerDe.copy(network);
+        Network fromFile = NetworkSerDe.copy(network);
+        NetworkResultsUpdater.update(expected, source, loadsMergePlan, false);
+
+        NetworkUpdateSummary summary = NetworkResultsUpdater.updateChanges(network, source, loadsMergePlan, false);
+        assertXmlEquals(getExpectedNetworkInputStream(expected), getActualNetworkInputStream(network));
+        assertTrue(summary.getChangeCount(IdentifiableType.LOAD) > 0);
+        NetworkUpdateSummary fileSummary = NetworkResultsUpdater.updateChanges(fromFile, sourceFile, loadsMergePlan, true);
+        assertXmlEquals(getExpectedNetworkInputStream(expected), getActualNetworkInputStream(fromFile));
+        assertEquals(summary.getChangeCounts(), fileSummary.getChangeCounts());
+
+        // applying the same results again does not change anything
+        assertTrue(NetworkResultsUpdater.updateChanges(network, source, loadsMergePlan, false).isEmpty());
+    }
+
     @Test
     void testUpdateNetworkPassingThroughBusBreaker() throws IOException {
         Network expected = TestNetworkFactory.createMultiBusesVoltageLevelNetwork();
@@ -167,7 +289,7 @@ class NetworkResultsUpdaterTest extends AbstractDynawoCommonsTest {
                 getActualNetworkInputStream(actual));
     }
 
-    private static void reset(Network targetNetwork) {
+    static void reset(Network targetNetwork) {
         for (Bus targetBus : targetNetwork.getBusView().getBuses()) {
             targetBus.setV(Double.NaN);
             targetBus.setAngle(Double.NaN);
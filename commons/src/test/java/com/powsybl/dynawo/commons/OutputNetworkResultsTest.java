@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons;
+
+import com.powsybl.dynawo.commons.loadmerge.LoadsMergePlan;
+import com.powsybl.dynawo.commons.loadmerge.LoadsMerger;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.BoundaryLineNetworkFactory;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import com.powsybl.iidm.network.test.ThreeWindingsTransformerNetworkFactory;
+import com.powsybl.iidm.serde.ExportOptions;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static com.powsybl.commons.test.ComparisonUtils.assertXmlEquals;
+
+/**
+ * Checks that the results applied from the output network file match the ones of
+ * {@link NetworkResultsUpdater#update(Network, Network, boolean)} once the file is read
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+class OutputNetworkResultsTest extends AbstractDynawoCommonsTest {
+
+    private static final String CURRENT_VERSION = "1.16";
+    private static final String DYNAWO_VERSION = "1.4";
+
+    @ParameterizedTest
+    @ValueSource(strings = {CURRENT_VERSION, DYNAWO_VERSION})
+    void testUpdateWithoutMergeLoads(String version) throws IOException {
+        Network source = TestNetworkFactory.createMultiBusesVoltageLevelNetwork();
+        setVoltages(source);
+        source.getSwitch("coupler").setOpen(false);
+        source.getSwitch("c2").setOpen(true);
+        source.getLoad("load7").getTerminal().disconnect();
+        Network target = NetworkSerDe.copy(source);
+        NetworkResultsUpdaterTest.reset(target);
+        target.getSwitch("coupler").setOpen(true);
+        assertSameUpdate(target, source, false, version);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {CURRENT_VERSION, DYNAWO_VERSION})
+    void testUpdateWithMergeLoads(String version) throws IOException {
+        Network expected = TestNetworkFactory.createMultiBusesVoltageLevelNetwork();
+        Network source = LoadsMerger.mergeLoads(expected);
+        setVoltages(source);
+        assertSameUpdate(NetworkSerDe.copy(expected), source, true, version);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {CURRENT_VERSION, DYNAWO_VERSION})
+    void testUpdateWithMergeLoadsAndFictitiousLoad(String version) throws IOException {
+        List<LoadState> loadStates = List.of(
+                new LoadState(36.1, 4.0, 36.0, 4.0),
+                new LoadState(10.1, 7.2, 10.3, 7.5),
+                new LoadState(20.0, 10.0, 20.0, 7.0),
+                new LoadState(-5.0, 1.0, -5.0, 1.2));
+        Network expected = TestNetworkFactory.createMultiLoadsBusesNetwork(loadStates, Set.of(2));
+        Network source = LoadsMerger.mergeLoads(expected);
+        source.getLoadStream().forEach(l -> l.getTerminal().setP(l.getTerminal().getP() * 1.1).setQ(l.getTerminal().getQ() * 0.9));
+        assertSameUpdate(NetworkSerDe.copy(expected), source, true, version);
+
+        // with the plan of the merged loads computed at export time
+        Network target = NetworkSerDe.copy(expected);
+        LoadsMergePlan loadsMergePlan = LoadsMergePlan.of(LoadsMerger.getLoadsToMerge(target));
+        Path sourceFile = tmpDir.resolve("source.xiidm");
+        NetworkSerDe.write(source, new ExportOptions().setVersion(version), sourceFile);
+        NetworkResultsUpdater.update(expected, NetworkSerDe.read(sourceFile), true);
+        NetworkResultsUpdater.update(target, sourceFile, loadsMergePlan, true);
+        assertXmlEquals(getExpectedNetworkInputStream(expected), getActualNetworkInputStream(target));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {CURRENT_VERSION, DYNAWO_VERSION})
+    void testUpdateNetworkPassingThroughBusBreaker(String version) throws IOException {
+        Network source = TestNetworkFactory.createMultiBusesVoltageLevelNetwork();
+        setVoltages(source);
+        Network target = NetworkSerDe.copy(source);
+        NetworkResultsUpdaterTest.reset(target);
+
+        Path sourceAsBusBreaker = tmpDir.resolve("source-as-busbreaker.xiidm");
+        NetworkSerDe.write(source, new ExportOptions().setTopologyLevel(TopologyLevel.BUS_BREAKER), sourceAsBusBreaker);
+        assertSameUpdate(target, NetworkSerDe.read(sourceAsBusBreaker), false, version);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {CURRENT_VERSION, DYNAWO_VERSION})
+    void testUpdateWithDisconnects(String version) throws IOException {
+        Network source = FourSubstationsNodeBreakerFactory.create();
+        Network target = NetworkSerDe.copy(source);
+        NetworkResultsUpdaterTest.reset(target);
+
+        source.getLoads().iterator().next().getTerminal().disconnect();
+        source.getGenerators().iterator().next().getTerminal().disconnect();
+        source.getShuntCompensators().iterator().next().getTerminal().disconnect();
+        source.getLines().iterator().next().getTerminal1().disconnect();
+        source.getTwoWindingsTransformers().iterator().next().getTerminal2().disconnect();
+        source.getShuntCompensator("SHUNT").setSectionCount(0);
+        source.getTwoWindingsTransformer("TWT").getPhaseTapChanger().setTapPosition(2);
+        source.getStaticVarCompensator("SVC").setRegulating(false);
+        setVoltages(source);
+        assertSameUpdate(target, source, false, version);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {CURRENT_VERSION, DYNAWO_VERSION})
+    void testUpdateThreeWindingsTransformerSolvedValues(String version) throws IOException {
+        Network source = ThreeWindingsTransformerNetworkFactory.create();
+        Network target = NetworkSerDe.copy(source);
+        NetworkResultsUpdaterTest.reset(target);
+        source.getThreeWindingsTransformer("3WT").getLeg2().getRatioTapChanger().setTapPosition(1);
+        source.getThreeWindingsTransformer("3WT").getLeg3().getTerminal().disconnect();
+        assertSameUpdate(target, source, false, version);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {CURRENT_VERSION, DYNAWO_VERSION})
+    void testUpdateBoundaryLineSolvedValues(String version) throws IOException {
+        Network source = BoundaryLineNetworkFactory.create();
+        Network target = NetworkSerDe.copy(source);
+        NetworkResultsUpdaterTest.reset(target);
+        source.getBoundaryLine("BL").getTerminal().setP(60).setQ(20);
+        assertSameUpdate(target, source, false, version);
+    }
+
+    /**
+     * Updates the target network from the source network written at the given IIDM version, once as a stream, with and
+     * without indexed lookups and with changes only, and once from the network read from the file
+     */
+    private void assertSameUpdate(Network target, Network source, boolean mergeLoads, String version) throws IOException {
+        Path sourceFile = tmpDir.resolve("source.xiidm");
+        NetworkSerDe.write(source, new ExportOptions().setVersion(version), sourceFile);
+        Network expected = NetworkSerDe.copy(target);
+        NetworkResultsUpdater.update(expected, NetworkSerDe.read(sourceFile), mergeLoads);
+        Network indexedTarget = NetworkSerDe.copy(target);
+        Network deltaTarget = NetworkSerDe.copy(target);
+        NetworkResultsUpdater.update(target, sourceFile, mergeLoads);
+        assertXmlEquals(getExpectedNetworkInputStream(expected), getActualNetworkInputStream(target));
+        NetworkResultsUpdater.update(indexedTarget, sourceFile, mergeLoads, true);
+        assertXmlEquals(getExpectedNetworkInputStream(expected), getActualNetworkInputStream(indexedTarget));
+        NetworkResultsUpdater.updateChanges(deltaTarget, sourceFile, mergeLoads, false);
+        assertXmlEquals(getExpectedNetworkInputStream(expected), getActualNetworkInputStream(deltaTarget));
+    }
+
+    private static void setVoltages(Network network) {
+        double v = 380;
+        for (Bus bus : network.getBusBreakerView().getBuses()) {
+            if (bus.getVoltageLevel().getTopologyKind() == TopologyKind.BUS_BREAKER) {
+                bus.setV(v).setAngle(v / 100);
+                v += 1;
+            }
+        }
+        for (Bus bus : network.getBusView().getBuses()) {
+            if (bus.getVoltageLevel().getTopologyKind() == TopologyKind.NODE_BREAKER) {
+                bus.setV(v).setAngle(v / 100);
+                v += 1;
+            }
+        }
+    }
+}
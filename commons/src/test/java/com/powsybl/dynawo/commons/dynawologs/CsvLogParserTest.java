@@ -9,9 +9,13 @@ package com.powsybl.dynawo.commons.dynawologs;
 
 import com.powsybl.commons.report.TypedValue;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -44,4 +48,30 @@ class CsvLogParserTest {
         assertEquals("KINSOL fails to solve the problem ( DYNSolverKINAlgRestoration.cpp:394 )", logs.get(6).message());
         assertEquals(TypedValue.ERROR_SEVERITY, logs.get(6).severity());
     }
+
+    @Test
+    void testStreamedLog() throws URISyntaxException {
+        Path path = Path.of(Objects.requireNonNull(getClass().getResource("/dynawo.log")).toURI());
+        List<LogEntry> logs = new ArrayList<>();
+        new CsvLogParser().parse(path, logs::add);
+        assertEquals(new CsvLogParser().parse(path), logs);
+        new CsvLogParser().parse(path.resolveSibling("missing.log"), logs::add);
+        assertEquals(7, logs.size());
+    }
+
+    @Test
+    void testSmallWindows(@TempDir Path tmpDir) throws URISyntaxException, IOException {
+        Path path = Path.of(Objects.requireNonNull(getClass().getResource("/dynawo.log")).toURI());
+        assertEquals(new CsvLogParser().parse(path), new CsvLogParser('|', 256).parse(path));
+
+        Path quoted = Files.writeString(tmpDir.resolve("quoted.log"), """
+                2023-11-09 11:36:53 | WARN | "quoted | message"
+                2023-11-09 11:36:53 | TRACE | unknown severity
+                2023-11-09 11:36:53 | ERROR |\s
+                2023-11-09 11:36:54 | ERROR | a | b |  c
+                """);
+        List<LogEntry> logs = new CsvLogParser('|', 64).parse(quoted);
+        assertEquals(List.of(new LogEntry(TypedValue.WARN_SEVERITY, "quoted | message"),
+                new LogEntry(TypedValue.ERROR_SEVERITY, "a | b | c")), logs);
+    }
 }
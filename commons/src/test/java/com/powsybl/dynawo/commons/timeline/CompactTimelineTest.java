@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.commons.timeline;
+
+import com.powsybl.dynawo.commons.ExportMode;
+import org.junit.jupiter.api.Test;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+class CompactTimelineTest {
+
+    @Test
+    void testParsedTimeline() throws URISyntaxException {
+        Path path = Path.of(Objects.requireNonNull(getClass().getResource("/timeline.log")).toURI());
+        CompactTimeline.Builder<TimelineEntry> builder = CompactTimeline.builder();
+        TimeLineParser.parse(path, ExportMode.TXT, builder);
+        CompactTimeline<TimelineEntry> timeline = builder.build();
+        assertEquals(new CsvTimeLineParser().parse(path), timeline);
+        assertEquals(List.of("GEN____8_SM", "GEN____3_SM"), timeline.getModelNames());
+        assertEquals(2, timeline.getMessagesCount());
+        assertEquals(0.348405, timeline.getTime(2));
+        assertEquals("GEN____3_SM", timeline.getModelName(3));
+        assertEquals("PMIN : activation", timeline.getMessage(4));
+
+        assertEquals(List.of(new TimelineEntry(0., "GEN____8_SM", "PMIN : activation"),
+                        new TimelineEntry(0.348405, "GEN____8_SM", "PMIN : deactivation"),
+                        new TimelineEntry(0.834701, "GEN____8_SM", "PMIN : activation")),
+                timeline.getEvents("GEN____8_SM"));
+        assertTrue(timeline.getEvents("GEN____1_SM").isEmpty());
+
+        assertEquals(List.of(new TimelineEntry(0.0306911, "GEN____3_SM", "PMIN : activation"),
+                        new TimelineEntry(0.348405, "GEN____8_SM", "PMIN : deactivation")),
+                timeline.getEvents(0.0306911, 0.348405));
+        assertTrue(timeline.getEvents(0.9, 1.).isEmpty());
+        assertTrue(timeline.getEvents(0.5, 0.4).isEmpty());
+    }
+
+    @Test
+    void testUnorderedTimeline() {
+        CompactTimeline.Builder<String> builder = CompactTimeline.builder((t, m, msg) -> m + "@" + t);
+        CompactTimeline<String> timeline = builder.add(2., "LOAD", "switch off")
+                .add(1., "GEN", "PMIN : activation")
+                .add(3., "GEN", "PMIN : deactivation")
+                .add(0.5, "LOAD", "switch on")
+                .build();
+        assertEquals(List.of("LOAD@0.5", "GEN@1.0"), timeline.getEvents(0., 1.5));
+        assertEquals(List.of("GEN@1.0", "LOAD@2.0"), timeline.getEvents(1., 2.));
+        assertEquals(List.of("LOAD@2.0", "LOAD@0.5"), timeline.getEvents("LOAD"));
+        assertEquals(List.of("GEN@1.0", "GEN@3.0"), timeline.getEvents("GEN"));
+        assertEquals(List.of("LOAD@2.0", "GEN@1.0", "GEN@3.0", "LOAD@0.5"), timeline);
+        assertThrows(IndexOutOfBoundsException.class, () -> timeline.get(4));
+        assertThrows(UnsupportedOperationException.class, () -> timeline.add("GEN@5.0"));
+
+        // the builder is reset once the timeline is built
+        CompactTimeline<String> otherTimeline = builder.add(4., "GEN", "PMIN : activation").build();
+        assertEquals(List.of("GEN@4.0"), otherTimeline);
+        assertEquals(4, timeline.size());
+        assertTrue(builder.build().isEmpty());
+    }
+}
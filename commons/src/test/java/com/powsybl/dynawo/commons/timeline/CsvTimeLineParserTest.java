@@ -7,16 +7,22 @@
  */
 package com.powsybl.dynawo.commons.timeline;
 
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.dynawo.commons.ExportMode;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
@@ -46,6 +52,44 @@ class CsvTimeLineParserTest {
         assertTimeLineEntry(timeline.get(1), "PMIN : deactivation", "GEN____8_SM", 0.348405);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"TXT", "XML"})
+    void testStreamedTimeline(ExportMode exportMode) throws URISyntaxException {
+        Path path = Path.of(Objects.requireNonNull(getClass().getResource(exportMode == ExportMode.XML ? "/timeline.xml" : "/timeline.log")).toURI());
+        List<TimelineEntry> timeline = new ArrayList<>();
+        TimeLineParser.parse(path, exportMode, timeline::add);
+        assertEquals(TimeLineParser.parse(path, exportMode), timeline);
+        assertEquals(5, timeline.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {64, 1 << 30})
+    void testMixedLines(int windowSize, @TempDir Path tmpDir) throws IOException {
+        Path path = Files.writeString(tmpDir.resolve("timeline.log"), """
+                0 | GEN____8_SM | PMIN : activation\r
+                "0.0306911" | "GEN____3_SM" | "PMIN : activation"
+
+                0.348405 | GEN____8_SM
+                x | GEN____8_SM | PMIN : deactivation
+                # comment
+                1e-2 |\tGénérateur_1 | PMAX : activation\s
+                2 | LOAD | switch off""");
+        List<TimelineEntry> timeline = new CsvTimeLineParser('|', windowSize).parse(path);
+        assertEquals(4, timeline.size());
+        assertTimeLineEntry(timeline.get(0), "PMIN : activation", "GEN____8_SM", 0.);
+        assertTimeLineEntry(timeline.get(1), "PMIN : activation", "GEN____3_SM", 0.0306911);
+        assertTimeLineEntry(timeline.get(2), "PMAX : activation", "Générateur_1", 0.01);
+        assertTimeLineEntry(timeline.get(3), "switch off", "LOAD", 2.);
+    }
+
+    @Test
+    void testLineExceedingWindow() throws URISyntaxException {
+        Path path = Path.of(Objects.requireNonNull(getClass().getResource("/timeline.log")).toURI());
+        CsvTimeLineParser parser = new CsvTimeLineParser('|', 16);
+        PowsyblException e = assertThrows(PowsyblException.class, () -> parser.parse(path));
+        assertTrue(e.getMessage().startsWith("Line 1 of "));
+    }
+
     private static void assertTimeLineEntry(TimelineEntry entry, String message, String modelName, double time) {
         assertEquals(message, entry.message());
         assertEquals(modelName, entry.modelName());
@@ -33,6 +33,10 @@ public class DynaFlowConfig extends AbstractDynawoConfig {
         super(homeDir, debug);
     }
 
+    public DynaFlowConfig(Path homeDir, boolean debug, Path networkCacheDir) {
+        super(homeDir, debug, networkCacheDir);
+    }
+
     private DynaFlowConfig(ModuleConfig config) {
         super(config);
     }
@@ -18,11 +18,11 @@ import com.powsybl.dynawo.commons.CommonReports;
 import com.powsybl.dynawo.commons.DynawoVersion;
 import com.powsybl.dynawo.commons.ExportMode;
 import com.powsybl.dynawo.commons.NetworkResultsUpdater;
+import com.powsybl.dynawo.commons.NetworkExportCache;
 import com.powsybl.dynawo.commons.NetworkExporter;
-import com.powsybl.dynawo.commons.timeline.TimelineEntry;
+import com.powsybl.dynawo.commons.loadmerge.LoadsMergePlan;
 import com.powsybl.dynawo.commons.timeline.XmlTimeLineParser;
 import com.powsybl.iidm.network.Network;
-import com.powsybl.iidm.serde.NetworkSerDe;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.loadflow.LoadFlowResult;
 import com.powsybl.loadflow.LoadFlowResultImpl;
@@ -55,23 +55,28 @@ public class DynaFlowHandler extends AbstractExecutionHandler<LoadFlowResult> {
     private final LoadFlowParameters loadFlowParameters;
     private final Command command;
     private final DynawoVersion dynawoVersion;
+    private final NetworkExportCache networkExportCache;
     private final ReportNode reportNode;
+    // set when the network is exported, null otherwise
+    private LoadsMergePlan loadsMergePlan;
 
     public DynaFlowHandler(Network network, String workingStateId, DynaFlowParameters dynaFlowParameters,
-                           LoadFlowParameters loadFlowParameters, Command command, DynawoVersion dynawoVersion, ReportNode reportNode) {
+                           LoadFlowParameters loadFlowParameters, Command command, DynawoVersion dynawoVersion,
+                           NetworkExportCache networkExportCache, ReportNode reportNode) {
         this.network = network;
         this.workingStateId = workingStateId;
         this.dynaFlowParameters = dynaFlowParameters;
         this.loadFlowParameters = loadFlowParameters;
         this.command = command;
         this.dynawoVersion = dynawoVersion;
+        this.networkExportCache = networkExportCache;
         this.reportNode = reportNode;
     }
 
     @Override
     public List<CommandExecution> before(Path workingDir) throws IOException {
         network.getVariantManager().setWorkingVariant(workingStateId);
-        NetworkExporter.writeIidm(network, workingDir.resolve(NETWORK_FILENAME), dynawoVersion, dynaFlowParameters.isMergeLoads());
+        loadsMergePlan = NetworkExporter.writeIidm(network, workingDir.resolve(NETWORK_FILENAME), dynawoVersion, dynaFlowParameters.isMergeLoads(), networkExportCache);
         DynaFlowConfigSerializer.serialize(loadFlowParameters, dynaFlowParameters, Path.of("."), workingDir.resolve(CONFIG_FILENAME));
 
         Path tmpExecFile = LocalComputationConfig.load().getLocalDir().resolve(EXEC_TMP_FILENAME);
@@ -90,7 +95,11 @@ public class DynaFlowHandler extends AbstractExecutionHandler<LoadFlowResult> {
         Path outputNetworkFile = workingDir.resolve(OUTPUT_IIDM_FILENAME_PATH);
 
         if (Files.exists(outputNetworkFile)) {
-            NetworkResultsUpdater.update(network, NetworkSerDe.read(outputNetworkFile), dynaFlowParameters.isMergeLoads());
+            if (loadsMergePlan != null) {
+                NetworkResultsUpdater.update(network, outputNetworkFile, loadsMergePlan, false);
+            } else {
+                NetworkResultsUpdater.update(network, outputNetworkFile, dynaFlowParameters.isMergeLoads());
+            }
         } else {
             status = false;
         }
@@ -116,13 +125,7 @@ public class DynaFlowHandler extends AbstractExecutionHandler<LoadFlowResult> {
                 .resolve(TIMELINE_FOLDER)
                 .resolve(TIMELINE_FILENAME + ExportMode.XML.getFileExtension());
         if (Files.exists(timelineFile)) {
-            List<TimelineEntry> entries = new XmlTimeLineParser().parse(timelineFile);
-            if (!entries.isEmpty()) {
-                ReportNode timelineReporter = CommonReports.createDynawoTimelineReportNode(dfReporter);
-                entries.forEach(e -> CommonReports.reportTimelineEntry(timelineReporter, e));
-            } else {
-                CommonReports.reportEmptyTimeline(dfReporter);
-            }
+            CommonReports.reportTimeline(dfReporter, consumer -> new XmlTimeLineParser().parse(timelineFile, consumer));
         } else {
             LOGGER.warn("Timeline file not found");
         }
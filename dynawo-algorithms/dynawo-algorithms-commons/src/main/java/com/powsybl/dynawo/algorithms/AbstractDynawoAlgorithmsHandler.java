@@ -15,6 +15,9 @@ import com.powsybl.computation.CommandExecution;
 import com.powsybl.computation.local.LocalComputationConfig;
 import com.powsybl.dynawo.DynawoFilesUtils;
 import com.powsybl.dynawo.DynawoSimulationContext;
+import com.powsybl.dynawo.DynawoSimulationReports;
+import com.powsybl.dynawo.commons.InputFilesStore;
+import com.powsybl.dynawo.commons.NetworkExportCache;
 import com.powsybl.dynawo.commons.NetworkExporter;
 import com.powsybl.iidm.network.Network;
 
@@ -24,6 +27,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 
 import static com.powsybl.dynawo.commons.DynawoConstants.*;
 import static com.powsybl.dynawo.commons.DynawoUtil.getCommandExecutions;
@@ -36,12 +40,17 @@ public abstract class AbstractDynawoAlgorithmsHandler<R, S extends DynawoSimulat
     protected final S context;
     protected final Command command;
     protected final Network network;
+    protected final NetworkExportCache networkExportCache;
+    protected final InputFilesStore inputFilesStore;
     protected final ReportNode reportNode;
 
-    protected AbstractDynawoAlgorithmsHandler(S context, Command command, ReportNode reportNode) {
+    protected AbstractDynawoAlgorithmsHandler(S context, Command command, NetworkExportCache networkExportCache,
+                                              InputFilesStore inputFilesStore, ReportNode reportNode) {
         this.context = context;
         this.command = command;
         this.network = context.getNetwork();
+        this.networkExportCache = networkExportCache;
+        this.inputFilesStore = inputFilesStore;
         this.reportNode = reportNode;
     }
 
@@ -59,8 +68,10 @@ public abstract class AbstractDynawoAlgorithmsHandler<R, S extends DynawoSimulat
 
     private void writeInputFiles(Path workingDir) {
         try {
-            NetworkExporter.writeIidm(network, workingDir.resolve(NETWORK_FILENAME), context.getCurrentDynawoVersion());
-            DynawoFilesUtils.writeInputFiles(workingDir, context);
+            DynawoFilesUtils.writeInputFiles(workingDir, context, Map.of(NETWORK_FILENAME,
+                    () -> NetworkExporter.writeIidm(network, workingDir.resolve(NETWORK_FILENAME), context.getCurrentDynawoVersion(), false, networkExportCache)),
+                    inputFilesStore);
+            DynawoSimulationReports.reportInputFilesStore(reportNode, inputFilesStore);
             writeMultipleJobs(workingDir);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
@@ -33,6 +33,14 @@ public class DynawoAlgorithmsConfig extends AbstractDynawoConfig {
         super(homeDir, debug);
     }
 
+    public DynawoAlgorithmsConfig(Path homeDir, boolean debug, Path networkCacheDir) {
+        super(homeDir, debug, networkCacheDir);
+    }
+
+    public DynawoAlgorithmsConfig(Path homeDir, boolean debug, Path networkCacheDir, Path inputFilesStoreDir) {
+        super(homeDir, debug, networkCacheDir, inputFilesStoreDir);
+    }
+
     private DynawoAlgorithmsConfig(ModuleConfig config) {
         super(config);
     }
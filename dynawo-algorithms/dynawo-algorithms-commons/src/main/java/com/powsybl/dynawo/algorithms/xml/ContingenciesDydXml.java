@@ -28,10 +28,14 @@ public final class ContingenciesDydXml {
     }
 
     public static void write(Path workingDir, List<ContingencyEventModels> eventModels) throws IOException, XMLStreamException {
+        write(workingDir, eventModels, true);
+    }
+
+    public static void write(Path workingDir, List<ContingencyEventModels> eventModels, boolean indent) throws IOException, XMLStreamException {
         Objects.requireNonNull(workingDir);
         for (ContingencyEventModels model : eventModels) {
             Path file = workingDir.resolve(createDydFileName(model));
-            XmlUtil.write(file, "dynamicModelsArchitecture", ContingenciesDydXml::writeEvent, model);
+            XmlUtil.write(file, "dynamicModelsArchitecture", ContingenciesDydXml::writeEvent, model, indent);
         }
     }
 
@@ -25,9 +25,13 @@ public final class ContingenciesParXml {
     }
 
     public static void write(Path workingDir, List<ContingencyEventModels> eventModels) {
+        write(workingDir, eventModels, true);
+    }
+
+    public static void write(Path workingDir, List<ContingencyEventModels> eventModels, boolean indent) {
         Objects.requireNonNull(workingDir);
         for (ContingencyEventModels model : eventModels) {
-            ParametersXml.write(model.eventParameters(), createParFileName(model), workingDir, DYN_PREFIX);
+            ParametersXml.write(model.eventParameters(), createParFileName(model), workingDir, DYN_PREFIX, indent);
         }
     }
 
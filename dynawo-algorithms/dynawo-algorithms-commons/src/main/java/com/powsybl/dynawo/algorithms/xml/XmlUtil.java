@@ -41,12 +41,17 @@ public final class XmlUtil {
     }
 
     public static void write(Path file, String elementName, XmlDynawoEventWriter xmlDynawoEventWriter, ContingencyEventModels model) throws IOException, XMLStreamException {
+        write(file, elementName, xmlDynawoEventWriter, model, true);
+    }
+
+    public static void write(Path file, String elementName, XmlDynawoEventWriter xmlDynawoEventWriter, ContingencyEventModels model,
+                             boolean indent) throws IOException, XMLStreamException {
         Objects.requireNonNull(file);
         Objects.requireNonNull(elementName);
         Objects.requireNonNull(xmlDynawoEventWriter);
 
         try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
-            XMLStreamWriter xmlWriter = XmlStreamWriterFactory.newInstance(writer);
+            XMLStreamWriter xmlWriter = XmlStreamWriterFactory.newInstance(writer, indent);
             try {
                 xmlWriter.writeStartDocument(StandardCharsets.UTF_8.toString(), "1.0");
                 xmlWriter.setPrefix(DYN_PREFIX, DYN_URI);
@@ -64,12 +69,16 @@ public final class XmlUtil {
     }
 
     public static void write(Path file, String elementName, XmlJobWriter xmlStreamWriterConsumer) throws IOException, XMLStreamException {
+        write(file, elementName, xmlStreamWriterConsumer, true);
+    }
+
+    public static void write(Path file, String elementName, XmlJobWriter xmlStreamWriterConsumer, boolean indent) throws IOException, XMLStreamException {
         Objects.requireNonNull(file);
         Objects.requireNonNull(elementName);
         Objects.requireNonNull(xmlStreamWriterConsumer);
 
         try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
-            XMLStreamWriter xmlWriter = XmlStreamWriterFactory.newInstance(writer);
+            XMLStreamWriter xmlWriter = XmlStreamWriterFactory.newInstance(writer, indent);
             try {
                 xmlWriter.writeStartDocument(StandardCharsets.UTF_8.toString(), "1.0");
                 xmlWriter.writeStartElement(elementName);
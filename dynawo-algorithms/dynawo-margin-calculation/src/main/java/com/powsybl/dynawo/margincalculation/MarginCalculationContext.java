@@ -92,7 +92,7 @@ public final class MarginCalculationContext extends DynawoSimulationContext {
                     parameters.getLoadIncreaseStopTime(),
                     configureScaling(network));
             loadVariationModels = LoadVariationModels.createFrom(blackBoxModelSupplier, loadVariationArea, dynamicModelsParameters::add,
-                    dynawoParameters.getNetworkParameters(), DynawoSimulationConstants.getSimulationParFile(network), reportNode);
+                    parametersOverlay.getNetworkParameters(), DynawoSimulationConstants.getSimulationParFile(network), reportNode);
         }
 
         private void setupContingencyEventModels() {
@@ -156,7 +156,7 @@ public final class MarginCalculationContext extends DynawoSimulationContext {
 
     @Override
     public List<ParametersSet> getNetworkParameters() {
-        return List.of(getDynawoSimulationParameters().getNetworkParameters(), finalStepNetworkParameters);
+        return List.of(super.getNetworkParameters().getFirst(), finalStepNetworkParameters);
     }
 
     @Override
@@ -13,6 +13,8 @@ import com.powsybl.computation.ExecutionReport;
 import com.powsybl.dynawo.algorithms.AbstractDynawoAlgorithmsHandler;
 import com.powsybl.dynawo.algorithms.xml.ContingenciesDydXml;
 import com.powsybl.dynawo.algorithms.xml.ContingenciesParXml;
+import com.powsybl.dynawo.commons.InputFilesStore;
+import com.powsybl.dynawo.commons.NetworkExportCache;
 import com.powsybl.dynawo.margincalculation.results.MarginCalculationResult;
 import com.powsybl.dynawo.margincalculation.results.XmlMarginCalculationResultParser;
 import com.powsybl.dynawo.margincalculation.xml.MultipleJobsXml;
@@ -34,8 +36,9 @@ import static com.powsybl.dynawo.margincalculation.xml.MarginCalculationConstant
  */
 public class MarginCalculationHandler extends AbstractDynawoAlgorithmsHandler<MarginCalculationResult, MarginCalculationContext> {
 
-    public MarginCalculationHandler(MarginCalculationContext context, Command command, ReportNode reportNode) {
-        super(context, command, reportNode);
+    public MarginCalculationHandler(MarginCalculationContext context, Command command, NetworkExportCache networkExportCache,
+                                    InputFilesStore inputFilesStore, ReportNode reportNode) {
+        super(context, command, networkExportCache, inputFilesStore, reportNode);
     }
 
     @Override
@@ -51,13 +54,13 @@ public class MarginCalculationHandler extends AbstractDynawoAlgorithmsHandler<Ma
     protected void writeMultipleJobs(Path workingDir) throws XMLStreamException, IOException {
         MultipleJobsXml.write(workingDir, context);
         JobsXml.write(workingDir, context, LOAD_VARIATION_AREA_FILENAME);
-        DydXml.write(workingDir, LOAD_VARIATION_AREA_FILENAME, context.getLoadVariationAreaDydData());
-        ContingenciesDydXml.write(workingDir, context.getContingencyEventModels());
-        ContingenciesParXml.write(workingDir, context.getContingencyEventModels());
+        DydXml.write(workingDir, LOAD_VARIATION_AREA_FILENAME, context.getLoadVariationAreaDydData(), context.isIndentXmlFiles());
+        ContingenciesDydXml.write(workingDir, context.getContingencyEventModels(), context.isIndentXmlFiles());
+        ContingenciesParXml.write(workingDir, context.getContingencyEventModels(), context.isIndentXmlFiles());
         JobsXml.writeFinalStep(workingDir, context);
         Optional<DynawoData> dydData = context.getFinalStepDydData();
         if (dydData.isPresent()) {
-            DydXml.write(workingDir, FINAL_STEP_DYD_FILENAME, dydData.get());
+            DydXml.write(workingDir, FINAL_STEP_DYD_FILENAME, dydData.get(), context.isIndentXmlFiles());
         }
     }
 }
@@ -21,6 +21,8 @@ import com.powsybl.dynawo.algorithms.DynawoAlgorithmsConfig;
 import com.powsybl.dynawo.commons.DynawoUtil;
 import com.powsybl.dynawo.commons.DynawoVersion;
 import com.powsybl.dynawo.commons.ExecutionEnvironmentUtils;
+import com.powsybl.dynawo.commons.InputFilesStore;
+import com.powsybl.dynawo.commons.NetworkExportCache;
 import com.powsybl.dynawo.commons.PowsyblDynawoVersion;
 import com.powsybl.dynawo.margincalculation.loadsvariation.supplier.LoadsVariationSupplier;
 import com.powsybl.dynawo.margincalculation.results.MarginCalculationResult;
@@ -77,13 +79,15 @@ public class MarginCalculationProvider implements Versionable {
                 .marginCalculationParameters(parameters)
                 .dynawoParameters(dynawoParameters)
                 .currentVersion(currentVersion)
+                .indentXmlFiles(config.isDebug())
                 .reportNode(mcReportNode)
                 .workingVariantId(workingVariantId)
                 .build();
 
         ExecutionEnvironment execEnvSimulation = ExecutionEnvironmentUtils.createSimulationEnv(config, WORKING_DIR_PREFIX, dumpDir);
         return runParameters.getComputationManager().execute(execEnvSimulation,
-                new MarginCalculationHandler(context, getCommand(config, "MC", "dynawo_dynamic_mc"), mcReportNode));
+                new MarginCalculationHandler(context, getCommand(config, "MC", "dynawo_dynamic_mc"), NetworkExportCache.create(config),
+                        InputFilesStore.create(config), mcReportNode));
     }
 
     @Override
@@ -35,7 +35,7 @@ public final class MultipleJobsXml {
     public static void write(Path workingDir, MarginCalculationContext context) throws IOException, XMLStreamException {
         Objects.requireNonNull(workingDir);
         Path file = workingDir.resolve(MULTIPLE_JOBS_FILENAME);
-        XmlUtil.write(file, "multipleJobs", w -> writeMarginCalculation(w, context));
+        XmlUtil.write(file, "multipleJobs", w -> writeMarginCalculation(w, context), context.isIndentXmlFiles());
     }
 
     private static void writeMarginCalculation(XMLStreamWriter writer, MarginCalculationContext context) throws XMLStreamException {
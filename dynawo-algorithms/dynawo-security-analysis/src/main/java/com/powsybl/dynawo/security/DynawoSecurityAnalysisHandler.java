@@ -11,14 +11,18 @@ import com.powsybl.commons.report.ReportNode;
 import com.powsybl.computation.Command;
 import com.powsybl.computation.ExecutionReport;
 import com.powsybl.contingency.violations.LimitViolationFilter;
+import com.powsybl.dynawo.DynawoSimulationParameters;
 import com.powsybl.dynawo.algorithms.AbstractDynawoAlgorithmsHandler;
 import com.powsybl.dynawo.algorithms.xml.ContingenciesDydXml;
 import com.powsybl.dynawo.algorithms.xml.ContingenciesParXml;
+import com.powsybl.dynawo.commons.CommonReports;
+import com.powsybl.dynawo.commons.InputFilesStore;
+import com.powsybl.dynawo.commons.NetworkExportCache;
 import com.powsybl.dynawo.commons.NetworkResultsUpdater;
+import com.powsybl.dynawo.commons.NetworkUpdateSummary;
 import com.powsybl.dynawo.contingency.ContingencyResultsUtils;
 import com.powsybl.dynawo.security.xml.MultipleJobsXml;
 import com.powsybl.dynawo.xml.JobsXml;
-import com.powsybl.iidm.serde.NetworkSerDe;
 import com.powsybl.security.SecurityAnalysisReport;
 import com.powsybl.security.SecurityAnalysisResult;
 import com.powsybl.security.interceptors.SecurityAnalysisInterceptor;
@@ -40,10 +44,10 @@ public final class DynawoSecurityAnalysisHandler extends AbstractDynawoAlgorithm
     private final LimitViolationFilter violationFilter;
     private final List<SecurityAnalysisInterceptor> interceptors;
 
-    public DynawoSecurityAnalysisHandler(SecurityAnalysisContext context, Command command,
-                                         LimitViolationFilter violationFilter, List<SecurityAnalysisInterceptor> interceptors,
+    public DynawoSecurityAnalysisHandler(SecurityAnalysisContext context, Command command, NetworkExportCache networkExportCache,
+                                         InputFilesStore inputFilesStore, LimitViolationFilter violationFilter, List<SecurityAnalysisInterceptor> interceptors,
                                          ReportNode reportNode) {
-        super(context, command, reportNode);
+        super(context, command, networkExportCache, inputFilesStore, reportNode);
         this.violationFilter = violationFilter;
         this.interceptors = interceptors;
     }
@@ -51,10 +55,17 @@ public final class DynawoSecurityAnalysisHandler extends AbstractDynawoAlgorithm
     @Override
     public SecurityAnalysisReport after(Path workingDir, ExecutionReport report) throws IOException {
         super.after(workingDir, report);
-        context.getNetwork().getVariantManager().setWorkingVariant(context.getWorkingVariantId());
+        context.setResultsWorkingVariant();
         Path outputNetworkFile = workingDir.resolve(OUTPUT_IIDM_FILENAME_PATH);
         if (Files.exists(outputNetworkFile)) {
-            NetworkResultsUpdater.update(context.getNetwork(), NetworkSerDe.read(outputNetworkFile), context.getDynawoSimulationParameters().isMergeLoads());
+            DynawoSimulationParameters parameters = context.getDynawoSimulationParameters();
+            if (parameters.isDeltaNetworkUpdate()) {
+                NetworkUpdateSummary summary = NetworkResultsUpdater.updateChanges(context.getNetwork(), outputNetworkFile,
+                        parameters.isMergeLoads(), parameters.isIndexedNetworkUpdate());
+                CommonReports.reportNetworkUpdate(reportNode, summary);
+            } else {
+                NetworkResultsUpdater.update(context.getNetwork(), outputNetworkFile, parameters.isMergeLoads(), parameters.isIndexedNetworkUpdate());
+            }
         }
         SecurityAnalysisResult result = createSecurityAnalysisResult(network, violationFilter, workingDir, context.getContingencies());
         ContingencyResultsUtils.reportContingencyResults(result.getPostContingencyResults(), workingDir.resolve(TIMELINE_FOLDER),
@@ -66,7 +77,7 @@ public final class DynawoSecurityAnalysisHandler extends AbstractDynawoAlgorithm
     protected void writeMultipleJobs(Path workingDir) throws XMLStreamException, IOException {
         JobsXml.write(workingDir, context);
         MultipleJobsXml.write(workingDir, context);
-        ContingenciesDydXml.write(workingDir, context.getContingencyEventModels());
-        ContingenciesParXml.write(workingDir, context.getContingencyEventModels());
+        ContingenciesDydXml.write(workingDir, context.getContingencyEventModels(), context.isIndentXmlFiles());
+        ContingenciesParXml.write(workingDir, context.getContingencyEventModels(), context.isIndentXmlFiles());
     }
 }
@@ -20,6 +20,8 @@ import com.powsybl.dynawo.builders.AdditionalModelConfigLoader;
 import com.powsybl.dynawo.builders.ModelConfigsHandler;
 import com.powsybl.dynawo.commons.DynawoVersion;
 import com.powsybl.dynawo.commons.ExecutionEnvironmentUtils;
+import com.powsybl.dynawo.commons.InputFilesStore;
+import com.powsybl.dynawo.commons.NetworkExportCache;
 import com.powsybl.dynawo.models.utils.BlackBoxSupplierUtils;
 import com.powsybl.dynawo.commons.DynawoUtil;
 import com.powsybl.dynawo.commons.PowsyblDynawoVersion;
@@ -93,11 +95,21 @@ public class DynawoSecurityAnalysisProvider implements DynamicSecurityAnalysisPr
                 .dynamicSecurityAnalysisParameters(parameters)
                 .dynawoParameters(dynawoParameters)
                 .currentVersion(currentVersion)
+                .indentXmlFiles(config.isDebug())
                 .reportNode(dsaReportNode)
                 .build();
 
         ExecutionEnvironment execEnvSimulation = ExecutionEnvironmentUtils.createSimulationEnv(config, WORKING_DIR_PREFIX, dumpDir);
-        return runParameters.getComputationManager().execute(execEnvSimulation, new DynawoSecurityAnalysisHandler(context, getCommand(config, "SA", "dynawo_dynamic_sa"), runParameters.getFilter(), runParameters.getInterceptors(), dsaReportNode));
+        context.claimResultsVariant();
+        try {
+            context.createResultsVariant();
+            return runParameters.getComputationManager().execute(execEnvSimulation, new DynawoSecurityAnalysisHandler(context, getCommand(config, "SA", "dynawo_dynamic_sa"),
+                            NetworkExportCache.create(config), InputFilesStore.create(config), runParameters.getFilter(), runParameters.getInterceptors(), dsaReportNode))
+                    .whenComplete((result, e) -> context.releaseResultsVariant());
+        } catch (RuntimeException e) {
+            context.releaseResultsVariant();
+            throw e;
+        }
     }
 
     @Override
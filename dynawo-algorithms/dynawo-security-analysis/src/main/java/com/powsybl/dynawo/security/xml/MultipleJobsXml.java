@@ -31,7 +31,7 @@ public final class MultipleJobsXml {
     public static void write(Path workingDir, SecurityAnalysisContext context) throws IOException, XMLStreamException {
         Objects.requireNonNull(workingDir);
         Path file = workingDir.resolve(MULTIPLE_JOBS_FILENAME);
-        XmlUtil.write(file, "multipleJobs", w -> writeContingencies(w, context));
+        XmlUtil.write(file, "multipleJobs", w -> writeContingencies(w, context), context.isIndentXmlFiles());
     }
 
     private static void writeContingencies(XMLStreamWriter writer, SecurityAnalysisContext context) throws XMLStreamException {
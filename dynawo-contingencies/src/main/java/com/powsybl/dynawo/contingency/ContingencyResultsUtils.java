@@ -14,7 +14,6 @@ import com.powsybl.contingency.violations.LimitViolationFilter;
 import com.powsybl.dynawo.commons.CommonReports;
 import com.powsybl.dynawo.commons.ExportMode;
 import com.powsybl.dynawo.commons.timeline.TimeLineParser;
-import com.powsybl.dynawo.commons.timeline.TimelineEntry;
 import com.powsybl.dynawo.contingency.results.ResultsUtil;
 import com.powsybl.dynawo.contingency.results.Status;
 import com.powsybl.dynawo.contingency.xml.XmlScenarioResultParser;
@@ -121,13 +120,7 @@ public final class ContingencyResultsUtils {
                                                   ReportNode contingencyReporter) {
         Path timelineFile = timelineDir.resolve("timeline_" + contingencyId + exportMode.getFileExtension());
         if (Files.exists(timelineFile)) {
-            List<TimelineEntry> entries = TimeLineParser.parse(timelineFile, exportMode);
-            if (!entries.isEmpty()) {
-                ReportNode timelineReporter = CommonReports.createDynawoTimelineReportNode(contingencyReporter);
-                entries.forEach(e -> CommonReports.reportTimelineEntry(timelineReporter, e));
-            } else {
-                CommonReports.reportEmptyTimeline(contingencyReporter);
-            }
+            CommonReports.reportTimeline(contingencyReporter, consumer -> TimeLineParser.parse(timelineFile, exportMode, consumer));
         } else {
             LOGGER.warn("Timeline file not found");
         }
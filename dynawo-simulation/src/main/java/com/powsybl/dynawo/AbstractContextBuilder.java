@@ -24,6 +24,8 @@ import com.powsybl.dynawo.simplifiers.ModelsRemovalSimplifier;
 import com.powsybl.dynawo.simplifiers.ModelsSubstitutionSimplifier;
 import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.Network;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.function.Predicate;
@@ -35,6 +37,8 @@ import java.util.stream.Stream;
  */
 public abstract class AbstractContextBuilder<T extends AbstractContextBuilder<T>> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractContextBuilder.class);
+
     protected final Network network;
     protected DynamicSimulationParameters simulationParameters = null;
     protected DynawoSimulationParameters dynawoParameters = null;
@@ -43,15 +47,18 @@ public abstract class AbstractContextBuilder<T extends AbstractContextBuilder<T>
     protected BlackBoxModelSupplier blackBoxModelSupplier;
     protected List<BlackBoxModel> eventModels = Collections.emptyList();
     protected List<ParametersSet> dynamicModelsParameters = new ArrayList<>();
+    protected ParametersOverlay parametersOverlay;
     protected SimulationModels simulationModels;
     protected Map<OutputVariable.OutputType, List<OutputVariable>> outputVariables = Collections.emptyMap();
     protected FinalStepConfig finalStepConfig = null;
     protected List<BlackBoxModel> finalStepDynamicModels = Collections.emptyList();
     protected FinalStepModels finalStepModels = null;
+    protected List<ParametersSet> modelParameters;
     protected SimulationTime simulationTime;
     protected SimulationTime finalStepTime = null;
     protected DynawoVersion dynawoVersion = DynawoConstants.VERSION_MIN;
     protected ReportNode reportNode = ReportNode.NO_OP;
+    protected boolean indentXmlFiles = true;
 
     protected AbstractContextBuilder(Network network, List<BlackBoxModel> dynamicModels) {
         this.network = network;
@@ -73,6 +80,14 @@ public abstract class AbstractContextBuilder<T extends AbstractContextBuilder<T>
         return self();
     }
 
+    /**
+     * Sets whether the Dynawo xml input files are indented; non-debug runs write them without indentation
+     */
+    public T indentXmlFiles(boolean indentXmlFiles) {
+        this.indentXmlFiles = indentXmlFiles;
+        return self();
+    }
+
     public T reportNode(ReportNode reportNode) {
         this.reportNode = DynawoSimulationReports.createDynawoSimulationContextReportNode(reportNode);
         return self();
@@ -81,6 +96,7 @@ public abstract class AbstractContextBuilder<T extends AbstractContextBuilder<T>
     protected void setup() {
         setupData();
         setupMacroConnections();
+        setupModelParameters();
     }
 
     protected void setupData() {
@@ -90,19 +106,61 @@ public abstract class AbstractContextBuilder<T extends AbstractContextBuilder<T>
         if (dynawoParameters == null) {
             dynawoParameters = DynawoSimulationParameters.load();
         }
+        setupResultVariant();
         setupSimulationTime();
         setupDynamicModels();
     }
 
+    /**
+     * The results are written into their variant from the computation thread: the variant multi-thread access has to
+     * be allowed by the caller, so that the working variant of the calling thread is kept
+     */
+    private void setupResultVariant() {
+        dynawoParameters.getResultVariantId().ifPresent(resultVariantId -> {
+            if (resultVariantId.equals(workingVariantId)) {
+                throw new PowsyblException("Result variant " + resultVariantId + " should differ from the working variant");
+            }
+            if (!network.getVariantManager().isVariantMultiThreadAccessAllowed()) {
+                throw new PowsyblException("Variant multi-thread access should be allowed to write the results into variant " + resultVariantId);
+            }
+        });
+    }
+
     protected void setupMacroConnections() {
+        parametersOverlay = new ParametersOverlay(dynawoParameters);
         simulationModels = SimulationModels.createFrom(blackBoxModelSupplier, dynamicModels, eventModels, dynamicModelsParameters::add,
-                dynawoParameters, reportNode);
+                parametersOverlay, reportNode);
         if (!finalStepDynamicModels.isEmpty()) {
             finalStepModels = FinalStepModels.createFrom(blackBoxModelSupplier, simulationModels, finalStepDynamicModels,
                     dynamicModelsParameters::add, reportNode);
         }
     }
 
+    /**
+     * Keeps only the model parameters sets referenced by the models written with the models parameters file
+     */
+    protected void setupModelParameters() {
+        Set<String> referencedIds = new HashSet<>();
+        Stream.of(simulationModels.getBlackBoxDynamicModels(), simulationModels.getBlackBoxEventModels(),
+                        finalStepModels != null ? finalStepModels.getBlackBoxDynamicModels() : List.<BlackBoxModel>of())
+                .flatMap(List::stream)
+                .filter(bbm -> DynawoSimulationConstants.MODELS_PARAMETERS_FILENAME.equals(bbm.getDefaultParFile()))
+                .forEach(bbm -> referencedIds.add(bbm.getParameterSetId()));
+        modelParameters = new ArrayList<>();
+        List<String> prunedIds = new ArrayList<>();
+        for (String parametersSetId : dynawoParameters.getModelParametersIds()) {
+            if (referencedIds.contains(parametersSetId)) {
+                modelParameters.add(parametersOverlay.getModelParameters(parametersSetId));
+            } else {
+                prunedIds.add(parametersSetId);
+            }
+        }
+        if (!prunedIds.isEmpty()) {
+            DynawoSimulationReports.reportPrunedParametersSets(reportNode, DynawoSimulationConstants.MODELS_PARAMETERS_FILENAME, prunedIds.size());
+            LOGGER.debug("Parameters sets not written in {}: {}", DynawoSimulationConstants.MODELS_PARAMETERS_FILENAME, prunedIds);
+        }
+    }
+
     protected void setupSimulationTime() {
         if (simulationParameters == null) {
             simulationParameters = DynamicSimulationParameters.load();
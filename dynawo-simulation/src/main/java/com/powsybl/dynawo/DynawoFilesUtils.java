@@ -8,20 +8,50 @@
 package com.powsybl.dynawo;
 
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.dynawo.commons.InputFilesStore;
+import com.powsybl.dynawo.parameters.ParametersSet;
 import com.powsybl.dynawo.xml.DydXml;
 import com.powsybl.dynawo.xml.OutputVariablesXml;
 import com.powsybl.dynawo.xml.ParametersXml;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static com.powsybl.dynawo.DynawoSimulationConstants.*;
+import static com.powsybl.dynawo.xml.DynawoSimulationXmlConstants.DYN_PREFIX;
 
 /**
  * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
  */
 public final class DynawoFilesUtils {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DynawoFilesUtils.class);
+    private static final int MAX_WRITER_THREADS = 4;
+    private static final int WRITER_THREADS = Math.min(MAX_WRITER_THREADS, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Writes one input file
+     */
+    @FunctionalInterface
+    public interface InputFileWriter {
+        void write() throws IOException;
+    }
+
+    private static final class WriterExecutorHolder {
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(WRITER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "dynawo-input-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     private DynawoFilesUtils() {
     }
 
@@ -36,32 +66,140 @@ public final class DynawoFilesUtils {
         Files.delete(finalPath);
     }
 
-    public static void writeInputFiles(Path workingDir, DynawoSimulationContext context) throws IOException {
-        DydXml.write(workingDir, context.getSimulationDydData());
-        ParametersXml.write(workingDir, context);
+    public static Map<String, Duration> writeInputFiles(Path workingDir, DynawoSimulationContext context) throws IOException {
+        return writeInputFiles(workingDir, context, Collections.emptyMap());
+    }
+
+    public static Map<String, Duration> writeInputFiles(Path workingDir, DynawoSimulationContext context, Map<String, InputFileWriter> additionalWriters) throws IOException {
+        return writeInputFiles(workingDir, context, additionalWriters, InputFilesStore.disabled());
+    }
+
+    /**
+     * Writes the simulation input files along with the given additional files.
+     * <p>
+     * The network implementations not being safe for concurrent reads, the DYD file and the additional files, which
+     * may read the network, are written one after the other on the calling thread, while the files which do not read
+     * the network (PAR, curves, final state values, dump and criteria files) are written concurrently on a bounded
+     * executor. When a writer fails, the other writers are waited for before the failure is thrown, so that no file is
+     * written into the working directory afterwards.
+     * @param additionalWriters additional file writers indexed by file name
+     * @param inputFilesStore store through which the simulation input files are written
+     * @return the duration of each file writing, the files read from the network first
+     */
+    public static Map<String, Duration> writeInputFiles(Path workingDir, DynawoSimulationContext context, Map<String, InputFileWriter> additionalWriters,
+                                                        InputFilesStore inputFilesStore) throws IOException {
+        Executor executor = WRITER_THREADS > 1 ? WriterExecutorHolder.EXECUTOR : Runnable::run;
+        return writeInputFiles(workingDir, context, additionalWriters, inputFilesStore, executor);
+    }
+
+    static Map<String, Duration> writeInputFiles(Path workingDir, DynawoSimulationContext context, Map<String, InputFileWriter> additionalWriters,
+                                                 Executor executor) throws IOException {
+        return writeInputFiles(workingDir, context, additionalWriters, InputFilesStore.disabled(), executor);
+    }
+
+    static Map<String, Duration> writeInputFiles(Path workingDir, DynawoSimulationContext context, Map<String, InputFileWriter> additionalWriters,
+                                                 InputFilesStore store, Executor executor) throws IOException {
+        DynawoSimulationParameters parameters = context.getDynawoSimulationParameters();
+        boolean indent = context.isIndentXmlFiles();
+        // writers reading the network
+        Map<String, InputFileWriter> networkWriters = new LinkedHashMap<>(additionalWriters);
+        networkWriters.put(DYD_FILENAME, () -> store.write(workingDir.resolve(DYD_FILENAME),
+                writer -> DydXml.write(writer, context.getSimulationDydData(), indent)));
+        // writers only reading data computed when building the context
+        Map<String, InputFileWriter> writers = new LinkedHashMap<>();
+        putParametersWriter(writers, workingDir, context.getDynamicModelsParameters(), context.getSimulationParFile(), DYN_PREFIX, indent, store);
+        putParametersWriter(writers, workingDir, context.getModelParameters(), MODELS_PARAMETERS_FILENAME, "", indent, store);
+        putParametersWriter(writers, workingDir, context.getNetworkParameters(), NETWORK_PARAMETERS_FILENAME, "", indent, store);
+        putParametersWriter(writers, workingDir, List.of(parameters.getSolverParameters()), SOLVER_PARAMETERS_FILENAME, "", indent, store);
         if (context.withCurveVariables()) {
-            OutputVariablesXml.writeCurve(workingDir, context);
+            writers.put(CRV_FILENAME, () -> OutputVariablesXml.writeCurve(workingDir, context));
         }
         if (context.withFsvVariables()) {
-            OutputVariablesXml.writeFsv(workingDir, context);
+            writers.put(FSV_FILENAME, () -> OutputVariablesXml.writeFsv(workingDir, context));
         }
-        writeDumpFiles(workingDir, context.getDynawoSimulationParameters().getDumpFileParameters());
-        writeCriteriaFile(workingDir, context.getDynawoSimulationParameters());
+        if (parameters.getDumpFileParameters().useDumpFile()) {
+            writers.put(parameters.getDumpFileParameters().dumpFile(), () -> writeDumpFiles(workingDir, parameters.getDumpFileParameters(), store));
+        }
+        parameters.getCriteriaFilePath().ifPresent(filePath -> writers.put(filePath.getFileName().toString(), () -> writeCriteriaFile(workingDir, parameters, store)));
+        Map<String, Duration> timings = write(networkWriters, writers, executor);
+        if (store.isEnabled()) {
+            LOGGER.debug("Input files store {}", store);
+        }
+        return timings;
+    }
+
+    /**
+     * Puts a writer of the given PAR file, going through the input files store
+     */
+    private static void putParametersWriter(Map<String, InputFileWriter> writers, Path workingDir, Collection<ParametersSet> parametersSets,
+                                            String fileName, String dynPrefix, boolean indent, InputFilesStore store) {
+        writers.put(fileName, () -> store.write(workingDir.resolve(fileName),
+                writer -> ParametersXml.write(parametersSets, writer, dynPrefix, indent)));
+    }
+
+    /**
+     * Runs the concurrent writers on the executor while the sequential writers are run on the calling thread
+     * @return the duration of each file writing, in writers order
+     */
+    private static Map<String, Duration> write(Map<String, InputFileWriter> sequentialWriters, Map<String, InputFileWriter> concurrentWriters,
+                                               Executor executor) throws IOException {
+        long start = System.nanoTime();
+        Map<String, Duration> timings = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(concurrentWriters.size());
+        concurrentWriters.forEach((fileName, writer) -> futures.add(CompletableFuture.runAsync(() -> {
+            try {
+                write(fileName, writer, timings);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor)));
+        CompletableFuture<Void> allWriters = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+        try {
+            for (Map.Entry<String, InputFileWriter> e : sequentialWriters.entrySet()) {
+                write(e.getKey(), e.getValue(), timings);
+            }
+            allWriters.join();
+        } catch (IOException | RuntimeException e) {
+            // running writers cannot be interrupted, they are waited for so that they do not write in the working
+            // directory once it is cleaned
+            allWriters.handle((r, t) -> null).join();
+            if (e instanceof CompletionException completionException) {
+                if (completionException.getCause() instanceof UncheckedIOException ioException) {
+                    throw ioException.getCause();
+                }
+                if (completionException.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+            }
+            throw e;
+        }
+        LOGGER.debug("{} input files written in {} ms", sequentialWriters.size() + concurrentWriters.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        Map<String, Duration> orderedTimings = new LinkedHashMap<>();
+        sequentialWriters.keySet().forEach(fileName -> orderedTimings.put(fileName, timings.get(fileName)));
+        concurrentWriters.keySet().forEach(fileName -> orderedTimings.put(fileName, timings.get(fileName)));
+        return Collections.unmodifiableMap(orderedTimings);
+    }
+
+    private static void write(String fileName, InputFileWriter writer, Map<String, Duration> timings) throws IOException {
+        long start = System.nanoTime();
+        writer.write();
+        timings.put(fileName, Duration.ofNanos(System.nanoTime() - start));
     }
 
-    private static void writeDumpFiles(Path workingDir, DumpFileParameters dumpFileParameters) throws IOException {
+    private static void writeDumpFiles(Path workingDir, DumpFileParameters dumpFileParameters, InputFilesStore store) throws IOException {
         if (dumpFileParameters.useDumpFile()) {
             Path dumpFilePath = dumpFileParameters.getDumpFilePath();
             if (dumpFilePath != null) {
-                Files.copy(dumpFilePath, workingDir.resolve(dumpFileParameters.dumpFile()), StandardCopyOption.REPLACE_EXISTING);
+                store.copy(dumpFilePath, workingDir.resolve(dumpFileParameters.dumpFile()));
             }
         }
     }
 
-    private static void writeCriteriaFile(Path workingDir, DynawoSimulationParameters parameters) {
+    private static void writeCriteriaFile(Path workingDir, DynawoSimulationParameters parameters, InputFilesStore store) {
         parameters.getCriteriaFilePath().ifPresent(filePath -> {
             try {
-                Files.copy(filePath, workingDir.resolve(filePath.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+                store.copy(filePath, workingDir.resolve(filePath.getFileName().toString()));
             } catch (IOException e) {
                 throw new PowsyblException("Simulation criteria file error", e);
             }
@@ -32,6 +32,14 @@ public class DynawoSimulationConfig extends AbstractDynawoConfig {
         super(homeDir, debug);
     }
 
+    public DynawoSimulationConfig(Path homeDir, boolean debug, Path networkCacheDir) {
+        super(homeDir, debug, networkCacheDir);
+    }
+
+    public DynawoSimulationConfig(Path homeDir, boolean debug, Path networkCacheDir, Path inputFilesStoreDir) {
+        super(homeDir, debug, networkCacheDir, inputFilesStoreDir);
+    }
+
     protected DynawoSimulationConfig(ModuleConfig config) {
         super(config);
     }
@@ -6,6 +6,7 @@
  */
 package com.powsybl.dynawo;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.dynamicsimulation.DynamicSimulationParameters;
 import com.powsybl.dynamicsimulation.OutputVariable;
 import com.powsybl.dynawo.commons.DynawoVersion;
@@ -15,11 +16,9 @@ import com.powsybl.dynawo.outputvariables.DynawoOutputVariable;
 import com.powsybl.dynawo.parameters.ParametersSet;
 import com.powsybl.dynawo.xml.DynawoData;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -28,16 +27,22 @@ import java.util.stream.Collectors;
  */
 public class DynawoSimulationContext {
 
+    // variants the results of the running simulations are written into, by network
+    private static final Map<Network, Set<String>> CLAIMED_RESULTS_VARIANTS = new IdentityHashMap<>();
+
     protected final Network network;
     private final String workingVariantId;
     private final DynawoSimulationParameters dynawoSimulationParameters;
     private final Map<OutputVariable.OutputType, List<OutputVariable>> outputVariables;
     private final List<ParametersSet> dynamicModelsParameters;
+    private final List<ParametersSet> modelParameters;
+    private final ParametersSet networkParameters;
     private final SimulationModels simulationModels;
     private final FinalStepModels finalStepModels;
     private final SimulationTime simulationTime;
     private final SimulationTime finalStepTime;
     protected final DynawoVersion dynawoVersion;
+    private final boolean indentXmlFiles;
 
     public static class Builder extends AbstractContextBuilder<Builder> {
         private List<OutputVariable> outputVariablesList = List.of();
@@ -122,10 +127,13 @@ public class DynawoSimulationContext {
         this.simulationTime = builder.simulationTime;
         this.finalStepTime = builder.finalStepTime;
         this.dynamicModelsParameters = builder.dynamicModelsParameters;
+        this.modelParameters = builder.modelParameters;
+        this.networkParameters = builder.parametersOverlay.getNetworkParameters();
         this.outputVariables = builder.outputVariables;
         this.simulationModels = builder.simulationModels;
         this.finalStepModels = builder.finalStepModels;
         this.dynawoVersion = builder.dynawoVersion;
+        this.indentXmlFiles = builder.indentXmlFiles;
     }
 
     public Network getNetwork() {
@@ -136,6 +144,66 @@ public class DynawoSimulationContext {
         return workingVariantId;
     }
 
+    /**
+     * Variant the simulation results are written into: the result variant if defined in the parameters, the working
+     * variant otherwise
+     */
+    public String getResultsVariantId() {
+        return dynawoSimulationParameters.getResultVariantId().orElse(workingVariantId);
+    }
+
+    /**
+     * Claims the variant the simulation results are written into until {@link #releaseResultsVariant()} is called.
+     * Simulations running concurrently on the same network require the variant multi-thread access to be allowed and
+     * have to write their results into different variants.
+     * @throws PowsyblException if another simulation is running on the network while the variant multi-thread access
+     *                          is not allowed, or if it writes its results into the same variant
+     */
+    public void claimResultsVariant() {
+        String resultsVariantId = getResultsVariantId();
+        synchronized (CLAIMED_RESULTS_VARIANTS) {
+            Set<String> claimedVariants = CLAIMED_RESULTS_VARIANTS.computeIfAbsent(network, n -> new HashSet<>());
+            if (!claimedVariants.isEmpty() && !network.getVariantManager().isVariantMultiThreadAccessAllowed()) {
+                throw new PowsyblException("Variant multi-thread access should be allowed to run simulations concurrently on network " + network.getId());
+            }
+            if (!claimedVariants.add(resultsVariantId)) {
+                throw new PowsyblException("Results variant " + resultsVariantId + " is already used by another simulation on network " + network.getId());
+            }
+        }
+    }
+
+    public void releaseResultsVariant() {
+        synchronized (CLAIMED_RESULTS_VARIANTS) {
+            Set<String> claimedVariants = CLAIMED_RESULTS_VARIANTS.get(network);
+            if (claimedVariants != null && claimedVariants.remove(getResultsVariantId()) && claimedVariants.isEmpty()) {
+                CLAIMED_RESULTS_VARIANTS.remove(network);
+            }
+        }
+    }
+
+    /**
+     * Creates the result variant, cloned from the working variant, if defined in the parameters.
+     * Variants are resized on creation: this has to be called from the thread running the simulation, before the
+     * computation is started, and not from the computation thread while other simulations read the network.
+     */
+    public void createResultsVariant() {
+        dynawoSimulationParameters.getResultVariantId().ifPresent(resultVariantId -> {
+            VariantManager variantManager = network.getVariantManager();
+            // variants creation is not thread safe, the result variant itself being claimed by this simulation only
+            synchronized (variantManager) {
+                variantManager.cloneVariant(workingVariantId, resultVariantId, true);
+            }
+        });
+    }
+
+    /**
+     * Sets the working variant of the current thread to the variant the simulation results are written into, the
+     * result variant being created beforehand by {@link #createResultsVariant()}
+     */
+    public void setResultsWorkingVariant() {
+        network.getVariantManager().setWorkingVariant(getResultsVariantId());
+    }
+
     public SimulationTime getSimulationTime() {
         return simulationTime;
     }
@@ -176,6 +244,13 @@ public class DynawoSimulationContext {
         return dynamicModelsParameters;
     }
 
+    /**
+     * Returns the model parameters sets referenced by the simulation models, the unused ones are not written
+     */
+    public List<ParametersSet> getModelParameters() {
+        return modelParameters;
+    }
+
     public String getSimulationParFile() {
         return getNetwork().getId() + ".par";
     }
@@ -192,12 +267,19 @@ public class DynawoSimulationContext {
         return dynawoVersion;
     }
 
+    public boolean isIndentXmlFiles() {
+        return indentXmlFiles;
+    }
+
+    /**
+     * Returns the network parameters sets, including the parameters added by the simulation models
+     */
     public List<ParametersSet> getNetworkParameters() {
-        return List.of(getDynawoSimulationParameters().getNetworkParameters());
+        return List.of(networkParameters);
     }
 
     public String getNetworkParameterSetId() {
-        return getDynawoSimulationParameters().getNetworkParameters().getId();
+        return networkParameters.getId();
     }
 
     public String getFinalStepNetworkParameterSetId() {
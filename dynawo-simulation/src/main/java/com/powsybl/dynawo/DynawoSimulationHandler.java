@@ -14,28 +14,38 @@ import com.powsybl.computation.CommandExecution;
 import com.powsybl.computation.ExecutionReport;
 import com.powsybl.computation.local.LocalComputationConfig;
 import com.powsybl.dynamicsimulation.DynamicSimulationResult;
-import com.powsybl.dynamicsimulation.DynamicSimulationResultImpl;
 import com.powsybl.dynamicsimulation.TimelineEvent;
 import com.powsybl.dynawo.commons.ExportMode;
+import com.powsybl.dynawo.commons.InputFilesStore;
+import com.powsybl.dynawo.commons.NetworkExportCache;
 import com.powsybl.dynawo.commons.NetworkExporter;
+import com.powsybl.dynawo.commons.NetworkUpdateSummary;
+import com.powsybl.dynawo.outputvariables.CsvCurvesParser;
 import com.powsybl.dynawo.outputvariables.CsvFsvParser;
+import com.powsybl.dynawo.outputvariables.CurvesFilter;
+import com.powsybl.dynawo.outputvariables.FinalStateValues;
 import com.powsybl.dynawo.commons.CommonReports;
-import com.powsybl.dynawo.commons.NetworkResultsUpdater;
+import com.powsybl.dynawo.commons.OutputNetworkResults;
 import com.powsybl.dynawo.commons.dynawologs.CsvLogParser;
+import com.powsybl.dynawo.commons.loadmerge.LoadsMergePlan;
+import com.powsybl.dynawo.commons.timeline.CompactTimeline;
 import com.powsybl.dynawo.commons.timeline.TimeLineParser;
 import com.powsybl.dynawo.xml.JobsXml;
-import com.powsybl.iidm.serde.NetworkSerDe;
-import com.powsybl.timeseries.*;
+import com.powsybl.timeseries.DoubleTimeSeries;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.lang.ref.Cleaner;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import static com.powsybl.dynawo.DynawoFilesUtils.*;
 import static com.powsybl.dynawo.DynawoSimulationConstants.*;
@@ -51,25 +61,50 @@ public final class DynawoSimulationHandler extends AbstractExecutionHandler<Dyna
     private static final String OUTPUT_DUMP_FILENAME = "outputState.dmp";
     private static final String ERROR_FILENAME = "dyn_fs_0.err";
     private static final String DYNAWO_ERROR_PATTERN = "DYN Error: ";
+    private static final Cleaner CURVES_FILES_CLEANER = Cleaner.create();
 
     private final DynawoSimulationContext context;
     private final Command command;
+    private final NetworkExportCache networkExportCache;
+    private final InputFilesStore inputFilesStore;
+    // true when the working directory is kept after the simulation
+    private final boolean debug;
     private final ReportNode reportNode;
 
-    private final List<TimelineEvent> timeline = new ArrayList<>();
-    private final Map<String, DoubleTimeSeries> curves = new LinkedHashMap<>();
-    private final Map<String, Double> fsv = new LinkedHashMap<>();
+    private final CompactTimeline.Builder<TimelineEvent> timelineBuilder = CompactTimeline.builder(TimelineEvent::new);
+    private Map<String, DoubleTimeSeries> curves = new LinkedHashMap<>();
+    private final FinalStateValues fsv = new FinalStateValues();
+    private Map<String, Duration> inputFilesTimings = Map.of();
+    private final Map<PostProcessingStage, Duration> timings = new EnumMap<>(PostProcessingStage.class);
     private DynamicSimulationResult.Status status = DynamicSimulationResult.Status.SUCCESS;
     private String statusText = "";
+    // set when the network is exported, null otherwise
+    private LoadsMergePlan loadsMergePlan;
+    // set when the network is updated in delta mode, null otherwise
+    private NetworkUpdateSummary networkUpdateSummary;
 
-    public DynawoSimulationHandler(DynawoSimulationContext context, Command command, ReportNode reportNode) {
+    public DynawoSimulationHandler(DynawoSimulationContext context, Command command, NetworkExportCache networkExportCache,
+                                   InputFilesStore inputFilesStore, ReportNode reportNode) {
+        this(context, command, networkExportCache, inputFilesStore, true, reportNode);
+    }
+
+    /**
+     * @param debug true if the working directory is kept after the simulation, its output files being then copied
+     *              rather than moved out of it
+     */
+    public DynawoSimulationHandler(DynawoSimulationContext context, Command command, NetworkExportCache networkExportCache,
+                                   InputFilesStore inputFilesStore, boolean debug, ReportNode reportNode) {
         this.context = context;
         this.command = command;
+        this.networkExportCache = networkExportCache;
+        this.inputFilesStore = inputFilesStore;
+        this.debug = debug;
         this.reportNode = reportNode;
     }
 
     @Override
     public List<CommandExecution> before(Path workingDir) throws IOException {
+        context.getNetwork().getVariantManager().setWorkingVariant(context.getWorkingVariantId());
         Path basePath = workingDir.resolve(OUTPUTS_FOLDER);
         deleteExistingFile(basePath, FINAL_STATE_FOLDER, OUTPUT_IIDM_FILENAME);
         deleteExistingFile(basePath, CURVES_OUTPUT_PATH, CURVES_FILENAME);
@@ -86,34 +121,92 @@ public final class DynawoSimulationHandler extends AbstractExecutionHandler<Dyna
     public DynamicSimulationResult after(Path workingDir, ExecutionReport report) throws IOException {
 
         Path outputsFolder = workingDir.resolve(OUTPUTS_FOLDER);
-        context.getNetwork().getVariantManager().setWorkingVariant(context.getWorkingVariantId());
-        setDynawoLog(outputsFolder, context.getDynawoSimulationParameters().getSpecificLogs());
-        setTimeline(outputsFolder);
-        if (context.withCurveVariables()) {
-            setCurves(outputsFolder);
+        context.setResultsWorkingVariant();
+        DynawoSimulationParameters parameters = context.getDynawoSimulationParameters();
+        Executor executor = parameters.getPostProcessingExecutor().orElse(Runnable::run);
+        Optional<String> simulationError = readSimulationError(workingDir);
+
+        // the outputs are parsed concurrently, only the network update needs the simulated network
+        List<CompletableFuture<?>> stages = new ArrayList<>();
+        stages.add(runStage(PostProcessingStage.LOGS, executor, () -> setDynawoLog(outputsFolder, parameters.getSpecificLogs())));
+        stages.add(runStage(PostProcessingStage.TIMELINE, executor, () -> setTimeline(outputsFolder)));
+        CompletableFuture<Optional<String>> curvesStage = context.withCurveVariables()
+                ? runStage(PostProcessingStage.CURVES, executor, () -> setCurves(outputsFolder, workingDir.toAbsolutePath().getParent()))
+                : CompletableFuture.completedFuture(Optional.empty());
+        CompletableFuture<Optional<String>> fsvStage = context.withFsvVariables()
+                ? runStage(PostProcessingStage.FINAL_STATE_VALUES, executor, () -> setFinalStateValues(outputsFolder))
+                : CompletableFuture.completedFuture(Optional.empty());
+        Path outputNetworkFile = workingDir.resolve(OUTPUT_IIDM_FILENAME_PATH);
+        CompletableFuture<OutputNetworkResults> outputNetworkStage = simulationError.isEmpty() && Files.exists(outputNetworkFile)
+                ? runStage(PostProcessingStage.OUTPUT_NETWORK_READ, executor, () -> OutputNetworkResults.read(outputNetworkFile))
+                : CompletableFuture.completedFuture(null);
+        stages.add(curvesStage);
+        stages.add(fsvStage);
+        stages.add(outputNetworkStage);
+        try {
+            CompletableFuture.allOf(stages.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
         }
-        if (context.withFsvVariables()) {
-            setFinalStateValues(outputsFolder);
+
+        curvesStage.join().ifPresent(this::setFailure);
+        fsvStage.join().ifPresent(this::setFailure);
+        if (simulationError.isPresent()) {
+            setFailure(simulationError.get());
+        } else {
+            setSuccessOutputs(workingDir, outputsFolder, outputNetworkStage.join());
         }
+        LOGGER.debug("Simulation outputs processed: {}", timings);
+        return new DynawoSimulationResult(status, statusText, curves, fsv, timelineBuilder.build(), inputFilesTimings, timings, networkUpdateSummary);
+    }
+
+    /**
+     * @return the error of the simulation, if any
+     */
+    private Optional<String> readSimulationError(Path workingDir) throws IOException {
         Path errorFile = workingDir.resolve(ERROR_FILENAME);
         if (Files.exists(errorFile)) {
-            Matcher errorMatcher = Pattern.compile(DYNAWO_ERROR_PATTERN + "(.*)").matcher(Files.readString(errorFile));
-            if (!errorMatcher.find()) {
-                setSuccessOutputs(workingDir, outputsFolder);
-            } else {
-                status = DynamicSimulationResult.Status.FAILURE;
-                statusText = errorMatcher.group().substring(DYNAWO_ERROR_PATTERN.length());
-            }
-        } else {
-            LOGGER.warn("Error file not found");
-            status = DynamicSimulationResult.Status.FAILURE;
-            statusText = "Dynawo error log file not found";
+            return new ErrorFileScanner(DYNAWO_ERROR_PATTERN, context.getDynawoSimulationParameters().getErrorContextLines())
+                    .scan(errorFile);
         }
-        return new DynamicSimulationResultImpl(status, statusText, curves, fsv, timeline);
+        LOGGER.warn("Error file not found");
+        return Optional.of("Dynawo error log file not found");
+    }
+
+    private <T> CompletableFuture<T> runStage(PostProcessingStage stage, Executor executor, StageTask<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                return task.run();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            } finally {
+                recordTiming(stage, Duration.ofNanos(System.nanoTime() - start));
+            }
+        }, executor);
+    }
+
+    private CompletableFuture<Void> runStage(PostProcessingStage stage, Executor executor, VoidStageTask task) {
+        return runStage(stage, executor, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    private synchronized void recordTiming(PostProcessingStage stage, Duration duration) {
+        timings.put(stage, duration);
+    }
+
+    private void setFailure(String failureText) {
+        status = DynamicSimulationResult.Status.FAILURE;
+        statusText = failureText;
     }
 
-    private void setSuccessOutputs(Path workingDir, Path outputsFolder) throws IOException {
-        updateNetwork(workingDir);
+    private void setSuccessOutputs(Path workingDir, Path outputsFolder, OutputNetworkResults outputNetworkResults) throws IOException {
+        updateNetwork(outputNetworkResults);
         DumpFileParameters dumpFileParameters = context.getDynawoSimulationParameters().getDumpFileParameters();
         if (dumpFileParameters.exportDumpFile()) {
             setDumpFile(outputsFolder, dumpFileParameters.dumpFileFolder(), workingDir.getFileName());
@@ -126,7 +219,7 @@ public final class DynawoSimulationHandler extends AbstractExecutionHandler<Dyna
             Path logFile = logFolder.resolve(LOGS_FILENAME);
             if (Files.exists(logFile)) {
                 ReportNode logReportNode = CommonReports.createDynawoLogReportNode(reportNode);
-                new CsvLogParser().parse(logFile).forEach(e -> CommonReports.reportLogEntry(logReportNode, e));
+                new CsvLogParser().parse(logFile, e -> CommonReports.reportLogEntry(logReportNode, e));
             }
             for (DynawoSimulationParameters.SpecificLog specificLog : specificLogs) {
                 Path specificLogFile = logFolder.resolve(specificLog.getFileName());
@@ -140,14 +233,23 @@ public final class DynawoSimulationHandler extends AbstractExecutionHandler<Dyna
         }
     }
 
-    private void updateNetwork(Path workDir) {
-        Path outputNetworkFile = workDir.resolve(OUTPUT_IIDM_FILENAME_PATH);
-        if (Files.exists(outputNetworkFile)) {
-            NetworkResultsUpdater.update(context.getNetwork(), NetworkSerDe.read(outputNetworkFile), context.getDynawoSimulationParameters().isMergeLoads());
+    private void updateNetwork(OutputNetworkResults outputNetworkResults) {
+        if (outputNetworkResults != null) {
+            long start = System.nanoTime();
+            DynawoSimulationParameters parameters = context.getDynawoSimulationParameters();
+            if (parameters.isDeltaNetworkUpdate()) {
+                networkUpdateSummary = loadsMergePlan != null
+                        ? outputNetworkResults.applyChanges(context.getNetwork(), loadsMergePlan, parameters.isIndexedNetworkUpdate())
+                        : outputNetworkResults.applyChanges(context.getNetwork(), parameters.isMergeLoads(), parameters.isIndexedNetworkUpdate());
+            } else if (loadsMergePlan != null) {
+                outputNetworkResults.apply(context.getNetwork(), loadsMergePlan, parameters.isIndexedNetworkUpdate());
+            } else {
+                outputNetworkResults.apply(context.getNetwork(), parameters.isMergeLoads(), parameters.isIndexedNetworkUpdate());
+            }
+            recordTiming(PostProcessingStage.NETWORK_UPDATE, Duration.ofNanos(System.nanoTime() - start));
         } else {
             LOGGER.warn("Output IIDM file not found");
-            status = DynamicSimulationResult.Status.FAILURE;
-            statusText = "Dynawo Output IIDM file not found";
+            setFailure("Dynawo Output IIDM file not found");
         }
     }
 
@@ -164,47 +266,95 @@ public final class DynawoSimulationHandler extends AbstractExecutionHandler<Dyna
         ExportMode exportMode = context.getDynawoSimulationParameters().getTimelineExportMode();
         Path timelineFile = outputsFolder.resolve(TIMELINE_FOLDER).resolve(TIMELINE_FILENAME + exportMode.getFileExtension());
         if (Files.exists(timelineFile)) {
-            TimeLineParser.parse(timelineFile, exportMode)
-                        .forEach(e -> timeline.add(new TimelineEvent(e.time(), e.modelName(), e.message())));
+            TimeLineParser.parse(timelineFile, exportMode, timelineBuilder);
         } else {
             LOGGER.warn("Timeline file not found");
         }
     }
 
-    private void setCurves(Path workingDir) throws IOException {
+    /**
+     * @param localDir directory holding the working directory, where lazily loaded curves are moved
+     */
+    private Optional<String> setCurves(Path workingDir, Path localDir) throws IOException {
         Path curvesPath = workingDir.resolve(CURVES_OUTPUT_PATH).resolve(CURVES_FILENAME);
         if (Files.exists(curvesPath)) {
             if (Files.size(curvesPath) > 0) {
-                TimeSeries.parseCsv(curvesPath, new TimeSeriesCsvConfig(TimeSeriesConstants.DEFAULT_SEPARATOR, false,
-                                TimeSeries.TimeFormat.FRACTIONS_OF_SECOND, true)).values()
-                        .forEach(l -> l.forEach(curve -> curves.put(curve.getMetadata().getName(), (DoubleTimeSeries) curve)));
+                DynawoSimulationParameters parameters = context.getDynawoSimulationParameters();
+                CsvCurvesParser parser = new CsvCurvesParser(new CurvesFilter(parameters.getCurvesNamePatterns(),
+                        parameters.getCurvesStartTime().orElse(Double.NEGATIVE_INFINITY),
+                        parameters.getCurvesStopTime().orElse(Double.POSITIVE_INFINITY)));
+                Optional<Consumer<DoubleTimeSeries>> curvesSink = parameters.getCurvesSink();
+                if (curvesSink.isPresent()) {
+                    int curvesCount = parser.parse(curvesPath, curvesSink.get());
+                    LOGGER.debug("{} curves pushed to sink", curvesCount);
+                } else {
+                    curves = parameters.isCurvesLazyLoading() ? parseLazily(parser, curvesPath, localDir, debug) : parser.parse(curvesPath);
+                }
+                return Optional.empty();
+            }
+            LOGGER.warn("CRV file is empty");
+            return Optional.of("CRV file is empty");
+        }
+        LOGGER.warn("Curves folder not found");
+        return Optional.of("Dynawo curves folder not found");
+    }
+
+    /**
+     * Maps the curves file moved out of the working directory, which is deleted after the simulation, and owned by the
+     * returned curves: the file is deleted once the curves are unreachable. The file is copied instead when the
+     * working directory is kept, so that it is left untouched.
+     */
+    private static Map<String, DoubleTimeSeries> parseLazily(CsvCurvesParser parser, Path curvesPath, Path localDir, boolean debug) throws IOException {
+        Path curvesFile = Files.createTempFile(localDir, "curves", ".csv");
+        try {
+            if (debug) {
+                Files.copy(curvesPath, curvesFile, StandardCopyOption.REPLACE_EXISTING);
             } else {
-                LOGGER.warn("CRV file is empty");
-                status = DynamicSimulationResult.Status.FAILURE;
-                statusText = "CRV file is empty";
+                Files.move(curvesPath, curvesFile, StandardCopyOption.REPLACE_EXISTING);
             }
-        } else {
-            LOGGER.warn("Curves folder not found");
-            status = DynamicSimulationResult.Status.FAILURE;
-            statusText = "Dynawo curves folder not found";
+            Map<String, DoubleTimeSeries> lazyCurves = parser.parseLazily(curvesFile);
+            CURVES_FILES_CLEANER.register(lazyCurves, () -> deleteCurvesFile(curvesFile));
+            return lazyCurves;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(curvesFile);
+            throw e;
         }
     }
 
-    private void setFinalStateValues(Path workingDir) {
+    private static void deleteCurvesFile(Path curvesFile) {
+        try {
+            Files.deleteIfExists(curvesFile);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to delete curves file {}: {}", curvesFile, e.getMessage());
+        }
+    }
+
+    private Optional<String> setFinalStateValues(Path workingDir) {
         Path fsvPath = workingDir.resolve(FSV_OUTPUT_PATH).resolve(FSV_OUTPUT_FILENAME);
         if (Files.exists(fsvPath)) {
-            new CsvFsvParser(';').parse(fsvPath).forEach(e -> fsv.put(e.model() + "_" + e.variable(), e.value()));
-        } else {
-            LOGGER.warn("Final state values folder not found");
-            status = DynamicSimulationResult.Status.FAILURE;
-            statusText = "Dynawo final state values folder not found";
+            new CsvFsvParser(';').parse(fsvPath, e -> fsv.add(e.model(), e.variable(), e.value()));
+            return Optional.empty();
         }
+        LOGGER.warn("Final state values folder not found");
+        return Optional.of("Dynawo final state values folder not found");
     }
 
     private void writeInputFiles(Path workingDir) throws IOException {
-        NetworkExporter.writeIidm(context.getNetwork(), workingDir.resolve(NETWORK_FILENAME),
-                context.getCurrentDynawoVersion(), context.getDynawoSimulationParameters().isMergeLoads());
-        JobsXml.write(workingDir, context);
-        DynawoFilesUtils.writeInputFiles(workingDir, context);
+        inputFilesTimings = DynawoFilesUtils.writeInputFiles(workingDir, context, Map.of(
+                NETWORK_FILENAME, () -> loadsMergePlan = NetworkExporter.writeIidm(context.getNetwork(), workingDir.resolve(NETWORK_FILENAME),
+                        context.getCurrentDynawoVersion(), context.getDynawoSimulationParameters().isMergeLoads(), networkExportCache),
+                JOBS_FILENAME, () -> JobsXml.write(workingDir, context)),
+                inputFilesStore);
+        DynawoSimulationReports.reportInputFilesStore(reportNode, inputFilesStore);
+    }
+
+    @FunctionalInterface
+    private interface StageTask<T> {
+        T run() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface VoidStageTask {
+        void run() throws IOException;
     }
 }
@@ -18,7 +18,9 @@ import com.powsybl.commons.parameters.ParameterType;
 import com.powsybl.dynamicsimulation.DynamicSimulationParameters;
 import com.powsybl.dynawo.commons.ExportMode;
 import com.powsybl.dynawo.parameters.ParametersSet;
+import com.powsybl.dynawo.parameters.ParametersSetLibrary;
 import com.powsybl.dynawo.xml.ParametersXml;
+import com.powsybl.timeseries.DoubleTimeSeries;
 
 import java.io.InputStream;
 import java.nio.file.FileSystem;
@@ -26,6 +28,8 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -36,7 +40,7 @@ import static com.powsybl.dynawo.commons.ParametersUtils.*;
  * @author Marcos de Miguel {@literal <demiguelm at aia.es>}
  * @author Florian Dupuy {@literal <florian.dupuy at rte-france.com>}
  */
-@JsonIgnoreProperties(value = { "criteriaFileName" })
+@JsonIgnoreProperties(value = { "criteriaFileName", "modelParametersIds", "curvesSink", "postProcessingExecutor" })
 public class DynawoSimulationParameters extends AbstractExtension<DynamicSimulationParameters> {
 
     public static final String MODULE_SPECIFIC_PARAMETERS = "dynawo-simulation-default-parameters";
@@ -48,9 +52,13 @@ public class DynawoSimulationParameters extends AbstractExtension<DynamicSimulat
     public static final String DEFAULT_NETWORK_PAR_ID = "Network";
     public static final String DEFAULT_SOLVER_PAR_ID = "SIM";
     public static final boolean DEFAULT_MERGE_LOADS = false;
+    public static final boolean DEFAULT_INDEXED_NETWORK_UPDATE = false;
+    public static final boolean DEFAULT_DELTA_NETWORK_UPDATE = false;
     public static final double DEFAULT_PRECISION = 1e-6;
     public static final ExportMode DEFAULT_TIMELINE_EXPORT_MODE = ExportMode.XML;
+    public static final boolean DEFAULT_CURVES_LAZY_LOADING = false;
     public static final LogLevel DEFAULT_LOG_LEVEL_FILTER = LogLevel.INFO;
+    public static final int DEFAULT_ERROR_CONTEXT_LINES = 0;
 
     private static final String PARAMETERS_FILE = "parametersFile";
     private static final String NETWORK_PARAMETERS_FILE = "network.parametersFile";
@@ -59,11 +67,19 @@ public class DynawoSimulationParameters extends AbstractExtension<DynamicSimulat
     private static final String SOLVER_PARAMETERS_ID = "solver.parametersId";
     private static final String SOLVER_TYPE = "solver.type";
     private static final String MERGE_LOADS = "mergeLoads";
+    private static final String INDEXED_NETWORK_UPDATE = "indexedNetworkUpdate";
+    private static final String DELTA_NETWORK_UPDATE = "deltaNetworkUpdate";
+    private static final String RESULT_VARIANT_ID = "resultVariantId";
     private static final String MODEL_SIMPLIFIERS = "modelSimplifiers";
     private static final String PRECISION_PROPERTY_NAME = "precision";
     private static final String TIMELINE_EXPORT_MODE = "timeline.exportMode";
+    private static final String CURVES_LAZY_LOADING = "curves.lazyLoading";
+    private static final String CURVES_NAME_PATTERNS = "curves.namePatterns";
+    private static final String CURVES_START_TIME = "curves.startTime";
+    private static final String CURVES_STOP_TIME = "curves.stopTime";
     private static final String LOG_LEVEL_FILTER = "log.levelFilter";
     private static final String LOG_SPECIFIC_LOGS = "log.specificLogs";
+    private static final String LOG_ERROR_CONTEXT_LINES = "log.errorContextLines";
     private static final String CRITERIA_FILE = "criteria.file";
     private static final String ADDITIONAL_MODELS_FILE = "additionalModelsFile";
 
@@ -114,12 +130,22 @@ public class DynawoSimulationParameters extends AbstractExtension<DynamicSimulat
     private ParametersSet solverParameters;
     private SolverType solverType = DEFAULT_SOLVER_TYPE;
     private boolean mergeLoads = DEFAULT_MERGE_LOADS;
+    private boolean indexedNetworkUpdate = DEFAULT_INDEXED_NETWORK_UPDATE;
+    private boolean deltaNetworkUpdate = DEFAULT_DELTA_NETWORK_UPDATE;
+    private String resultVariantId = null;
     private Set<String> modelSimplifiers = new LinkedHashSet<>();
     private DumpFileParameters dumpFileParameters = DumpFileParameters.createDefaultDumpFileParameters();
     private double precision = DEFAULT_PRECISION;
     private ExportMode timelineExportMode = DEFAULT_TIMELINE_EXPORT_MODE;
+    private boolean curvesLazyLoading = DEFAULT_CURVES_LAZY_LOADING;
+    private List<String> curvesNamePatterns = new ArrayList<>();
+    private Double curvesStartTime = null;
+    private Double curvesStopTime = null;
+    private Consumer<DoubleTimeSeries> curvesSink = null;
+    private Executor postProcessingExecutor = null;
     private LogLevel logLevelFilter = DEFAULT_LOG_LEVEL_FILTER;
     private EnumSet<SpecificLog> specificLogs = EnumSet.noneOf(SpecificLog.class);
+    private int errorContextLines = DEFAULT_ERROR_CONTEXT_LINES;
     private Path criteriaFilePath = null;
     private Path additionalModelsPath = null;
 
@@ -131,11 +157,19 @@ public class DynawoSimulationParameters extends AbstractExtension<DynamicSimulat
             new Parameter(SOLVER_PARAMETERS_ID, ParameterType.STRING, "Solver parameters set id", DEFAULT_SOLVER_PAR_ID),
             new Parameter(SOLVER_TYPE, ParameterType.STRING, "Solver used in the simulation", DEFAULT_SOLVER_TYPE.toString(), getEnumPossibleValues(SolverType.class)),
             new Parameter(MERGE_LOADS, ParameterType.BOOLEAN, "Merge loads connected to same bus", DEFAULT_MERGE_LOADS),
+            new Parameter(INDEXED_NETWORK_UPDATE, ParameterType.BOOLEAN, "Index the network equipments by type before updating them with the simulation results", DEFAULT_INDEXED_NETWORK_UPDATE),
+            new Parameter(DELTA_NETWORK_UPDATE, ParameterType.BOOLEAN, "Only update the network values differing from the simulation results and report the changes", DEFAULT_DELTA_NETWORK_UPDATE),
+            new Parameter(RESULT_VARIANT_ID, ParameterType.STRING, "Id of the variant the simulation results are written into", null),
             new Parameter(MODEL_SIMPLIFIERS, ParameterType.STRING, "Simplifiers used before macro connection computation", null),
             new Parameter(PRECISION_PROPERTY_NAME, ParameterType.DOUBLE, "Simulation step precision", DEFAULT_PRECISION),
             new Parameter(TIMELINE_EXPORT_MODE, ParameterType.STRING, "Timeline export file extension", DEFAULT_TIMELINE_EXPORT_MODE.toString(), getEnumPossibleValues(ExportMode.class)),
+            new Parameter(CURVES_LAZY_LOADING, ParameterType.BOOLEAN, "Parse each curve on first access", DEFAULT_CURVES_LAZY_LOADING),
+            new Parameter(CURVES_NAME_PATTERNS, ParameterType.STRING, "Glob patterns of the curves names to extract", null),
+            new Parameter(CURVES_START_TIME, ParameterType.DOUBLE, "Start time of the curves window to extract", Double.NEGATIVE_INFINITY),
+            new Parameter(CURVES_STOP_TIME, ParameterType.DOUBLE, "Stop time of the curves window to extract", Double.POSITIVE_INFINITY),
             new Parameter(LOG_LEVEL_FILTER, ParameterType.STRING, "Dynawo log level", DEFAULT_LOG_LEVEL_FILTER.toString(), getEnumPossibleValues(LogLevel.class)),
             new Parameter(LOG_SPECIFIC_LOGS, ParameterType.STRING, "List specific logs returned", null, getEnumPossibleValues(SpecificLog.class)),
+            new Parameter(LOG_ERROR_CONTEXT_LINES, ParameterType.INTEGER, "Number of error file lines following the Dynawo error added to the status text", DEFAULT_ERROR_CONTEXT_LINES),
             new Parameter(CRITERIA_FILE, ParameterType.STRING, "Simulation criteria file path", null),
             new Parameter(ADDITIONAL_MODELS_FILE, ParameterType.STRING, "Additional models file path", null)),
             DumpFileParameters.SPECIFIC_PARAMETERS.stream()).toList();
@@ -161,31 +195,39 @@ public class DynawoSimulationParameters extends AbstractExtension<DynamicSimulat
             c.getOptionalStringProperty(PARAMETERS_FILE).ifPresent(f -> {
                 Path path = resolveFilePath(f, platformConfig, fileSystem);
                 if (Files.exists(path)) {
-                    parameters.setModelsParameters(ParametersXml.load(path));
+                    parameters.setModelsParameters(ParametersSetLibrary.load(path));
                 }
             });
             c.getOptionalStringProperty(NETWORK_PARAMETERS_FILE).ifPresent(f -> {
                 Path path = resolveFilePath(f, platformConfig, fileSystem);
                 if (Files.exists(path)) {
-                    parameters.setNetworkParameters(ParametersXml.load(path,
+                    parameters.setNetworkParameters(ParametersSetLibrary.load(path).getParametersSet(
                             c.getOptionalStringProperty(NETWORK_PARAMETERS_ID).orElse(DEFAULT_NETWORK_PAR_ID)));
                 }
             });
             c.getOptionalStringProperty(SOLVER_PARAMETERS_FILE).ifPresent(f -> {
                 Path path = resolveFilePath(f, platformConfig, fileSystem);
                 if (Files.exists(path)) {
-                    parameters.setSolverParameters(ParametersXml.load(path,
+                    parameters.setSolverParameters(ParametersSetLibrary.load(path).getParametersSet(
                             c.getOptionalStringProperty(SOLVER_PARAMETERS_ID).orElse(DEFAULT_SOLVER_PAR_ID)));
                 }
             });
             parameters.setDumpFileParameters(DumpFileParameters.createDumpFileParametersFromConfig(c, f -> resolveFilePath(f, platformConfig, fileSystem)));
             c.getOptionalEnumProperty(SOLVER_TYPE, SolverType.class).ifPresent(parameters::setSolverType);
             c.getOptionalBooleanProperty(MERGE_LOADS).ifPresent(parameters::setMergeLoads);
+            c.getOptionalBooleanProperty(INDEXED_NETWORK_UPDATE).ifPresent(parameters::setIndexedNetworkUpdate);
+            c.getOptionalBooleanProperty(DELTA_NETWORK_UPDATE).ifPresent(parameters::setDeltaNetworkUpdate);
+            c.getOptionalStringProperty(RESULT_VARIANT_ID).ifPresent(parameters::setResultVariantId);
             c.getOptionalStringListProperty(MODEL_SIMPLIFIERS).ifPresent(parameters::setModelSimplifiers);
             c.getOptionalDoubleProperty(PRECISION_PROPERTY_NAME).ifPresent(parameters::setPrecision);
             c.getOptionalEnumProperty(TIMELINE_EXPORT_MODE, ExportMode.class).ifPresent(parameters::setTimelineExportMode);
+            c.getOptionalBooleanProperty(CURVES_LAZY_LOADING).ifPresent(parameters::setCurvesLazyLoading);
+            c.getOptionalStringListProperty(CURVES_NAME_PATTERNS).ifPresent(parameters::setCurvesNamePatterns);
+            c.getOptionalDoubleProperty(CURVES_START_TIME).ifPresent(parameters::setCurvesStartTime);
+            c.getOptionalDoubleProperty(CURVES_STOP_TIME).ifPresent(parameters::setCurvesStopTime);
             c.getOptionalEnumProperty(LOG_LEVEL_FILTER, LogLevel.class).ifPresent(parameters::setLogLevelFilter);
             c.getOptionalEnumSetProperty(LOG_SPECIFIC_LOGS, SpecificLog.class).ifPresent(parameters::setSpecificLogs);
+            c.getOptionalIntProperty(LOG_ERROR_CONTEXT_LINES).ifPresent(parameters::setErrorContextLines);
             c.getOptionalStringProperty(CRITERIA_FILE).ifPresent(cf -> parameters.setCriteriaFilePath(resolveFilePath(cf, platformConfig, fileSystem)));
             c.getOptionalStringProperty(ADDITIONAL_MODELS_FILE).ifPresent(am -> parameters.setAdditionalModelsPath(resolveFilePath(am, platformConfig, fileSystem)));
         });
@@ -228,32 +270,41 @@ public class DynawoSimulationParameters extends AbstractExtension<DynamicSimulat
         Optional.ofNullable(properties.get(PARAMETERS_FILE)).ifPresent(prop -> {
             Path path = fileSystem.getPath(prop);
             if (Files.exists(path)) {
-                setModelsParameters(ParametersXml.load(path));
+                setModelsParameters(ParametersSetLibrary.load(path));
             }
         });
         Optional.ofNullable(properties.get(NETWORK_PARAMETERS_FILE)).ifPresent(prop -> {
             Path path = fileSystem.getPath(prop);
             if (Files.exists(path)) {
-                setNetworkParameters(ParametersXml.load(path,
+                setNetworkParameters(ParametersSetLibrary.load(path).getParametersSet(
                         Optional.ofNullable(properties.get(NETWORK_PARAMETERS_ID)).orElse(DEFAULT_NETWORK_PAR_ID)));
             }
         });
         Optional.ofNullable(properties.get(SOLVER_PARAMETERS_FILE)).ifPresent(prop -> {
             Path path = fileSystem.getPath(prop);
             if (Files.exists(path)) {
-                setSolverParameters(ParametersXml.load(path,
+                setSolverParameters(ParametersSetLibrary.load(path).getParametersSet(
                         Optional.ofNullable(properties.get(SOLVER_PARAMETERS_ID)).orElse(DEFAULT_SOLVER_PAR_ID)));
             }
         });
         Optional.ofNullable(properties.get(SOLVER_TYPE)).ifPresent(prop -> setSolverType(SolverType.valueOf(prop)));
         Optional.ofNullable(properties.get(MERGE_LOADS)).ifPresent(prop -> setMergeLoads(Boolean.parseBoolean(prop)));
+        Optional.ofNullable(properties.get(INDEXED_NETWORK_UPDATE)).ifPresent(prop -> setIndexedNetworkUpdate(Boolean.parseBoolean(prop)));
+        Optional.ofNullable(properties.get(DELTA_NETWORK_UPDATE)).ifPresent(prop -> setDeltaNetworkUpdate(Boolean.parseBoolean(prop)));
+        Optional.ofNullable(properties.get(RESULT_VARIANT_ID)).ifPresent(this::setResultVariantId);
         Optional.ofNullable(properties.get(MODEL_SIMPLIFIERS)).ifPresent(prop ->
                 setModelSimplifiers(Stream.of(prop.split(PROPERTY_LIST_DELIMITER)).map(String::trim).collect(Collectors.toSet())));
         Optional.ofNullable(properties.get(PRECISION_PROPERTY_NAME)).ifPresent(prop -> setPrecision(Double.parseDouble(prop)));
         Optional.ofNullable(properties.get(TIMELINE_EXPORT_MODE)).ifPresent(prop -> setTimelineExportMode(ExportMode.valueOf(prop)));
+        Optional.ofNullable(properties.get(CURVES_LAZY_LOADING)).ifPresent(prop -> setCurvesLazyLoading(Boolean.parseBoolean(prop)));
+        Optional.ofNullable(properties.get(CURVES_NAME_PATTERNS)).ifPresent(prop ->
+                setCurvesNamePatterns(Stream.of(prop.split(PROPERTY_LIST_DELIMITER)).map(String::trim).toList()));
+        Optional.ofNullable(properties.get(CURVES_START_TIME)).ifPresent(prop -> setCurvesStartTime(Double.parseDouble(prop)));
+        Optional.ofNullable(properties.get(CURVES_STOP_TIME)).ifPresent(prop -> setCurvesStopTime(Double.parseDouble(prop)));
         Optional.ofNullable(properties.get(LOG_LEVEL_FILTER)).ifPresent(prop -> setLogLevelFilter(LogLevel.valueOf(prop)));
         Optional.ofNullable(properties.get(LOG_SPECIFIC_LOGS)).ifPresent(prop ->
                 setSpecificLogs(Stream.of(prop.split(PROPERTY_LIST_DELIMITER)).map(o -> SpecificLog.valueOf(o.trim())).collect(Collectors.toSet())));
+        Optional.ofNullable(properties.get(LOG_ERROR_CONTEXT_LINES)).ifPresent(prop -> setErrorContextLines(Integer.parseInt(prop)));
         Optional.ofNullable(properties.get(CRITERIA_FILE)).ifPresent(prop -> setCriteriaFilePath(prop, fileSystem));
         Optional.ofNullable(properties.get(ADDITIONAL_MODELS_FILE)).ifPresent(prop -> setAdditionalModelsPath(prop, fileSystem));
         dumpFileParameters = DumpFileParameters.updateDumpFileParametersFromPropertiesMap(properties, dumpFileParameters, fileSystem::getPath);
@@ -266,15 +317,25 @@ public class DynawoSimulationParameters extends AbstractExtension<DynamicSimulat
         addNotNullEntry("solverParameters", solverParameters, properties::put);
         addNotNullEntry(SOLVER_TYPE, solverType, properties::put);
         addNotNullEntry(MERGE_LOADS, mergeLoads, properties::put);
+        addNotNullEntry(INDEXED_NETWORK_UPDATE, indexedNetworkUpdate, properties::put);
+        addNotNullEntry(DELTA_NETWORK_UPDATE, deltaNetworkUpdate, properties::put);
+        addNotNullEntry(RESULT_VARIANT_ID, resultVariantId, properties::put);
         if (!modelSimplifiers.isEmpty()) {
             properties.put(MODEL_SIMPLIFIERS, String.join(PROPERTY_LIST_DELIMITER, modelSimplifiers));
         }
         addNotNullEntry(PRECISION_PROPERTY_NAME, precision, properties::put);
         addNotNullEntry(TIMELINE_EXPORT_MODE, timelineExportMode, properties::put);
+        addNotNullEntry(CURVES_LAZY_LOADING, curvesLazyLoading, properties::put);
+        if (!curvesNamePatterns.isEmpty()) {
+            properties.put(CURVES_NAME_PATTERNS, String.join(PROPERTY_LIST_DELIMITER, curvesNamePatterns));
+        }
+        addNotNullEntry(CURVES_START_TIME, curvesStartTime, properties::put);
+        addNotNullEntry(CURVES_STOP_TIME, curvesStopTime, properties::put);
         addNotNullEntry(LOG_LEVEL_FILTER, logLevelFilter, properties::put);
         if (!specificLogs.isEmpty()) {
             properties.put(LOG_SPECIFIC_LOGS, String.join(PROPERTY_LIST_DELIMITER, specificLogs.stream().map(SpecificLog::name).toList()));
         }
+        addNotNullEntry(LOG_ERROR_CONTEXT_LINES, errorContextLines, properties::put);
         addNotNullEntry(CRITERIA_FILE, criteriaFilePath, properties::put);
         addNotNullEntry(ADDITIONAL_MODELS_FILE, additionalModelsPath, properties::put);
         dumpFileParameters.addParametersToMap((k, v) -> addNotNullEntry(k, v, properties::put));
@@ -293,6 +354,13 @@ public class DynawoSimulationParameters extends AbstractExtension<DynamicSimulat
         return parametersSet;
     }
 
+    /**
+     * Returns the models parameters sets ids, without parsing the sets not accessed yet
+     */
+    public Set<String> getModelParametersIds() {
+        return Collections.unmodifiableSet(modelsParameters.keySet());
+    }
+
     @JsonGetter("modelsParameters")
     public Collection<ParametersSet> getModelParameters() {
         return modelsParameters.values();
@@ -305,6 +373,14 @@ public class DynawoSimulationParameters extends AbstractExtension<DynamicSimulat
         return this;
     }
 
+    /**
+     * Sets the models parameters from a parameters sets library, each set being parsed the first time it is accessed
+     */
+    public DynawoSimulationParameters setModelsParameters(ParametersSetLibrary library) {
+        modelsParameters = library.createParametersSetsMap();
+        return this;
+    }
+
     public DynawoSimulationParameters setModelsParameters(InputStream inputStream) {
         setModelsParameters(ParametersXml.load(inputStream));
         return this;
@@ -356,6 +432,46 @@ public class DynawoSimulationParameters extends AbstractExtension<DynamicSimulat
         return this;
     }
 
+    public boolean isIndexedNetworkUpdate() {
+        return indexedNetworkUpdate;
+    }
+
+    /**
+     * Indexes the network equipments by type in a single pass before updating them with the simulation results,
+     * instead of looking them up one by one, which is faster on remote or persistent network implementations
+     */
+    public DynawoSimulationParameters setIndexedNetworkUpdate(boolean indexedNetworkUpdate) {
+        this.indexedNetworkUpdate = indexedNetworkUpdate;
+        return this;
+    }
+
+    public boolean isDeltaNetworkUpdate() {
+        return deltaNetworkUpdate;
+    }
+
+    /**
+     * Only updates the network values differing from the simulation results, the changes being reported in
+     * {@link DynawoSimulationResult#getNetworkUpdateSummary()}
+     */
+    public DynawoSimulationParameters setDeltaNetworkUpdate(boolean deltaNetworkUpdate) {
+        this.deltaNetworkUpdate = deltaNetworkUpdate;
+        return this;
+    }
+
+    public Optional<String> getResultVariantId() {
+        return Optional.ofNullable(resultVariantId);
+    }
+
+    /**
+     * Writes the simulation results into the given variant, created from the working variant of the simulation if it
+     * does not exist and overwritten otherwise, instead of the working variant itself.
+     * The variant multi-thread access of the network has to be allowed.
+     */
+    public DynawoSimulationParameters setResultVariantId(String resultVariantId) {
+        this.resultVariantId = resultVariantId;
+        return this;
+    }
+
     public Set<String> getModelSimplifiers() {
         return modelSimplifiers;
     }
@@ -397,6 +513,85 @@ public class DynawoSimulationParameters extends AbstractExtension<DynamicSimulat
         return this;
     }
 
+    public boolean isCurvesLazyLoading() {
+        return curvesLazyLoading;
+    }
+
+    /**
+     * If true, the curves file is only indexed at the end of the simulation and each curve is parsed on first access
+     * from the memory-mapped file. The curves file is copied out of the working directory, next to it, and the copy is
+     * deleted once the curves are unreachable.
+     */
+    public DynawoSimulationParameters setCurvesLazyLoading(boolean curvesLazyLoading) {
+        this.curvesLazyLoading = curvesLazyLoading;
+        return this;
+    }
+
+    public List<String> getCurvesNamePatterns() {
+        return curvesNamePatterns;
+    }
+
+    /**
+     * Restricts the curves returned to the ones whose name matches one of the glob patterns, all the curves being
+     * returned if empty
+     */
+    public DynawoSimulationParameters setCurvesNamePatterns(List<String> curvesNamePatterns) {
+        this.curvesNamePatterns = new ArrayList<>(curvesNamePatterns);
+        return this;
+    }
+
+    public OptionalDouble getCurvesStartTime() {
+        return curvesStartTime != null ? OptionalDouble.of(curvesStartTime) : OptionalDouble.empty();
+    }
+
+    /**
+     * Restricts the curves returned to the values from the given time, or from the simulation start if null
+     */
+    public DynawoSimulationParameters setCurvesStartTime(Double curvesStartTime) {
+        this.curvesStartTime = curvesStartTime;
+        return this;
+    }
+
+    public OptionalDouble getCurvesStopTime() {
+        return curvesStopTime != null ? OptionalDouble.of(curvesStopTime) : OptionalDouble.empty();
+    }
+
+    /**
+     * Restricts the curves returned to the values until the given time, or until the simulation end if null
+     */
+    public DynawoSimulationParameters setCurvesStopTime(Double curvesStopTime) {
+        this.curvesStopTime = curvesStopTime;
+        return this;
+    }
+
+    public Optional<Consumer<DoubleTimeSeries>> getCurvesSink() {
+        return Optional.ofNullable(curvesSink);
+    }
+
+    /**
+     * Sets a sink receiving the curves at the end of the simulation, the curves being then not kept in the simulation
+     * result. The curves are pushed by blocks of rows while the curves file is read: each received series holds the
+     * values of one curve over consecutive rows, see
+     * {@link com.powsybl.dynawo.outputvariables.CsvCurvesParser#parse(Path, Consumer)}.
+     */
+    public DynawoSimulationParameters setCurvesSink(Consumer<DoubleTimeSeries> curvesSink) {
+        this.curvesSink = curvesSink;
+        return this;
+    }
+
+    public Optional<Executor> getPostProcessingExecutor() {
+        return Optional.ofNullable(postProcessingExecutor);
+    }
+
+    /**
+     * Sets the executor running concurrently the parsing of the simulation outputs, the outputs being parsed one after
+     * the other on the calling thread if null
+     */
+    public DynawoSimulationParameters setPostProcessingExecutor(Executor postProcessingExecutor) {
+        this.postProcessingExecutor = postProcessingExecutor;
+        return this;
+    }
+
     public LogLevel getLogLevelFilter() {
         return logLevelFilter;
     }
@@ -424,6 +619,21 @@ public class DynawoSimulationParameters extends AbstractExtension<DynamicSimulat
         return this;
     }
 
+    public int getErrorContextLines() {
+        return errorContextLines;
+    }
+
+    /**
+     * Sets the number of error file lines following the Dynawo error which are added to the failure status text
+     */
+    public DynawoSimulationParameters setErrorContextLines(int errorContextLines) {
+        if (errorContextLines < 0) {
+            throw new IllegalArgumentException("Negative error context lines count " + errorContextLines);
+        }
+        this.errorContextLines = errorContextLines;
+        return this;
+    }
+
     public Optional<Path> getCriteriaFilePath() {
         return Optional.ofNullable(criteriaFilePath);
     }
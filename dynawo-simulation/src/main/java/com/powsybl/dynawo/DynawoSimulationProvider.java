@@ -19,6 +19,8 @@ import com.powsybl.dynawo.builders.AdditionalModelConfigLoader;
 import com.powsybl.dynawo.builders.ModelConfigsHandler;
 import com.powsybl.dynawo.commons.DynawoVersion;
 import com.powsybl.dynawo.commons.ExecutionEnvironmentUtils;
+import com.powsybl.dynawo.commons.InputFilesStore;
+import com.powsybl.dynawo.commons.NetworkExportCache;
 import com.powsybl.dynawo.json.DynawoSimulationParametersSerializer;
 import com.powsybl.dynawo.models.utils.BlackBoxSupplierUtils;
 import com.powsybl.dynawo.commons.DynawoUtil;
@@ -110,11 +112,21 @@ public class DynawoSimulationProvider implements DynamicSimulationProvider {
                 .eventModels(BlackBoxSupplierUtils.getBlackBoxModelList(eventModelsSupplier, network, dsReportNode))
                 .outputVariables(outputVariablesSupplier.get(network))
                 .currentVersion(currentVersion)
+                .indentXmlFiles(config.isDebug())
                 .reportNode(reportNode)
                 .build();
 
         ExecutionEnvironment execEnvSimulation = ExecutionEnvironmentUtils.createSimulationEnv(config, WORKING_DIR_PREFIX, dumpDir);
-        return computationManager.execute(execEnvSimulation, new DynawoSimulationHandler(context, getCommand(config), reportNode));
+        context.claimResultsVariant();
+        try {
+            context.createResultsVariant();
+            return computationManager.execute(execEnvSimulation, new DynawoSimulationHandler(context, getCommand(config),
+                            NetworkExportCache.create(config), InputFilesStore.create(config), execEnvSimulation.isDebug(), reportNode))
+                    .whenComplete((result, e) -> context.releaseResultsVariant());
+        } catch (RuntimeException e) {
+            context.releaseResultsVariant();
+            throw e;
+        }
     }
 
     @Override
@@ -10,6 +10,7 @@ package com.powsybl.dynawo;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.commons.report.TypedValue;
 import com.powsybl.dynawo.commons.DynawoVersion;
+import com.powsybl.dynawo.commons.InputFilesStore;
 
 /**
  * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
@@ -113,6 +114,26 @@ public final class DynawoSimulationReports {
                 .add();
     }
 
+    public static void reportPrunedParametersSets(ReportNode reportNode, String parFile, int count) {
+        reportNode.newReportNode()
+                .withMessageTemplate("dynawo.dynasim.prunedParametersSets")
+                .withUntypedValue("parFile", parFile)
+                .withUntypedValue("count", count)
+                .withSeverity(TypedValue.INFO_SEVERITY)
+                .add();
+    }
+
+    public static void reportInputFilesStore(ReportNode reportNode, InputFilesStore inputFilesStore) {
+        if (inputFilesStore.isEnabled()) {
+            reportNode.newReportNode()
+                    .withMessageTemplate("dynawo.dynasim.inputFilesStore")
+                    .withUntypedValue("hits", inputFilesStore.getHitCount())
+                    .withUntypedValue("misses", inputFilesStore.getMissCount())
+                    .withSeverity(TypedValue.INFO_SEVERITY)
+                    .add();
+        }
+    }
+
     public static void reportFailedDynamicModelHandling(ReportNode reportNode, String modelName, String dynamicId, String equipmentType) {
         reportNode.newReportNode()
                 .withMessageTemplate("dynawo.dynasim.failedDynamicModelHandling")
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo;
+
+import com.powsybl.dynamicsimulation.DynamicSimulationResultImpl;
+import com.powsybl.dynamicsimulation.TimelineEvent;
+import com.powsybl.dynawo.commons.NetworkUpdateSummary;
+import com.powsybl.dynawo.commons.timeline.CompactTimeline;
+import com.powsybl.timeseries.DoubleTimeSeries;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Dynamic simulation result with the queryable timeline, the durations of the input files writing and of the outputs
+ * processing stages and, in delta network update mode, the changes made to the network
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public class DynawoSimulationResult extends DynamicSimulationResultImpl {
+
+    private final Map<String, Duration> inputFilesTimings;
+    private final Map<PostProcessingStage, Duration> postProcessingTimings;
+    private final NetworkUpdateSummary networkUpdateSummary;
+    private final CompactTimeline<TimelineEvent> timeline;
+
+    public DynawoSimulationResult(Status status, String statusText, Map<String, DoubleTimeSeries> curves,
+                                  Map<String, Double> finalStateValues, List<TimelineEvent> timeLine,
+                                  Map<PostProcessingStage, Duration> postProcessingTimings) {
+        this(status, statusText, curves, finalStateValues, timeLine, Collections.emptyMap(), postProcessingTimings, null);
+    }
+
+    public DynawoSimulationResult(Status status, String statusText, Map<String, DoubleTimeSeries> curves,
+                                  Map<String, Double> finalStateValues, List<TimelineEvent> timeLine,
+                                  Map<String, Duration> inputFilesTimings, Map<PostProcessingStage, Duration> postProcessingTimings,
+                                  NetworkUpdateSummary networkUpdateSummary) {
+        this(status, statusText, curves, finalStateValues, toCompactTimeline(timeLine), inputFilesTimings,
+                postProcessingTimings, networkUpdateSummary);
+    }
+
+    public DynawoSimulationResult(Status status, String statusText, Map<String, DoubleTimeSeries> curves,
+                                  Map<String, Double> finalStateValues, CompactTimeline<TimelineEvent> timeLine,
+                                  Map<String, Duration> inputFilesTimings, Map<PostProcessingStage, Duration> postProcessingTimings,
+                                  NetworkUpdateSummary networkUpdateSummary) {
+        super(status, statusText, curves, finalStateValues, timeLine);
+        this.timeline = timeLine;
+        this.inputFilesTimings = Collections.unmodifiableMap(inputFilesTimings);
+        this.postProcessingTimings = Collections.unmodifiableMap(postProcessingTimings);
+        this.networkUpdateSummary = networkUpdateSummary;
+    }
+
+    private static CompactTimeline<TimelineEvent> toCompactTimeline(List<TimelineEvent> timeLine) {
+        if (timeLine instanceof CompactTimeline<TimelineEvent> compactTimeline) {
+            return compactTimeline;
+        }
+        CompactTimeline.Builder<TimelineEvent> builder = CompactTimeline.builder(TimelineEvent::new);
+        timeLine.forEach(event -> builder.add(event.time(), event.modelName(), event.message()));
+        return builder.build();
+    }
+
+    /**
+     * @return the timeline, with the events of a model and of a time range queries
+     */
+    public CompactTimeline<TimelineEvent> getCompactTimeline() {
+        return timeline;
+    }
+
+    /**
+     * @return the duration of each input file writing indexed by file name, the files reading the network first
+     */
+    public Map<String, Duration> getInputFilesTimings() {
+        return inputFilesTimings;
+    }
+
+    /**
+     * @return the duration of each stage run, in stages order
+     */
+    public Map<PostProcessingStage, Duration> getPostProcessingTimings() {
+        return postProcessingTimings;
+    }
+
+    /**
+     * @return the changes made to the network, empty if the network was not updated in delta mode
+     * @see DynawoSimulationParameters#setDeltaNetworkUpdate(boolean)
+     */
+    public Optional<NetworkUpdateSummary> getNetworkUpdateSummary() {
+        return Optional.ofNullable(networkUpdateSummary);
+    }
+}
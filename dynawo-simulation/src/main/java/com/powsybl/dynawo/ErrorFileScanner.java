@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Streaming search of an error marker in the Dynawo error file.
+ * <p>
+ * The file is read through a fixed buffer and the reading stops once the text following the first marker and the
+ * requested context lines are collected, each collected line being truncated to {@value #MAX_LINE_LENGTH} characters.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+final class ErrorFileScanner {
+
+    static final int MAX_LINE_LENGTH = 4096;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final char[] marker;
+    private final int[] fallbacks;
+    private final int contextLines;
+
+    ErrorFileScanner(String marker, int contextLines) {
+        if (marker.isEmpty()) {
+            throw new IllegalArgumentException("Empty error marker");
+        }
+        this.marker = marker.toCharArray();
+        this.fallbacks = computeFallbacks(this.marker);
+        this.contextLines = contextLines;
+    }
+
+    /**
+     * @return the text following the first marker until the end of its line, followed by the context lines, or empty
+     * if the file holds no marker
+     */
+    Optional<String> scan(Path errorFile) throws IOException {
+        // malformed characters are replaced instead of failing the scan
+        try (Reader reader = new InputStreamReader(Files.newInputStream(errorFile), StandardCharsets.UTF_8)) {
+            char[] buffer = new char[BUFFER_SIZE];
+            Collector collector = null;
+            int matched = 0;
+            int read;
+            while ((read = reader.read(buffer)) >= 0) {
+                for (int i = 0; i < read; i++) {
+                    char c = buffer[i];
+                    if (collector != null) {
+                        if (!collector.accept(c)) {
+                            return Optional.of(collector.getText());
+                        }
+                    } else {
+                        matched = match(matched, c);
+                        if (matched == marker.length) {
+                            collector = new Collector();
+                        }
+                    }
+                }
+            }
+            return Optional.ofNullable(collector).map(Collector::getText);
+        }
+    }
+
+    /**
+     * @return the number of marker characters matched once the character is read
+     */
+    private int match(int matched, char c) {
+        int m = matched;
+        while (m > 0 && marker[m] != c) {
+            m = fallbacks[m - 1];
+        }
+        return marker[m] == c ? m + 1 : 0;
+    }
+
+    /**
+     * Computes for each marker prefix the length of its longest proper prefix which is also a suffix
+     */
+    private static int[] computeFallbacks(char[] marker) {
+        int[] fallbacks = new int[marker.length];
+        int length = 0;
+        for (int i = 1; i < marker.length; i++) {
+            while (length > 0 && marker[i] != marker[length]) {
+                length = fallbacks[length - 1];
+            }
+            if (marker[i] == marker[length]) {
+                length++;
+            }
+            fallbacks[i] = length;
+        }
+        return fallbacks;
+    }
+
+    private final class Collector {
+
+        private final StringBuilder text = new StringBuilder();
+        private int lineLength = 0;
+        private int collectedLines = 0;
+        private int pendingLineBreaks = 0;
+        private boolean afterCarriageReturn = false;
+
+        /**
+         * @return false once the last line is complete
+         */
+        boolean accept(char c) {
+            boolean carriageReturn = afterCarriageReturn;
+            afterCarriageReturn = c == '\r';
+            if (c == '\n' && carriageReturn) {
+                return true;
+            }
+            if (c == '\n' || c == '\r') {
+                if (collectedLines == contextLines) {
+                    return false;
+                }
+                collectedLines++;
+                pendingLineBreaks++;
+                lineLength = 0;
+            } else if (lineLength++ < MAX_LINE_LENGTH) {
+                text.repeat('\n', pendingLineBreaks).append(c);
+                pendingLineBreaks = 0;
+            }
+            return true;
+        }
+
+        String getText() {
+            return text.toString();
+        }
+    }
+}
@@ -10,12 +10,15 @@ package com.powsybl.dynawo;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.dynawo.models.BlackBoxModel;
 import com.powsybl.dynawo.models.macroconnections.MacroConnect;
+import com.powsybl.dynawo.models.macroconnections.MacroConnectList;
 import com.powsybl.dynawo.models.macroconnections.MacroConnectionsAdder;
 import com.powsybl.dynawo.models.macroconnections.MacroConnector;
 import com.powsybl.dynawo.parameters.ParametersSet;
 import com.powsybl.dynawo.xml.DynawoData;
 import com.powsybl.dynawo.xml.MacroStaticReference;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import java.util.*;
 import java.util.function.Consumer;
 
@@ -26,14 +29,14 @@ public final class FinalStepModels implements DynawoData {
 
     private final List<BlackBoxModel> dynamicModels;
     private final Map<String, MacroStaticReference> macroStaticReferences;
-    private final List<MacroConnect> macroConnectList;
+    private final MacroConnectList macroConnectList;
     private final Map<String, MacroConnector> macroConnectorsMap;
 
     public static FinalStepModels createFrom(BlackBoxModelSupplier blackBoxModelSupplier, SimulationModels simulationModels,
                                              List<BlackBoxModel> dynamicModels, Consumer<ParametersSet> parametersAdder, ReportNode reportNode) {
         BlackBoxModelSupplier finalStepBbmSupplier = BlackBoxModelSupplier.createFrom(blackBoxModelSupplier, dynamicModels);
         Map<String, MacroStaticReference> macroStaticReferences = new LinkedHashMap<>();
-        List<MacroConnect> macroConnectList = new ArrayList<>();
+        MacroConnectList macroConnectList = new MacroConnectList();
         Map<String, MacroConnector> macroConnectorsMap = new LinkedHashMap<>();
         MacroConnectionsAdder macroConnectionsAdder = new MacroConnectionsAdder(
                 finalStepBbmSupplier,
@@ -56,7 +59,7 @@ public final class FinalStepModels implements DynawoData {
     }
 
     private FinalStepModels(List<BlackBoxModel> dynamicModels,
-                            List<MacroConnect> macroConnectList,
+                            MacroConnectList macroConnectList,
                             Map<String, MacroConnector> macroConnectorsMap,
                             Map<String, MacroStaticReference> macroStaticReferences) {
         this.dynamicModels = dynamicModels;
@@ -84,4 +87,9 @@ public final class FinalStepModels implements DynawoData {
     public List<MacroConnect> getMacroConnectList() {
         return macroConnectList;
     }
+
+    @Override
+    public void writeMacroConnects(XMLStreamWriter writer) throws XMLStreamException {
+        macroConnectList.write(writer);
+    }
 }
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo;
+
+import com.powsybl.dynawo.models.ParameterUpdater;
+import com.powsybl.dynawo.parameters.ParameterType;
+import com.powsybl.dynawo.parameters.ParametersSet;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Parameters sets modified by a simulation context, on top of the {@link DynawoSimulationParameters} ones.
+ * <p>
+ * A model parameters set is derived from the base set the first time it is updated, the network parameters set is
+ * derived on creation. Derived sets only store their own modifications, base sets are never modified: the same
+ * {@link DynawoSimulationParameters} can hence be shared between contexts built concurrently.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public final class ParametersOverlay implements ParameterUpdater {
+
+    private final DynawoSimulationParameters dynawoParameters;
+    private final Map<String, ParametersSet> modelParameters = new HashMap<>();
+    private final ParametersSet networkParameters;
+
+    public ParametersOverlay(DynawoSimulationParameters dynawoParameters) {
+        this.dynawoParameters = Objects.requireNonNull(dynawoParameters);
+        ParametersSet baseNetworkParameters = dynawoParameters.getNetworkParameters();
+        this.networkParameters = new ParametersSet(baseNetworkParameters.getId(), baseNetworkParameters);
+    }
+
+    /**
+     * Returns the model parameters set with the context modifications if any
+     */
+    public ParametersSet getModelParameters(String parameterSetId) {
+        ParametersSet parametersSet = modelParameters.get(parameterSetId);
+        return parametersSet != null ? parametersSet : dynawoParameters.getModelParameters(parameterSetId);
+    }
+
+    public ParametersSet getNetworkParameters() {
+        return networkParameters;
+    }
+
+    private ParametersSet getModifiableModelParameters(String parameterSetId) {
+        return modelParameters.computeIfAbsent(parameterSetId,
+                id -> new ParametersSet(id, dynawoParameters.getModelParameters(id)));
+    }
+
+    @Override
+    public void addParameter(String parameterSetId, String name, ParameterType type, String value) {
+        getModifiableModelParameters(parameterSetId).addParameter(name, type, value);
+    }
+
+    @Override
+    public void addReference(String parameterSetId, String name, ParameterType type, String origName, String componentId) {
+        getModifiableModelParameters(parameterSetId).addReference(name, type, origName, componentId);
+    }
+
+    @Override
+    public void generateParametersFromPrefix(String parameterSetId, String name, List<String> componentIds) {
+        getModifiableModelParameters(parameterSetId).generateParametersFromPrefix(name, componentIds);
+    }
+}
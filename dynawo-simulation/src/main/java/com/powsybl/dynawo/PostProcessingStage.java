@@ -0,0 +1,22 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo;
+
+/**
+ * Stages of the simulation outputs processing, all stages but {@link #NETWORK_UPDATE} being independent of each other
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public enum PostProcessingStage {
+    LOGS,
+    TIMELINE,
+    CURVES,
+    FINAL_STATE_VALUES,
+    OUTPUT_NETWORK_READ,
+    NETWORK_UPDATE
+}
@@ -9,15 +9,16 @@ package com.powsybl.dynawo;
 
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.dynawo.models.BlackBoxModel;
-import com.powsybl.dynawo.models.ParameterUpdater;
 import com.powsybl.dynawo.models.macroconnections.MacroConnect;
+import com.powsybl.dynawo.models.macroconnections.MacroConnectList;
 import com.powsybl.dynawo.models.macroconnections.MacroConnectionsAdder;
 import com.powsybl.dynawo.models.macroconnections.MacroConnector;
-import com.powsybl.dynawo.parameters.ParameterType;
 import com.powsybl.dynawo.parameters.ParametersSet;
 import com.powsybl.dynawo.xml.DynawoData;
 import com.powsybl.dynawo.xml.MacroStaticReference;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import java.util.*;
 import java.util.function.Consumer;
 
@@ -29,41 +30,25 @@ public final class SimulationModels implements DynawoData {
     private final List<BlackBoxModel> dynamicModels;
     private final List<BlackBoxModel> eventModels;
     private final Map<String, MacroStaticReference> macroStaticReferences;
-    private final List<MacroConnect> macroConnectList;
+    private final MacroConnectList macroConnectList;
     private final Map<String, MacroConnector> macroConnectorsMap;
 
     public static SimulationModels createFrom(BlackBoxModelSupplier bbmSupplier, List<BlackBoxModel> dynamicModels, List<BlackBoxModel> eventModels,
-                                              Consumer<ParametersSet> parametersAdder, DynawoSimulationParameters dynawoParameters,
+                                              Consumer<ParametersSet> parametersAdder, ParametersOverlay parametersOverlay,
                                               ReportNode reportNode) {
 
-        List<MacroConnect> macroConnectList = new ArrayList<>();
+        MacroConnectList macroConnectList = new MacroConnectList();
         Map<String, MacroConnector> macroConnectorsMap = new LinkedHashMap<>();
         Map<String, MacroStaticReference> macroStaticReferences = new LinkedHashMap<>();
         MacroConnectionsAdder adder = new MacroConnectionsAdder(bbmSupplier, macroConnectList::add,
                 macroConnectorsMap::computeIfAbsent, reportNode);
-        ParameterUpdater parameterUpdater = new ParameterUpdater() {
-            @Override
-            public void addParameter(String parameterSetId, String name, ParameterType type, String value) {
-                dynawoParameters.getModelParameters(parameterSetId).addParameter(name, type, value);
-            }
-
-            @Override
-            public void addReference(String parameterSetId, String name, ParameterType type, String origName, String componentId) {
-                dynawoParameters.getModelParameters(parameterSetId).addReference(name, type, origName, componentId);
-            }
-
-            @Override
-            public void generateParametersFromPrefix(String parameterSetId, String name, List<String> componentIds) {
-                dynawoParameters.getModelParameters(parameterSetId).generateParametersFromPrefix(name, componentIds);
-            }
-        };
-        ParametersSet networkParameters = dynawoParameters.getNetworkParameters();
+        ParametersSet networkParameters = parametersOverlay.getNetworkParameters();
         // Write macro connection
         for (BlackBoxModel bbm : dynamicModels) {
             macroStaticReferences.computeIfAbsent(bbm.getMacroConnectName(), k -> new MacroStaticReference(k, bbm.getVarsMapping()));
             bbm.createMacroConnections(adder);
             bbm.createDynamicModelParameters(parametersAdder);
-            bbm.updateDynamicModelParameters(parameterUpdater);
+            bbm.updateDynamicModelParameters(parametersOverlay);
             bbm.createDynamicModelInfoExtension();
         }
         for (BlackBoxModel bbem : eventModels) {
@@ -78,7 +63,7 @@ public final class SimulationModels implements DynawoData {
 
     private SimulationModels(List<BlackBoxModel> dynamicModels,
                              List<BlackBoxModel> eventModels,
-                             List<MacroConnect> macroConnectList,
+                             MacroConnectList macroConnectList,
                              Map<String, MacroConnector> macroConnectorsMap,
                              Map<String, MacroStaticReference> macroStaticReferences) {
         this.dynamicModels = dynamicModels;
@@ -120,4 +105,9 @@ public final class SimulationModels implements DynawoData {
     public List<MacroConnect> getMacroConnectList() {
         return macroConnectList;
     }
+
+    @Override
+    public void writeMacroConnects(XMLStreamWriter writer) throws XMLStreamException {
+        macroConnectList.write(writer);
+    }
 }
@@ -18,6 +18,9 @@ import static com.powsybl.dynawo.xml.DynawoSimulationXmlConstants.DYN_URI;
  */
 public final class MacroConnect {
 
+    static final String ELEMENT_NAME = "macroConnect";
+    static final String CONNECTOR_ATTRIBUTE = "connector";
+
     private final String id;
     private final List<MacroConnectAttribute> attributesFrom;
     private final List<MacroConnectAttribute> attributesTo;
@@ -46,9 +49,13 @@ public final class MacroConnect {
         return attributesFrom;
     }
 
+    public List<MacroConnectAttribute> getAttributesTo() {
+        return attributesTo;
+    }
+
     public void write(XMLStreamWriter writer) throws XMLStreamException {
-        writer.writeEmptyElement(DYN_URI, "macroConnect");
-        writer.writeAttribute("connector", id);
+        writer.writeEmptyElement(DYN_URI, ELEMENT_NAME);
+        writer.writeAttribute(CONNECTOR_ATTRIBUTE, id);
         for (MacroConnectAttribute attribute : attributesFrom) {
             writer.writeAttribute(attribute.name(), attribute.value());
         }
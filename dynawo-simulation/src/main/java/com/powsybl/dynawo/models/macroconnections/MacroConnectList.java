@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.models.macroconnections;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.powsybl.dynawo.xml.DynawoSimulationXmlConstants.DYN_URI;
+
+/**
+ * Append-only list of macro connects flattened into a single array of strings as they are emitted by
+ * {@link MacroConnectionsAdder}: no {@link MacroConnect} nor attribute object is kept in memory.
+ * <p>
+ * Macro connects are written from the flattened strings, the {@link List} view rebuilds them on access.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public final class MacroConnectList extends AbstractList<MacroConnect> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // for each macro connect: connector id followed by attribute name/value pairs
+    private String[] values = new String[INITIAL_CAPACITY];
+    private int valuesSize = 0;
+    // for each macro connect: start index in values and number of "from" attributes
+    private int[] starts = new int[INITIAL_CAPACITY];
+    private int[] fromCounts = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    @Override
+    public boolean add(MacroConnect macroConnect) {
+        List<MacroConnectAttribute> attributesFrom = macroConnect.getAttributesFrom();
+        List<MacroConnectAttribute> attributesTo = macroConnect.getAttributesTo();
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            fromCounts = Arrays.copyOf(fromCounts, size * 2);
+        }
+        ensureValuesCapacity(valuesSize + 1 + 2 * (attributesFrom.size() + attributesTo.size()));
+        starts[size] = valuesSize;
+        fromCounts[size] = attributesFrom.size();
+        values[valuesSize++] = macroConnect.getId();
+        addAttributes(attributesFrom);
+        addAttributes(attributesTo);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    private void ensureValuesCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length * 2));
+        }
+    }
+
+    private void addAttributes(List<MacroConnectAttribute> attributes) {
+        for (MacroConnectAttribute attribute : attributes) {
+            values[valuesSize++] = attribute.name();
+            values[valuesSize++] = attribute.value();
+        }
+    }
+
+    @Override
+    public MacroConnect get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int start = starts[index];
+        int fromEnd = start + 1 + 2 * fromCounts[index];
+        return new MacroConnect(values[start], getAttributes(start + 1, fromEnd), getAttributes(fromEnd, getEnd(index)));
+    }
+
+    private List<MacroConnectAttribute> getAttributes(int start, int end) {
+        List<MacroConnectAttribute> attributes = new ArrayList<>((end - start) / 2);
+        for (int i = start; i < end; i += 2) {
+            attributes.add(MacroConnectAttribute.of(values[i], values[i + 1]));
+        }
+        return attributes;
+    }
+
+    private int getEnd(int index) {
+        return index + 1 < size ? starts[index + 1] : valuesSize;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Writes every macro connect straight from the flattened strings
+     */
+    public void write(XMLStreamWriter writer) throws XMLStreamException {
+        for (int index = 0; index < size; index++) {
+            int start = starts[index];
+            int end = getEnd(index);
+            writer.writeEmptyElement(DYN_URI, MacroConnect.ELEMENT_NAME);
+            writer.writeAttribute(MacroConnect.CONNECTOR_ATTRIBUTE, values[start]);
+            for (int i = start + 1; i < end; i += 2) {
+                writer.writeAttribute(values[i], values[i + 1]);
+            }
+        }
+    }
+}
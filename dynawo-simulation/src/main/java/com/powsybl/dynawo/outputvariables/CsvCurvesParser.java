@@ -0,0 +1,623 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.outputvariables;
+
+import com.powsybl.dynawo.commons.ByteBufferUtil;
+import com.powsybl.timeseries.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import static com.powsybl.dynawo.commons.ByteBufferUtil.*;
+
+/**
+ * Parser of the Dynawo curves CSV file.
+ * <p>
+ * The file is read in a single pass from memory-mapped windows: each value is parsed straight from the bytes into a
+ * primitive column, and all the resulting series share the same time index. The result is the same as the one of
+ * {@link TimeSeries#parseCsv} with non versioned fractions of second times.
+ * <p>
+ * The file can also be only indexed, each curve being then parsed on first access, see {@link #parseLazily(Path)}.
+ * <p>
+ * A {@link CurvesFilter} restricts the parsed curves and rows: the values of the other columns are skipped without
+ * being parsed, the rows before the time window are skipped once their time is parsed and the reading stops at the
+ * first row after the time window, the times being increasing in the curves file.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public final class CsvCurvesParser {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CsvCurvesParser.class);
+
+    private static final char DEFAULT_SEPARATOR = ';';
+    private static final int DEFAULT_WINDOW_SIZE = 1 << 30;
+    private static final int DEFAULT_BLOCK_VALUES = 1 << 20;
+    private static final String TIME_COLUMN = "time";
+    private static final int NANOS_DIGITS = 9;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private final byte separator;
+    private final CurvesFilter filter;
+    private final int windowSize;
+
+    public CsvCurvesParser() {
+        this(DEFAULT_SEPARATOR);
+    }
+
+    public CsvCurvesParser(char separator) {
+        this(separator, CurvesFilter.ALL);
+    }
+
+    public CsvCurvesParser(CurvesFilter filter) {
+        this(DEFAULT_SEPARATOR, filter);
+    }
+
+    public CsvCurvesParser(char separator, CurvesFilter filter) {
+        this(separator, filter, DEFAULT_WINDOW_SIZE);
+    }
+
+    CsvCurvesParser(char separator, int windowSize) {
+        this(separator, CurvesFilter.ALL, windowSize);
+    }
+
+    CsvCurvesParser(char separator, CurvesFilter filter, int windowSize) {
+        this.separator = (byte) separator;
+        this.filter = Objects.requireNonNull(filter);
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Parses the curves file
+     * @return the curves indexed by name, in the file column order
+     */
+    public Map<String, DoubleTimeSeries> parse(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ValuesReader reader = new ValuesReader(channel.size());
+            read(channel, reader);
+            return reader.createTimeSeries();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Indexes the curves file, each curve being parsed on first access from the memory-mapped file.
+     * <p>
+     * Only the times, the row positions and the position of every {@value MappedCurves#CHECKPOINT_STRIDE}th value of
+     * each row are kept in memory, the file mapping being released with the returned map. The file hence has to be
+     * left unchanged while the map is reachable, and cannot be deleted on Windows meanwhile. Contrary to
+     * {@link #parse(Path)}, invalid values are only reported when the curve is accessed.
+     * @return the curves indexed by name, in the file column order
+     */
+    public Map<String, DoubleTimeSeries> parseLazily(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            RowsIndexer indexer = new RowsIndexer(size);
+            read(channel, indexer);
+            return indexer.createCurves(channel, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses the curves file in a single pass, pushing the curves to the sink by blocks of rows while reading.
+     * <p>
+     * Each pushed series holds the values of one curve over a block of consecutive rows, with the times of these rows
+     * as index: once a block is read, the series of every curve are pushed in the file column order, then the block is
+     * released. The number of rows in a block decreases with the number of curves: apart from the times of the rows,
+     * the memory used depends neither on the number of curves nor on the number of rows. The blocks preceding an invalid row have already
+     * been pushed when the parsing fails.
+     * @return the number of curves pushed
+     */
+    public int parse(Path file, Consumer<DoubleTimeSeries> sink) {
+        return parse(file, sink, DEFAULT_BLOCK_VALUES);
+    }
+
+    /**
+     * @param blockValues maximum number of values in a block of rows, a block holding at least 2 rows
+     */
+    int parse(Path file, Consumer<DoubleTimeSeries> sink, int blockValues) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            BlocksReader reader = new BlocksReader(channel.size(), Objects.requireNonNull(sink), blockValues);
+            read(channel, reader);
+            return reader.complete();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void read(FileChannel channel, AbstractRowsReader reader) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        while (position < size && !reader.isComplete()) {
+            long length = Math.min(windowSize, size - position);
+            boolean lastWindow = position + length == size;
+            int consumed = reader.parseLines(map(channel, position, (int) length), position, lastWindow);
+            if (consumed == 0 && !lastWindow) {
+                throw new TimeSeriesException("Line " + (reader.getLineNumber() + 1) + " exceeds the read window size");
+            }
+            position += consumed;
+        }
+    }
+
+    /**
+     * Rows read line by line, the times being parsed into the shared time index
+     */
+    private abstract class AbstractRowsReader {
+
+        private static final int INITIAL_ROW_CAPACITY = 1024;
+        private static final int FILTERED_COLUMN = -2;
+
+        private final long fileSize;
+        private final Pattern namePattern;
+        private final long startTime;
+        private final long stopTime;
+        private boolean complete = false;
+        protected String[] names;
+        // column index of each value token, -1 for a column without name and -2 for a filtered column
+        protected int[] tokenColumns;
+        private long[] times = new long[0];
+        protected int rowCount = 0;
+        private int lineNumber = 0;
+
+        AbstractRowsReader(long fileSize) {
+            this.fileSize = fileSize;
+            this.namePattern = filter.filtersNames() ? filter.toNamePattern() : null;
+            this.startTime = filter.startTimeNanos();
+            this.stopTime = filter.stopTimeNanos();
+        }
+
+        /**
+         * Parses the complete lines of the buffer
+         * @param position the position of the buffer in the file
+         * @return the number of bytes consumed
+         */
+        int parseLines(ByteBuffer buffer, long position, boolean lastWindow) {
+            int limit = buffer.limit();
+            int lineStart = 0;
+            while (lineStart < limit && !complete) {
+                int lineEnd = indexOf(buffer, (byte) '\n', lineStart, limit);
+                if (lineEnd < 0) {
+                    if (!lastWindow) {
+                        return lineStart;
+                    }
+                    lineEnd = limit;
+                }
+                int end = lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+                lineNumber++;
+                if (end > lineStart) {
+                    if (names == null) {
+                        parseHeader(buffer, lineStart, end);
+                    } else {
+                        parseRow(buffer, position, lineStart, end);
+                    }
+                }
+                lineStart = lineEnd + 1;
+            }
+            return limit;
+        }
+
+        int getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * @return true if the remaining lines are out of the filter
+         */
+        boolean isComplete() {
+            return complete;
+        }
+
+        /**
+         * @return true if the filter selects no value
+         */
+        protected boolean isEmptySelection() {
+            return filter.filtersNames() && names.length == 0 || filter.filtersTimes() && rowCount == 0;
+        }
+
+        private void parseHeader(ByteBuffer buffer, int start, int end) {
+            byte[] bytes = new byte[end - start];
+            buffer.get(start, bytes);
+            String separatorString = Character.toString((char) separator);
+            String[] tokens = new String(bytes, StandardCharsets.UTF_8).split(Pattern.quote(separatorString), -1);
+            if (!TIME_COLUMN.equalsIgnoreCase(tokens[0].trim())) {
+                throw new TimeSeriesException("Bad CSV header, should be \n" + TIME_COLUMN + separatorString + "...");
+            }
+            List<String> columnNames = new ArrayList<>(tokens.length - 1);
+            tokenColumns = new int[tokens.length - 1];
+            for (int i = 1; i < tokens.length; i++) {
+                String name = tokens[i].trim();
+                if (name.isEmpty()) {
+                    // e.g. header ending with a separator
+                    if (i < tokens.length - 1) {
+                        LOGGER.warn("Timeseries without name");
+                    }
+                    tokenColumns[i - 1] = -1;
+                } else if (namePattern == null || namePattern.matcher(name).matches()) {
+                    tokenColumns[i - 1] = columnNames.size();
+                    columnNames.add(name);
+                } else {
+                    tokenColumns[i - 1] = FILTERED_COLUMN;
+                }
+            }
+            names = columnNames.toArray(String[]::new);
+            complete = namePattern != null && names.length == 0;
+            onHeader();
+        }
+
+        private void parseRow(ByteBuffer buffer, long position, int start, int end) {
+            int tokenEnd = indexOf(buffer, separator, start, end);
+            if (tokenEnd < 0) {
+                tokenEnd = end;
+            }
+            long time = parseTime(buffer, start, tokenEnd);
+            if (time < startTime) {
+                return;
+            }
+            if (time > stopTime) {
+                complete = true;
+                return;
+            }
+            if (rowCount == times.length) {
+                grow(end - start);
+            }
+            int row = rowCount;
+            onRow(row, position + start, end - start);
+            int token = 0;
+            int tokenStart = tokenEnd + 1;
+            while (tokenStart <= end && token < tokenColumns.length) {
+                tokenEnd = indexOf(buffer, separator, tokenStart, end);
+                if (tokenEnd < 0) {
+                    tokenEnd = end;
+                }
+                onToken(buffer, row, token++, start, tokenStart, tokenEnd);
+                tokenStart = tokenEnd + 1;
+            }
+            if (token < tokenColumns.length && !isTrailingSkippedColumn(token) || tokenStart < end) {
+                throw new TimeSeriesException("Columns of line " + lineNumber + " are inconsistent with header");
+            }
+            times[row] = time;
+            rowCount++;
+        }
+
+        /**
+         * Called once the header is parsed
+         */
+        protected abstract void onHeader();
+
+        /**
+         * Called before the value tokens of a row
+         * @param rowPosition the position of the row in the file
+         */
+        protected abstract void onRow(int row, long rowPosition, int rowLength);
+
+        /**
+         * Called for each value token of a row, the positions being relative to the buffer
+         */
+        protected abstract void onToken(ByteBuffer buffer, int row, int token, int rowStart, int tokenStart, int tokenEnd);
+
+        /**
+         * Resizes the row data to the given capacity
+         */
+        protected abstract void resizeRows(int capacity);
+
+        private boolean isTrailingSkippedColumn(int token) {
+            return token == tokenColumns.length - 1 && tokenColumns[token] == -1;
+        }
+
+        private void grow(int lineLength) {
+            // rows count first estimated from the first row length, the rows data are trimmed once parsed
+            long capacity = times.length == 0 ? fileSize / (lineLength + 1) + 1 : 2L * times.length;
+            int newCapacity = (int) Math.clamp(capacity, INITIAL_ROW_CAPACITY, Integer.MAX_VALUE - 8);
+            times = Arrays.copyOf(times, newCapacity);
+            resizeRows(newCapacity);
+        }
+
+        protected double parseValue(ByteBuffer buffer, int start, int end) {
+            try {
+                return parseDouble(buffer, start, end);
+            } catch (NumberFormatException e) {
+                throw new TimeSeriesException("Invalid value at line " + lineNumber + ": " + e.getMessage());
+            }
+        }
+
+        private long parseTime(ByteBuffer buffer, int start, int end) {
+            try {
+                return CsvCurvesParser.parseTime(buffer, start, end);
+            } catch (NumberFormatException | ArithmeticException e) {
+                throw new TimeSeriesException("Invalid time at line " + lineNumber + ": " + e.getMessage());
+            }
+        }
+
+        protected void checkRowCount() {
+            if (rowCount < 2 && !(rowCount == 1 && filter.filtersTimes())) {
+                throw new TimeSeriesException("At least 2 rows are expected");
+            }
+        }
+
+        protected TimeSeriesIndex createIndex() {
+            checkRowCount();
+            return createIndex(0, rowCount);
+        }
+
+        /**
+         * Creates the index of the rows from the first row, included, to the last row, excluded
+         */
+        protected TimeSeriesIndex createIndex(int firstRow, int lastRow) {
+            if (lastRow - firstRow == 1) {
+                return new IrregularTimeSeriesIndex(new Instant[] {toInstant(times[firstRow])});
+            }
+            long spacing = times[firstRow + 1] - times[firstRow];
+            boolean regular = true;
+            for (int i = firstRow + 2; i < lastRow && regular; i++) {
+                regular = times[i] - times[i - 1] == spacing;
+            }
+            if (regular) {
+                return new RegularTimeSeriesIndex(toInstant(times[firstRow]), toInstant(times[lastRow - 1]), Duration.ofNanos(spacing));
+            }
+            Instant[] instants = new Instant[lastRow - firstRow];
+            for (int i = firstRow; i < lastRow; i++) {
+                instants[i - firstRow] = toInstant(times[i]);
+            }
+            return new IrregularTimeSeriesIndex(instants);
+        }
+    }
+
+    /**
+     * Primitive columns filled row by row
+     */
+    private final class ValuesReader extends AbstractRowsReader {
+
+        private double[][] values;
+
+        ValuesReader(long fileSize) {
+            super(fileSize);
+        }
+
+        @Override
+        protected void onHeader() {
+            values = new double[names.length][0];
+        }
+
+        @Override
+        protected void onRow(int row, long rowPosition, int rowLength) {
+            // values only
+        }
+
+        @Override
+        protected void onToken(ByteBuffer buffer, int row, int token, int rowStart, int tokenStart, int tokenEnd) {
+            int column = tokenColumns[token];
+            if (column >= 0) {
+                values[column][row] = parseValue(buffer, tokenStart, tokenEnd);
+            }
+        }
+
+        @Override
+        protected void resizeRows(int capacity) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = Arrays.copyOf(values[i], capacity);
+            }
+        }
+
+        Map<String, DoubleTimeSeries> createTimeSeries() {
+            if (isEmptySelection()) {
+                return new LinkedHashMap<>();
+            }
+            TimeSeriesIndex index = createIndex();
+            Map<String, DoubleTimeSeries> curves = LinkedHashMap.newLinkedHashMap(names.length);
+            for (int i = 0; i < names.length; i++) {
+                double[] columnValues = values[i].length == rowCount ? values[i] : Arrays.copyOf(values[i], rowCount);
+                // column released as soon as copied
+                values[i] = null;
+                curves.put(names[i], CsvCurvesParser.createTimeSeries(names[i], index, columnValues));
+            }
+            return curves;
+        }
+    }
+
+    /**
+     * Primitive columns of a block of rows, pushed to the sink once the block is full
+     */
+    private final class BlocksReader extends AbstractRowsReader {
+
+        private final Consumer<DoubleTimeSeries> sink;
+        private final int blockValues;
+        private int blockRows;
+        private int blockStart = 0;
+        private double[][] values;
+
+        BlocksReader(long fileSize, Consumer<DoubleTimeSeries> sink, int blockValues) {
+            super(fileSize);
+            this.sink = sink;
+            this.blockValues = blockValues;
+        }
+
+        @Override
+        protected void onHeader() {
+            blockRows = Math.max(2, blockValues / Math.max(1, names.length));
+            values = new double[names.length][blockRows];
+        }
+
+        @Override
+        protected void onRow(int row, long rowPosition, int rowLength) {
+            if (row - blockStart == blockRows) {
+                pushBlock(row);
+            }
+        }
+
+        @Override
+        protected void onToken(ByteBuffer buffer, int row, int token, int rowStart, int tokenStart, int tokenEnd) {
+            int column = tokenColumns[token];
+            if (column >= 0) {
+                values[column][row - blockStart] = parseValue(buffer, tokenStart, tokenEnd);
+            }
+        }
+
+        @Override
+        protected void resizeRows(int capacity) {
+            // block columns allocated once
+        }
+
+        /**
+         * Pushes the rows not pushed yet
+         * @return the number of curves
+         */
+        int complete() {
+            if (isEmptySelection()) {
+                return 0;
+            }
+            if (blockStart == 0) {
+                // no block pushed yet
+                checkRowCount();
+            }
+            if (rowCount > blockStart) {
+                pushBlock(rowCount);
+            }
+            return names.length;
+        }
+
+        private void pushBlock(int lastRow) {
+            TimeSeriesIndex index = createIndex(blockStart, lastRow);
+            int length = lastRow - blockStart;
+            for (int i = 0; i < names.length; i++) {
+                sink.accept(CsvCurvesParser.createTimeSeries(names[i], index, Arrays.copyOf(values[i], length)));
+            }
+            blockStart = lastRow;
+        }
+    }
+
+    /**
+     * Positions of the rows and of every {@value MappedCurves#CHECKPOINT_STRIDE}th value token in each row,
+     * the values being left unparsed
+     */
+    private final class RowsIndexer extends AbstractRowsReader {
+
+        private long[] rowPositions = new long[0];
+        private int[] checkpoints = new int[0];
+        private int checkpointCount;
+        private int maxRowLength = 0;
+
+        RowsIndexer(long fileSize) {
+            super(fileSize);
+        }
+
+        @Override
+        protected void onHeader() {
+            checkpointCount = (tokenColumns.length + MappedCurves.CHECKPOINT_STRIDE - 1) / MappedCurves.CHECKPOINT_STRIDE;
+        }
+
+        @Override
+        protected void onRow(int row, long rowPosition, int rowLength) {
+            rowPositions[row] = rowPosition;
+            maxRowLength = Math.max(maxRowLength, rowLength);
+        }
+
+        @Override
+        protected void onToken(ByteBuffer buffer, int row, int token, int rowStart, int tokenStart, int tokenEnd) {
+            if (token % MappedCurves.CHECKPOINT_STRIDE == 0) {
+                checkpoints[row * checkpointCount + token / MappedCurves.CHECKPOINT_STRIDE] = tokenStart - rowStart;
+            }
+        }
+
+        @Override
+        protected void resizeRows(int capacity) {
+            rowPositions = Arrays.copyOf(rowPositions, capacity);
+            checkpoints = Arrays.copyOf(checkpoints, Math.multiplyExact(capacity, checkpointCount));
+        }
+
+        MappedCurves createCurves(FileChannel channel, long size) throws IOException {
+            if (isEmptySelection()) {
+                return new MappedCurves(new String[0], new int[0], null, new long[0], new int[0], 0, new ByteBuffer[0], windowSize, separator);
+            }
+            TimeSeriesIndex index = createIndex();
+            int[] columnTokens = new int[names.length];
+            for (int token = 0; token < tokenColumns.length; token++) {
+                if (tokenColumns[token] >= 0) {
+                    columnTokens[tokenColumns[token]] = token;
+                }
+            }
+            // each window is extended by the longest row, so that any row lies in the window of its first byte
+            ByteBuffer[] windows = new ByteBuffer[(int) ((size + windowSize - 1) / windowSize)];
+            for (int i = 0; i < windows.length; i++) {
+                long position = (long) i * windowSize;
+                long length = Math.min(size - position, (long) windowSize + maxRowLength + 1);
+                windows[i] = map(channel, position, (int) Math.min(length, Integer.MAX_VALUE));
+            }
+            return new MappedCurves(names, columnTokens, index, Arrays.copyOf(rowPositions, rowCount),
+                    Arrays.copyOf(checkpoints, rowCount * checkpointCount), checkpointCount, windows, windowSize, separator);
+        }
+    }
+
+    static DoubleTimeSeries createTimeSeries(String name, TimeSeriesIndex index, double[] values) {
+        TimeSeriesMetadata metadata = new TimeSeriesMetadata(name, TimeSeriesDataType.DOUBLE, index);
+        return new StoredDoubleTimeSeries(metadata, new UncompressedDoubleDataChunk(0, values).tryToCompress());
+    }
+
+    private static Instant toInstant(long nanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND), Math.floorMod(nanos, NANOS_PER_SECOND));
+    }
+
+    /**
+     * Parses a time in seconds into nanoseconds, digits beyond the nanosecond being truncated
+     */
+    static long parseTime(ByteBuffer buffer, int tokenStart, int tokenEnd) {
+        int i = skipLeadingSpaces(buffer, tokenStart, tokenEnd);
+        int end = skipTrailingSpaces(buffer, i, tokenEnd);
+        boolean negative = i < end && buffer.get(i) == '-';
+        if (negative || i < end && buffer.get(i) == '+') {
+            i++;
+        }
+        long seconds = 0;
+        int digits = 0;
+        while (i < end && isDigit(buffer.get(i))) {
+            seconds = Math.addExact(Math.multiplyExact(seconds, 10), buffer.get(i++) - '0');
+            digits++;
+        }
+        long nanos = 0;
+        int fractionDigits = 0;
+        if (i < end && buffer.get(i) == '.') {
+            i++;
+            while (i < end && isDigit(buffer.get(i))) {
+                if (fractionDigits < NANOS_DIGITS) {
+                    nanos = nanos * 10 + (buffer.get(i) - '0');
+                    fractionDigits++;
+                }
+                digits++;
+                i++;
+            }
+        }
+        if (i < end) {
+            // scientific notation
+            return toNanos(TimeSeries.parseDoubleToInstant(ByteBufferUtil.toString(buffer, tokenStart, end).trim()));
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("Empty time");
+        }
+        for (; fractionDigits < NANOS_DIGITS; fractionDigits++) {
+            nanos *= 10;
+        }
+        long time = Math.addExact(Math.multiplyExact(seconds, NANOS_PER_SECOND), nanos);
+        return negative ? -time : time;
+    }
+
+    private static long toNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.outputvariables;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Curves extracted from the curves file: curves whose name matches one of the glob patterns, {@code *} matching any
+ * characters and {@code ?} a single character, restricted to the [startTime, stopTime] window in seconds.
+ * <p>
+ * An empty patterns list selects all the curves.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public record CurvesFilter(List<String> namePatterns, double startTime, double stopTime) {
+
+    public static final CurvesFilter ALL = new CurvesFilter(List.of(), Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    public CurvesFilter {
+        namePatterns = List.copyOf(Objects.requireNonNull(namePatterns));
+        if (Double.isNaN(startTime) || Double.isNaN(stopTime) || startTime > stopTime) {
+            throw new IllegalArgumentException("Invalid curves time window [" + startTime + ", " + stopTime + "]");
+        }
+    }
+
+    public boolean filtersNames() {
+        return !namePatterns.isEmpty();
+    }
+
+    public boolean filtersTimes() {
+        return startTime != Double.NEGATIVE_INFINITY || stopTime != Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Compiles the name patterns into a single pattern
+     */
+    Pattern toNamePattern() {
+        StringBuilder regex = new StringBuilder();
+        for (String namePattern : namePatterns) {
+            if (!regex.isEmpty()) {
+                regex.append('|');
+            }
+            StringBuilder literal = new StringBuilder();
+            for (char c : namePattern.toCharArray()) {
+                if (c == '*' || c == '?') {
+                    appendLiteral(regex, literal);
+                    regex.append(c == '*' ? ".*" : ".");
+                } else {
+                    literal.append(c);
+                }
+            }
+            appendLiteral(regex, literal);
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static void appendLiteral(StringBuilder regex, StringBuilder literal) {
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    long startTimeNanos() {
+        return Math.round(startTime * NANOS_PER_SECOND);
+    }
+
+    long stopTimeNanos() {
+        return Math.round(stopTime * NANOS_PER_SECOND);
+    }
+}
@@ -0,0 +1,333 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.outputvariables;
+
+import com.powsybl.dynawo.commons.StringDictionary;
+
+import java.util.*;
+
+/**
+ * Final state values stored in columns: the model and variable names are dictionary-encoded and the values are kept
+ * unboxed.
+ * <p>
+ * The values are seen as an unmodifiable map whose keys are {@code model_variable}, in order of first appearance,
+ * the keys and boxed values being created on access only. Two model variables giving the same key, such as
+ * {@code (A_B, C)} and {@code (A, B_C)}, are kept as a single entry: the last added one replaces the other one. The
+ * pairs are indexed both by their codes and by the hash of their key, computed from the model and variable names as
+ * {@link String#hashCode()} would on the key, so that keys are neither created when adding values nor when looking
+ * them up.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public final class FinalStateValues extends AbstractMap<String, Double> {
+
+    private static final char KEY_SEPARATOR = '_';
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final int KEY_HASH_MULTIPLIER = 0x9E3779B9;
+
+    private final StringDictionary models = new StringDictionary();
+    private final StringDictionary variables = new StringDictionary();
+    private int[] modelCodes = new int[INITIAL_CAPACITY];
+    private int[] variableCodes = new int[INITIAL_CAPACITY];
+    private double[] values = new double[INITIAL_CAPACITY];
+    // hash codes of the model_variable keys
+    private int[] keyHashes = new int[INITIAL_CAPACITY];
+    private int size = 0;
+    // open addressing table of the (model, variable) pairs, each slot holding the pair position plus one
+    private int[] slots = new int[2 * INITIAL_CAPACITY];
+    // open addressing table of the model_variable keys, each slot holding the pair position plus one
+    private int[] keySlots = new int[2 * INITIAL_CAPACITY];
+
+    /**
+     * Adds the value of the model variable, replacing the previous value of the same model variable if any, or the
+     * previous model variable with the same key
+     */
+    public void add(String model, String variable, double value) {
+        int modelCode = models.encode(model);
+        int variableCode = variables.encode(variable);
+        int slot = findSlot(modelCode, variableCode);
+        if (slots[slot] != 0) {
+            values[slots[slot] - 1] = value;
+            return;
+        }
+        int keyHash = keyHash(model, variable);
+        int keySlot = findKeySlot(keyHash, model, variable);
+        if (keySlots[keySlot] != 0) {
+            // the entry keeps its position, as a map key being put again
+            int collision = keySlots[keySlot] - 1;
+            removeSlot(findSlot(modelCodes[collision], variableCodes[collision]));
+            modelCodes[collision] = modelCode;
+            variableCodes[collision] = variableCode;
+            values[collision] = value;
+            slots[findSlot(modelCode, variableCode)] = collision + 1;
+            return;
+        }
+        if (size == values.length) {
+            int capacity = 2 * size;
+            modelCodes = Arrays.copyOf(modelCodes, capacity);
+            variableCodes = Arrays.copyOf(variableCodes, capacity);
+            values = Arrays.copyOf(values, capacity);
+            keyHashes = Arrays.copyOf(keyHashes, capacity);
+        }
+        modelCodes[size] = modelCode;
+        variableCodes[size] = variableCode;
+        values[size] = value;
+        keyHashes[size] = keyHash;
+        size++;
+        slots[slot] = size;
+        keySlots[keySlot] = size;
+        if (2 * size > slots.length) {
+            rehash(2 * slots.length);
+        }
+    }
+
+    /**
+     * @return the value of the model variable, or NaN if unknown
+     */
+    public double getValue(String model, String variable) {
+        int position = getPosition(models.getCode(model), variables.getCode(variable));
+        return position >= 0 ? values[position] : Double.NaN;
+    }
+
+    public boolean contains(String model, String variable) {
+        return getPosition(models.getCode(model), variables.getCode(variable)) >= 0;
+    }
+
+    public String getModel(int index) {
+        Objects.checkIndex(index, size);
+        return models.decode(modelCodes[index]);
+    }
+
+    public String getVariable(int index) {
+        Objects.checkIndex(index, size);
+        return variables.decode(variableCodes[index]);
+    }
+
+    public double getValue(int index) {
+        Objects.checkIndex(index, size);
+        return values[index];
+    }
+
+    /**
+     * @return the distinct models, in order of first appearance
+     */
+    public List<String> getModels() {
+        return models.getValues();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Double get(Object key) {
+        int position = getPosition(key);
+        return position >= 0 ? values[position] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return getPosition(key) >= 0;
+    }
+
+    @Override
+    public Set<Entry<String, Double>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Double>> iterator() {
+                return new Iterator<>() {
+                    private int position = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return position < size;
+                    }
+
+                    @Override
+                    public Entry<String, Double> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, Double> entry = new SimpleImmutableEntry<>(getKey(position), values[position]);
+                        position++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private String getKey(int position) {
+        return models.decode(modelCodes[position]) + KEY_SEPARATOR + variables.decode(variableCodes[position]);
+    }
+
+    private int getPosition(Object key) {
+        if (!(key instanceof String name)) {
+            return -1;
+        }
+        int mask = keySlots.length - 1;
+        int keyHash = name.hashCode();
+        int slot = spread(keyHash) & mask;
+        while (keySlots[slot] != 0) {
+            int position = keySlots[slot] - 1;
+            if (keyHashes[position] == keyHash && keyEquals(position, name)) {
+                return position;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int getPosition(int modelCode, int variableCode) {
+        if (modelCode == StringDictionary.NO_CODE || variableCode == StringDictionary.NO_CODE) {
+            return -1;
+        }
+        return slots[findSlot(modelCode, variableCode)] - 1;
+    }
+
+    /**
+     * @return the slot of the pair, or the empty slot where to add it
+     */
+    private int findSlot(int modelCode, int variableCode) {
+        int mask = slots.length - 1;
+        int slot = hash(modelCode, variableCode) & mask;
+        while (slots[slot] != 0) {
+            int position = slots[slot] - 1;
+            if (modelCodes[position] == modelCode && variableCodes[position] == variableCode) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * @return the slot of the key of the given model and variable, or the empty slot where to add it
+     */
+    private int findKeySlot(int keyHash, String model, String variable) {
+        int mask = keySlots.length - 1;
+        int slot = spread(keyHash) & mask;
+        while (keySlots[slot] != 0) {
+            int position = keySlots[slot] - 1;
+            if (keyHashes[position] == keyHash && keyEquals(position, model, variable)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Empties the given slot of the pairs table, shifting back the following pairs of the probe sequence
+     */
+    private void removeSlot(int slot) {
+        int mask = slots.length - 1;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; slots[next] != 0; next = (next + 1) & mask) {
+            int position = slots[next] - 1;
+            int home = hash(modelCodes[position], variableCodes[position]) & mask;
+            // the pair can fill the hole if its home slot is not between the hole and its slot
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                slots[hole] = slots[next];
+                hole = next;
+            }
+        }
+        slots[hole] = 0;
+    }
+
+    private boolean keyEquals(int position, String key) {
+        String model = models.decode(modelCodes[position]);
+        String variable = variables.decode(variableCodes[position]);
+        int modelLength = model.length();
+        return key.length() == modelLength + 1 + variable.length()
+                && key.startsWith(model)
+                && key.charAt(modelLength) == KEY_SEPARATOR
+                && key.regionMatches(modelLength + 1, variable, 0, variable.length());
+    }
+
+    /**
+     * @return true if the key of the pair at the given position is the key of the given model and variable
+     */
+    private boolean keyEquals(int position, String model, String variable) {
+        String otherModel = models.decode(modelCodes[position]);
+        String otherVariable = variables.decode(variableCodes[position]);
+        if (model.length() + variable.length() != otherModel.length() + otherVariable.length()) {
+            return false;
+        }
+        if (model.length() == otherModel.length()) {
+            return model.equals(otherModel) && variable.equals(otherVariable);
+        }
+        return model.length() < otherModel.length()
+                ? splitKeyEquals(model, variable, otherModel, otherVariable)
+                : splitKeyEquals(otherModel, otherVariable, model, variable);
+    }
+
+    /**
+     * @return true if the keys of the two pairs of same key length are equal, the first model being the shortest
+     */
+    private static boolean splitKeyEquals(String shortModel, String longVariable, String longModel, String shortVariable) {
+        int shortLength = shortModel.length();
+        // the long model overlaps the long variable on the characters between the two separators
+        int overlap = longModel.length() - shortLength - 1;
+        return longModel.startsWith(shortModel)
+                && longModel.charAt(shortLength) == KEY_SEPARATOR
+                && longVariable.regionMatches(0, longModel, shortLength + 1, overlap)
+                && longVariable.charAt(overlap) == KEY_SEPARATOR
+                && longVariable.regionMatches(overlap + 1, shortVariable, 0, shortVariable.length());
+    }
+
+    private void rehash(int length) {
+        slots = new int[length];
+        keySlots = new int[length];
+        int mask = length - 1;
+        for (int position = 0; position < size; position++) {
+            slots[findSlot(modelCodes[position], variableCodes[position])] = position + 1;
+            int keySlot = spread(keyHashes[position]) & mask;
+            while (keySlots[keySlot] != 0) {
+                keySlot = (keySlot + 1) & mask;
+            }
+            keySlots[keySlot] = position + 1;
+        }
+    }
+
+    private static int hash(int modelCode, int variableCode) {
+        long pair = ((long) modelCode << 32) | variableCode;
+        return (int) ((pair * HASH_MULTIPLIER) >>> 32);
+    }
+
+    /**
+     * @return the hash code of the model_variable key, as computed by {@link String#hashCode()}
+     */
+    private static int keyHash(String model, String variable) {
+        return (model.hashCode() * 31 + KEY_SEPARATOR) * pow31(variable.length()) + variable.hashCode();
+    }
+
+    private static int pow31(int exponent) {
+        int result = 1;
+        int base = 31;
+        for (int e = exponent; e > 0; e >>= 1) {
+            if ((e & 1) != 0) {
+                result *= base;
+            }
+            base *= base;
+        }
+        return result;
+    }
+
+    private static int spread(int keyHash) {
+        int h = keyHash * KEY_HASH_MULTIPLIER;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.outputvariables;
+
+import com.powsybl.timeseries.DoubleTimeSeries;
+import com.powsybl.timeseries.TimeSeriesException;
+import com.powsybl.timeseries.TimeSeriesIndex;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import static com.powsybl.dynawo.commons.ByteBufferUtil.indexOf;
+import static com.powsybl.dynawo.commons.ByteBufferUtil.parseDouble;
+
+/**
+ * Curves of an indexed curves file, each curve being parsed from the file windows on first access and then cached.
+ * <p>
+ * A value is found from the position of its row and from the nearest preceding checkpoint, a checkpoint being kept
+ * for every {@value #CHECKPOINT_STRIDE}th value of each row.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+final class MappedCurves extends AbstractMap<String, DoubleTimeSeries> {
+
+    static final int CHECKPOINT_STRIDE = 64;
+
+    private final String[] names;
+    private final Map<String, Integer> columns;
+    private final int[] columnTokens;
+    private final TimeSeriesIndex index;
+    private final long[] rowPositions;
+    private final int[] checkpoints;
+    private final int checkpointCount;
+    private final ByteBuffer[] windows;
+    private final long windowSize;
+    private final byte separator;
+    private final DoubleTimeSeries[] curves;
+
+    MappedCurves(String[] names, int[] columnTokens, TimeSeriesIndex index, long[] rowPositions, int[] checkpoints,
+                 int checkpointCount, ByteBuffer[] windows, long windowSize, byte separator) {
+        this.names = names;
+        this.columns = LinkedHashMap.newLinkedHashMap(names.length);
+        for (int i = 0; i < names.length; i++) {
+            columns.put(names[i], i);
+        }
+        this.columnTokens = columnTokens;
+        this.index = index;
+        this.rowPositions = rowPositions;
+        this.checkpoints = checkpoints;
+        this.checkpointCount = checkpointCount;
+        this.windows = windows;
+        this.windowSize = windowSize;
+        this.separator = separator;
+        this.curves = new DoubleTimeSeries[names.length];
+    }
+
+    @Override
+    public DoubleTimeSeries get(Object name) {
+        Integer column = columns.get(name);
+        return column != null ? getCurve(column) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+        return columns.containsKey(name);
+    }
+
+    @Override
+    public int size() {
+        return columns.size();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(columns.keySet());
+    }
+
+    @Override
+    public Set<Entry<String, DoubleTimeSeries>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, DoubleTimeSeries>> iterator() {
+                Iterator<Entry<String, Integer>> it = columns.entrySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, DoubleTimeSeries> next() {
+                        Entry<String, Integer> column = it.next();
+                        return new SimpleImmutableEntry<>(column.getKey(), getCurve(column.getValue()));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return columns.size();
+            }
+        };
+    }
+
+    boolean isLoaded(String name) {
+        Integer column = columns.get(name);
+        synchronized (this) {
+            return column != null && curves[column] != null;
+        }
+    }
+
+    private synchronized DoubleTimeSeries getCurve(int column) {
+        if (curves[column] == null) {
+            curves[column] = load(column);
+        }
+        return curves[column];
+    }
+
+    private DoubleTimeSeries load(int column) {
+        int token = columnTokens[column];
+        int checkpoint = token / CHECKPOINT_STRIDE;
+        int skippedTokens = token % CHECKPOINT_STRIDE;
+        double[] values = new double[rowPositions.length];
+        for (int row = 0; row < rowPositions.length; row++) {
+            int window = (int) (rowPositions[row] / windowSize);
+            ByteBuffer buffer = windows[window];
+            int limit = buffer.limit();
+            int start = (int) (rowPositions[row] - window * windowSize) + checkpoints[row * checkpointCount + checkpoint];
+            for (int i = 0; i < skippedTokens; i++) {
+                start = indexOf(buffer, separator, start, limit) + 1;
+            }
+            int end = start;
+            while (end < limit && !isTokenEnd(buffer.get(end))) {
+                end++;
+            }
+            try {
+                values[row] = parseDouble(buffer, start, end);
+            } catch (NumberFormatException e) {
+                throw new TimeSeriesException("Invalid value of curve " + names[column] + " at row " + (row + 1) + ": " + e.getMessage());
+            }
+        }
+        return CsvCurvesParser.createTimeSeries(names[column], index, values);
+    }
+
+    private boolean isTokenEnd(byte b) {
+        return b == separator || b == '\n' || b == '\r';
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.parameters;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Insertion-ordered table of parameters stored in parallel arrays.
+ * <p>
+ * Names are interned, DOUBLE, INT and BOOL values are parsed once and stored as primitives. The value text is only
+ * kept when it cannot be rebuilt from the primitive value (e.g. "0" for a DOUBLE), or when it cannot be parsed, so
+ * that {@link Parameter#value()} always returns the text given.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+final class ParameterTable {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final ParameterType[] TYPES = ParameterType.values();
+    // flag added to the type ordinal of DOUBLE and INT values which cannot be parsed
+    private static final byte UNPARSED = 0x10;
+    private static final byte TYPE_MASK = 0x0F;
+
+    private static final String[] EMPTY_STRINGS = new String[0];
+
+    // arrays are allocated on first addition
+    private String[] names = EMPTY_STRINGS;
+    private byte[] types = new byte[0];
+    private long[] values = new long[0];
+    private String[] texts = EMPTY_STRINGS;
+    // open addressing hash index: parameter index + 1, 0 for an empty slot
+    private int[] slots = new int[0];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int indexOf(Object name) {
+        if (size == 0 || name == null) {
+            return -1;
+        }
+        int mask = slots.length - 1;
+        int slot = spread(name.hashCode()) & mask;
+        int index;
+        while ((index = slots[slot]) != 0) {
+            if (names[index - 1].equals(name)) {
+                return index - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Adds the parameter, or replaces the value of the parameter with the same name keeping its position
+     */
+    void put(String name, ParameterType type, String value) {
+        Objects.requireNonNull(name);
+        int index = indexOf(name);
+        if (index < 0) {
+            if (size == names.length) {
+                grow();
+            }
+            index = size++;
+            names[index] = name.intern();
+            addSlot(index);
+        }
+        set(index, type, value);
+    }
+
+    private void set(int index, ParameterType type, String value) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(value);
+        byte typeCode = (byte) type.ordinal();
+        String text = null;
+        long primitive = 0;
+        try {
+            switch (type) {
+                case DOUBLE -> {
+                    double d = Double.parseDouble(value);
+                    primitive = Double.doubleToRawLongBits(d);
+                    text = Double.toString(d).equals(value) ? null : value;
+                }
+                case INT -> {
+                    int i = Integer.parseInt(value);
+                    primitive = i;
+                    text = Integer.toString(i).equals(value) ? null : value;
+                }
+                case BOOL -> {
+                    boolean b = Boolean.parseBoolean(value);
+                    primitive = b ? 1 : 0;
+                    text = Boolean.toString(b).equals(value) ? null : value;
+                }
+                case STRING -> text = value;
+            }
+        } catch (NumberFormatException e) {
+            // kept as text, parsing will fail again when the value is read
+            typeCode |= UNPARSED;
+            text = value;
+        }
+        types[index] = typeCode;
+        values[index] = primitive;
+        texts[index] = text;
+    }
+
+    String getName(int index) {
+        return names[index];
+    }
+
+    ParameterType getType(int index) {
+        return TYPES[types[index] & TYPE_MASK];
+    }
+
+    String getValue(int index) {
+        if (texts[index] != null) {
+            return texts[index];
+        }
+        return switch (getType(index)) {
+            case DOUBLE -> Double.toString(Double.longBitsToDouble(values[index]));
+            case INT -> Integer.toString((int) values[index]);
+            case BOOL -> Boolean.toString(values[index] != 0);
+            case STRING -> throw new IllegalStateException();
+        };
+    }
+
+    double getDouble(int index) {
+        return isUnparsed(index) ? Double.parseDouble(texts[index]) : Double.longBitsToDouble(values[index]);
+    }
+
+    int getInt(int index) {
+        return isUnparsed(index) ? Integer.parseInt(texts[index]) : (int) values[index];
+    }
+
+    boolean getBool(int index) {
+        return values[index] != 0;
+    }
+
+    Parameter getParameter(int index) {
+        return new Parameter(names[index], getType(index), getValue(index));
+    }
+
+    private boolean isUnparsed(int index) {
+        return (types[index] & UNPARSED) != 0;
+    }
+
+    private void grow() {
+        int capacity = Math.max(INITIAL_CAPACITY, names.length * 2);
+        names = Arrays.copyOf(names, capacity);
+        types = Arrays.copyOf(types, capacity);
+        values = Arrays.copyOf(values, capacity);
+        texts = Arrays.copyOf(texts, capacity);
+        slots = new int[capacity * 2];
+        for (int i = 0; i < size; i++) {
+            addSlot(i);
+        }
+    }
+
+    private void addSlot(int index) {
+        int mask = slots.length - 1;
+        int slot = spread(names[index].hashCode()) & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = index + 1;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -8,12 +8,14 @@
 package com.powsybl.dynawo.parameters;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
 import com.powsybl.commons.PowsyblException;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Marcos de Miguel {@literal <demiguelm at aia.es>}
@@ -22,36 +24,117 @@ import java.util.*;
 public class ParametersSet {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ParametersSet.class);
-    private final Map<String, Parameter> parameters;
-    private final Map<String, Reference> references;
-    private final Map<String, Map<String, PrefixParameter>> prefixParameters;
+    // parameters shared with the copied and copying sets, frozen when the set is created and never modified
+    private ParameterTable baseParameters;
+    // parameters added to the set, overriding the base parameters with the same name
+    private ParameterTable parameters;
+    private int addedParameterCount;
+    private Map<String, Reference> references;
+    private Map<String, Map<String, PrefixParameter>> prefixParameters;
+    // true when the references and prefix parameters are shared, they are never modified and have to be copied first
+    private boolean shared;
+    // write-through views, created on first use
+    private ParametersView parametersView;
+    private ReferencesView referencesView;
+    private PrefixParametersView prefixParametersView;
     private final String id;
     private static final String ORIGIN_DATA = "IIDM";
 
     public ParametersSet(@JsonProperty("id") String id) {
         this.id = id;
-        this.parameters = new LinkedHashMap<>();
+        this.baseParameters = null;
+        this.parameters = new ParameterTable();
         this.references = new LinkedHashMap<>();
         this.prefixParameters = new HashMap<>();
     }
 
+    /**
+     * Creates a copy of the given parameters set, which is only read: the content is shared between the two sets if
+     * the given set is itself an unmodified copy, otherwise it is copied once into the content shared by the new set
+     * and its own copies. Each set only stores its own modifications.
+     */
     public ParametersSet(String id, ParametersSet parametersSet) {
         this.id = id;
-        this.parameters = new LinkedHashMap<>(parametersSet.parameters);
-        this.references = new LinkedHashMap<>(parametersSet.references);
-        this.prefixParameters = new HashMap<>(parametersSet.prefixParameters);
+        this.baseParameters = parametersSet.baseParameters != null && parametersSet.parameters.size() == 0
+                ? parametersSet.baseParameters
+                : parametersSet.flattenParameters();
+        this.parameters = new ParameterTable();
+        if (parametersSet.shared) {
+            this.references = parametersSet.references;
+            this.prefixParameters = parametersSet.prefixParameters;
+        } else {
+            this.references = new LinkedHashMap<>(parametersSet.references);
+            this.prefixParameters = copyPrefixParameters(parametersSet.prefixParameters);
+        }
+        this.shared = true;
+    }
+
+    private ParameterTable flattenParameters() {
+        ParameterTable flatParameters = new ParameterTable();
+        forEachParameter((table, index) -> flatParameters.put(table.getName(index), table.getType(index), table.getValue(index)));
+        return flatParameters;
+    }
+
+    private void copyOnWrite() {
+        if (shared) {
+            references = new LinkedHashMap<>(references);
+            prefixParameters = copyPrefixParameters(prefixParameters);
+            shared = false;
+        }
+    }
+
+    private static Map<String, Map<String, PrefixParameter>> copyPrefixParameters(Map<String, Map<String, PrefixParameter>> prefixParameters) {
+        Map<String, Map<String, PrefixParameter>> prefixParametersCopy = new HashMap<>();
+        prefixParameters.forEach((name, map) -> prefixParametersCopy.put(name, new HashMap<>(map)));
+        return prefixParametersCopy;
+    }
+
+    /**
+     * Returns the table holding the given parameter, null if the parameter does not exist
+     */
+    private ParameterTable getTable(Object parameterName) {
+        if (parameters.indexOf(parameterName) >= 0) {
+            return parameters;
+        }
+        return baseParameters != null && baseParameters.indexOf(parameterName) >= 0 ? baseParameters : null;
     }
 
     public void addParameter(String name, ParameterType type, String value) {
-        parameters.put(name, new Parameter(name, type, value));
+        if (getTable(name) == null) {
+            addedParameterCount++;
+        }
+        parameters.put(name, type, value);
     }
 
     public void addParameter(Parameter parameter) {
-        parameters.put(parameter.name(), parameter);
+        addParameter(parameter.name(), parameter.type(), parameter.value());
     }
 
     public void replaceParameter(String parameterName, ParameterType type, String value) {
-        parameters.replace(parameterName, new Parameter(parameterName, type, value));
+        if (getTable(parameterName) != null) {
+            parameters.put(parameterName, type, value);
+        }
+    }
+
+    /**
+     * Removes the parameter, the parameters shared with other sets are copied first
+     */
+    private Parameter removeParameter(Object parameterName) {
+        ParameterTable table = getTable(parameterName);
+        if (table == null) {
+            return null;
+        }
+        Parameter removed = table.getParameter(table.indexOf(parameterName));
+        ParameterTable remainingParameters = new ParameterTable();
+        forEachParameter((t, index) -> {
+            if (!t.getName(index).equals(parameterName)) {
+                remainingParameters.put(t.getName(index), t.getType(index), t.getValue(index));
+            }
+        });
+        baseParameters = null;
+        parameters = remainingParameters;
+        addedParameterCount = 0;
+        return removed;
     }
 
     public void addReference(String name, ParameterType type, String origName, String componentId) {
@@ -60,10 +143,11 @@ public class ParametersSet {
             return;
         }
 
-        if (parameters.containsKey(name) || references.containsKey(name)) {
+        if (getTable(name) != null || references.containsKey(name)) {
             return;
         }
 
+        copyOnWrite();
         references.put(name, new Reference(name, type, ORIGIN_DATA, origName, componentId));
     }
 
@@ -72,6 +156,7 @@ public class ParametersSet {
     }
 
     public void addPrefixParameter(String name, String componentId, ParameterType type, String value) {
+        copyOnWrite();
         prefixParameters.computeIfAbsent(name, k -> new HashMap<>())
                 .put(componentId, new PrefixParameter(name, componentId, type, value));
     }
@@ -80,51 +165,125 @@ public class ParametersSet {
         return id;
     }
 
+    /**
+     * Returns a view of the parameters, in insertion order. Modifications of the view are written through to the set:
+     * {@code put} adds or replaces the parameter and {@code remove} removes it.
+     */
     public Map<String, Parameter> getParameters() {
-        return parameters;
+        if (parametersView == null) {
+            parametersView = new ParametersView();
+        }
+        return parametersView;
     }
 
+    /**
+     * Returns a view of the references, in insertion order. Modifications of the view are written through to the set.
+     */
     public Map<String, Reference> getReferences() {
-        return references;
+        if (referencesView == null) {
+            referencesView = new ReferencesView();
+        }
+        return referencesView;
     }
 
+    /**
+     * Returns a view of the prefix parameters by name then by component id. Modifications of the view and of its
+     * values are written through to the set.
+     */
     public Map<String, Map<String, PrefixParameter>> getPrefixParameters() {
-        return prefixParameters;
+        if (prefixParametersView == null) {
+            prefixParametersView = new PrefixParametersView();
+        }
+        return prefixParametersView;
+    }
+
+    @JsonSetter("parameters")
+    private void setParameters(Map<String, Parameter> parameters) {
+        parameters.values().forEach(this::addParameter);
+    }
+
+    @JsonSetter("references")
+    private void setReferences(Map<String, Reference> references) {
+        copyOnWrite();
+        references.values().forEach(reference -> this.references.put(reference.name(), reference));
+    }
+
+    @JsonSetter("prefixParameters")
+    private void setPrefixParameters(Map<String, Map<String, PrefixParameter>> prefixParameters) {
+        prefixParameters.values().forEach(map -> map.values().forEach(p -> addPrefixParameter(p.name(), p.componentId(), p.type(), p.value())));
     }
 
     public boolean getBool(String parameterName) {
-        Parameter parameter = getParameter(parameterName, ParameterType.BOOL);
-        return Boolean.parseBoolean(parameter.value());
+        ParameterTable table = getTable(parameterName, ParameterType.BOOL);
+        return table.getBool(table.indexOf(parameterName));
     }
 
     public double getDouble(String parameterName) {
-        Parameter parameter = getParameter(parameterName, ParameterType.DOUBLE);
-        return Double.parseDouble(parameter.value());
+        ParameterTable table = getTable(parameterName, ParameterType.DOUBLE);
+        return table.getDouble(table.indexOf(parameterName));
     }
 
     public int getInt(String parameterName) {
-        Parameter parameter = getParameter(parameterName, ParameterType.INT);
-        return Integer.parseInt(parameter.value());
+        ParameterTable table = getTable(parameterName, ParameterType.INT);
+        return table.getInt(table.indexOf(parameterName));
     }
 
     public String getString(String parameterName) {
-        Parameter parameter = getParameter(parameterName, ParameterType.STRING);
-        return parameter.value();
+        ParameterTable table = getTable(parameterName, ParameterType.STRING);
+        return table.getValue(table.indexOf(parameterName));
     }
 
     public boolean hasParameter(String parameterName) {
-        return parameters.containsKey(parameterName);
+        return getTable(parameterName) != null;
     }
 
-    private Parameter getParameter(String parameterName, ParameterType type) {
-        Parameter parameter = parameters.get(parameterName);
-        if (parameter == null) {
+    private ParameterTable getTable(String parameterName, ParameterType type) {
+        ParameterTable table = getTable(parameterName);
+        if (table == null) {
             throw new IllegalArgumentException("Parameter " + parameterName + " not found in set " + id);
         }
-        if (parameter.type() != type) {
-            throw new PowsyblException("Invalid parameter type: " + parameter.type() + " (" + type + " expected)");
+        ParameterType parameterType = table.getType(table.indexOf(parameterName));
+        if (parameterType != type) {
+            throw new PowsyblException("Invalid parameter type: " + parameterType + " (" + type + " expected)");
+        }
+        return table;
+    }
+
+    private int getParametersCount() {
+        return baseParameters != null ? baseParameters.size() + addedParameterCount : parameters.size();
+    }
+
+    /**
+     * Visits the parameters in insertion order, each base parameter being replaced by its overriding parameter if any
+     */
+    private void forEachParameter(ParameterVisitor visitor) {
+        if (baseParameters != null) {
+            boolean overrides = parameters.size() > addedParameterCount;
+            for (int i = 0; i < baseParameters.size(); i++) {
+                int index = overrides ? parameters.indexOf(baseParameters.getName(i)) : -1;
+                if (index >= 0) {
+                    visitor.visit(parameters, index);
+                } else {
+                    visitor.visit(baseParameters, i);
+                }
+            }
+            if (addedParameterCount > 0) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    if (baseParameters.indexOf(parameters.getName(i)) < 0) {
+                        visitor.visit(parameters, i);
+                    }
+                }
+            }
+        } else {
+            for (int i = 0; i < parameters.size(); i++) {
+                visitor.visit(parameters, i);
+            }
         }
-        return parameter;
+    }
+
+    @FunctionalInterface
+    private interface ParameterVisitor {
+        void visit(ParameterTable table, int index);
     }
 
     /**
@@ -151,7 +310,247 @@ public class ParametersSet {
 
     @Override
     public String toString() {
-        return StringUtils.joinWith(",", id, StringUtils.join(parameters), StringUtils.join(references),
+        return StringUtils.joinWith(",", id, StringUtils.join(getParameters()), StringUtils.join(references),
                 StringUtils.join(prefixParameters));
     }
+
+    /**
+     * Map view iterating over a snapshot of its entries, removals through the iterator being written through to the set
+     */
+    private abstract static class AbstractWriteThroughView<V> extends AbstractMap<String, V> {
+
+        abstract List<Entry<String, V>> snapshot();
+
+        @Override
+        public Set<Entry<String, V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, V>> iterator() {
+                    Iterator<Entry<String, V>> entries = snapshot().iterator();
+                    return new Iterator<>() {
+                        private Entry<String, V> last;
+
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, V> next() {
+                            last = entries.next();
+                            return last;
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (last == null) {
+                                throw new IllegalStateException();
+                            }
+                            AbstractWriteThroughView.this.remove(last.getKey());
+                            last = null;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return AbstractWriteThroughView.this.size();
+                }
+            };
+        }
+    }
+
+    /**
+     * Map view of the parameters tables
+     */
+    private final class ParametersView extends AbstractWriteThroughView<Parameter> {
+
+        @Override
+        public Parameter get(Object key) {
+            ParameterTable table = getTable(key);
+            return table != null ? table.getParameter(table.indexOf(key)) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return getTable(key) != null;
+        }
+
+        @Override
+        public int size() {
+            return getParametersCount();
+        }
+
+        @Override
+        public Parameter put(String key, Parameter value) {
+            Parameter previous = get(key);
+            if (previous != null) {
+                replaceParameter(key, value.type(), value.value());
+            } else {
+                addParameter(key, value.type(), value.value());
+            }
+            return previous;
+        }
+
+        @Override
+        public Parameter remove(Object key) {
+            return removeParameter(key);
+        }
+
+        @Override
+        List<Entry<String, Parameter>> snapshot() {
+            List<Entry<String, Parameter>> entries = new ArrayList<>(getParametersCount());
+            forEachParameter((table, index) -> {
+                Parameter parameter = table.getParameter(index);
+                entries.add(new SimpleImmutableEntry<>(parameter.name(), parameter));
+            });
+            return entries;
+        }
+    }
+
+    /**
+     * Map view of the references, copied before the first modification when shared
+     */
+    private final class ReferencesView extends AbstractWriteThroughView<Reference> {
+
+        @Override
+        public Reference get(Object key) {
+            return references.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return references.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return references.size();
+        }
+
+        @Override
+        public Reference put(String key, Reference value) {
+            copyOnWrite();
+            return references.put(key, value);
+        }
+
+        @Override
+        public Reference remove(Object key) {
+            if (!references.containsKey(key)) {
+                return null;
+            }
+            copyOnWrite();
+            return references.remove(key);
+        }
+
+        @Override
+        List<Entry<String, Reference>> snapshot() {
+            List<Entry<String, Reference>> entries = new ArrayList<>(references.size());
+            references.forEach((name, reference) -> entries.add(new SimpleImmutableEntry<>(name, reference)));
+            return entries;
+        }
+    }
+
+    /**
+     * Map view of the prefix parameters, copied before the first modification when shared
+     */
+    private final class PrefixParametersView extends AbstractWriteThroughView<Map<String, PrefixParameter>> {
+
+        // the views hold no state besides their name, concurrent readers of a shared set may create them
+        private final Map<String, ComponentsView> componentsViews = new ConcurrentHashMap<>();
+
+        private ComponentsView getComponentsView(String name) {
+            return componentsViews.computeIfAbsent(name, ComponentsView::new);
+        }
+
+        @Override
+        public Map<String, PrefixParameter> get(Object key) {
+            return key instanceof String name && prefixParameters.containsKey(name) ? getComponentsView(name) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return prefixParameters.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return prefixParameters.size();
+        }
+
+        @Override
+        public Map<String, PrefixParameter> put(String key, Map<String, PrefixParameter> value) {
+            copyOnWrite();
+            return prefixParameters.put(key, new HashMap<>(value));
+        }
+
+        @Override
+        public Map<String, PrefixParameter> remove(Object key) {
+            if (!prefixParameters.containsKey(key)) {
+                return null;
+            }
+            copyOnWrite();
+            return prefixParameters.remove(key);
+        }
+
+        @Override
+        List<Entry<String, Map<String, PrefixParameter>>> snapshot() {
+            List<Entry<String, Map<String, PrefixParameter>>> entries = new ArrayList<>(prefixParameters.size());
+            prefixParameters.keySet().forEach(name -> entries.add(new SimpleImmutableEntry<>(name, getComponentsView(name))));
+            return entries;
+        }
+    }
+
+    /**
+     * Map view of the prefix parameters with the given name by component id
+     */
+    private final class ComponentsView extends AbstractWriteThroughView<PrefixParameter> {
+
+        private final String name;
+
+        private ComponentsView(String name) {
+            this.name = name;
+        }
+
+        private Map<String, PrefixParameter> components() {
+            return prefixParameters.getOrDefault(name, Collections.emptyMap());
+        }
+
+        @Override
+        public PrefixParameter get(Object key) {
+            return components().get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return components().containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return components().size();
+        }
+
+        @Override
+        public PrefixParameter put(String key, PrefixParameter value) {
+            copyOnWrite();
+            return prefixParameters.computeIfAbsent(name, k -> new HashMap<>()).put(key, value);
+        }
+
+        @Override
+        public PrefixParameter remove(Object key) {
+            if (!components().containsKey(key)) {
+                return null;
+            }
+            copyOnWrite();
+            return prefixParameters.get(name).remove(key);
+        }
+
+        @Override
+        List<Entry<String, PrefixParameter>> snapshot() {
+            List<Entry<String, PrefixParameter>> entries = new ArrayList<>(size());
+            components().forEach((componentId, p) -> entries.add(new SimpleImmutableEntry<>(componentId, p)));
+            return entries;
+        }
+    }
 }
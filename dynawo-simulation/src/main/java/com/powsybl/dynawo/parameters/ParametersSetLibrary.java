@@ -0,0 +1,453 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.parameters;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.dynawo.xml.ParametersXml;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Library of the parameters sets of a par file, indexed once and materialised on demand.
+ * <p>
+ * The file is memory-mapped and scanned a single time to record the byte range of each {@code set} element, a set is
+ * only parsed the first time it is requested. The most recently loaded libraries are cached by file path, and reindexed
+ * when the file last modified time or size changes: repeated and concurrent loads of the same file share the same
+ * index and parsed sets.
+ * Parsed sets are kept in the library, callers are given copies they are free to modify.
+ * <p>
+ * The file stays mapped as long as the library is reachable, which on Windows prevents its deletion: libraries
+ * evicted from the cache are unmapped once garbage collected.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+public final class ParametersSetLibrary {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParametersSetLibrary.class);
+    private static final int MAX_CACHED_LIBRARIES = 8;
+    // least recently used libraries are evicted first
+    private static final Map<Path, ParametersSetLibrary> LIBRARIES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, ParametersSetLibrary> eldest) {
+            return size() > MAX_CACHED_LIBRARIES;
+        }
+    };
+    private static final String SET_ELEMENT_NAME = "set";
+    private static final String ID_ATTRIBUTE = "id";
+
+    private final Path file;
+    private final FileTime lastModifiedTime;
+    private final long size;
+    private final ByteBuffer buffer;
+    // root element start tag and end tag, wrapping each set when parsed
+    private byte[] rootStartTag;
+    private byte[] rootEndTag;
+    // set id -> byte range of the last set element with this id, in file order of the first one
+    private final Map<String, int[]> setRanges = new LinkedHashMap<>();
+    private final Map<String, ParametersSet> parsedSets = new ConcurrentHashMap<>();
+
+    private ParametersSetLibrary(Path file, BasicFileAttributes attributes) {
+        this.file = file;
+        this.lastModifiedTime = attributes.lastModifiedTime();
+        this.size = attributes.size();
+        this.buffer = map(file);
+        index();
+        LOGGER.debug("Parameters file {} indexed: {} parameters sets", file, setRanges.size());
+    }
+
+    /**
+     * Returns the library of the given par file, indexing it if not already cached or if the file changed since
+     */
+    public static ParametersSetLibrary load(Path parametersFile) {
+        Path key = parametersFile.toAbsolutePath().normalize();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ParametersSetLibrary library = getCachedLibrary(key, attributes);
+        if (library != null) {
+            return library;
+        }
+        // indexed without holding the cache lock, a concurrent load of the same file may index it too but only one
+        // of the libraries is cached
+        ParametersSetLibrary indexedLibrary = new ParametersSetLibrary(key, attributes);
+        synchronized (LIBRARIES) {
+            library = getCachedLibrary(key, attributes);
+            if (library != null) {
+                return library;
+            }
+            LIBRARIES.put(key, indexedLibrary);
+            return indexedLibrary;
+        }
+    }
+
+    private static ParametersSetLibrary getCachedLibrary(Path key, BasicFileAttributes attributes) {
+        synchronized (LIBRARIES) {
+            ParametersSetLibrary library = LIBRARIES.get(key);
+            return library != null && library.isUpToDate(attributes) ? library : null;
+        }
+    }
+
+    private boolean isUpToDate(BasicFileAttributes attributes) {
+        return lastModifiedTime.equals(attributes.lastModifiedTime()) && size == attributes.size();
+    }
+
+    private static ByteBuffer map(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (UnsupportedOperationException e) {
+            // file system without memory mapping support
+            try {
+                return ByteBuffer.wrap(Files.readAllBytes(file));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the parameters sets ids, in file order
+     */
+    public Set<String> getIds() {
+        return Collections.unmodifiableSet(setRanges.keySet());
+    }
+
+    public boolean contains(String parameterSetId) {
+        return setRanges.containsKey(parameterSetId);
+    }
+
+    /**
+     * Returns a copy of the parameters set with the given id, parsing it on first access
+     */
+    public ParametersSet getParametersSet(String parameterSetId) {
+        int[] range = setRanges.get(parameterSetId);
+        if (range == null) {
+            throw new PowsyblException("Could not find parameters set with id='" + parameterSetId + "' in file '" + file + "'");
+        }
+        // frozen once parsed, so that the copies given to callers share its content
+        ParametersSet parametersSet = parsedSets.computeIfAbsent(parameterSetId, id -> new ParametersSet(id, parse(range)));
+        return new ParametersSet(parameterSetId, parametersSet);
+    }
+
+    /**
+     * Returns a copy of every parameters set, in file order
+     */
+    public List<ParametersSet> getParametersSets() {
+        return setRanges.keySet().stream().map(this::getParametersSet).toList();
+    }
+
+    /**
+     * Returns a mutable map of the library parameters sets by id, each set being parsed on first access
+     */
+    public Map<String, ParametersSet> createParametersSetsMap() {
+        return new LazyParametersSetsMap(this);
+    }
+
+    private ParametersSet parse(int[] range) {
+        byte[] set = new byte[range[1] - range[0]];
+        buffer.get(range[0], set);
+        ByteArrayOutputStream document = new ByteArrayOutputStream(rootStartTag.length + set.length + rootEndTag.length);
+        document.writeBytes(rootStartTag);
+        document.writeBytes(set);
+        document.writeBytes(rootEndTag);
+        List<ParametersSet> parametersSets = ParametersXml.load(new ByteArrayInputStream(document.toByteArray()));
+        return parametersSets.getFirst();
+    }
+
+    /**
+     * Scans the file for the root element and the {@code set} elements below it, skipping declarations and comments
+     */
+    private void index() {
+        int limit = buffer.limit();
+        int depth = 0;
+        int setStart = -1;
+        String setId = null;
+        int pos = indexOf("<", 0);
+        while (pos >= 0 && pos < limit) {
+            if (startsWith("<!--", pos)) {
+                pos = skipTo("-->", pos);
+            } else if (startsWith("<![CDATA[", pos)) {
+                pos = skipTo("]]>", pos);
+            } else if (startsWith("<?", pos)) {
+                pos = skipTo("?>", pos);
+            } else if (startsWith("<!", pos)) {
+                pos = skipTo(">", pos);
+            } else if (startsWith("</", pos)) {
+                int end = skipTo(">", pos);
+                depth--;
+                if (depth == 0) {
+                    rootEndTag = copy(pos, end);
+                } else if (depth == 1 && setStart >= 0) {
+                    addSet(setId, setStart, end);
+                    setStart = -1;
+                }
+                pos = end;
+            } else {
+                int tagEnd = findStartTagEnd(pos);
+                boolean emptyElement = buffer.get(tagEnd - 2) == '/';
+                String name = readName(pos + 1);
+                if (depth == 0) {
+                    rootStartTag = copy(pos, tagEnd);
+                    if (emptyElement) {
+                        rootStartTag[rootStartTag.length - 2] = ' ';
+                        rootEndTag = ("</" + name + ">").getBytes(StandardCharsets.UTF_8);
+                    }
+                } else if (depth == 1) {
+                    String localName = name.substring(name.indexOf(':') + 1);
+                    if (!localName.equals(SET_ELEMENT_NAME)) {
+                        throw new PowsyblException("Unexpected element: " + localName);
+                    }
+                    String id = readIdAttribute(pos + 1 + name.length(), tagEnd);
+                    if (emptyElement) {
+                        addSet(id, pos, tagEnd);
+                    } else {
+                        setStart = pos;
+                        setId = id;
+                    }
+                }
+                if (!emptyElement) {
+                    depth++;
+                }
+                pos = tagEnd;
+            }
+            pos = indexOf("<", pos);
+        }
+        if (rootStartTag == null || depth != 0) {
+            throw new PowsyblException("Invalid parameters file '" + file + "'");
+        }
+    }
+
+    private void addSet(String id, int start, int end) {
+        if (id == null) {
+            throw new PowsyblException("Parameters set without id in file '" + file + "'");
+        }
+        if (setRanges.put(id, new int[]{start, end}) != null) {
+            LOGGER.warn("Parameters set '{}' defined several times in file '{}', the last definition is used", id, file);
+        }
+    }
+
+    private boolean startsWith(String prefix, int pos) {
+        if (pos + prefix.length() > buffer.limit()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (buffer.get(pos + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOf(String pattern, int from) {
+        if (pattern.length() == 1) {
+            byte b = (byte) pattern.charAt(0);
+            for (int i = from; i < buffer.limit(); i++) {
+                if (buffer.get(i) == b) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int last = buffer.limit() - pattern.length();
+        for (int i = from; i <= last; i++) {
+            if (startsWith(pattern, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position following the given pattern, searched from the given position
+     */
+    private int skipTo(String pattern, int from) {
+        int i = indexOf(pattern, from + 1);
+        if (i < 0) {
+            throw new PowsyblException("Invalid parameters file '" + file + "'");
+        }
+        return i + pattern.length();
+    }
+
+    /**
+     * Returns the position following the start tag closing bracket, ignoring brackets in attribute values
+     */
+    private int findStartTagEnd(int pos) {
+        byte quote = 0;
+        for (int i = pos + 1; i < buffer.limit(); i++) {
+            byte b = buffer.get(i);
+            if (quote != 0) {
+                if (b == quote) {
+                    quote = 0;
+                }
+            } else if (b == '"' || b == '\'') {
+                quote = b;
+            } else if (b == '>') {
+                return i + 1;
+            }
+        }
+        throw new PowsyblException("Invalid parameters file '" + file + "'");
+    }
+
+    private String readName(int pos) {
+        int end = pos;
+        while (end < buffer.limit() && !isNameEnd(buffer.get(end))) {
+            end++;
+        }
+        return new String(copy(pos, end), StandardCharsets.UTF_8);
+    }
+
+    private static boolean isNameEnd(byte b) {
+        return isWhitespace(b) || b == '>' || b == '/' || b == '=';
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    private String readIdAttribute(int pos, int tagEnd) {
+        int i = pos;
+        while (i < tagEnd) {
+            while (i < tagEnd && isWhitespace(buffer.get(i))) {
+                i++;
+            }
+            if (buffer.get(i) == '/' || buffer.get(i) == '>') {
+                return null;
+            }
+            String name = readName(i);
+            i += name.length();
+            while (buffer.get(i) != '"' && buffer.get(i) != '\'') {
+                i++;
+            }
+            byte quote = buffer.get(i);
+            int valueStart = ++i;
+            while (buffer.get(i) != quote) {
+                i++;
+            }
+            if (name.equals(ID_ATTRIBUTE)) {
+                return unescape(new String(copy(valueStart, i), StandardCharsets.UTF_8));
+            }
+            i++;
+        }
+        return null;
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        int i = 0;
+        while (i < value.length()) {
+            int end = value.indexOf(';', i);
+            if (value.charAt(i) != '&' || end < 0) {
+                sb.append(value.charAt(i++));
+                continue;
+            }
+            String entity = value.substring(i + 1, end);
+            switch (entity) {
+                case "lt" -> sb.append('<');
+                case "gt" -> sb.append('>');
+                case "amp" -> sb.append('&');
+                case "apos" -> sb.append('\'');
+                case "quot" -> sb.append('"');
+                default -> sb.appendCodePoint(entity.startsWith("#x") ? Integer.parseInt(entity.substring(2), 16)
+                        : Integer.parseInt(entity.substring(1)));
+            }
+            i = end + 1;
+        }
+        return sb.toString();
+    }
+
+    private byte[] copy(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return bytes;
+    }
+
+    /**
+     * Map of parameters sets backed by a library, in which library sets are parsed the first time they are accessed
+     */
+    private static final class LazyParametersSetsMap extends AbstractMap<String, ParametersSet> {
+
+        private final ParametersSetLibrary library;
+        // null values stand for library sets not parsed yet
+        private final Map<String, ParametersSet> parametersSets = new LinkedHashMap<>();
+
+        private LazyParametersSetsMap(ParametersSetLibrary library) {
+            this.library = library;
+            library.getIds().forEach(id -> parametersSets.put(id, null));
+        }
+
+        @Override
+        public synchronized ParametersSet get(Object key) {
+            if (!parametersSets.containsKey(key)) {
+                return null;
+            }
+            return parametersSets.computeIfAbsent((String) key, library::getParametersSet);
+        }
+
+        @Override
+        public synchronized ParametersSet put(String key, ParametersSet value) {
+            return parametersSets.put(key, Objects.requireNonNull(value));
+        }
+
+        @Override
+        public synchronized ParametersSet remove(Object key) {
+            ParametersSet parametersSet = get(key);
+            parametersSets.remove(key);
+            return parametersSet;
+        }
+
+        @Override
+        public synchronized boolean containsKey(Object key) {
+            return parametersSets.containsKey(key);
+        }
+
+        @Override
+        public synchronized Set<String> keySet() {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(parametersSets.keySet()));
+        }
+
+        @Override
+        public synchronized int size() {
+            return parametersSets.size();
+        }
+
+        @Override
+        public synchronized Set<Entry<String, ParametersSet>> entrySet() {
+            Set<Entry<String, ParametersSet>> entries = new LinkedHashSet<>();
+            for (String id : List.copyOf(parametersSets.keySet())) {
+                entries.add(new SimpleImmutableEntry<>(id, get(id)));
+            }
+            return Collections.unmodifiableSet(entries);
+        }
+    }
+}
@@ -35,12 +35,27 @@ abstract class AbstractXmlDynawoSimulationWriter<T> {
     }
 
     public void createXmlFileFromDataSupplier(Path workingDir, T dataSupplier) throws IOException {
+        createXmlFileFromDataSupplier(workingDir, dataSupplier, true);
+    }
+
+    public void createXmlFileFromDataSupplier(Path workingDir, T dataSupplier, boolean indent) throws IOException {
         Objects.requireNonNull(workingDir);
         Objects.requireNonNull(dataSupplier);
         Path file = workingDir.resolve(xmlFileName);
 
         try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
-            XMLStreamWriter xmlWriter = XmlStreamWriterFactory.newInstance(writer);
+            createXmlFileFromDataSupplier(writer, dataSupplier, indent);
+        }
+    }
+
+    /**
+     * Writes the XML file content into the given writer, which is left open
+     */
+    public void createXmlFileFromDataSupplier(Writer writer, T dataSupplier, boolean indent) {
+        Objects.requireNonNull(writer);
+        Objects.requireNonNull(dataSupplier);
+        try {
+            XMLStreamWriter xmlWriter = XmlStreamWriterFactory.newInstance(writer, indent);
             try {
                 xmlWriter.writeStartDocument(StandardCharsets.UTF_8.toString(), "1.0");
                 writeComments(xmlWriter, dataSupplier);
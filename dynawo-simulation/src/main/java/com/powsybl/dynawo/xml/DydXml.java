@@ -8,12 +8,12 @@
 package com.powsybl.dynawo.xml;
 
 import com.powsybl.dynawo.models.BlackBoxModel;
-import com.powsybl.dynawo.models.macroconnections.MacroConnect;
 import com.powsybl.dynawo.models.macroconnections.MacroConnector;
 
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.file.Path;
 
 import static com.powsybl.dynawo.DynawoSimulationConstants.DYD_FILENAME;
@@ -35,10 +35,22 @@ public final class DydXml extends AbstractXmlDynawoSimulationWriter<DynawoData>
         new DydXml().createXmlFileFromDataSupplier(workingDir, dataSupplier);
     }
 
+    public static void write(Path workingDir, DynawoData dataSupplier, boolean indent) throws IOException {
+        new DydXml().createXmlFileFromDataSupplier(workingDir, dataSupplier, indent);
+    }
+
+    public static void write(Writer writer, DynawoData dataSupplier, boolean indent) {
+        new DydXml().createXmlFileFromDataSupplier(writer, dataSupplier, indent);
+    }
+
     public static void write(Path workingDir, String fileName, DynawoData dataSupplier) throws IOException {
         new DydXml(fileName).createXmlFileFromDataSupplier(workingDir, dataSupplier);
     }
 
+    public static void write(Path workingDir, String fileName, DynawoData dataSupplier, boolean indent) throws IOException {
+        new DydXml(fileName).createXmlFileFromDataSupplier(workingDir, dataSupplier, indent);
+    }
+
     @Override
     public void write(XMLStreamWriter writer, DynawoData dataSupplier) throws XMLStreamException {
         // loop over the values of the map indexed by dynamicIds to write only once objects with the same dynamicId
@@ -64,8 +76,6 @@ public final class DydXml extends AbstractXmlDynawoSimulationWriter<DynawoData>
         for (MacroStaticReference macroStaticReference : dataSupplier.getMacroStaticReferences()) {
             macroStaticReference.write(writer);
         }
-        for (MacroConnect macroConnect : dataSupplier.getMacroConnectList()) {
-            macroConnect.write(writer);
-        }
+        dataSupplier.writeMacroConnects(writer);
     }
 }
@@ -11,6 +11,8 @@ import com.powsybl.dynawo.models.BlackBoxModel;
 import com.powsybl.dynawo.models.macroconnections.MacroConnect;
 import com.powsybl.dynawo.models.macroconnections.MacroConnector;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -36,6 +38,12 @@ public interface DynawoData {
 
     List<MacroConnect> getMacroConnectList();
 
+    default void writeMacroConnects(XMLStreamWriter writer) throws XMLStreamException {
+        for (MacroConnect macroConnect : getMacroConnectList()) {
+            macroConnect.write(writer);
+        }
+    }
+
     default String getParFileName() {
         return null;
     }
@@ -44,19 +44,19 @@ public final class JobsXml extends AbstractXmlDynawoSimulationWriter<DynawoSimul
 
     public static void write(Path workingDir, DynawoSimulationContext context) throws IOException {
         new JobsXml(JOBS_FILENAME, context::getSimulationTime, null, context.getNetworkParameterSetId())
-                .createXmlFileFromDataSupplier(workingDir, context);
+                .createXmlFileFromDataSupplier(workingDir, context, context.isIndentXmlFiles());
     }
 
     public static void write(Path workingDir, DynawoSimulationContext context, String additionalDydFile) throws IOException {
         new JobsXml(JOBS_FILENAME, context::getSimulationTime, additionalDydFile, context.getNetworkParameterSetId())
-                .createXmlFileFromDataSupplier(workingDir, context);
+                .createXmlFileFromDataSupplier(workingDir, context, context.isIndentXmlFiles());
     }
 
     public static void writeFinalStep(Path workingDir, DynawoSimulationContext context) throws IOException {
         new JobsXml(FINAL_STEP_JOBS_FILENAME, context::getFinalStepSimulationTime,
                 context.getFinalStepDydData().isPresent() ? FINAL_STEP_DYD_FILENAME : null,
                 context.getFinalStepNetworkParameterSetId())
-                .createXmlFileFromDataSupplier(workingDir, context);
+                .createXmlFileFromDataSupplier(workingDir, context, context.isIndentXmlFiles());
     }
 
     @Override
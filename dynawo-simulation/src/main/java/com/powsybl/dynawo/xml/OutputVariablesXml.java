@@ -34,12 +34,12 @@ public final class OutputVariablesXml extends AbstractXmlDynawoSimulationWriter<
 
     public static void writeCurve(Path workingDir, DynawoSimulationContext context) throws IOException {
         new OutputVariablesXml(CRV_FILENAME, "curvesInput", "curve", OutputVariable.OutputType.CURVE)
-                .createXmlFileFromDataSupplier(workingDir, context);
+                .createXmlFileFromDataSupplier(workingDir, context, context.isIndentXmlFiles());
     }
 
     public static void writeFsv(Path workingDir, DynawoSimulationContext context) throws IOException {
         new OutputVariablesXml(FSV_FILENAME, "finalStateValuesInput", "finalStateValue", OutputVariable.OutputType.FINAL_STATE)
-                .createXmlFileFromDataSupplier(workingDir, context);
+                .createXmlFileFromDataSupplier(workingDir, context, context.isIndentXmlFiles());
     }
 
     @Override
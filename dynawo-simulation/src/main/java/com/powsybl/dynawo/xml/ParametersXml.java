@@ -189,17 +189,33 @@ public final class ParametersXml {
     public static void write(Path workingDir, DynawoSimulationContext context) {
         Objects.requireNonNull(workingDir);
 
-        write(context.getDynamicModelsParameters(), context.getSimulationParFile(), workingDir, DYN_PREFIX);
+        boolean indent = context.isIndentXmlFiles();
+        write(context.getDynamicModelsParameters(), context.getSimulationParFile(), workingDir, DYN_PREFIX, indent);
         DynawoSimulationParameters parameters = context.getDynawoSimulationParameters();
-        write(parameters.getModelParameters(), MODELS_PARAMETERS_FILENAME, workingDir, "");
-        write(context.getNetworkParameters(), NETWORK_PARAMETERS_FILENAME, workingDir, "");
-        write(List.of(parameters.getSolverParameters()), SOLVER_PARAMETERS_FILENAME, workingDir, "");
+        write(context.getModelParameters(), MODELS_PARAMETERS_FILENAME, workingDir, "", indent);
+        write(context.getNetworkParameters(), NETWORK_PARAMETERS_FILENAME, workingDir, "", indent);
+        write(List.of(parameters.getSolverParameters()), SOLVER_PARAMETERS_FILENAME, workingDir, "", indent);
     }
 
     public static void write(Collection<ParametersSet> parametersSets, String filename, Path workingDir, String dynPrefix) {
+        write(parametersSets, filename, workingDir, dynPrefix, true);
+    }
+
+    public static void write(Collection<ParametersSet> parametersSets, String filename, Path workingDir, String dynPrefix, boolean indent) {
         Path parametersPath = workingDir.resolve(filename);
         try (Writer writer = Files.newBufferedWriter(parametersPath, StandardCharsets.UTF_8)) {
-            XMLStreamWriter xmlWriter = XmlStreamWriterFactory.newInstance(writer);
+            write(parametersSets, writer, dynPrefix, indent);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the parameters sets into the given writer, which is left open
+     */
+    public static void write(Collection<ParametersSet> parametersSets, Writer writer, String dynPrefix, boolean indent) {
+        try {
+            XMLStreamWriter xmlWriter = XmlStreamWriterFactory.newInstance(writer, indent);
             try {
                 xmlWriter.writeStartDocument(StandardCharsets.UTF_8.toString(), "1.0");
                 xmlWriter.setPrefix(dynPrefix, DYN_URI);
@@ -213,8 +229,6 @@ public final class ParametersXml {
             } finally {
                 xmlWriter.close();
             }
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
         } catch (XMLStreamException e) {
             throw new UncheckedXmlStreamException(e);
         }
@@ -15,10 +15,17 @@ import javax.xml.stream.XMLStreamWriter;
 import java.io.Writer;
 
 /**
+ * Creates the stream writers used for the Dynawo input files.
+ * <p>
+ * Indented files are easier to read but writing them costs an extra decorator doing per-event bookkeeping, hence
+ * files which are not meant to be read (non-debug runs) are written without indentation.
+ *
  * @author Mathieu Bague {@literal <mathieu.bague@rte-france.com>}
  */
 public final class XmlStreamWriterFactory {
 
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
     private XmlStreamWriterFactory() {
     }
 
@@ -27,8 +34,7 @@ public final class XmlStreamWriterFactory {
     }
 
     public static XMLStreamWriter newInstance(Writer writer, boolean indent) throws XMLStreamException {
-        XMLOutputFactory factory = XMLOutputFactory.newInstance();
-        XMLStreamWriter xmlStreamWriter = factory.createXMLStreamWriter(writer);
+        XMLStreamWriter xmlStreamWriter = XML_OUTPUT_FACTORY.createXMLStreamWriter(writer);
         if (indent) {
             IndentingXMLStreamWriter indentingWriter = new IndentingXMLStreamWriter(xmlStreamWriter);
             indentingWriter.setIndent(DynawoSimulationXmlConstants.INDENT);
@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.nio.file.FileSystem;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Marcos de Miguel {@literal <demiguelm at aia.es>}
@@ -49,6 +50,26 @@ class DynawoConfigTest {
         DynawoSimulationConfig config = DynawoSimulationConfig.load(platformConfig);
         assertEquals(homeDir, config.getHomeDir().toString());
         assertEquals(debug, config.isDebug());
+        assertTrue(config.getNetworkCacheDir().isEmpty());
+        assertTrue(config.getInputFilesStoreDir().isEmpty());
+    }
+
+    @Test
+    void checkNetworkCacheDirConfig() {
+        MapModuleConfig moduleConfig = platformConfig.createModuleConfig("dynawo");
+        moduleConfig.setStringProperty("homeDir", "homeDir");
+        moduleConfig.setStringProperty("networkCacheDir", "/tmp/networkCache");
+        DynawoSimulationConfig config = DynawoSimulationConfig.load(platformConfig);
+        assertEquals(fileSystem.getPath("/tmp/networkCache"), config.getNetworkCacheDir().orElseThrow());
+    }
+
+    @Test
+    void checkInputFilesStoreDirConfig() {
+        MapModuleConfig moduleConfig = platformConfig.createModuleConfig("dynawo");
+        moduleConfig.setStringProperty("homeDir", "homeDir");
+        moduleConfig.setStringProperty("inputFilesStoreDir", "/tmp/inputFilesStore");
+        DynawoSimulationConfig config = DynawoSimulationConfig.load(platformConfig);
+        assertEquals(fileSystem.getPath("/tmp/inputFilesStore"), config.getInputFilesStoreDir().orElseThrow());
     }
 
 }
@@ -0,0 +1,251 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.dynawo.commons.InputFilesStore;
+import com.powsybl.dynawo.models.BlackBoxModel;
+import com.powsybl.dynawo.parameters.ParametersSet;
+import com.powsybl.dynawo.xml.DydXml;
+import com.powsybl.dynawo.xml.DynawoTestUtil;
+import com.powsybl.dynawo.xml.ParametersXml;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.powsybl.commons.test.ComparisonUtils.assertXmlEquals;
+import static com.powsybl.dynawo.DynawoSimulationConstants.*;
+import static com.powsybl.dynawo.commons.DynawoConstants.NETWORK_FILENAME;
+import static com.powsybl.dynawo.xml.DynawoSimulationXmlConstants.DYN_PREFIX;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+class DynawoFilesUtilsTest extends DynawoTestUtil {
+
+    @Test
+    void writeInputFilesConcurrently() throws IOException {
+        Path criteria = tmpDir.resolve("criteria.crt");
+        Files.copy(Objects.requireNonNull(getClass().getResourceAsStream("/criteria.crt")), criteria);
+        DynawoSimulationContext context = new DynawoSimulationContext
+                .Builder(network, dynamicModels)
+                .dynawoParameters(DynawoSimulationParameters.load().setCriteriaFilePath(criteria))
+                .eventModels(eventModels)
+                .outputVariables(outputVariables)
+                .build();
+
+        Path sequentialDir = Files.createDirectory(tmpDir.resolve("sequential"));
+        DynawoFilesUtils.writeInputFiles(sequentialDir, context, Map.of(), Runnable::run);
+
+        Path concurrentDir = Files.createDirectory(tmpDir.resolve("concurrent"));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Map<String, Duration> timings;
+        try {
+            timings = DynawoFilesUtils.writeInputFiles(concurrentDir, context,
+                    Map.of(JOBS_FILENAME, () -> Files.writeString(concurrentDir.resolve(JOBS_FILENAME), "jobs")), executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        Set<String> sequentialFiles = listFileNames(sequentialDir);
+        Set<String> concurrentFiles = listFileNames(concurrentDir);
+        assertTrue(concurrentFiles.remove(JOBS_FILENAME));
+        assertEquals(sequentialFiles, concurrentFiles);
+        for (String file : sequentialFiles) {
+            assertEquals(Files.readString(sequentialDir.resolve(file)), Files.readString(concurrentDir.resolve(file)));
+        }
+        assertTrue(Files.exists(concurrentDir.resolve(DYD_FILENAME)));
+        assertTrue(Files.exists(concurrentDir.resolve(MODELS_PARAMETERS_FILENAME)));
+        assertTrue(Files.exists(concurrentDir.resolve(CRV_FILENAME)));
+        assertTrue(Files.exists(concurrentDir.resolve("criteria.crt")));
+
+        // files reading the network first
+        assertEquals(List.of(JOBS_FILENAME, DYD_FILENAME), List.copyOf(timings.keySet()).subList(0, 2));
+        assertEquals(concurrentFiles.size() + 1, timings.size());
+        assertTrue(timings.values().stream().noneMatch(Duration::isNegative));
+    }
+
+    @Test
+    void writeInputFilesReadingNetworkOnCallingThread() throws Exception {
+        VariantManager variantManager = network.getVariantManager();
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "variant");
+        variantManager.allowVariantMultiThreadAccess(true);
+        variantManager.setWorkingVariant("variant");
+        DynawoSimulationContext context = new DynawoSimulationContext
+                .Builder(network, dynamicModels)
+                .dynawoParameters(DynawoSimulationParameters.load())
+                .eventModels(eventModels)
+                .outputVariables(outputVariables)
+                .build();
+        Thread callingThread = Thread.currentThread();
+        Path dir = Files.createDirectory(tmpDir.resolve("callingThread"));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            DynawoFilesUtils.writeInputFiles(dir, context, Map.of(NETWORK_FILENAME, () -> {
+                assertSame(callingThread, Thread.currentThread());
+                Files.writeString(dir.resolve(NETWORK_FILENAME), network.getVariantManager().getWorkingVariantId());
+            }), executor);
+            // the working variant is not set on the executor threads
+            Future<?> variantAccess = executor.submit(variantManager::getWorkingVariantId);
+            ExecutionException e = assertThrows(ExecutionException.class, variantAccess::get);
+            assertInstanceOf(PowsyblException.class, e.getCause());
+        } finally {
+            executor.shutdown();
+            variantManager.allowVariantMultiThreadAccess(false);
+        }
+        assertEquals("variant", Files.readString(dir.resolve(NETWORK_FILENAME)));
+        assertTrue(Files.exists(dir.resolve(DYD_FILENAME)));
+        assertTrue(Files.exists(dir.resolve(MODELS_PARAMETERS_FILENAME)));
+    }
+
+    @Test
+    void writeCompactInputFiles() throws IOException {
+        DynawoSimulationContext context = new DynawoSimulationContext
+                .Builder(network, dynamicModels)
+                .dynawoParameters(DynawoSimulationParameters.load())
+                .eventModels(eventModels)
+                .outputVariables(outputVariables)
+                .indentXmlFiles(false)
+                .build();
+        assertFalse(context.isIndentXmlFiles());
+        Path compactDir = Files.createDirectory(tmpDir.resolve("compact"));
+        DynawoFilesUtils.writeInputFiles(compactDir, context, Map.of(), Runnable::run);
+        for (String file : listFileNames(compactDir)) {
+            assertFalse(Files.readString(compactDir.resolve(file)).contains("\n"));
+        }
+
+        Path indentedDir = Files.createDirectory(tmpDir.resolve("indented"));
+        DydXml.write(indentedDir, context.getSimulationDydData(), true);
+        ParametersXml.write(context.getDynamicModelsParameters(), context.getSimulationParFile(), indentedDir, DYN_PREFIX, true);
+        for (String file : List.of(DYD_FILENAME, context.getSimulationParFile())) {
+            assertTrue(Files.size(compactDir.resolve(file)) < Files.size(indentedDir.resolve(file)));
+            try (InputStream expected = Files.newInputStream(indentedDir.resolve(file));
+                 InputStream actual = Files.newInputStream(compactDir.resolve(file))) {
+                assertXmlEquals(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    void writePrunedModelParameters() throws IOException {
+        DynawoSimulationParameters dynawoParameters = DynawoSimulationParameters.load();
+        dynawoParameters.addModelParameters(new ParametersSet("unused"));
+        DynawoSimulationContext context = new DynawoSimulationContext
+                .Builder(network, dynamicModels)
+                .dynawoParameters(dynawoParameters)
+                .eventModels(eventModels)
+                .build();
+        Set<String> referencedIds = Stream.concat(context.getBlackBoxDynamicModels().stream(), context.getBlackBoxEventModels().stream())
+                .filter(bbm -> MODELS_PARAMETERS_FILENAME.equals(bbm.getDefaultParFile()))
+                .map(BlackBoxModel::getParameterSetId)
+                .collect(Collectors.toSet());
+        List<String> expectedIds = dynawoParameters.getModelParameters().stream()
+                .map(ParametersSet::getId)
+                .filter(referencedIds::contains)
+                .toList();
+        assertFalse(expectedIds.isEmpty());
+        assertEquals(expectedIds, context.getModelParameters().stream().map(ParametersSet::getId).toList());
+
+        DynawoFilesUtils.writeInputFiles(tmpDir, context, Map.of(), Runnable::run);
+        List<ParametersSet> writtenSets = ParametersXml.load(tmpDir.resolve(MODELS_PARAMETERS_FILENAME));
+        assertEquals(expectedIds, writtenSets.stream().map(ParametersSet::getId).toList());
+        assertTrue(dynawoParameters.getModelParameters().size() > writtenSets.size());
+    }
+
+    @Test
+    void writeInputFilesThroughStore() throws IOException {
+        Path criteria = tmpDir.resolve("criteria.crt");
+        Files.copy(Objects.requireNonNull(getClass().getResourceAsStream("/criteria.crt")), criteria);
+        DynawoSimulationContext context = new DynawoSimulationContext
+                .Builder(network, dynamicModels)
+                .dynawoParameters(DynawoSimulationParameters.load().setCriteriaFilePath(criteria))
+                .eventModels(eventModels)
+                .outputVariables(outputVariables)
+                .build();
+        InputFilesStore store = InputFilesStore.create(tmpDir.resolve("store"));
+
+        Path referenceDir = Files.createDirectory(tmpDir.resolve("reference"));
+        DynawoFilesUtils.writeInputFiles(referenceDir, context, Map.of(), Runnable::run);
+        Path firstDir = Files.createDirectory(tmpDir.resolve("first"));
+        DynawoFilesUtils.writeInputFiles(firstDir, context, Map.of(), store, Runnable::run);
+        Set<String> fileNames = listFileNames(referenceDir);
+        // the DYD, PAR and criteria files go through the store, identical files being stored once
+        assertEquals(6, store.getHitCount() + store.getMissCount());
+        long missCount = store.getMissCount();
+
+        // same inputs, the stored files are linked
+        Path secondDir = Files.createDirectory(tmpDir.resolve("second"));
+        DynawoFilesUtils.writeInputFiles(secondDir, context, Map.of(), store, Runnable::run);
+        assertEquals(12 - missCount, store.getHitCount());
+        assertEquals(missCount, store.getMissCount());
+        assertTrue(Files.isSameFile(firstDir.resolve(DynawoSimulationConstants.DYD_FILENAME), secondDir.resolve(DynawoSimulationConstants.DYD_FILENAME)));
+        assertTrue(Files.isSameFile(firstDir.resolve("criteria.crt"), secondDir.resolve("criteria.crt")));
+        assertEquals(fileNames, listFileNames(firstDir));
+        assertEquals(fileNames, listFileNames(secondDir));
+        for (String file : fileNames) {
+            assertEquals(Files.readString(referenceDir.resolve(file)), Files.readString(secondDir.resolve(file)));
+        }
+    }
+
+    @Test
+    void writeInputFilesFailure() {
+        DynawoSimulationContext context = new DynawoSimulationContext
+                .Builder(network, dynamicModels)
+                .dynawoParameters(DynawoSimulationParameters.load())
+                .build();
+        Map<String, DynawoFilesUtils.InputFileWriter> writers = Map.of("failing", () -> {
+            throw new IOException("Writing failure");
+        });
+        IOException e = assertThrows(IOException.class, () -> DynawoFilesUtils.writeInputFiles(tmpDir, context, writers));
+        assertEquals("Writing failure", e.getMessage());
+    }
+
+    @Test
+    void writeInputFilesFailureWaitsForRunningWriters() throws IOException {
+        DynawoSimulationContext context = new DynawoSimulationContext
+                .Builder(network, dynamicModels)
+                .dynawoParameters(DynawoSimulationParameters.load())
+                .build();
+        Map<String, DynawoFilesUtils.InputFileWriter> writers = Map.of("failing", () -> {
+            throw new IOException("Writing failure");
+        });
+        Path dir = Files.createDirectory(tmpDir.resolve("failure"));
+        // writers started after the failure
+        Executor delayedExecutor = CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS);
+        IOException e = assertThrows(IOException.class, () -> DynawoFilesUtils.writeInputFiles(dir, context, writers, delayedExecutor));
+        assertEquals("Writing failure", e.getMessage());
+        assertTrue(listFileNames(dir).containsAll(Set.of(MODELS_PARAMETERS_FILENAME, NETWORK_PARAMETERS_FILENAME, SOLVER_PARAMETERS_FILENAME)));
+    }
+
+    private static Set<String> listFileNames(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(f -> f.getFileName().toString()).collect(Collectors.toCollection(HashSet::new));
+        }
+    }
+}
@@ -9,20 +9,34 @@ package com.powsybl.dynawo;
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.dynawo.parameters.Parameter;
 import com.powsybl.dynawo.parameters.ParameterType;
 import com.powsybl.dynawo.parameters.ParametersSet;
+import com.powsybl.dynawo.parameters.ParametersSetLibrary;
+import com.powsybl.dynawo.parameters.PrefixParameter;
+import com.powsybl.dynawo.parameters.Reference;
 import com.powsybl.dynawo.xml.ParametersXml;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -110,6 +124,141 @@ class DynawoParametersDatabaseTest {
         assertEquals(2, set1.getInt("param"));
     }
 
+    @Test
+    void copyOnWriteParametersSet() {
+        ParametersSet set0 = new ParametersSet("test");
+        set0.addParameter("param", ParameterType.INT, "2");
+        set0.addPrefixParameter("prefix", "GEN", ParameterType.DOUBLE, "1.5");
+        ParametersSet set1 = new ParametersSet("copy", set0);
+        set1.addParameter("param", ParameterType.INT, "3");
+        set1.addParameter("added", ParameterType.BOOL, "true");
+        set1.addReference("ref", ParameterType.DOUBLE, "p_pu");
+        set1.addPrefixParameter("prefix", "GEN2", ParameterType.DOUBLE, "2.5");
+        set0.replaceParameter("param", ParameterType.INT, "4");
+        assertEquals(4, set0.getInt("param"));
+        assertFalse(set0.hasParameter("added"));
+        assertTrue(set0.getReferences().isEmpty());
+        assertEquals(1, set0.getPrefixParameters().get("prefix").size());
+        assertEquals(3, set1.getInt("param"));
+        assertTrue(set1.getBool("added"));
+        assertEquals(2, set1.getPrefixParameters().get("prefix").size());
+        assertEquals(List.of("param", "added"), List.copyOf(set1.getParameters().keySet()));
+
+        // copy of a modified copy
+        ParametersSet set2 = new ParametersSet("copy2", set1);
+        set1.addParameter("added2", ParameterType.STRING, "s");
+        set2.replaceParameter("added", ParameterType.BOOL, "false");
+        assertEquals(3, set2.getInt("param"));
+        assertFalse(set2.getBool("added"));
+        assertFalse(set2.hasParameter("added2"));
+        assertEquals(List.of("param", "added", "added2"), List.copyOf(set1.getParameters().keySet()));
+        assertEquals("copy2,{param=Parameter[name=param, type=INT, value=3], added=Parameter[name=added, type=BOOL, value=false]},"
+                + "{ref=Reference[name=ref, type=DOUBLE, origData=IIDM, origName=p_pu, componentId=null]},"
+                + "{prefix={GEN=PrefixParameter[name=prefix, componentId=GEN, type=DOUBLE, value=1.5], GEN2=PrefixParameter[name=prefix, componentId=GEN2, type=DOUBLE, value=2.5]}}",
+                set2.toString());
+    }
+
+    @Test
+    void concurrentCopyParametersSet() throws InterruptedException, ExecutionException {
+        ParametersSet set0 = new ParametersSet("test");
+        set0.addParameter("param", ParameterType.INT, "2");
+        set0.addReference("ref", ParameterType.DOUBLE, "p_pu");
+        ParametersSet set1 = new ParametersSet("copy", set0);
+        set1.addParameter("added", ParameterType.BOOL, "true");
+        String set0String = set0.toString();
+        String set1String = set1.toString();
+        ParametersSet librarySet = ParametersSetLibrary.load(fileSystem.getPath("/models.par")).getParametersSet("LoadAlphaBeta");
+        String librarySetString = librarySet.toString();
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            String value = String.valueOf(i);
+            tasks.add(() -> {
+                for (ParametersSet set : List.of(set0, set1, librarySet)) {
+                    ParametersSet copy = new ParametersSet("copy" + value, set);
+                    copy.addParameter("thread", ParameterType.INT, value);
+                    copy.addReference("ref" + value, ParameterType.DOUBLE, "q_pu");
+                    assertEquals(set.getParameters().size() + 1, copy.getParameters().size());
+                    assertEquals(value, copy.getParameters().get("thread").value());
+                    assertEquals(set.getReferences().size() + 1, copy.getReferences().size());
+                }
+                return null;
+            });
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // the copied sets are left untouched
+        assertEquals(set0String, set0.toString());
+        assertEquals(set1String, set1.toString());
+        assertEquals(librarySetString, librarySet.toString());
+    }
+
+    @Test
+    void typedParameterValues() {
+        ParametersSet set = new ParametersSet("test");
+        set.addParameter("double", ParameterType.DOUBLE, "5.4000000000000004");
+        set.addParameter("canonicalDouble", ParameterType.DOUBLE, "1.5");
+        set.addParameter("integralDouble", ParameterType.DOUBLE, "0");
+        set.addParameter("int", ParameterType.INT, "+1");
+        set.addParameter("bool", ParameterType.BOOL, "True");
+        set.addParameter("invalid", ParameterType.DOUBLE, "abc");
+        assertEquals(5.4, set.getDouble("double"), 1e-6);
+        assertEquals(0, set.getDouble("integralDouble"));
+        assertEquals(1, set.getInt("int"));
+        assertTrue(set.getBool("bool"));
+        assertThrows(NumberFormatException.class, () -> set.getDouble("invalid"));
+        // values are given back as they were set
+        assertEquals(List.of("5.4000000000000004", "1.5", "0", "+1", "True", "abc"),
+                set.getParameters().values().stream().map(Parameter::value).toList());
+        assertEquals("+1", set.getParameters().remove("int").value());
+        assertFalse(set.hasParameter("int"));
+    }
+
+    @Test
+    void writeThroughViews() {
+        ParametersSet set0 = new ParametersSet("test");
+        set0.addParameter("param", ParameterType.INT, "2");
+        set0.addParameter("param2", ParameterType.DOUBLE, "1.5");
+        set0.addReference("ref", ParameterType.DOUBLE, "p_pu");
+        set0.addPrefixParameter("prefix", "GEN", ParameterType.DOUBLE, "1.5");
+        ParametersSet set1 = new ParametersSet("copy", set0);
+        assertSame(set1.getParameters(), set1.getParameters());
+        assertSame(set1.getPrefixParameters(), set1.getPrefixParameters());
+
+        Map<String, Parameter> parameters = set1.getParameters();
+        assertEquals("2", parameters.put("param", new Parameter("param", ParameterType.INT, "3")).value());
+        assertNull(parameters.put("added", new Parameter("added", ParameterType.BOOL, "true")));
+        assertEquals("1.5", parameters.remove("param2").value());
+        assertNull(parameters.remove("unknown"));
+        assertEquals(3, set1.getInt("param"));
+        assertTrue(set1.getBool("added"));
+        assertFalse(set1.hasParameter("param2"));
+        assertEquals(List.of("param", "added"), List.copyOf(parameters.keySet()));
+        parameters.entrySet().removeIf(e -> e.getKey().equals("added"));
+        assertEquals(List.of("param"), List.copyOf(parameters.keySet()));
+
+        set1.getReferences().remove("ref");
+        set1.getReferences().put("ref2", new Reference("ref2", ParameterType.DOUBLE, "IIDM", "q_pu", null));
+        assertEquals(List.of("ref2"), List.copyOf(set1.getReferences().keySet()));
+        set1.getPrefixParameters().get("prefix").put("GEN2", new PrefixParameter("prefix", "GEN2", ParameterType.DOUBLE, "2.5"));
+        set1.getPrefixParameters().get("prefix").remove("GEN");
+        assertEquals(Set.of("GEN2"), set1.getPrefixParameters().get("prefix").keySet());
+
+        // the copied set is left untouched
+        assertEquals(2, set0.getInt("param"));
+        assertEquals(1.5, set0.getDouble("param2"));
+        assertFalse(set0.hasParameter("added"));
+        assertEquals(List.of("ref"), List.copyOf(set0.getReferences().keySet()));
+        assertEquals(Set.of("GEN"), set0.getPrefixParameters().get("prefix").keySet());
+    }
+
     @Test
     void addReferenceWithNullNameToAParameterSet() {
         ParametersSet p = new ParametersSet("ps1");
@@ -144,4 +293,108 @@ class DynawoParametersDatabaseTest {
         parametersSet.generateParametersFromPrefix("Par2", List.of("GEN"));
         assertFalse(parametersSet.hasParameter("Par2_0"));
     }
+
+    @Test
+    void loadParametersSetLibrary() {
+        Path path = fileSystem.getPath("/models.par");
+        ParametersSetLibrary library = ParametersSetLibrary.load(path);
+        assertSame(library, ParametersSetLibrary.load(path));
+        assertLibraryEquals(ParametersXml.load(path), library);
+
+        // sets are parsed once, callers get their own copy
+        ParametersSet set = library.getParametersSet("LoadAlphaBeta");
+        set.addParameter("load_gamma", ParameterType.DOUBLE, "3.5");
+        assertFalse(library.getParametersSet("LoadAlphaBeta").hasParameter("load_gamma"));
+
+        PowsyblException e = assertThrows(PowsyblException.class, () -> library.getParametersSet("unknown"));
+        assertEquals("Could not find parameters set with id='unknown' in file '/models.par'", e.getMessage());
+    }
+
+    @Test
+    void reloadModifiedParametersSetLibrary() throws IOException {
+        Path path = fileSystem.getPath("/models.par");
+        ParametersSetLibrary library = ParametersSetLibrary.load(path);
+        Files.writeString(path, """
+                <?xml version='1.0' encoding='UTF-8'?>
+                <!-- <set id="commented"/> -->
+                <dyn:parametersSet xmlns:dyn="http://www.rte-france.com/dynawo">
+                    <dyn:set id="a&amp;b"><dyn:par type="INT" name="n" value="1"/></dyn:set>
+                    <dyn:set id="empty"/>
+                </dyn:parametersSet>""");
+        Files.setLastModifiedTime(path, FileTime.fromMillis(Files.getLastModifiedTime(path).toMillis() + 1000));
+        ParametersSetLibrary reloadedLibrary = ParametersSetLibrary.load(path);
+        assertNotSame(library, reloadedLibrary);
+        assertLibraryEquals(ParametersXml.load(path), reloadedLibrary);
+        assertEquals(List.of("a&b", "empty"), List.copyOf(reloadedLibrary.getIds()));
+        assertEquals(1, reloadedLibrary.getParametersSet("a&b").getInt("n"));
+    }
+
+    @Test
+    void mappedParametersSetLibrary(@TempDir Path tmpDir) throws IOException {
+        Path path = tmpDir.resolve("models.par");
+        Files.copy(Objects.requireNonNull(getClass().getResourceAsStream("/models.par")), path);
+        ParametersSetLibrary library = ParametersSetLibrary.load(path);
+        assertSame(library, ParametersSetLibrary.load(tmpDir.resolve("../" + tmpDir.getFileName() + "/models.par")));
+        assertLibraryEquals(ParametersXml.load(path), library);
+    }
+
+    @Test
+    void duplicateParametersSetLibrary() throws IOException {
+        Path path = fileSystem.getPath("/duplicate.par");
+        Files.writeString(path, """
+                <?xml version='1.0' encoding='UTF-8'?>
+                <dyn:parametersSet xmlns:dyn="http://www.rte-france.com/dynawo">
+                    <dyn:set id="a"><dyn:par type="INT" name="n" value="1"/></dyn:set>
+                    <dyn:set id="b"/>
+                    <dyn:set id="a"><dyn:par type="INT" name="n" value="2"/></dyn:set>
+                </dyn:parametersSet>""");
+        ParametersSetLibrary library = ParametersSetLibrary.load(path);
+        assertEquals(List.of("a", "b"), List.copyOf(library.getIds()));
+        assertEquals(2, library.getParametersSet("a").getInt("n"));
+    }
+
+    @Test
+    void boundedParametersSetLibraryCache() throws IOException {
+        Path path = fileSystem.getPath("/models.par");
+        ParametersSetLibrary library = ParametersSetLibrary.load(path);
+        for (int i = 0; i < 8; i++) {
+            Path otherPath = fileSystem.getPath("/models" + i + ".par");
+            Files.copy(path, otherPath);
+            ParametersSetLibrary.load(otherPath);
+        }
+        ParametersSetLibrary reloadedLibrary = ParametersSetLibrary.load(path);
+        assertNotSame(library, reloadedLibrary);
+        assertLibraryEquals(ParametersXml.load(path), reloadedLibrary);
+    }
+
+    @Test
+    void checkParametersSetLibraryMisspelled() {
+        Path path = fileSystem.getPath("/models_misspelled.par");
+        PowsyblException e = assertThrows(PowsyblException.class, () -> ParametersSetLibrary.load(path));
+        assertEquals("Unexpected element: sett", e.getMessage());
+    }
+
+    @Test
+    void lazyModelsParameters() {
+        ParametersSetLibrary library = ParametersSetLibrary.load(fileSystem.getPath("/models.par"));
+        DynawoSimulationParameters dParameters = new DynawoSimulationParameters().setModelsParameters(library);
+        assertEquals(library.getIds(), dParameters.getModelParametersIds());
+        ParametersSet set = dParameters.getModelParameters("LoadAlphaBeta");
+        assertSame(set, dParameters.getModelParameters("LoadAlphaBeta"));
+        assertEquals(1.5, set.getDouble("load_alpha"), 1e-6);
+
+        ParametersSet addedSet = new ParametersSet("added");
+        dParameters.addModelParameters(addedSet);
+        assertSame(addedSet, dParameters.getModelParameters("added"));
+        assertEquals(library.getIds().size() + 1, dParameters.getModelParameters().size());
+        assertThrows(PowsyblException.class, () -> dParameters.getModelParameters("unknown"));
+    }
+
+    private static void assertLibraryEquals(List<ParametersSet> expectedSets, ParametersSetLibrary library) {
+        assertEquals(expectedSets.stream().map(ParametersSet::getId).toList(), List.copyOf(library.getIds()));
+        Map<String, ParametersSet> sets = library.createParametersSetsMap();
+        for (ParametersSet expectedSet : expectedSets) {
+            assertEquals(expectedSet.toString(), sets.get(expectedSet.getId()).toString());
+        }
+    }
 }
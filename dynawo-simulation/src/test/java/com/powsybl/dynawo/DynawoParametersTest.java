@@ -115,7 +115,9 @@ class DynawoParametersTest extends AbstractSerDeTest {
         DynamicSimulationParameters dynamicSimulationParameters = new DynamicSimulationParameters()
                 .setStartTime(0)
                 .setStopTime(3600);
-        DynawoSimulationParameters dynawoParameters = DynawoSimulationParameters.load(platformConfig);
+        DynawoSimulationParameters dynawoParameters = DynawoSimulationParameters.load(platformConfig)
+                .setCurvesNamePatterns(List.of("NETWORK*"))
+                .setCurvesStartTime(10.0);
         dynamicSimulationParameters.addExtension(DynawoSimulationParameters.class, dynawoParameters);
         roundTripTest(dynamicSimulationParameters, JsonDynamicSimulationParameters::write,
                 JsonDynamicSimulationParameters::read, "/DynawoSimulationParameters.json");
@@ -185,8 +187,17 @@ class DynawoParametersTest extends AbstractSerDeTest {
         assertEquals(DEFAULT_SOLVER_PAR_ID, parameters.getSolverParameters().getId());
         assertEquals("SIM", parameters.getSolverParameters().getId());
         assertEquals(DEFAULT_MERGE_LOADS, parameters.isMergeLoads());
+        assertEquals(DEFAULT_INDEXED_NETWORK_UPDATE, parameters.isIndexedNetworkUpdate());
+        assertEquals(DEFAULT_DELTA_NETWORK_UPDATE, parameters.isDeltaNetworkUpdate());
+        assertTrue(parameters.getResultVariantId().isEmpty());
         assertTrue(parameters.getModelSimplifiers().isEmpty());
         assertEquals(DEFAULT_TIMELINE_EXPORT_MODE, parameters.getTimelineExportMode());
+        assertEquals(DEFAULT_CURVES_LAZY_LOADING, parameters.isCurvesLazyLoading());
+        assertTrue(parameters.getCurvesSink().isEmpty());
+        assertTrue(parameters.getCurvesNamePatterns().isEmpty());
+        assertTrue(parameters.getCurvesStartTime().isEmpty());
+        assertTrue(parameters.getCurvesStopTime().isEmpty());
+        assertEquals(DEFAULT_ERROR_CONTEXT_LINES, parameters.getErrorContextLines());
         assertTrue(parameters.getCriteriaFilePath().isEmpty());
         assertTrue(parameters.getAdditionalModelsPath().isEmpty());
     }
@@ -262,11 +273,15 @@ class DynawoParametersTest extends AbstractSerDeTest {
                         "solverParametersId,{order=Parameter[name=order, type=INT, value=1], absAccuracy=Parameter[name=absAccuracy, type=DOUBLE, value=1e-4]},{},{}"),
                 Map.entry("solver.type", "IDA"),
                 Map.entry("mergeLoads", "true"),
+                Map.entry("indexedNetworkUpdate", "false"),
+                Map.entry("deltaNetworkUpdate", "false"),
                 Map.entry("modelSimplifiers", "Substitution,Filter"),
                 Map.entry("precision", "1.0E-8"),
                 Map.entry("timeline.exportMode", "XML"),
+                Map.entry("curves.lazyLoading", "false"),
                 Map.entry("log.levelFilter", "WARN"),
                 Map.entry("log.specificLogs", "MODELER,EQUATIONS"),
+                Map.entry("log.errorContextLines", "0"),
                 Map.entry("criteria.file", "/home/user/criteria.crt"),
                 Map.entry("additionalModelsFile", "/home/user/additionalModels.json"),
                 Map.entry("dump.export", "true"),
@@ -314,8 +329,12 @@ class DynawoParametersTest extends AbstractSerDeTest {
         properties.put("modelSimplifiers", "Substitution, Filter");
         properties.put("precision", Double.toString(precision));
         properties.put("timeline.exportMode", timelinExportMode.toString());
+        properties.put("curves.lazyLoading", "true");
+        properties.put("curves.namePatterns", "NETWORK*, GEN?_*");
+        properties.put("curves.startTime", "1.5");
         properties.put("log.levelFilter", logLevel.toString());
         properties.put("log.specificLogs", "MODELER, EQUATIONS");
+        properties.put("log.errorContextLines", "3");
         properties.put("criteria.file", criteriaFile);
         properties.put("additionalModelsFile", additionalModelsFile);
         properties.put("dump.export", Boolean.toString(exportDumpFile));
@@ -334,11 +353,17 @@ class DynawoParametersTest extends AbstractSerDeTest {
         assertThat(parameters.getModelSimplifiers()).containsAll(modelSimplifiers);
         assertEquals(precision, parameters.getPrecision());
         assertEquals(timelinExportMode, parameters.getTimelineExportMode());
+        assertTrue(parameters.isCurvesLazyLoading());
+        assertEquals(List.of("NETWORK*", "GEN?_*"), parameters.getCurvesNamePatterns());
+        assertEquals(OptionalDouble.of(1.5), parameters.getCurvesStartTime());
+        assertTrue(parameters.getCurvesStopTime().isEmpty());
         assertEquals(logLevel, parameters.getLogLevelFilter());
         assertThat(parameters.getSpecificLogs()).containsExactlyInAnyOrderElementsOf(specificLogs);
+        assertEquals(3, parameters.getErrorContextLines());
         assertThat(parameters.getCriteriaFileName()).hasValue(criteriaFileName);
         assertThat(parameters.getCriteriaFilePath()).hasValue(fileSystem.getPath(USER_HOME + criteriaFileName));
         assertThat(parameters.getAdditionalModelsPath()).hasValue(fileSystem.getPath(USER_HOME + additionalModelsFileName));
+        assertThrows(IllegalArgumentException.class, () -> parameters.setErrorContextLines(-1));
         DumpFileParameters dumpParameters = parameters.getDumpFileParameters();
         assertEquals(exportDumpFile, dumpParameters.exportDumpFile());
         assertEquals(useDumpFile, dumpParameters.useDumpFile());
@@ -354,9 +379,13 @@ class DynawoParametersTest extends AbstractSerDeTest {
         DynawoSimulationParameters parameters = (DynawoSimulationParameters) specificParameters.get();
         assertThat(parameters.getSpecificLogs()).containsExactly(SpecificLog.EQUATIONS);
         parameters.addSpecificLog(SpecificLog.PARAMETERS);
-        provider.updateSpecificParameters(parameters, Map.of("mergeLoads", "True"));
+        provider.updateSpecificParameters(parameters, Map.of("mergeLoads", "True", "indexedNetworkUpdate", "true",
+                "deltaNetworkUpdate", "true", "resultVariantId", "results"));
         assertThat(parameters.getSpecificLogs()).containsExactly(SpecificLog.PARAMETERS, SpecificLog.EQUATIONS);
         assertTrue(parameters.isMergeLoads());
+        assertTrue(parameters.isIndexedNetworkUpdate());
+        assertTrue(parameters.isDeltaNetworkUpdate());
+        assertThat(parameters.getResultVariantId()).contains("results");
     }
 
     @Test
@@ -16,9 +16,12 @@ import com.powsybl.computation.local.LocalComputationManager;
 import com.powsybl.dynamicsimulation.*;
 import com.powsybl.dynawo.outputvariables.DynawoOutputVariablesBuilder;
 import com.powsybl.dynawo.commons.DynawoConstants;
+import com.powsybl.dynawo.commons.NetworkUpdateSummary;
+import com.powsybl.iidm.network.IdentifiableType;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.Substation;
 import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.iidm.network.VoltageLevel;
 import org.apache.commons.lang3.SystemUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,14 +31,21 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 import static com.powsybl.commons.report.ReportNode.NO_OP;
 import static com.powsybl.dynamicsimulation.DynamicSimulationResult.Status.FAILURE;
 import static com.powsybl.dynawo.commons.DynawoConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -64,10 +74,16 @@ class DynawoProviderTest extends AbstractSerDeTest {
 
         private final String stdOutFileRef;
         private final String outputIidm;
+        private final String curves;
 
         public LocalCommandExecutorMock(String stdOutFileRef, String outputIidm) {
+            this(stdOutFileRef, outputIidm, null);
+        }
+
+        public LocalCommandExecutorMock(String stdOutFileRef, String outputIidm, String curves) {
             this.stdOutFileRef = stdOutFileRef;
             this.outputIidm = outputIidm;
+            this.curves = curves;
         }
 
         @Override
@@ -76,6 +92,12 @@ class DynawoProviderTest extends AbstractSerDeTest {
                 copyFile(stdOutFileRef, outFile);
                 Path finalState = Files.createDirectories(workingDir.resolve(FINAL_STATE_FOLDER_PATH));
                 copyFile(outputIidm, finalState.resolve(OUTPUT_IIDM_FILENAME));
+                if (curves != null) {
+                    Path curvesFolder = Files.createDirectories(workingDir.resolve(OUTPUTS_FOLDER).resolve(DynawoSimulationConstants.CURVES_OUTPUT_PATH));
+                    copyFile(curves, curvesFolder.resolve(DynawoSimulationConstants.CURVES_FILENAME));
+                    // successful simulation
+                    Files.writeString(errFile, "");
+                }
                 return 0;
             } catch (IOException e) {
                 throw new UncheckedIOException(e);
@@ -166,6 +188,246 @@ class DynawoProviderTest extends AbstractSerDeTest {
         assertEquals(FAILURE, result.getStatus());
     }
 
+    @Test
+    void testWithLazyCurves() throws Exception {
+        DynamicSimulationParameters dynamicSimulationParameters = DynamicSimulationParameters.load();
+        dynamicSimulationParameters.addExtension(DynawoSimulationParameters.class, DynawoSimulationParameters.load().setCurvesLazyLoading(true));
+        DynamicSimulationResult result = runWithCurves(dynamicSimulationParameters);
+        assertEquals(4, result.getCurves().size());
+        assertEquals(4, result.getCurve("NETWORK__BUS____1_TN_Upu_value").toArray().length);
+        // the curves file is moved outside of the deleted working directory
+        try (Stream<Path> files = Files.list(tmpDir)) {
+            assertEquals(1, files.map(f -> f.getFileName().toString())
+                    .filter(f -> f.startsWith("curves") && f.endsWith(".csv"))
+                    .count());
+        }
+    }
+
+    @Test
+    void testWithLazyCurvesInDebug() throws Exception {
+        DynamicSimulationParameters dynamicSimulationParameters = DynamicSimulationParameters.load();
+        dynamicSimulationParameters.addExtension(DynawoSimulationParameters.class, DynawoSimulationParameters.load().setCurvesLazyLoading(true));
+        DynawoSimulationProvider provider = new DynawoSimulationProvider(new DynawoSimulationConfig(config.getHomeDir(), true, null, null));
+        DynamicSimulationResult result = runWithCurves(provider, dynamicSimulationParameters);
+        assertEquals(4, result.getCurves().size());
+        // the curves file is copied, the kept working directory being left untouched
+        try (Stream<Path> files = Files.list(tmpDir)) {
+            Path workingDir = files.filter(f -> f.getFileName().toString().startsWith("dynawo_")).findFirst().orElseThrow();
+            assertTrue(Files.exists(workingDir.resolve(OUTPUTS_FOLDER).resolve(DynawoSimulationConstants.CURVES_OUTPUT_PATH)
+                    .resolve(DynawoSimulationConstants.CURVES_FILENAME)));
+        }
+    }
+
+    @Test
+    void testWithCurvesSink() throws Exception {
+        List<String> curveNames = new ArrayList<>();
+        DynamicSimulationParameters dynamicSimulationParameters = DynamicSimulationParameters.load();
+        dynamicSimulationParameters.addExtension(DynawoSimulationParameters.class, DynawoSimulationParameters.load()
+                .setCurvesSink(curve -> curveNames.add(curve.getMetadata().getName())));
+        DynamicSimulationResult result = runWithCurves(dynamicSimulationParameters);
+        assertTrue(result.getCurves().isEmpty());
+        assertEquals(List.of("NETWORK__BUS____1_TN_Upu_value", "NETWORK__BUS____2_TN_Upu_value",
+                "NETWORK__BUS____3_TN_Upu_value", "NETWORK__BUS____4_TN_Upu_value"), curveNames);
+    }
+
+    @Test
+    void testWithPostProcessingExecutor() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            DynamicSimulationParameters dynamicSimulationParameters = DynamicSimulationParameters.load();
+            dynamicSimulationParameters.addExtension(DynawoSimulationParameters.class, DynawoSimulationParameters.load()
+                    .setPostProcessingExecutor(executor));
+            DynamicSimulationResult result = runWithCurves(dynamicSimulationParameters);
+            assertEquals(DynamicSimulationResult.Status.SUCCESS, result.getStatus());
+            assertEquals(4, result.getCurves().size());
+            Map<PostProcessingStage, Duration> timings = ((DynawoSimulationResult) result).getPostProcessingTimings();
+            assertEquals(List.of(PostProcessingStage.LOGS, PostProcessingStage.TIMELINE, PostProcessingStage.CURVES,
+                    PostProcessingStage.OUTPUT_NETWORK_READ, PostProcessingStage.NETWORK_UPDATE), List.copyOf(timings.keySet()));
+            assertTrue(timings.values().stream().noneMatch(Duration::isNegative));
+            Map<String, Duration> inputFilesTimings = ((DynawoSimulationResult) result).getInputFilesTimings();
+            assertThat(inputFilesTimings).containsKeys(NETWORK_FILENAME, DynawoSimulationConstants.JOBS_FILENAME, DynawoSimulationConstants.DYD_FILENAME);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testResultTimeline() {
+        List<TimelineEvent> events = List.of(new TimelineEvent(1., "GEN", "PMIN : activation"),
+                new TimelineEvent(0.5, "LOAD", "switch off"),
+                new TimelineEvent(2., "GEN", "PMIN : deactivation"));
+        DynawoSimulationResult result = new DynawoSimulationResult(DynamicSimulationResult.Status.SUCCESS, "", Map.of(), Map.of(),
+                events, Map.of());
+        assertEquals(events, result.getTimeLine());
+        assertEquals(List.of(events.get(0), events.get(2)), result.getCompactTimeline().getEvents("GEN"));
+        assertEquals(List.of(events.get(1), events.get(0)), result.getCompactTimeline().getEvents(0., 1.));
+    }
+
+    @Test
+    void testWithResultVariant() throws Exception {
+        Network network = createTestNetwork();
+        network.getVariantManager().allowVariantMultiThreadAccess(true);
+        String workingVariantId = network.getVariantManager().getWorkingVariantId();
+        LocalCommandExecutor commandExecutor = new LocalCommandExecutorMock("/dynawo_version.out", "/resultVariant.xiidm", "/curves.csv");
+        ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir, 1), commandExecutor, ForkJoinPool.commonPool());
+        DynamicSimulationParameters dynamicSimulationParameters = DynamicSimulationParameters.load();
+        dynamicSimulationParameters.addExtension(DynawoSimulationParameters.class, DynawoSimulationParameters.load()
+                .setMergeLoads(false)
+                .setResultVariantId("results"));
+        DynamicSimulationResult result = DynamicSimulation.find().run(network, (n, r) -> Collections.emptyList(), EventModelsSupplier.empty(),
+                new OutputVariablesSupplierMock(), workingVariantId, computationManager, dynamicSimulationParameters, NO_OP);
+        assertEquals(DynamicSimulationResult.Status.SUCCESS, result.getStatus());
+
+        // the input variant is left untouched and is still the working variant of the calling thread
+        assertTrue(network.getVariantManager().isVariantMultiThreadAccessAllowed());
+        assertEquals(workingVariantId, network.getVariantManager().getWorkingVariantId());
+        assertTrue(Double.isNaN(network.getLoad("load1").getTerminal().getP()));
+        assertFalse(network.getSwitch("breaker2").isOpen());
+
+        network.getVariantManager().setWorkingVariant("results");
+        assertEquals(9.5, network.getLoad("load1").getTerminal().getP());
+        assertEquals(4.5, network.getLoad("load1").getTerminal().getQ());
+        assertTrue(network.getSwitch("breaker2").isOpen());
+    }
+
+    @Test
+    void testResultVariantCreatedBeforeComputation() throws Exception {
+        Network network = createTestNetwork();
+        network.getVariantManager().allowVariantMultiThreadAccess(true);
+        String workingVariantId = network.getVariantManager().getWorkingVariantId();
+        LocalCommandExecutor commandExecutor = new LocalCommandExecutorMock("/dynawo_version.out", "/resultVariant.xiidm", "/curves.csv");
+        // records if the result variant exists when each computation is submitted: version computation, then simulation
+        List<Boolean> resultVariantCreated = new ArrayList<>();
+        Executor executor = task -> {
+            resultVariantCreated.add(network.getVariantManager().getVariantIds().contains("results"));
+            task.run();
+        };
+        ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir, 1), commandExecutor, executor);
+        DynamicSimulationParameters dynamicSimulationParameters = DynamicSimulationParameters.load();
+        dynamicSimulationParameters.addExtension(DynawoSimulationParameters.class, DynawoSimulationParameters.load()
+                .setMergeLoads(false)
+                .setResultVariantId("results"));
+        DynamicSimulationResult result = DynamicSimulation.find().run(network, (n, r) -> Collections.emptyList(), EventModelsSupplier.empty(),
+                new OutputVariablesSupplierMock(), workingVariantId, computationManager, dynamicSimulationParameters, NO_OP);
+        assertEquals(DynamicSimulationResult.Status.SUCCESS, result.getStatus());
+        assertThat(resultVariantCreated).containsExactly(false, true);
+        network.getVariantManager().setWorkingVariant("results");
+        assertTrue(network.getSwitch("breaker2").isOpen());
+    }
+
+    @Test
+    void testWithDeltaNetworkUpdate() throws Exception {
+        Network network = createTestNetwork();
+        LocalCommandExecutor commandExecutor = new LocalCommandExecutorMock("/dynawo_version.out", "/resultVariant.xiidm", "/curves.csv");
+        ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir, 1), commandExecutor, ForkJoinPool.commonPool());
+        DynamicSimulationParameters dynamicSimulationParameters = DynamicSimulationParameters.load();
+        dynamicSimulationParameters.addExtension(DynawoSimulationParameters.class, DynawoSimulationParameters.load()
+                .setMergeLoads(false)
+                .setDeltaNetworkUpdate(true));
+        DynamicSimulationResult result = DynamicSimulation.find().run(network, (n, r) -> Collections.emptyList(), EventModelsSupplier.empty(),
+                new OutputVariablesSupplierMock(), network.getVariantManager().getWorkingVariantId(), computationManager,
+                dynamicSimulationParameters, NO_OP);
+        assertEquals(DynamicSimulationResult.Status.SUCCESS, result.getStatus());
+        assertEquals(9.5, network.getLoad("load1").getTerminal().getP());
+        assertTrue(network.getSwitch("breaker2").isOpen());
+
+        NetworkUpdateSummary summary = ((DynawoSimulationResult) result).getNetworkUpdateSummary().orElseThrow();
+        assertTrue(summary.getChangeCount(IdentifiableType.LOAD) > 0);
+        assertThat(summary.getConnectivityChangedIds()).contains("breaker2");
+    }
+
+    @Test
+    void testResultVariantSameAsWorkingVariant() throws IOException {
+        Network network = createTestNetwork();
+        String workingVariantId = network.getVariantManager().getWorkingVariantId();
+        LocalCommandExecutor commandExecutor = new LocalCommandExecutorMock("/dynawo_version.out", "/resultVariant.xiidm");
+        ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir, 1), commandExecutor, ForkJoinPool.commonPool());
+        DynamicSimulationParameters dynamicSimulationParameters = DynamicSimulationParameters.load();
+        dynamicSimulationParameters.addExtension(DynawoSimulationParameters.class, DynawoSimulationParameters.load()
+                .setResultVariantId(workingVariantId));
+        DynamicSimulation.Runner dynawoSimulation = DynamicSimulation.find();
+        DynamicModelsSupplier dms = (n, r) -> Collections.emptyList();
+        EventModelsSupplier ems = EventModelsSupplier.empty();
+        OutputVariablesSupplier ovs = OutputVariablesSupplier.empty();
+        PowsyblException e = assertThrows(PowsyblException.class, () -> dynawoSimulation.run(network, dms, ems, ovs,
+                workingVariantId, computationManager, dynamicSimulationParameters, NO_OP));
+        assertEquals("Result variant InitialState should differ from the working variant", e.getMessage());
+    }
+
+    @Test
+    void testResultVariantWithoutMultiThreadAccess() throws IOException {
+        Network network = createTestNetwork();
+        String workingVariantId = network.getVariantManager().getWorkingVariantId();
+        LocalCommandExecutor commandExecutor = new LocalCommandExecutorMock("/dynawo_version.out", "/resultVariant.xiidm");
+        ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir, 1), commandExecutor, ForkJoinPool.commonPool());
+        DynamicSimulationParameters dynamicSimulationParameters = DynamicSimulationParameters.load();
+        dynamicSimulationParameters.addExtension(DynawoSimulationParameters.class, DynawoSimulationParameters.load()
+                .setResultVariantId("results"));
+        DynamicSimulation.Runner dynawoSimulation = DynamicSimulation.find();
+        DynamicModelsSupplier dms = (n, r) -> Collections.emptyList();
+        EventModelsSupplier ems = EventModelsSupplier.empty();
+        OutputVariablesSupplier ovs = OutputVariablesSupplier.empty();
+        PowsyblException e = assertThrows(PowsyblException.class, () -> dynawoSimulation.run(network, dms, ems, ovs,
+                workingVariantId, computationManager, dynamicSimulationParameters, NO_OP));
+        assertEquals("Variant multi-thread access should be allowed to write the results into variant results", e.getMessage());
+        assertFalse(network.getVariantManager().isVariantMultiThreadAccessAllowed());
+    }
+
+    @Test
+    void testConcurrentResultsVariants() throws Exception {
+        Network network = createTestNetwork();
+        VariantManager variantManager = network.getVariantManager();
+        String workingVariantId = variantManager.getWorkingVariantId();
+        variantManager.cloneVariant(workingVariantId, "other");
+        LocalCommandExecutor commandExecutor = new LocalCommandExecutorMock("/dynawo_version.out", "/resultVariant.xiidm", "/curves.csv");
+        ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir, 1), commandExecutor, ForkJoinPool.commonPool());
+        DynamicSimulationParameters dynamicSimulationParameters = DynamicSimulationParameters.load();
+        dynamicSimulationParameters.addExtension(DynawoSimulationParameters.class, DynawoSimulationParameters.load()
+                .setMergeLoads(false));
+        DynamicSimulation.Runner dynawoSimulation = DynamicSimulation.find();
+        DynamicModelsSupplier dms = (n, r) -> Collections.emptyList();
+        EventModelsSupplier ems = EventModelsSupplier.empty();
+        OutputVariablesSupplier ovs = new OutputVariablesSupplierMock();
+
+        // simulation running on the working variant
+        DynawoSimulationContext runningContext = new DynawoSimulationContext.Builder(network, List.of()).build();
+        runningContext.claimResultsVariant();
+        try {
+            PowsyblException e = assertThrows(PowsyblException.class, () -> dynawoSimulation.run(network, dms, ems, ovs,
+                    "other", computationManager, dynamicSimulationParameters, NO_OP));
+            assertEquals("Variant multi-thread access should be allowed to run simulations concurrently on network " + network.getId(), e.getMessage());
+
+            variantManager.allowVariantMultiThreadAccess(true);
+            e = assertThrows(PowsyblException.class, () -> dynawoSimulation.run(network, dms, ems, ovs,
+                    workingVariantId, computationManager, dynamicSimulationParameters, NO_OP));
+            assertEquals("Results variant " + workingVariantId + " is already used by another simulation on network " + network.getId(), e.getMessage());
+
+            DynamicSimulationResult result = dynawoSimulation.run(network, dms, ems, ovs, "other", computationManager,
+                    dynamicSimulationParameters, NO_OP);
+            assertEquals(DynamicSimulationResult.Status.SUCCESS, result.getStatus());
+        } finally {
+            runningContext.releaseResultsVariant();
+        }
+
+        // the variants are released once the simulations are over
+        DynamicSimulationResult result = dynawoSimulation.run(network, dms, ems, ovs, workingVariantId, computationManager,
+                dynamicSimulationParameters, NO_OP);
+        assertEquals(DynamicSimulationResult.Status.SUCCESS, result.getStatus());
+    }
+
+    private DynamicSimulationResult runWithCurves(DynamicSimulationParameters dynamicSimulationParameters) throws IOException {
+        return runWithCurves(new DynawoSimulationProvider(config), dynamicSimulationParameters);
+    }
+
+    private DynamicSimulationResult runWithCurves(DynawoSimulationProvider provider, DynamicSimulationParameters dynamicSimulationParameters) throws IOException {
+        Network network = createTestNetwork();
+        LocalCommandExecutor commandExecutor = new LocalCommandExecutorMock("/dynawo_version.out", "/noMergedLoads.xiidm", "/curves.csv");
+        ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir, 1), commandExecutor, ForkJoinPool.commonPool());
+        return provider.run(network, (n, r) -> Collections.emptyList(), EventModelsSupplier.empty(),
+                new OutputVariablesSupplierMock(), network.getVariantManager().getWorkingVariantId(),
+                computationManager, dynamicSimulationParameters, NO_OP).join();
+    }
+
     @Test
     void checkVersionCommand() {
         String versionCommand = DynawoSimulationProvider.getVersionCommand(config).toString(0);
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo;
+
+import com.powsybl.commons.test.AbstractSerDeTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+class ErrorFileScannerTest extends AbstractSerDeTest {
+
+    private static final String MARKER = "DYN Error: ";
+
+    @Test
+    void testFirstError() throws IOException {
+        Path errorFile = Files.writeString(tmpDir.resolve("dyn_fs_0.err"), """
+                some output
+                [ERROR] DYN Error: Solver fails to solve the problem
+                  at time 12.5\r
+                \r
+                  in model GEN____1_SM
+                DYN Error: second error
+                """);
+        assertEquals(Optional.of("Solver fails to solve the problem"), new ErrorFileScanner(MARKER, 0).scan(errorFile));
+        assertEquals(Optional.of("Solver fails to solve the problem\n  at time 12.5"), new ErrorFileScanner(MARKER, 1).scan(errorFile));
+        assertEquals(Optional.of("Solver fails to solve the problem\n  at time 12.5\n\n  in model GEN____1_SM"),
+                new ErrorFileScanner(MARKER, 3).scan(errorFile));
+        assertEquals(Optional.of("Solver fails to solve the problem\n  at time 12.5\n\n  in model GEN____1_SM\nDYN Error: second error"),
+                new ErrorFileScanner(MARKER, 10).scan(errorFile));
+    }
+
+    @Test
+    void testNoError() throws IOException {
+        Path errorFile = Files.writeString(tmpDir.resolve("dyn_fs_0.err"), "DYN Warning: slow convergence\nDYN Erro");
+        assertTrue(new ErrorFileScanner(MARKER, 2).scan(errorFile).isEmpty());
+        Path emptyFile = Files.writeString(tmpDir.resolve("empty.err"), "");
+        assertTrue(new ErrorFileScanner(MARKER, 0).scan(emptyFile).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new ErrorFileScanner("", 0));
+    }
+
+    @Test
+    void testLongLines() throws IOException {
+        String padding = "x".repeat(10_000);
+        String longMessage = "y".repeat(2 * ErrorFileScanner.MAX_LINE_LENGTH);
+        Path errorFile = Files.writeString(tmpDir.resolve("dyn_fs_0.err"), padding + MARKER + longMessage + "\nend");
+        assertEquals(Optional.of("y".repeat(ErrorFileScanner.MAX_LINE_LENGTH) + "\nend"), new ErrorFileScanner(MARKER, 1).scan(errorFile));
+        // marker with a prefix repeated inside
+        Path repeatedPrefix = Files.writeString(tmpDir.resolve("repeated.err"), "DYN DYN Error: DYN Error: message");
+        assertEquals(Optional.of("DYN Error: message"), new ErrorFileScanner(MARKER, 0).scan(repeatedPrefix));
+        Path overlapping = Files.writeString(tmpDir.resolve("overlapping.err"), "aaab|c");
+        assertEquals(Optional.of("|c"), new ErrorFileScanner("aab", 0).scan(overlapping));
+    }
+}
@@ -12,16 +12,24 @@ import com.powsybl.dynawo.BlackBoxModelSupplier;
 import com.powsybl.dynawo.models.frequencysynchronizers.PowerAngleModel;
 import com.powsybl.dynawo.models.generators.SynchronousGenerator;
 import com.powsybl.dynawo.models.generators.SynchronousGeneratorBuilder;
+import com.powsybl.dynawo.models.macroconnections.MacroConnect;
+import com.powsybl.dynawo.models.macroconnections.MacroConnectList;
 import com.powsybl.dynawo.models.macroconnections.MacroConnectionsAdder;
 import com.powsybl.dynawo.models.macroconnections.MacroConnector;
+import com.powsybl.dynawo.xml.XmlStreamWriterFactory;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.powsybl.dynawo.xml.DynawoSimulationXmlConstants.DYN_PREFIX;
+import static com.powsybl.dynawo.xml.DynawoSimulationXmlConstants.DYN_URI;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -76,4 +84,43 @@ class MacroConnectionsAdderTest {
         int createdMC = adder.createMacroConnectionsForAll(gen, PowerAngleModel.class, gen.getEquipment(), m -> List.of());
         assertEquals(2, createdMC);
     }
+
+    @Test
+    void testFlattenedMacroConnectList() throws XMLStreamException {
+        MacroConnectList macroConnectList = new MacroConnectList();
+        List<MacroConnect> expectedMacroConnects = new ArrayList<>();
+        MacroConnectionsAdder adder = new MacroConnectionsAdder(
+                BlackBoxModelSupplier.createFrom(dynamicModels),
+                mc -> {
+                    macroConnectList.add(mc);
+                    expectedMacroConnects.add(mc);
+                },
+                (mc, f) -> { },
+                ReportNode.NO_OP);
+        adder.createMacroConnectionsForAll(gen, PowerAngleModel.class, gen.getEquipment(), m -> List.of());
+        adder.createMacroConnections(gen, gen.getEquipment(), PowerAngleModel.class, m -> List.of(), "Test");
+        assertEquals(3, macroConnectList.size());
+        assertThat(macroConnectList).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(expectedMacroConnects);
+
+        String expected = write(w -> {
+            for (MacroConnect macroConnect : expectedMacroConnects) {
+                macroConnect.write(w);
+            }
+        });
+        assertEquals(expected, write(macroConnectList::write));
+    }
+
+    @FunctionalInterface
+    private interface XmlWriter {
+        void write(XMLStreamWriter writer) throws XMLStreamException;
+    }
+
+    private static String write(XmlWriter xmlWriter) throws XMLStreamException {
+        StringWriter writer = new StringWriter();
+        XMLStreamWriter xmlStreamWriter = XmlStreamWriterFactory.newInstance(writer, false);
+        xmlStreamWriter.setPrefix(DYN_PREFIX, DYN_URI);
+        xmlWriter.write(xmlStreamWriter);
+        xmlStreamWriter.flush();
+        return writer.toString();
+    }
 }
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.outputvariables;
+
+import com.powsybl.timeseries.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares {@link CsvCurvesParser} with {@link TimeSeries#parseCsv} on a generated curves file: both parsers have to
+ * give the same curves, and their durations are logged by the benchmark.
+ * <p>
+ * Run the benchmark with {@code mvn test -Dtest=CsvCurvesParserBenchmarkTest -Dcurves.benchmark=true}, the file size
+ * being set with the {@code curves.benchmark.columns} and {@code curves.benchmark.rows} properties.
+ *
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+class CsvCurvesParserBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CsvCurvesParserBenchmarkTest.class);
+    private static final int ITERATIONS = 5;
+    private static final TimeSeriesCsvConfig CSV_CONFIG = new TimeSeriesCsvConfig(TimeSeriesConstants.DEFAULT_SEPARATOR,
+            false, TimeSeries.TimeFormat.FRACTIONS_OF_SECOND, true);
+
+    @Test
+    void sameCurvesAsTimeSeries(@TempDir Path dir) throws IOException {
+        Path file = writeCurves(dir.resolve("curves.csv"), 70, 200);
+        assertSameCurves(parseTimeSeries(file), new CsvCurvesParser().parse(file));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "curves.benchmark", matches = "true")
+    void benchmark(@TempDir Path dir) throws IOException {
+        int columns = Integer.getInteger("curves.benchmark.columns", 2000);
+        int rows = Integer.getInteger("curves.benchmark.rows", 5000);
+        Path file = writeCurves(dir.resolve("curves.csv"), columns, rows);
+        LOGGER.info("Curves file: {} columns, {} rows, {} MB", columns, rows, Files.size(file) >> 20);
+
+        Map<String, DoubleTimeSeries> timeSeries = run("TimeSeries.parseCsv", () -> parseTimeSeries(file));
+        Map<String, DoubleTimeSeries> curves = run("CsvCurvesParser", () -> new CsvCurvesParser().parse(file));
+        assertSameCurves(timeSeries, curves);
+    }
+
+    private static Map<String, DoubleTimeSeries> parseTimeSeries(Path file) {
+        Map<String, DoubleTimeSeries> timeSeries = new LinkedHashMap<>();
+        TimeSeries.parseCsv(file, CSV_CONFIG).values().forEach(list -> list.forEach(ts -> timeSeries.put(ts.getMetadata().getName(), (DoubleTimeSeries) ts)));
+        return timeSeries;
+    }
+
+    private static void assertSameCurves(Map<String, DoubleTimeSeries> expected, Map<String, DoubleTimeSeries> actual) {
+        assertEquals(List.copyOf(expected.keySet()), List.copyOf(actual.keySet()));
+        expected.forEach((name, expectedCurve) -> {
+            DoubleTimeSeries curve = actual.get(name);
+            assertEquals(expectedCurve.getMetadata().getIndex(), curve.getMetadata().getIndex(), name);
+            assertArrayEquals(expectedCurve.toArray(), curve.toArray(), name);
+        });
+    }
+
+    private static <T> T run(String name, Supplier<T> parsing) {
+        T result = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            result = parsing.get();
+            LOGGER.info("{} #{}: {} ms", name, i, (System.nanoTime() - start) / 1_000_000);
+        }
+        return result;
+    }
+
+    private static Path writeCurves(Path file, int columns, int rows) throws IOException {
+        Random random = new Random(0);
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("time;");
+            for (int c = 0; c < columns; c++) {
+                writer.write("NETWORK__BUS_" + c + "_TN_Upu_value;");
+            }
+            writer.newLine();
+            double time = 0;
+            for (int r = 0; r < rows; r++) {
+                time += random.nextInt(1, 100) * 1e-3;
+                writer.write(String.format(Locale.US, "%.6f;", time));
+                for (int c = 0; c < columns; c++) {
+                    writer.write(String.format(Locale.US, "%.6f;", random.nextGaussian() * 100));
+                }
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.outputvariables;
+
+import com.powsybl.commons.test.AbstractSerDeTest;
+import com.powsybl.timeseries.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+class CsvCurvesParserTest extends AbstractSerDeTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/curves.csv", "/ieee14-curves.csv"})
+    void parseAsTimeSeriesCsv(String resource) throws IOException {
+        Path curvesFile = tmpDir.resolve("curves.csv");
+        try (InputStream is = Objects.requireNonNull(getClass().getResourceAsStream(resource))) {
+            Files.copy(is, curvesFile);
+        }
+        Map<String, DoubleTimeSeries> expected = parseWithTimeSeries(curvesFile);
+        Map<String, DoubleTimeSeries> curves = new CsvCurvesParser().parse(curvesFile);
+        assertEquals(expected.keySet().stream().toList(), curves.keySet().stream().toList());
+        expected.forEach((name, curve) -> {
+            assertEquals(curve.getMetadata(), curves.get(name).getMetadata());
+            assertArrayEquals(curve.toArray(), curves.get(name).toArray());
+        });
+        // shared time index
+        TimeSeriesIndex index = curves.values().iterator().next().getMetadata().getIndex();
+        curves.values().forEach(c -> assertSame(index, c.getMetadata().getIndex()));
+    }
+
+    @Test
+    void parseMappedWindows(@TempDir Path dir) throws IOException, URISyntaxException {
+        Path curvesFile = Path.of(Objects.requireNonNull(getClass().getResource("/curves.csv")).toURI());
+        Map<String, DoubleTimeSeries> expected = new CsvCurvesParser().parse(curvesFile);
+        // lines crossing the windows boundaries
+        Map<String, DoubleTimeSeries> curves = new CsvCurvesParser(';', 150).parse(curvesFile);
+        assertEquals(expected.keySet(), curves.keySet());
+        expected.forEach((name, curve) -> assertArrayEquals(curve.toArray(), curves.get(name).toArray()));
+
+        Path file = Files.writeString(dir.resolve("curves.csv"), "time;A\n0.0;1.0\n");
+        CsvCurvesParser parser = new CsvCurvesParser(';', 5);
+        TimeSeriesException e = assertThrows(TimeSeriesException.class, () -> parser.parse(file));
+        assertEquals("Line 1 exceeds the read window size", e.getMessage());
+    }
+
+    @Test
+    void parseIrregularTimes() throws IOException {
+        Path file = Files.writeString(tmpDir.resolve("curves.csv"), """
+                Time;A;B;
+                0.000000;1.5;-2e-3;
+                0.100000;;1.0E5;
+                0.100000;3;3;
+                0.300000;-0.000000;123456789.123456789123;
+                """);
+        Map<String, DoubleTimeSeries> curves = new CsvCurvesParser().parse(file);
+        Map<String, DoubleTimeSeries> expected = parseWithTimeSeries(file);
+        assertEquals(expected.keySet(), curves.keySet());
+        assertInstanceOf(IrregularTimeSeriesIndex.class, curves.get("A").getMetadata().getIndex());
+        assertEquals(expected.get("A").getMetadata().getIndex(), curves.get("A").getMetadata().getIndex());
+        assertArrayEquals(new double[] {1.5, Double.NaN, 3, -0.0}, curves.get("A").toArray());
+        assertArrayEquals(expected.get("B").toArray(), curves.get("B").toArray());
+    }
+
+    @Test
+    void parseInvalidFiles() throws IOException {
+        CsvCurvesParser parser = new CsvCurvesParser();
+        Path badHeader = Files.writeString(tmpDir.resolve("badHeader.csv"), "A;B\n0;1\n");
+        assertThrows(TimeSeriesException.class, () -> parser.parse(badHeader));
+        Path missingColumn = Files.writeString(tmpDir.resolve("missingColumn.csv"), "time;A;B\n0;1;2\n1;1\n");
+        assertEquals("Columns of line 3 are inconsistent with header",
+                assertThrows(TimeSeriesException.class, () -> parser.parse(missingColumn)).getMessage());
+        Path extraColumn = Files.writeString(tmpDir.resolve("extraColumn.csv"), "time;A\n0;1;2\n");
+        assertThrows(TimeSeriesException.class, () -> parser.parse(extraColumn));
+        Path oneRow = Files.writeString(tmpDir.resolve("oneRow.csv"), "time;A\n0;1\n");
+        assertEquals("At least 2 rows are expected", assertThrows(TimeSeriesException.class, () -> parser.parse(oneRow)).getMessage());
+        Path badValue = Files.writeString(tmpDir.resolve("badValue.csv"), "time;A\n0;1\n1;x\n");
+        assertThrows(TimeSeriesException.class, () -> parser.parse(badValue));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void parseLazily(boolean smallWindows, @TempDir Path dir) throws IOException, URISyntaxException {
+        Path curvesFile = Path.of(Objects.requireNonNull(getClass().getResource("/curves.csv")).toURI());
+        Map<String, DoubleTimeSeries> expected = new CsvCurvesParser().parse(curvesFile);
+        // rows crossing the windows boundaries
+        Map<String, DoubleTimeSeries> curves = new CsvCurvesParser(';', smallWindows ? 150 : 1 << 30).parseLazily(curvesFile);
+        assertInstanceOf(MappedCurves.class, curves);
+        assertEquals(expected.keySet().stream().toList(), curves.keySet().stream().toList());
+        String name = "NETWORK__BUS____2_TN_Upu_value";
+        assertFalse(((MappedCurves) curves).isLoaded(name));
+        assertEquals(expected.get(name).getMetadata(), curves.get(name).getMetadata());
+        assertArrayEquals(expected.get(name).toArray(), curves.get(name).toArray());
+        assertTrue(((MappedCurves) curves).isLoaded(name));
+        assertSame(curves.get(name), curves.get(name));
+        assertEquals(expected, curves);
+        assertNull(curves.get("unknown"));
+
+        // values beyond the first checkpoints, irregular times and empty values
+        StringBuilder content = new StringBuilder("time;");
+        for (int c = 0; c < 150; c++) {
+            content.append("C").append(c).append(c == 70 ? ";;" : ";");
+        }
+        for (int r = 0; r < 20; r++) {
+            content.append('\n').append(r * r * 0.01).append(';');
+            for (int c = 0; c < 151; c++) {
+                content.append(r % 3 == 0 && c == 140 ? "" : c * 1000 + r + 0.5).append(';');
+            }
+        }
+        Path file = Files.writeString(dir.resolve("curves.csv"), content);
+        Map<String, DoubleTimeSeries> lazyCurves = new CsvCurvesParser(';', smallWindows ? 2000 : 1 << 30).parseLazily(file);
+        Map<String, DoubleTimeSeries> eagerCurves = new CsvCurvesParser().parse(file);
+        assertEquals(150, lazyCurves.size());
+        eagerCurves.forEach((n, curve) -> assertArrayEquals(curve.toArray(), lazyCurves.get(n).toArray(), n));
+        assertEquals(eagerCurves.get("C0").getMetadata().getIndex(), lazyCurves.get("C149").getMetadata().getIndex());
+    }
+
+    @Test
+    void parseToSink() throws IOException, URISyntaxException {
+        Path curvesFile = Path.of(Objects.requireNonNull(getClass().getResource("/curves.csv")).toURI());
+        Map<String, DoubleTimeSeries> expected = new CsvCurvesParser().parse(curvesFile);
+        Map<String, DoubleTimeSeries> curves = new LinkedHashMap<>();
+        assertEquals(4, new CsvCurvesParser().parse(curvesFile, curve -> curves.put(curve.getMetadata().getName(), curve)));
+        assertEquals(expected.keySet().stream().toList(), curves.keySet().stream().toList());
+        assertEquals(expected, curves);
+    }
+
+    @Test
+    void parseToSinkByBlocks() throws IOException {
+        Path curvesFile = tmpDir.resolve("curves.csv");
+        try (InputStream is = Objects.requireNonNull(getClass().getResourceAsStream("/ieee14-curves.csv"))) {
+            Files.copy(is, curvesFile);
+        }
+        Map<String, DoubleTimeSeries> expected = new CsvCurvesParser().parse(curvesFile);
+        Map<String, List<DoubleTimeSeries>> blocks = new LinkedHashMap<>();
+        // blocks of 3 rows
+        int blockValues = 3 * expected.size();
+        assertEquals(expected.size(), new CsvCurvesParser().parse(curvesFile,
+                curve -> blocks.computeIfAbsent(curve.getMetadata().getName(), k -> new ArrayList<>()).add(curve), blockValues));
+        assertEquals(expected.keySet().stream().toList(), blocks.keySet().stream().toList());
+        expected.forEach((name, curve) -> {
+            List<DoubleTimeSeries> curveBlocks = blocks.get(name);
+            int rows = curve.getMetadata().getIndex().getPointCount();
+            assertEquals((rows + 2) / 3, curveBlocks.size());
+            assertArrayEquals(curve.toArray(), curveBlocks.stream().flatMapToDouble(b -> Arrays.stream(b.toArray())).toArray());
+            assertEquals(curve.getMetadata().getIndex().stream().toList(),
+                    curveBlocks.stream().flatMap(b -> b.getMetadata().getIndex().stream()).toList());
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void parseFiltered(boolean lazily) throws IOException {
+        // last row is not read
+        Path file = Files.writeString(tmpDir.resolve("curves.csv"), """
+                time;A1;A2;B1;A.(1);
+                0.0;1;2;3;0;
+                1.0;4;5;6;0;
+                2.0;7;8;9;0;
+                3.0;10;11;12;13;
+                4.0;x
+                """);
+        Map<String, DoubleTimeSeries> curves = parse(new CurvesFilter(List.of("A?"), 1, 2), file, lazily);
+        assertEquals(List.of("A1", "A2"), curves.keySet().stream().toList());
+        assertArrayEquals(new double[] {4, 7}, curves.get("A1").toArray());
+        assertArrayEquals(new double[] {5, 8}, curves.get("A2").toArray());
+        assertEquals(new RegularTimeSeriesIndex(Instant.ofEpochSecond(1), Instant.ofEpochSecond(2), Duration.ofSeconds(1)),
+                curves.get("A1").getMetadata().getIndex());
+
+        curves = parse(new CurvesFilter(List.of("*1", "A.(*"), 2.5, 3), file, lazily);
+        assertEquals(List.of("A1", "B1", "A.(1)"), curves.keySet().stream().toList());
+        assertArrayEquals(new double[] {12}, curves.get("B1").toArray());
+        assertArrayEquals(new double[] {13}, curves.get("A.(1)").toArray());
+        assertEquals(new IrregularTimeSeriesIndex(new Instant[] {Instant.ofEpochSecond(3)}), curves.get("A1").getMetadata().getIndex());
+
+        assertTrue(parse(new CurvesFilter(List.of("C*"), Double.NEGATIVE_INFINITY, 3), file, lazily).isEmpty());
+        assertTrue(parse(new CurvesFilter(List.of(), 0.1, 0.5), file, lazily).isEmpty());
+        CsvCurvesParser parser = new CsvCurvesParser(CurvesFilter.ALL);
+        assertThrows(TimeSeriesException.class, () -> parser.parse(file));
+    }
+
+    @Test
+    void invalidFilter() {
+        List<String> patterns = List.of();
+        assertThrows(IllegalArgumentException.class, () -> new CurvesFilter(patterns, 2, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CurvesFilter(patterns, Double.NaN, 1));
+    }
+
+    private static Map<String, DoubleTimeSeries> parse(CurvesFilter filter, Path file, boolean lazily) {
+        CsvCurvesParser parser = new CsvCurvesParser(filter);
+        return lazily ? parser.parseLazily(file) : parser.parse(file);
+    }
+
+    @Test
+    void parseLazilyInvalidFiles() throws IOException {
+        CsvCurvesParser parser = new CsvCurvesParser();
+        Path missingColumn = Files.writeString(tmpDir.resolve("missingColumn.csv"), "time;A;B\n0;1;2\n1;1\n");
+        assertEquals("Columns of line 3 are inconsistent with header",
+                assertThrows(TimeSeriesException.class, () -> parser.parseLazily(missingColumn)).getMessage());
+        // values are parsed on access
+        Path badValue = Files.writeString(tmpDir.resolve("badValue.csv"), "time;A;B\n0;1;2\n1;x;3\n");
+        Map<String, DoubleTimeSeries> curves = parser.parseLazily(badValue);
+        assertArrayEquals(new double[] {2, 3}, curves.get("B").toArray());
+        assertThrows(TimeSeriesException.class, () -> curves.get("A"));
+    }
+
+    private static Map<String, DoubleTimeSeries> parseWithTimeSeries(Path file) {
+        Map<String, DoubleTimeSeries> curves = new LinkedHashMap<>();
+        TimeSeries.parseCsv(file, new TimeSeriesCsvConfig(TimeSeriesConstants.DEFAULT_SEPARATOR, false,
+                        TimeSeries.TimeFormat.FRACTIONS_OF_SECOND, true)).values()
+                .forEach(l -> l.forEach(curve -> curves.put(curve.getMetadata().getName(), (DoubleTimeSeries) curve)));
+        return curves;
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com/)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dynawo.outputvariables;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
+ */
+class FinalStateValuesTest {
+
+    @Test
+    void testParsedValues() throws URISyntaxException {
+        Path path = Path.of(Objects.requireNonNull(getClass().getResource("/fsv.csv")).toURI());
+        Map<String, Double> expected = new LinkedHashMap<>();
+        new CsvFsvParser(';').parse(path).forEach(e -> expected.put(e.model() + "_" + e.variable(), e.value()));
+        FinalStateValues fsv = new FinalStateValues();
+        new CsvFsvParser(';').parse(path, e -> fsv.add(e.model(), e.variable(), e.value()));
+
+        assertEquals(expected, fsv);
+        assertEquals(List.copyOf(expected.entrySet()), List.copyOf(fsv.entrySet()));
+        assertEquals(1.060012, fsv.get("NETWORK__BUS____1_TN_Upu_value"));
+        assertEquals(0.216995, fsv.getValue("_LOAD___2_EC", "load_PPu"));
+        assertTrue(fsv.contains("GEN____1_SM", "generator_omegaPu"));
+        assertFalse(fsv.contains("GEN____1_SM", "load_PPu"));
+        assertTrue(Double.isNaN(fsv.getValue("GEN____2_SM", "generator_omegaPu")));
+        assertNull(fsv.get("NETWORK"));
+        assertNull(fsv.get(1.0));
+        assertFalse(fsv.containsKey("GEN____1_SM_load_PPu"));
+        assertEquals(List.of("NETWORK", "GEN____1_SM", "_LOAD___2_EC"), fsv.getModels());
+        assertThrows(UnsupportedOperationException.class, () -> fsv.put("GEN____1_SM_load_PPu", 1.));
+    }
+
+    @Test
+    void testReplacedAndManyValues() {
+        FinalStateValues fsv = new FinalStateValues();
+        for (int i = 0; i < 1000; i++) {
+            fsv.add("GEN_" + i % 10, "var_" + i, i);
+        }
+        fsv.add("GEN_3", "var_3", -3);
+        assertEquals(1000, fsv.size());
+        assertEquals(-3, fsv.getValue(3));
+        assertEquals("GEN_3", fsv.getModel(3));
+        assertEquals("var_3", fsv.getVariable(3));
+        assertEquals(999., fsv.get("GEN_9_var_999"));
+        assertEquals(10, fsv.getModels().size());
+        assertEquals("GEN_0_var_0", fsv.keySet().iterator().next());
+        assertThrows(IndexOutOfBoundsException.class, () -> fsv.getValue(1000));
+    }
+
+    @Test
+    void testCollidingKeys() {
+        FinalStateValues fsv = new FinalStateValues();
+        fsv.add("A_B", "C", 1);
+        fsv.add("D", "E", 2);
+        fsv.add("A", "B_C", 3);
+        // single entry with the last value, as in a map
+        Map<String, Double> expected = new LinkedHashMap<>();
+        expected.put("A_B_C", 1.);
+        expected.put("D_E", 2.);
+        expected.put("A_B_C", 3.);
+        assertEquals(expected, fsv);
+        assertEquals(List.copyOf(expected.entrySet()), List.copyOf(fsv.entrySet()));
+        assertEquals(2, fsv.size());
+        assertEquals("A", fsv.getModel(0));
+        assertEquals("B_C", fsv.getVariable(0));
+        assertEquals(3, fsv.getValue("A", "B_C"));
+        assertFalse(fsv.contains("A_B", "C"));
+        assertEquals(2., fsv.get("D_E"));
+    }
+
+    @Test
+    void testManyCollidingKeys() {
+        FinalStateValues fsv = new FinalStateValues();
+        for (int i = 0; i < 500; i++) {
+            fsv.add("GEN_" + i, "var_" + i, i);
+        }
+        // every other pair replaced by the pair giving the same key
+        for (int i = 0; i < 500; i += 2) {
+            fsv.add("GEN", i + "_var_" + i, -i);
+        }
+        assertEquals(500, fsv.size());
+        for (int i = 0; i < 500; i++) {
+            double value = i % 2 == 0 ? -i : i;
+            assertEquals(value, fsv.get("GEN_" + i + "_var_" + i));
+            assertEquals(value, fsv.getValue(i));
+            assertEquals(i % 2 != 0, fsv.contains("GEN_" + i, "var_" + i));
+            assertEquals(i % 2 == 0, fsv.contains("GEN", i + "_var_" + i));
+        }
+        assertEquals("GEN_2_var_2", List.copyOf(fsv.keySet()).get(2));
+    }
+}
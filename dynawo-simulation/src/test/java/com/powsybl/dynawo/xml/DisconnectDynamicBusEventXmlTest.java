@@ -67,6 +67,7 @@ class DisconnectDynamicBusEventXmlTest extends AbstractDynamicModelXmlTest {
                    Model Disconnect Disconnect_B1 instantiation OK
                    + Dynawo models processing
                       Disconnect Disconnect_B1 cannot handle connection with BUS dynamic model, the model will be skipped
+                      10 parameters sets not referenced by the dynamic models are not written in models.par
                 """);
     }
 }
@@ -49,6 +49,7 @@ class EmptyActivePowerVariationEventXmlTest extends AbstractDynamicModelXmlTest
                    + Dynawo models processing
                       ActivePowerVariation ActivePowerVariation_GEN requires a connection with a PControllableEquipmentModel but dynamic model GeneratorSynchronousThreeWindingsPmConstVRNordic GEN does not implement it
                       ActivePowerVariation ActivePowerVariation_GEN connections cannot be created, the model will be skipped
+                      9 parameters sets not referenced by the dynamic models are not written in models.par
                 """);
     }
 }
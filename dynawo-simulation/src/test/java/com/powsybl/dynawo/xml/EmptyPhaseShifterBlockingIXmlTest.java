@@ -60,6 +60,7 @@ class EmptyPhaseShifterBlockingIXmlTest extends AbstractDynamicModelXmlTest {
                    + Dynawo models processing
                       PhaseShifterBlockingI BBM_PSB requires a connection with a PhaseShifterIAutomationSystem but pure dynamic model WRONG_ID is not found
                       PhaseShifterBlockingI BBM_PSB connections cannot be created, the model will be skipped
+                      9 parameters sets not referenced by the dynamic models are not written in models.par
                 """);
     }
 }
@@ -48,6 +48,7 @@ class EmptyReactivePowerVariationEventXmlTest extends AbstractDynamicModelXmlTes
                    + Dynawo models processing
                       ReactivePowerVariation ReactivePowerVariation_GEN requires a connection with a QControllableEquipmentModel but dynamic model GeneratorPVFixed GEN does not implement it
                       ReactivePowerVariation ReactivePowerVariation_GEN connections cannot be created, the model will be skipped
+                      9 parameters sets not referenced by the dynamic models are not written in models.par
                 """);
     }
 }
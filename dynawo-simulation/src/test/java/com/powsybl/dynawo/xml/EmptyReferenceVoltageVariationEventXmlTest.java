@@ -50,6 +50,7 @@ class EmptyReferenceVoltageVariationEventXmlTest extends AbstractDynamicModelXml
                    + Dynawo models processing
                       EventReferenceVoltageVariation ReferenceVoltageVariation_GEN requires a connection with a UControllableEquipmentModel but dynamic model GeneratorPVFixed GEN does not implement it
                       EventReferenceVoltageVariation ReferenceVoltageVariation_GEN connections cannot be created, the model will be skipped
+                      10 parameters sets not referenced by the dynamic models are not written in models.par
                 """);
     }
 }
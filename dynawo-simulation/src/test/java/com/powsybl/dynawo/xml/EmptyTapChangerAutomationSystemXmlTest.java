@@ -67,6 +67,7 @@ class EmptyTapChangerAutomationSystemXmlTest extends AbstractDynamicModelXmlTest
                       TapChangerAutomationSystem BBM_TC_HV connections cannot be created, the model will be skipped
                       TapChangerAutomationSystem BBM_TC_LV requires a connection with a LoadWithTransformersModel but dynamic model LoadAlphaBeta LOAD does not implement it
                       TapChangerAutomationSystem BBM_TC_LV connections cannot be created, the model will be skipped
+                      9 parameters sets not referenced by the dynamic models are not written in models.par
                 """);
     }
 }
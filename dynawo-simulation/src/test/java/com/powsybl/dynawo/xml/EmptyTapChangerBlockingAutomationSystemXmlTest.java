@@ -67,6 +67,7 @@ class EmptyTapChangerBlockingAutomationSystemXmlTest extends AbstractDynamicMode
                         TapChangerAutomationSystem BBM_TC requires a connection with a LoadWithTransformerModel but dynamic model DefaultLoad LOAD2 does not implement it
                         TapChangerAutomationSystem BBM_TC connections cannot be created, the model will be skipped
                         TapChangerBlockingAutomationSystem BBM_TapChangerBlocking connections cannot be created, the model will be skipped
+                        10 parameters sets not referenced by the dynamic models are not written in models.par
                   """);
     }
 }
@@ -15,6 +15,9 @@ import org.xml.sax.SAXException;
 
 import java.io.IOException;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 /**
  * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
  */
@@ -44,4 +47,11 @@ class NodeFaultEventXmlTest extends AbstractDynamicModelXmlTest {
         validate("parameters.xsd", "node_fault_par.xml", tmpDir.resolve(context.getSimulationParFile()));
         validate("parameters.xsd", "node_network_par.xml", tmpDir.resolve("network.par"));
     }
+
+    @Test
+    void sharedNetworkParametersNotModified() {
+        String parameterName = "NGEN_hasShortCircuitCapabilities";
+        assertTrue(context.getNetworkParameters().getFirst().getBool(parameterName));
+        assertFalse(dynawoParameters.getNetworkParameters().hasParameter(parameterName));
+    }
 }
@@ -60,7 +60,8 @@ class OpenCloseSwitchEventXmlTest extends AbstractDynamicModelXmlTest {
                    Model CloseSwitch CloseSwitch_S1VL1_LD1_BREAKER instantiation OK
                    + Model CloseSwitch CloseSwitch_S1VL1_BBS_LD1_DISCONNECTOR instantiation KO
                       Equipment 'S1VL1_BBS_LD1_DISCONNECTOR' in 'staticId' field should be a breaker or a load breaker switch
-                   Dynawo models processing
+                   + Dynawo models processing
+                      10 parameters sets not referenced by the dynamic models are not written in models.par
                 """);
     }
 }
@@ -27,6 +27,8 @@ import java.io.IOException;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 /**
  * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
  */
@@ -78,6 +80,10 @@ class PhaseShiftersXmlTest extends AbstractParametrizedDynamicModelXmlTest {
         validate("dyd.xsd", dydName, tmpDir.resolve(DynawoSimulationConstants.DYD_FILENAME));
         validate("parameters.xsd", parName, tmpDir.resolve("models.par"));
         checkConnected(DYN_NAME, true);
+        // references are only added to the context parameters set
+        String parameterSetId = context.getBlackBoxDynamicModels().getFirst().getParameterSetId();
+        assertEquals(1, dynawoParameters.getModelParameters(parameterSetId).getReferences().size());
+        assertEquals(5, context.getModelParameters().getFirst().getReferences().size());
     }
 
     private static Stream<Arguments> providePhaseShifter() {
@@ -74,7 +74,8 @@ class TapChangerBlockingAutomationSystemXmlTest extends AbstractDynamicModelXmlT
         assertNull(bbm);
         checkReport("""
                 + Test DYD
-                   Dynawo models processing
+                   + Dynawo models processing
+                      10 parameters sets not referenced by the dynamic models are not written in models.par
                    + Model TapChangerBlockingAutomationSystem TapChanger1 instantiation KO
                       The model cannot handle more than 5 measurement points but 6 points have been set
                 """);
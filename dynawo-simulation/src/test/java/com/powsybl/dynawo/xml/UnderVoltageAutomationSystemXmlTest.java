@@ -102,6 +102,7 @@ class UnderVoltageAutomationSystemXmlTest extends AbstractDynamicModelXmlTest {
                    + Dynawo models processing
                       UnderVoltage BBM_skipped_under_voltage requires a connection with a SpecifiedGeneratorModel but dynamic model DefaultGenerator GEN2 does not implement it
                       UnderVoltage BBM_skipped_under_voltage connections cannot be created, the model will be skipped
+                      9 parameters sets not referenced by the dynamic models are not written in models.par
                 """);
     }
 }